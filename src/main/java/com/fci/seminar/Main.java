@@ -1,18 +1,31 @@
 package com.fci.seminar;
 
+import com.fci.seminar.client.ReplicaFollower;
 import com.fci.seminar.model.enums.Role;
+import com.fci.seminar.repository.ChangeLog;
+import com.fci.seminar.repository.ChangeLog.ExportRange;
+import com.fci.seminar.repository.SharedDataPublisher;
+import com.fci.seminar.server.SeminarServer;
 import com.fci.seminar.service.AuthService;
+import com.fci.seminar.service.ReportService;
+import com.fci.seminar.service.ServiceExecutor;
 import com.fci.seminar.ui.MainFrame;
 import com.fci.seminar.ui.dialogs.LoginDialog;
 import com.fci.seminar.ui.panels.coordinator.*;
 import com.fci.seminar.ui.panels.evaluator.*;
 import com.fci.seminar.ui.panels.guest.*;
 import com.fci.seminar.ui.panels.student.*;
+import com.fci.seminar.util.DataDirectoryWatcher;
 import com.fci.seminar.util.DataManager;
+import com.fci.seminar.util.SnowflakeIdGenerator;
 import com.fci.seminar.util.UIConstants;
 
 import javax.swing.*;
 import java.awt.*;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.function.Consumer;
 
 /**
  * Main entry point for the Seminar Management System.
@@ -30,8 +43,27 @@ public class Main {
     
     private static MainFrame mainFrame;
     private static DataManager dataManager;
+    private static DataDirectoryWatcher dataWatcher;
+    
+    // Headless command: --export-changes <consumer> <file>
+    private static final String EXPORT_CHANGES_OPTION = "--export-changes";
+    // Headless command: --server [port] [--replica-of <primary URL>]
+    // Writers sharing data set SEMINAR_NODE_ID or -Dseminar.node.id to a unique 0-1023
+    private static final String SERVER_OPTION = "--server";
+    private static final String REPLICA_OF_OPTION = "--replica-of";
     
     public static void main(String[] args) {
+        if (args.length > 0 && EXPORT_CHANGES_OPTION.equals(args[0])) {
+            System.exit(exportChanges(args));
+        }
+        if (args.length > 0 && SERVER_OPTION.equals(args[0])) {
+            int exitCode = runServer(args);
+            if (exitCode != 0) {
+                System.exit(exitCode);
+            }
+            return;
+        }
+        
         // Set system look and feel with custom UI defaults
         setupLookAndFeel();
         
@@ -39,7 +71,7 @@ public class Main {
         SwingUtilities.invokeLater(() -> {
             try {
                 // Initialize DataManager and load data
-                initializeData();
+                initializeData(Main::showSaveConflict);
                 
                 // Create and display MainFrame
                 createAndShowMainFrame();
@@ -86,13 +118,138 @@ public class Main {
     
     /**
      * Initializes the DataManager and loads all data from JSON files.
+     * Changes other processes save to the data directory are picked up
+     * from then on. When a node ID is configured, new records get IDs that
+     * cannot clash with the other nodes' ones.
      * Requirements: 11.2
+     * @param conflictHandler shows save conflicts to the user, or null to only log them
+     * @throws IllegalArgumentException if the configured node ID is invalid
      */
-    private static void initializeData() {
+    private static void initializeData(Consumer<String> conflictHandler) {
         System.out.println("Loading data from JSON files...");
         dataManager = DataManager.getInstance();
+        Integer nodeId = SnowflakeIdGenerator.configuredNodeId();
+        if (nodeId != null) {
+            dataManager.setIdGenerator(new SnowflakeIdGenerator(nodeId));
+            System.out.println("Multi-node IDs enabled for node " + nodeId + ".");
+        }
         dataManager.loadAllData();
         System.out.println("Data loaded successfully.");
+        
+        SharedDataPublisher.install(dataManager, conflictHandler);
+        dataWatcher = new DataDirectoryWatcher();
+        dataWatcher.start();
+        
+        try {
+            ChangeLog.getInstance().start();
+        } catch (IOException e) {
+            System.err.println("Failed to open change log: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Exports the changes made since the consumer's last export, without starting the UI.
+     * Files ending in ".gz" are gzip-compressed.
+     * @param args the command line: --export-changes &lt;consumer&gt; &lt;file&gt;
+     * @return the process exit code
+     */
+    private static int exportChanges(String[] args) {
+        if (args.length < 3) {
+            System.err.println("Usage: " + EXPORT_CHANGES_OPTION + " <consumer> <file>");
+            return 2;
+        }
+        String consumer = args[1];
+        String filePath = args[2];
+        try {
+            ExportRange range = ReportService.getInstance()
+                    .exportChanges(consumer, filePath, filePath.toLowerCase().endsWith(".gz"));
+            System.out.printf("Exported %d changes (after sequence %d, up to %d) to %s%n",
+                    range.changeCount(), range.fromSequence(), range.toSequence(), filePath);
+            return 0;
+        } catch (IOException | IllegalArgumentException | IllegalStateException e) {
+            System.err.println("Failed to export changes: " + e.getMessage());
+            return 1;
+        }
+    }
+    
+    /**
+     * Starts the headless HTTP server. It keeps running until the process is stopped.
+     * A primary loads and saves the data files; a replica copies the primary's
+     * data, follows its changes and never writes files.
+     * @param args the command line: --server [port] [--replica-of &lt;primary URL&gt;]
+     * @return the process exit code; 0 once the server is running
+     */
+    private static int runServer(String[] args) {
+        String usage = "Usage: " + SERVER_OPTION + " [port] [" + REPLICA_OF_OPTION + " <primary URL>]";
+        int port = SeminarServer.DEFAULT_PORT;
+        URI primaryUri = null;
+        try {
+            for (int i = 1; i < args.length; i++) {
+                if (REPLICA_OF_OPTION.equals(args[i]) && i + 1 < args.length) {
+                    primaryUri = URI.create(args[++i]);
+                } else {
+                    port = Integer.parseInt(args[i]);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(usage);
+            return 2;
+        }
+        
+        ReplicaFollower follower = null;
+        if (primaryUri != null) {
+            String key = SeminarServer.replicationKey();
+            if (key == null) {
+                System.err.println("Set " + SeminarServer.REPLICATION_KEY_ENV + " or -D"
+                        + SeminarServer.REPLICATION_KEY_PROPERTY + " to follow a primary");
+                return 2;
+            }
+            dataManager = DataManager.getInstance();
+            follower = new ReplicaFollower(primaryUri, key);
+            try {
+                follower.bootstrap();
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Failed to load a snapshot from " + primaryUri + ": " + e.getMessage());
+                return 1;
+            }
+            System.out.println("Loaded snapshot of " + primaryUri + " at sequence " + follower.getAppliedSequence());
+        } else {
+            try {
+                initializeData(null);
+            } catch (IllegalArgumentException e) {
+                System.err.println(e.getMessage() + " (" + SnowflakeIdGenerator.NODE_ID_ENV + " or -D"
+                        + SnowflakeIdGenerator.NODE_ID_PROPERTY + ")");
+                return 2;
+            }
+        }
+        
+        SeminarServer server;
+        try {
+            server = new SeminarServer(new InetSocketAddress(port), follower);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Failed to start server: " + e.getMessage());
+            return 1;
+        }
+        server.start();
+        if (follower != null) {
+            follower.start();
+        }
+        
+        boolean primary = follower == null;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            System.out.println("Stopping server...");
+            server.stop(2);
+            ServiceExecutor.getInstance().shutdown();
+            if (primary) {
+                dataWatcher.stop();
+                dataManager.saveAllData();
+                ChangeLog.getInstance().stop();
+                System.out.println("Data saved. Goodbye!");
+            }
+        }));
+        System.out.println((primary ? "Seminar server" : "Seminar replica of " + primaryUri)
+                + " listening on port " + server.getPort());
+        return 0;
     }
     
     /**
@@ -308,9 +465,14 @@ public class Main {
     private static void setupShutdownHook() {
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             System.out.println("Saving data before shutdown...");
+            if (dataWatcher != null) {
+                dataWatcher.stop();
+            }
             if (dataManager != null) {
                 dataManager.saveAllData();
             }
+            ChangeLog.getInstance().stop();
+            ServiceExecutor.getInstance().shutdown();
             System.out.println("Data saved. Goodbye!");
         }));
         
@@ -346,6 +508,19 @@ public class Main {
         }
     }
     
+    /**
+     * Tells the user that a change could not be merged with another user's.
+     * @param message The conflict description
+     */
+    private static void showSaveConflict(String message) {
+        SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(
+            mainFrame,
+            message,
+            "Changed by Another User",
+            JOptionPane.WARNING_MESSAGE
+        ));
+    }
+    
     /**
      * Handles startup errors by showing an error dialog.
      * @param e The exception that occurred
@@ -0,0 +1,263 @@
+package com.fci.seminar.client;
+
+import com.fci.seminar.repository.ChangeLogApplier;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Keeps this node's in-memory store a read replica of a primary server.
+ * The follower loads a snapshot of the primary, then long-polls the
+ * primary's change log and applies each batch through a
+ * {@link ChangeLogApplier}. If entries go missing, e.g. because the primary's
+ * log was reset, it starts over from a new snapshot.
+ * <p>
+ * Lag is tracked both in entries and in time: the time lag is how long ago
+ * the follower last knew it had everything the primary had, so it keeps
+ * growing while the primary cannot be reached.
+ */
+public class ReplicaFollower {
+
+    // How long the primary holds a poll open when there is nothing new
+    private static final int POLL_WAIT_MS = 2_000;
+    private static final int BATCH_SIZE = 1000;
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final long MIN_BACKOFF_MS = 500;
+    private static final long MAX_BACKOFF_MS = 10_000;
+
+    private final URI primaryUri;
+    private final String key;
+    private final HttpClient httpClient;
+    private final ChangeLogApplier applier;
+    private final Gson gson = new Gson();
+
+    private volatile Thread thread;
+    private volatile boolean running;
+    private volatile long primarySequence;
+    private volatile long caughtUpAtMillis;
+    private volatile String lastError;
+
+    /**
+     * Creates a follower of a primary, e.g. http://primary:8080.
+     * @param primaryUri the primary's base URI
+     * @param key the replication key shared with the primary
+     */
+    public ReplicaFollower(URI primaryUri, String key) {
+        this(primaryUri, key, HttpClient.newBuilder().connectTimeout(CONNECT_TIMEOUT).build(), new ChangeLogApplier());
+    }
+
+    /**
+     * Constructor for testing with a custom HTTP client and applier.
+     */
+    public ReplicaFollower(URI primaryUri, String key, HttpClient httpClient, ChangeLogApplier applier) {
+        if (primaryUri == null || key == null || key.isEmpty()) {
+            throw new IllegalArgumentException("Primary URI and replication key are required");
+        }
+        this.primaryUri = primaryUri;
+        this.key = key;
+        this.httpClient = httpClient;
+        this.applier = applier;
+    }
+
+    // ==================== Lifecycle ====================
+
+    /**
+     * Loads a snapshot of the primary into the local store.
+     * @throws IOException if the primary cannot be reached or refuses
+     */
+    public void bootstrap() throws IOException {
+        JsonObject snapshot = get("/api/replication/snapshot");
+        long sequence = snapshot.get("sequence").getAsLong();
+        applier.loadSnapshot(sequence, snapshot.getAsJsonObject("data"));
+        primarySequence = sequence;
+        caughtUpAtMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Starts following the primary's change log on a background thread.
+     * Call {@link #bootstrap()} first.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::follow, "replica-follower");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops following. The local store keeps the data applied so far.
+     */
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+    private void follow() {
+        long backoff = MIN_BACKOFF_MS;
+        while (running) {
+            try {
+                poll();
+                lastError = null;
+                backoff = MIN_BACKOFF_MS;
+            } catch (IllegalStateException e) {
+                // Entries are missing, so the log cannot be replayed from here
+                lastError = e.getMessage();
+                System.err.println("Replica out of step with the primary, reloading: " + e.getMessage());
+                if (rebootstrap()) {
+                    backoff = MIN_BACKOFF_MS;
+                    continue;
+                }
+                if (!retryAfter(backoff)) {
+                    return;
+                }
+                backoff = Math.min(MAX_BACKOFF_MS, backoff * 2);
+            } catch (IOException | RuntimeException e) {
+                lastError = e.getMessage();
+                if (!retryAfter(backoff)) {
+                    return;
+                }
+                backoff = Math.min(MAX_BACKOFF_MS, backoff * 2);
+            }
+        }
+    }
+
+    private void poll() throws IOException {
+        long since = applier.getAppliedSequence();
+        JsonObject response = get("/api/replication/log?since=" + since + "&limit=" + BATCH_SIZE
+                + "&waitMs=" + POLL_WAIT_MS);
+        long last = response.get("lastSequence").getAsLong();
+        if (last < since) {
+            throw new IllegalStateException("The primary's log ends at " + last + ", before " + since);
+        }
+        JsonArray array = response.getAsJsonArray("entries");
+        List<JsonObject> entries = new ArrayList<>(array.size());
+        for (JsonElement entry : array) {
+            entries.add(entry.getAsJsonObject());
+        }
+        if (entries.isEmpty() && last > since) {
+            throw new IllegalStateException("The primary returned no entries after " + since);
+        }
+        applier.apply(entries);
+        primarySequence = last;
+        if (applier.getAppliedSequence() >= last) {
+            caughtUpAtMillis = System.currentTimeMillis();
+        }
+    }
+
+    private boolean rebootstrap() {
+        try {
+            bootstrap();
+            return true;
+        } catch (IOException | RuntimeException e) {
+            lastError = e.getMessage();
+            return false;
+        }
+    }
+
+    private boolean retryAfter(long millis) {
+        try {
+            Thread.sleep(millis);
+            return running;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private JsonObject get(String pathAndQuery) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(primaryUri.resolve(pathAndQuery))
+                .header("X-Replication-Key", key)
+                .header("Accept-Encoding", "gzip")
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted", e);
+        }
+        boolean gzipped = response.headers().firstValue("Content-Encoding")
+                .map("gzip"::equalsIgnoreCase).orElse(false);
+        String body;
+        try (InputStream in = gzipped ? new GZIPInputStream(response.body()) : response.body()) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        if (response.statusCode() != 200) {
+            throw new IOException("Primary answered " + response.statusCode() + " to " + pathAndQuery + ": " + body);
+        }
+        return gson.fromJson(body, JsonObject.class);
+    }
+
+    // ==================== Lag ====================
+
+    public URI getPrimaryUri() {
+        return primaryUri;
+    }
+
+    /**
+     * Gets the sequence of the last primary change applied here.
+     */
+    public long getAppliedSequence() {
+        return applier.getAppliedSequence();
+    }
+
+    /**
+     * Gets the primary's last sequence as of the latest poll.
+     */
+    public long getPrimarySequence() {
+        return primarySequence;
+    }
+
+    /**
+     * Gets how many known primary changes are not yet applied.
+     */
+    public long getLagEntries() {
+        return Math.max(0, primarySequence - applier.getAppliedSequence());
+    }
+
+    /**
+     * Gets how long ago this replica last had every change the primary had.
+     * Stays near zero while the primary is reachable and the replica keeps
+     * up; idle polls are answered within {@value #POLL_WAIT_MS} ms.
+     */
+    public long getLagMillis() {
+        return Math.max(0, System.currentTimeMillis() - caughtUpAtMillis);
+    }
+
+    /**
+     * Checks whether the replica is too far behind to serve reads.
+     * @param maxLagMillis the largest acceptable time lag
+     */
+    public boolean isStale(long maxLagMillis) {
+        return getLagMillis() > maxLagMillis;
+    }
+
+    /**
+     * Gets the last error, or null if the latest poll succeeded.
+     */
+    public String getLastError() {
+        return lastError;
+    }
+}
@@ -0,0 +1,199 @@
+package com.fci.seminar.client;
+
+import com.fci.seminar.model.Registration;
+import com.fci.seminar.model.Session;
+import com.fci.seminar.model.enums.Role;
+import com.fci.seminar.util.DataManager;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Client for the seminar server with a local cache of what it has fetched.
+ * Every GET is sent with the ETag of the cached copy; when the server answers
+ * 304 Not Modified the cached copy is used, so polling the schedule or one's
+ * own registration costs a few header bytes until something changes.
+ * Responses are requested gzip-compressed. Logging in or out clears the
+ * cache, because responses depend on who is asking.
+ * Thread-safe.
+ */
+public class SeminarClient {
+
+    private static final Type SESSION_LIST_TYPE = new TypeToken<List<Session>>() {}.getType();
+    private static final Type REGISTRATION_LIST_TYPE = new TypeToken<List<Registration>>() {}.getType();
+
+    private final URI baseUri;
+    private final HttpClient httpClient;
+    private final Gson gson = DataManager.createExportGson();
+    // Path and query -> last response with its ETag
+    private final Map<String, CachedResponse> cache = new ConcurrentHashMap<>();
+    private final AtomicLong notModifiedCount = new AtomicLong();
+    private volatile String token;
+
+    /**
+     * Creates a client for a server, e.g. http://localhost:8080.
+     */
+    public SeminarClient(URI baseUri) {
+        this(baseUri, HttpClient.newHttpClient());
+    }
+
+    /**
+     * Creates a client with a custom HTTP client.
+     */
+    public SeminarClient(URI baseUri, HttpClient httpClient) {
+        if (baseUri == null || httpClient == null) {
+            throw new IllegalArgumentException("Base URI and HTTP client cannot be null");
+        }
+        this.baseUri = baseUri;
+        this.httpClient = httpClient;
+    }
+
+    // ==================== Authentication ====================
+
+    /**
+     * Logs in; later requests are made as this user.
+     * @throws IOException if the server cannot be reached or refuses the login
+     */
+    public void login(String username, String password, Role role) throws IOException {
+        JsonObject body = new JsonObject();
+        body.addProperty("username", username);
+        body.addProperty("password", password);
+        body.addProperty("role", role.name());
+        HttpRequest request = newRequest("/api/auth/login")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(gson.toJson(body)))
+                .build();
+        HttpResponse<InputStream> response = send(request);
+        JsonObject result = gson.fromJson(readBody(response), JsonObject.class);
+        if (response.statusCode() != 200) {
+            throw new IOException("Login failed: " + errorMessage(result, response.statusCode()));
+        }
+        cache.clear();
+        token = result.get("token").getAsString();
+    }
+
+    /**
+     * Logs out and forgets the cached responses.
+     */
+    public void logout() throws IOException {
+        if (token != null) {
+            send(newRequest("/api/auth/logout").POST(HttpRequest.BodyPublishers.noBody()).build());
+        }
+        token = null;
+        cache.clear();
+    }
+
+    // ==================== Cached Reads ====================
+
+    /**
+     * Gets all sessions, revalidating the cached copy.
+     */
+    public List<Session> getSessions() throws IOException {
+        return new ArrayList<>(this.<List<Session>>get("/api/sessions", SESSION_LIST_TYPE));
+    }
+
+    /**
+     * Gets the logged-in student's registrations, revalidating the cached copy.
+     */
+    public List<Registration> getMyRegistrations() throws IOException {
+        return new ArrayList<>(this.<List<Registration>>get("/api/registrations", REGISTRATION_LIST_TYPE));
+    }
+
+    /**
+     * Gets a resource, revalidating the cached copy.
+     * The returned object is shared with the cache and must not be modified.
+     * @param pathAndQuery e.g. "/api/sessions?type=ORAL"
+     * @param type the type of the JSON body
+     * @return the parsed body
+     * @throws IOException if the server cannot be reached or answers with an error
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String pathAndQuery, Type type) throws IOException {
+        CachedResponse cached = cache.get(pathAndQuery);
+        HttpRequest.Builder builder = newRequest(pathAndQuery).GET();
+        if (cached != null) {
+            builder.header("If-None-Match", cached.etag());
+        }
+        HttpResponse<InputStream> response = send(builder.build());
+        if (response.statusCode() == 304 && cached != null) {
+            response.body().close();
+            notModifiedCount.incrementAndGet();
+            return (T) cached.value();
+        }
+        String body = readBody(response);
+        if (response.statusCode() != 200) {
+            throw new IOException("GET " + pathAndQuery + " failed: "
+                    + errorMessage(gson.fromJson(body, JsonObject.class), response.statusCode()));
+        }
+        T value = gson.fromJson(body, type);
+        String etag = response.headers().firstValue("ETag").orElse(null);
+        if (etag != null) {
+            cache.put(pathAndQuery, new CachedResponse(etag, value));
+        } else {
+            cache.remove(pathAndQuery);
+        }
+        return value;
+    }
+
+    /**
+     * Gets how many reads were answered from the cache after revalidation.
+     */
+    public long getNotModifiedCount() {
+        return notModifiedCount.get();
+    }
+
+    // ==================== HTTP ====================
+
+    private HttpRequest.Builder newRequest(String pathAndQuery) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(pathAndQuery))
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip");
+        String current = token;
+        if (current != null) {
+            builder.header("Authorization", "Bearer " + current);
+        }
+        return builder;
+    }
+
+    private HttpResponse<InputStream> send(HttpRequest request) throws IOException {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted", e);
+        }
+    }
+
+    private static String readBody(HttpResponse<InputStream> response) throws IOException {
+        boolean gzipped = response.headers().firstValue("Content-Encoding")
+                .map("gzip"::equalsIgnoreCase).orElse(false);
+        try (InputStream in = gzipped ? new GZIPInputStream(response.body()) : response.body()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String errorMessage(JsonObject body, int status) {
+        if (body != null && body.has("error")) {
+            return body.get("error").getAsString() + " (" + status + ")";
+        }
+        return "HTTP " + status;
+    }
+
+    private record CachedResponse(String etag, Object value) {
+    }
+}
@@ -7,12 +7,13 @@ import java.util.Objects;
  * Represents an evaluation of a student's presentation by an evaluator.
  * Contains scoring criteria and feedback.
  */
-public class Evaluation {
+public class Evaluation implements VersionedEntity {
     public static final int MIN_SCORE = 0;
     public static final int MAX_SCORE = 25;
     public static final int MAX_TOTAL_SCORE = 100;
 
     private Long id;
+    private long version;  // Committed version of the stored record
     private Long evaluatorId;
     private Long registrationId;
     private int problemClarity;      // 0-25
@@ -76,6 +77,16 @@ public class Evaluation {
         this.id = id;
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public Long getEvaluatorId() {
         return evaluatorId;
     }
@@ -9,11 +9,12 @@ import java.util.Objects;
  * Represents a student's registration for a seminar presentation.
  * Contains research details and registration status.
  */
-public class Registration {
+public class Registration implements VersionedEntity {
     public static final int MAX_TITLE_LENGTH = 200;
     public static final int MAX_ABSTRACT_LENGTH = 1000;
 
     private Long id;
+    private long version;  // Committed version of the stored record
     private Long studentId;
     private Long sessionId;
     private String researchTitle;
@@ -69,6 +70,16 @@ public class Registration {
         this.id = id;
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public Long getStudentId() {
         return studentId;
     }
@@ -9,8 +9,9 @@ import java.util.Objects;
 /**
  * Represents a seminar session with date, time, venue, and capacity information.
  */
-public class Session {
+public class Session implements VersionedEntity {
     private Long id;
+    private long version;  // Committed version of the stored record
     private LocalDate date;
     private LocalTime startTime;
     private LocalTime endTime;
@@ -20,6 +21,7 @@ public class Session {
     private int registered;
     private SessionStatus status;
     private String description;
+    private String boardScheme;  // For poster sessions - board ID pattern, null for the default
 
     public Session() {
         this.registered = 0;
@@ -64,6 +66,16 @@ public class Session {
         this.id = id;
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public LocalDate getDate() {
         return date;
     }
@@ -136,6 +148,14 @@ public class Session {
         this.description = description;
     }
 
+    public String getBoardScheme() {
+        return boardScheme;
+    }
+
+    public void setBoardScheme(String boardScheme) {
+        this.boardScheme = boardScheme;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -150,12 +170,13 @@ public class Session {
                Objects.equals(venue, session.venue) &&
                type == session.type &&
                status == session.status &&
-               Objects.equals(description, session.description);
+               Objects.equals(description, session.description) &&
+               Objects.equals(boardScheme, session.boardScheme);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, date, startTime, endTime, venue, type, capacity, registered, status, description);
+        return Objects.hash(id, date, startTime, endTime, venue, type, capacity, registered, status, description, boardScheme);
     }
 
     @Override
@@ -170,6 +191,7 @@ public class Session {
                ", capacity=" + capacity +
                ", registered=" + registered +
                ", status=" + status +
+               ", boardScheme='" + boardScheme + '\'' +
                '}';
     }
 }
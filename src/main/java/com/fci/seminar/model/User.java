@@ -7,8 +7,9 @@ import java.util.Objects;
  * Abstract base class for all user types in the system.
  * Contains common fields shared by Student, Evaluator, and Coordinator.
  */
-public abstract class User {
+public abstract class User implements VersionedEntity {
     protected Long id;
+    protected long version;  // Committed version of the stored record
     protected String username;
     protected String password;
     protected String name;
@@ -35,6 +36,16 @@ public abstract class User {
         this.id = id;
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public String getUsername() {
         return username;
     }
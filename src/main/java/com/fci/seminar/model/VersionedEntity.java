@@ -0,0 +1,21 @@
+package com.fci.seminar.model;
+
+/**
+ * An entity whose stored record carries a version number.
+ * The version goes up by one each time a changed record is committed to its
+ * data file, so a process can tell whether another process changed the
+ * record since it was loaded.
+ */
+public interface VersionedEntity {
+
+    Long getId();
+
+    void setId(Long id);
+
+    /**
+     * Gets the version of the record as last committed; 0 if never committed.
+     */
+    long getVersion();
+
+    void setVersion(long version);
+}
@@ -0,0 +1,90 @@
+package com.fci.seminar.model.enums;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Actions a role may perform.
+ * Each role's permissions are precomputed as a bitmask (bit = ordinal), so a
+ * permission check is a single AND instead of a chain of string comparisons.
+ */
+public enum Permission {
+    // Guest
+    VIEW_SCHEDULE,
+    VIEW_SESSIONS,
+    // Student
+    REGISTER,
+    UPLOAD_FILE,
+    VIEW_OWN_REGISTRATION,
+    // Evaluator
+    VIEW_ASSIGNED_PRESENTATIONS,
+    EVALUATE,
+    SAVE_DRAFT,
+    SUBMIT_EVALUATION,
+    // Coordinator
+    MANAGE_SESSIONS,
+    MANAGE_REGISTRATIONS,
+    ASSIGN_EVALUATORS,
+    VIEW_REPORTS,
+    MANAGE_AWARDS,
+    MANAGE_USERS;
+
+    private static final Map<String, Permission> BY_NAME = new HashMap<>();
+    private static final long[] ROLE_MASKS = new long[Role.values().length];
+
+    static {
+        if (values().length > Long.SIZE) {
+            throw new IllegalStateException("Too many permissions for a long bitmask");
+        }
+        for (Permission permission : values()) {
+            BY_NAME.put(permission.name(), permission);
+        }
+        EnumSet<Permission> guest = EnumSet.of(VIEW_SCHEDULE, VIEW_SESSIONS);
+        EnumSet<Permission> student = EnumSet.copyOf(guest);
+        student.addAll(EnumSet.of(REGISTER, UPLOAD_FILE, VIEW_OWN_REGISTRATION));
+        EnumSet<Permission> evaluator = EnumSet.copyOf(guest);
+        evaluator.addAll(EnumSet.of(VIEW_ASSIGNED_PRESENTATIONS, EVALUATE, SAVE_DRAFT, SUBMIT_EVALUATION));
+
+        ROLE_MASKS[Role.GUEST.ordinal()] = maskOf(guest);
+        ROLE_MASKS[Role.STUDENT.ordinal()] = maskOf(student);
+        ROLE_MASKS[Role.EVALUATOR.ordinal()] = maskOf(evaluator);
+        // Coordinator has all permissions
+        ROLE_MASKS[Role.COORDINATOR.ordinal()] = maskOf(EnumSet.allOf(Permission.class));
+    }
+
+    /**
+     * Gets this permission's bit.
+     */
+    public long bit() {
+        return 1L << ordinal();
+    }
+
+    /**
+     * Combines permissions into a bitmask.
+     */
+    public static long maskOf(Iterable<Permission> permissions) {
+        long mask = 0;
+        for (Permission permission : permissions) {
+            mask |= permission.bit();
+        }
+        return mask;
+    }
+
+    /**
+     * Gets the precomputed permissions of a role.
+     * @param role the role, null for none
+     * @return the bitmask
+     */
+    public static long maskOf(Role role) {
+        return role != null ? ROLE_MASKS[role.ordinal()] : 0;
+    }
+
+    /**
+     * Looks up a permission by name without throwing.
+     * @return the permission, or null if there is none with that name
+     */
+    public static Permission fromName(String name) {
+        return name != null ? BY_NAME.get(name.trim()) : null;
+    }
+}
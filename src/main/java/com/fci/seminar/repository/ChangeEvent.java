@@ -0,0 +1,103 @@
+package com.fci.seminar.repository;
+
+/**
+ * Describes a single change made through a repository.
+ * Emitted on the ChangeEventBus after the data file has been written.
+ */
+public class ChangeEvent {
+
+    /**
+     * The kind of entity that changed.
+     */
+    public enum EntityType {
+        USER,
+        SESSION,
+        REGISTRATION,
+        EVALUATION
+    }
+
+    /**
+     * The kind of change.
+     */
+    public enum ChangeType {
+        INSERT,
+        UPDATE,
+        DELETE
+    }
+
+    private final EntityType entityType;
+    private final ChangeType changeType;
+    private final Long entityId;
+    private final Object entity;
+    // Committed by another process sharing the data directory
+    private final boolean external;
+
+    /**
+     * Creates a change event.
+     * @param entityType The entity type
+     * @param changeType The change type
+     * @param entityId The ID of the changed entity
+     * @param entity The entity after the change, or null for deletes
+     */
+    public ChangeEvent(EntityType entityType, ChangeType changeType, Long entityId, Object entity) {
+        this(entityType, changeType, entityId, entity, false);
+    }
+
+    /**
+     * Creates a change event.
+     * @param entityType The entity type
+     * @param changeType The change type
+     * @param entityId The ID of the changed entity
+     * @param entity The entity after the change, or null for deletes
+     * @param external Whether another process made the change
+     */
+    public ChangeEvent(EntityType entityType, ChangeType changeType, Long entityId, Object entity, boolean external) {
+        this.entityType = entityType;
+        this.changeType = changeType;
+        this.entityId = entityId;
+        this.entity = entity;
+        this.external = external;
+    }
+
+    public EntityType getEntityType() {
+        return entityType;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    /**
+     * Gets the entity after the change.
+     * @return the entity, or null for deletes
+     */
+    public Object getEntity() {
+        return entity;
+    }
+
+    /**
+     * Checks whether another process sharing the data directory made the
+     * change; this process only picked it up.
+     */
+    public boolean isExternal() {
+        return external;
+    }
+
+    /**
+     * Gets the entity cast to the expected type.
+     * @param type the expected entity class
+     * @return the entity, or null if it is absent or of another type
+     */
+    public <T> T getEntity(Class<T> type) {
+        return type.isInstance(entity) ? type.cast(entity) : null;
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeEvent{" + entityType + " " + changeType + " id=" + entityId + "}";
+    }
+}
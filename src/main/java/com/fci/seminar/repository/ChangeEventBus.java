@@ -0,0 +1,162 @@
+package com.fci.seminar.repository;
+
+import com.fci.seminar.repository.ChangeEvent.ChangeType;
+import com.fci.seminar.repository.ChangeEvent.EntityType;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Singleton bus for repository change events.
+ * Repositories publish an event after every insert, update and delete;
+ * panels and services subscribe to keep their views in step without
+ * reloading everything. The bus also keeps a version counter per entity
+ * type so caches can tell when a collection has changed.
+ */
+public class ChangeEventBus {
+    private static ChangeEventBus instance;
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    // Indexed by EntityType ordinal, bumped on every published change
+    private final AtomicLongArray versions = new AtomicLongArray(EntityType.values().length);
+
+    /**
+     * Private constructor for singleton pattern.
+     */
+    private ChangeEventBus() {
+    }
+
+    /**
+     * Gets the singleton instance of ChangeEventBus.
+     */
+    public static synchronized ChangeEventBus getInstance() {
+        if (instance == null) {
+            instance = new ChangeEventBus();
+        }
+        return instance;
+    }
+
+    /**
+     * Resets the singleton instance (for testing purposes).
+     */
+    public static synchronized void resetInstance() {
+        instance = null;
+    }
+
+    // ==================== Subscription ====================
+
+    /**
+     * Subscribes to changes of the given entity types.
+     * The listener is called on the thread that made the change.
+     * @param listener The listener
+     * @param types The entity types of interest; all types if none are given
+     * @return the subscription, used to unsubscribe
+     */
+    public Subscription subscribe(RepositoryListener listener, EntityType... types) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        Set<EntityType> filter = types.length == 0
+                ? EnumSet.allOf(EntityType.class)
+                : EnumSet.copyOf(Arrays.asList(types));
+        Subscription subscription = new Subscription(this, listener, filter);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Removes a subscription.
+     * @param subscription The subscription to remove
+     */
+    public void unsubscribe(Subscription subscription) {
+        if (subscription != null) {
+            subscriptions.remove(subscription);
+        }
+    }
+
+    /**
+     * Gets the number of active subscriptions.
+     */
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    // ==================== Publishing ====================
+
+    /**
+     * Publishes a change to all interested subscribers.
+     * A failing listener is logged and does not affect the others.
+     * @param event The change event
+     */
+    public void publish(ChangeEvent event) {
+        if (event == null) return;
+
+        versions.incrementAndGet(event.getEntityType().ordinal());
+
+        List<ChangeEvent> single = Collections.singletonList(event);
+        for (Subscription subscription : subscriptions) {
+            if (!subscription.types.contains(event.getEntityType())) {
+                continue;
+            }
+            try {
+                subscription.listener.onChanges(single);
+            } catch (RuntimeException e) {
+                System.err.println("Error in change listener: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Publishes an insert or update.
+     */
+    public void publishSaved(EntityType type, Long id, Object entity, boolean inserted) {
+        publish(new ChangeEvent(type, inserted ? ChangeType.INSERT : ChangeType.UPDATE, id, entity));
+    }
+
+    /**
+     * Publishes a delete.
+     */
+    public void publishDeleted(EntityType type, Long id) {
+        publish(new ChangeEvent(type, ChangeType.DELETE, id, null));
+    }
+
+    // ==================== Versions ====================
+
+    /**
+     * Gets the current data version of an entity collection.
+     * The version changes whenever an entity of that type is inserted, updated or deleted.
+     * @param type The entity type
+     * @return the version
+     */
+    public long getVersion(EntityType type) {
+        return versions.get(type.ordinal());
+    }
+
+    /**
+     * Handle for a registered listener.
+     */
+    public static class Subscription {
+        private final ChangeEventBus bus;
+        private final RepositoryListener listener;
+        private final Set<EntityType> types;
+
+        private Subscription(ChangeEventBus bus, RepositoryListener listener, Set<EntityType> types) {
+            this.bus = bus;
+            this.listener = listener;
+            this.types = types;
+        }
+
+        /**
+         * Removes this subscription from the bus.
+         */
+        public void cancel() {
+            bus.unsubscribe(this);
+        }
+    }
+}
@@ -0,0 +1,514 @@
+package com.fci.seminar.repository;
+
+import com.fci.seminar.repository.ChangeEvent.EntityType;
+import com.fci.seminar.util.DataManager;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Append-only change-data-capture log.
+ * Every change published by the repositories is appended as one JSON line:
+ * <pre>
+ * {"sequence":42,"timestamp":"...","entityType":"REGISTRATION","entityId":7,"changeType":"UPDATE","after":{...}}
+ * </pre>
+ * Events are published inside the repository write lock right after the data
+ * file is saved, so sequence numbers follow commit order. "after" is the full
+ * entity after the change, or null for deletes; user passwords are omitted.
+ * Changes other processes commit to a shared data directory are not logged
+ * here, only by the process that made them.
+ *
+ * Consumers keep a watermark (the last sequence they received) so each export
+ * only contains changes made since the previous one. Replicas tail the log
+ * with {@link #readSince(long, int)}; the most recent entries are kept in
+ * memory so that following the log does not reread the file.
+ */
+public class ChangeLog implements RepositoryListener {
+    private static ChangeLog instance;
+
+    public static final String LOG_FILE = "changes.jsonl";
+    public static final String WATERMARKS_FILE = "changes.watermarks";
+
+    // Every entry starts with its sequence number, so it can be read without parsing the line
+    private static final String SEQUENCE_PREFIX = "{\"sequence\":";
+    // Recent entries kept in memory for followers that keep up
+    private static final int RECENT_CAPACITY = 4096;
+
+    private final Path logFile;
+    private final Path watermarksFile;
+    private final Gson gson = DataManager.createExportGson();
+
+    private Writer writer;
+    private ChangeEventBus.Subscription subscription;
+    private long lastSequence;
+    // The last entries written, ending with lastSequence
+    private final ArrayDeque<String> recent = new ArrayDeque<>();
+
+    /**
+     * Private constructor for singleton pattern.
+     */
+    private ChangeLog() {
+        this(DataManager.getInstance().getDataDirectory());
+    }
+
+    /**
+     * Constructor for testing with a custom directory.
+     */
+    public ChangeLog(Path directory) {
+        this.logFile = directory.resolve(LOG_FILE);
+        this.watermarksFile = directory.resolve(WATERMARKS_FILE);
+    }
+
+    /**
+     * Gets the singleton instance of ChangeLog.
+     */
+    public static synchronized ChangeLog getInstance() {
+        if (instance == null) {
+            instance = new ChangeLog();
+        }
+        return instance;
+    }
+
+    /**
+     * Resets the singleton instance (for testing purposes).
+     */
+    public static synchronized void resetInstance() {
+        if (instance != null) {
+            instance.stop();
+        }
+        instance = null;
+    }
+
+    // ==================== Lifecycle ====================
+
+    /**
+     * Opens the log for appending and starts recording repository changes.
+     * A partly written last line left by a crash is discarded.
+     * @throws IOException if the log cannot be opened
+     */
+    public synchronized void start() throws IOException {
+        if (writer != null) {
+            return;
+        }
+        Files.createDirectories(logFile.getParent());
+        lastSequence = recover();
+        recent.clear();
+        OutputStream stream = Files.newOutputStream(logFile, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+        writer = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+        subscription = ChangeEventBus.getInstance().subscribe(this);
+    }
+
+    /**
+     * Stops recording and closes the log.
+     */
+    public synchronized void stop() {
+        if (subscription != null) {
+            subscription.cancel();
+            subscription = null;
+        }
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                System.err.println("Error closing change log: " + e.getMessage());
+            }
+            writer = null;
+        }
+        // Wake followers waiting for changes
+        notifyAll();
+    }
+
+    public synchronized boolean isStarted() {
+        return writer != null;
+    }
+
+    /**
+     * Gets the sequence number of the most recent change.
+     * @return the last sequence, or 0 if the log is empty
+     */
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    // ==================== Recording ====================
+
+    @Override
+    public synchronized void onChanges(List<ChangeEvent> events) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            for (ChangeEvent event : events) {
+                // The committing process logs it; logging it here too would repeat it
+                if (!event.isExternal()) {
+                    append(event);
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            System.err.println("Error writing change log: " + e.getMessage());
+        }
+        notifyAll();
+    }
+
+    private void append(ChangeEvent event) throws IOException {
+        JsonObject entry = new JsonObject();
+        entry.addProperty("sequence", lastSequence + 1);
+        entry.addProperty("timestamp", LocalDateTime.now().toString());
+        entry.addProperty("entityType", event.getEntityType().name());
+        entry.addProperty("entityId", event.getEntityId());
+        entry.addProperty("changeType", event.getChangeType().name());
+        entry.add("after", afterImage(event));
+
+        String line = gson.toJson(entry);
+        writer.write(line);
+        writer.write('\n');
+        lastSequence++;
+        recent.addLast(line);
+        if (recent.size() > RECENT_CAPACITY) {
+            recent.removeFirst();
+        }
+    }
+
+    private JsonElement afterImage(ChangeEvent event) {
+        if (event.getEntity() == null) {
+            return JsonNull.INSTANCE;
+        }
+        JsonElement after = gson.toJsonTree(event.getEntity());
+        if (event.getEntityType() == EntityType.USER && after.isJsonObject()) {
+            after.getAsJsonObject().remove("password");
+        }
+        return after;
+    }
+
+    // ==================== Export ====================
+
+    /**
+     * Writes every change after a watermark as JSON lines, in sequence order.
+     * Changes recorded while the export runs are left for the next export.
+     * The log need not be started here: a headless export reads where the
+     * log ends from the file, leaving it as it is, since the desktop app or
+     * the server may be appending to it.
+     * @param watermark the last sequence already received
+     * @param out the destination
+     * @return the range of sequences written
+     * @throws IOException if reading the log or writing fails
+     * @throws IllegalStateException if the watermark is past the end of the
+     *         log, which means the log was truncated or recreated
+     */
+    public ExportRange exportSince(long watermark, Writer out) throws IOException {
+        long upTo;
+        synchronized (this) {
+            if (writer != null) {
+                writer.flush();
+                upTo = lastSequence;
+            } else {
+                upTo = -1;
+            }
+        }
+        if (upTo < 0) {
+            upTo = readLastSequence();
+        }
+        if (watermark > upTo) {
+            throw beyondEnd(watermark, upTo);
+        }
+        if (upTo == watermark || !Files.exists(logFile)) {
+            return new ExportRange(watermark, watermark, 0);
+        }
+
+        long[] last = {watermark};
+        long count = scan(watermark, upTo, Long.MAX_VALUE, line -> {
+            out.write(line);
+            out.write('\n');
+            last[0] = parseSequence(line);
+        });
+        return new ExportRange(watermark, last[0], count);
+    }
+
+    /**
+     * Reads the entries after a watermark, oldest first, for a follower
+     * replaying the log. Recent entries come from memory, older ones from
+     * the file.
+     * @param watermark the last sequence the follower has applied
+     * @param maxChanges the most entries to return
+     * @return the entries as JSON lines; empty if there is nothing newer
+     * @throws IOException if the log file cannot be read
+     * @throws IllegalStateException if the watermark is past the end of the
+     *         log, which means the log was truncated or recreated
+     */
+    public List<String> readSince(long watermark, int maxChanges) throws IOException {
+        if (maxChanges < 1) {
+            throw new IllegalArgumentException("maxChanges must be positive");
+        }
+        long upTo;
+        synchronized (this) {
+            if (watermark > lastSequence) {
+                throw beyondEnd(watermark, lastSequence);
+            }
+            if (watermark == lastSequence) {
+                return List.of();
+            }
+            long firstRecent = lastSequence - recent.size() + 1;
+            if (watermark + 1 >= firstRecent) {
+                List<String> lines = new ArrayList<>((int) Math.min(maxChanges, lastSequence - watermark));
+                long sequence = firstRecent;
+                for (String line : recent) {
+                    if (sequence > watermark) {
+                        lines.add(line);
+                        if (lines.size() == maxChanges) {
+                            break;
+                        }
+                    }
+                    sequence++;
+                }
+                return lines;
+            }
+            if (writer != null) {
+                writer.flush();
+            }
+            upTo = lastSequence;
+        }
+        // The follower is further behind than the entries kept in memory
+        List<String> lines = new ArrayList<>();
+        if (Files.exists(logFile)) {
+            scan(watermark, upTo, maxChanges, lines::add);
+        }
+        return lines;
+    }
+
+    private static IllegalStateException beyondEnd(long watermark, long upTo) {
+        return new IllegalStateException("Watermark " + watermark + " is past the end of the change log at "
+                + upTo + "; the log was truncated or recreated, so start again from a snapshot or watermark 0");
+    }
+
+    /**
+     * Waits until the log has an entry after a sequence, for followers
+     * long-polling for changes.
+     * @param sequence the last sequence the caller has
+     * @param timeoutMillis the longest time to wait
+     * @return the last sequence when the wait ended
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public synchronized long awaitSequence(long sequence, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (lastSequence <= sequence && writer != null) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                break;
+            }
+            wait(remaining);
+        }
+        return lastSequence;
+    }
+
+    /**
+     * Passes the file's entries after a watermark, up to a sequence, to a consumer.
+     * @return the number of entries passed
+     */
+    private long scan(long watermark, long upTo, long maxChanges, LineConsumer consumer) throws IOException {
+        long count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(logFile, StandardCharsets.UTF_8)) {
+            String line;
+            while (count < maxChanges && (line = reader.readLine()) != null) {
+                long sequence = parseSequence(line);
+                if (sequence < 0 || sequence > upTo) {
+                    break; // Reached changes made after the read started
+                }
+                if (sequence > watermark) {
+                    consumer.accept(line);
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    @FunctionalInterface
+    private interface LineConsumer {
+        void accept(String line) throws IOException;
+    }
+
+    private static long parseSequence(String line) {
+        if (!line.startsWith(SEQUENCE_PREFIX)) {
+            return -1;
+        }
+        long sequence = 0;
+        int digits = 0;
+        for (int i = SEQUENCE_PREFIX.length(); i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            sequence = sequence * 10 + (c - '0');
+            digits++;
+        }
+        return digits == 0 ? -1 : sequence;
+    }
+
+    /**
+     * Range of changes written by an export.
+     * @param fromSequence the watermark the export started after
+     * @param toSequence the last sequence written (the new watermark)
+     * @param changeCount the number of changes written
+     */
+    public record ExportRange(long fromSequence, long toSequence, long changeCount) {
+    }
+
+    // ==================== Watermarks ====================
+
+    /**
+     * Gets the stored watermark of a consumer.
+     * @param consumer the consumer name
+     * @return the last sequence the consumer received, or 0 if none
+     */
+    public synchronized long getWatermark(String consumer) {
+        validateConsumer(consumer);
+        String value = loadWatermarks().getProperty(consumer);
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid watermark for " + consumer + ": " + value);
+            return 0;
+        }
+    }
+
+    /**
+     * Stores the watermark of a consumer. The file is replaced atomically.
+     * @param consumer the consumer name
+     * @param sequence the last sequence the consumer received
+     * @throws IOException if the watermark cannot be stored
+     */
+    public synchronized void setWatermark(String consumer, long sequence) throws IOException {
+        validateConsumer(consumer);
+        if (sequence < 0) {
+            throw new IllegalArgumentException("Watermark cannot be negative");
+        }
+        Properties watermarks = loadWatermarks();
+        watermarks.setProperty(consumer, Long.toString(sequence));
+
+        Path temp = watermarksFile.resolveSibling(WATERMARKS_FILE + ".tmp");
+        try (Writer out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            watermarks.store(out, "Change log watermarks per consumer");
+        }
+        try {
+            Files.move(temp, watermarksFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, watermarksFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private Properties loadWatermarks() {
+        Properties watermarks = new Properties();
+        if (Files.exists(watermarksFile)) {
+            try (InputStream in = Files.newInputStream(watermarksFile)) {
+                watermarks.load(in);
+            } catch (IOException e) {
+                System.err.println("Error loading watermarks: " + e.getMessage());
+            }
+        }
+        return watermarks;
+    }
+
+    private void validateConsumer(String consumer) {
+        if (consumer == null || consumer.trim().isEmpty()) {
+            throw new IllegalArgumentException("Consumer name cannot be empty");
+        }
+    }
+
+    // ==================== Recovery ====================
+
+    /**
+     * Drops a partly written last line and reads the last sequence number.
+     */
+    private long recover() throws IOException {
+        if (!Files.exists(logFile)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            long lastNewline = lastIndexOfNewline(channel, size);
+            if (lastNewline + 1 < size) {
+                channel.truncate(lastNewline + 1);
+            }
+            return sequenceOfLineEndingAt(channel, lastNewline);
+        }
+    }
+
+    /**
+     * Reads the sequence number of the last complete line without changing
+     * the file. A line still being written after it is ignored.
+     */
+    private long readLastSequence() throws IOException {
+        if (!Files.exists(logFile)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            return sequenceOfLineEndingAt(channel, lastIndexOfNewline(channel, channel.size()));
+        }
+    }
+
+    /**
+     * Reads the sequence number of the line ending at a newline.
+     * @return the sequence, or 0 if there is no line (the newline is at -1)
+     */
+    private long sequenceOfLineEndingAt(FileChannel channel, long newline) throws IOException {
+        if (newline < 0) {
+            return 0;
+        }
+        long lineStart = lastIndexOfNewline(channel, newline) + 1;
+        ByteBuffer line = ByteBuffer.allocate((int) (newline - lineStart));
+        channel.read(line, lineStart);
+        long sequence = parseSequence(new String(line.array(), StandardCharsets.UTF_8));
+        if (sequence < 0) {
+            throw new IOException("Unreadable last entry in " + logFile);
+        }
+        return sequence;
+    }
+
+    /**
+     * Finds the last newline before a position, scanning backwards in blocks.
+     * @return the position of the newline, or -1 if there is none
+     */
+    private static long lastIndexOfNewline(FileChannel channel, long before) throws IOException {
+        ByteBuffer block = ByteBuffer.allocate(8192);
+        long end = before;
+        while (end > 0) {
+            long start = Math.max(0, end - block.capacity());
+            block.clear().limit((int) (end - start));
+            channel.read(block, start);
+            for (int i = block.position() - 1; i >= 0; i--) {
+                if (block.get(i) == '\n') {
+                    return start + i;
+                }
+            }
+            end = start;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,318 @@
+package com.fci.seminar.repository;
+
+import com.fci.seminar.model.Coordinator;
+import com.fci.seminar.model.Evaluation;
+import com.fci.seminar.model.Evaluator;
+import com.fci.seminar.model.Registration;
+import com.fci.seminar.model.Session;
+import com.fci.seminar.model.Student;
+import com.fci.seminar.model.User;
+import com.fci.seminar.model.enums.Role;
+import com.fci.seminar.repository.ChangeEvent.ChangeType;
+import com.fci.seminar.repository.ChangeEvent.EntityType;
+import com.fci.seminar.util.DataManager;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Applies another node's {@link ChangeLog} to the local in-memory store,
+ * making this node a read replica of it.
+ * A replica starts from a snapshot of the primary taken at a known sequence
+ * and then applies the primary's log entries after that sequence, in order.
+ * Every applied change is published on the {@link ChangeEventBus} like a
+ * local change, so caches, indexes and feeds stay current. Nothing is saved
+ * to the data files.
+ */
+public class ChangeLogApplier {
+
+    private final DataManager dataManager;
+    private final Gson gson = DataManager.createExportGson();
+    private long appliedSequence;
+
+    /**
+     * Creates an applier for the shared data manager.
+     */
+    public ChangeLogApplier() {
+        this(DataManager.getInstance());
+    }
+
+    /**
+     * Constructor for testing with a custom data manager.
+     */
+    public ChangeLogApplier(DataManager dataManager) {
+        this.dataManager = dataManager;
+    }
+
+    /**
+     * Gets the sequence of the last primary change applied.
+     */
+    public long getAppliedSequence() {
+        synchronized (dataManager) {
+            return appliedSequence;
+        }
+    }
+
+    // ==================== Snapshots ====================
+
+    /**
+     * Replaces the local data with a snapshot of the primary.
+     * Every entity is published again, and removed ones as deletes, so
+     * subscribers also recover when a replica has to start over.
+     * @param sequence the primary's last sequence when the snapshot was taken
+     * @param data the snapshot, as made by {@link DataManager#exportSnapshot()}
+     * @throws IllegalArgumentException if the snapshot cannot be read
+     */
+    public void loadSnapshot(long sequence, JsonObject data) {
+        synchronized (dataManager) {
+            Map<EntityType, Map<Long, Object>> before = captureEntities();
+            dataManager.importSnapshot(data);
+            Map<EntityType, Map<Long, Object>> after = captureEntities();
+            appliedSequence = sequence;
+
+            ChangeEventBus bus = ChangeEventBus.getInstance();
+            for (EntityType type : EntityType.values()) {
+                Map<Long, Object> previous = before.get(type);
+                for (Map.Entry<Long, Object> entry : after.get(type).entrySet()) {
+                    bus.publishSaved(type, entry.getKey(), entry.getValue(), !previous.containsKey(entry.getKey()));
+                }
+                for (Long id : previous.keySet()) {
+                    if (!after.get(type).containsKey(id)) {
+                        bus.publishDeleted(type, id);
+                    }
+                }
+            }
+        }
+    }
+
+    private Map<EntityType, Map<Long, Object>> captureEntities() {
+        Map<EntityType, Map<Long, Object>> entities = new HashMap<>();
+        entities.put(EntityType.USER, byId(dataManager.getAllUsers(), User::getId));
+        entities.put(EntityType.SESSION, byId(dataManager.getSessions(), Session::getId));
+        entities.put(EntityType.REGISTRATION, byId(dataManager.getRegistrations(), Registration::getId));
+        entities.put(EntityType.EVALUATION, byId(dataManager.getEvaluations(), Evaluation::getId));
+        return entities;
+    }
+
+    private static <T> Map<Long, Object> byId(List<T> entities, Function<T, Long> idOf) {
+        Map<Long, Object> map = new HashMap<>();
+        for (T entity : entities) {
+            map.put(idOf.apply(entity), entity);
+        }
+        return map;
+    }
+
+    // ==================== Log Entries ====================
+
+    /**
+     * Applies log entries of the primary, as written by {@link ChangeLog}.
+     * Entries at or before the applied sequence are skipped, so a batch may
+     * overlap the previous one.
+     * @param entries the entries, oldest first
+     * @return the number of entries applied
+     * @throws IllegalStateException if an entry is missing; the replica must
+     *         then start over from a snapshot
+     */
+    public int apply(List<JsonObject> entries) {
+        synchronized (dataManager) {
+            long expected = appliedSequence + 1;
+            List<JsonObject> pending = new ArrayList<>(entries.size());
+            for (JsonObject entry : entries) {
+                long sequence = entry.get("sequence").getAsLong();
+                if (sequence < expected) {
+                    continue;
+                }
+                if (sequence > expected) {
+                    throw new IllegalStateException("Missing change log entries " + expected + " to " + (sequence - 1));
+                }
+                pending.add(entry);
+                expected++;
+            }
+            if (pending.isEmpty()) {
+                return 0;
+            }
+
+            Tables tables = new Tables();
+            List<ChangeEvent> events = new ArrayList<>(pending.size());
+            for (JsonObject entry : pending) {
+                events.add(applyEntry(tables, entry));
+            }
+            tables.save();
+            appliedSequence = expected - 1;
+
+            ChangeEventBus bus = ChangeEventBus.getInstance();
+            for (ChangeEvent event : events) {
+                bus.publish(event);
+            }
+            return pending.size();
+        }
+    }
+
+    private ChangeEvent applyEntry(Tables tables, JsonObject entry) {
+        EntityType type = EntityType.valueOf(entry.get("entityType").getAsString());
+        ChangeType changeType = ChangeType.valueOf(entry.get("changeType").getAsString());
+        Long id = entry.get("entityId").getAsLong();
+        JsonElement after = entry.get("after");
+        boolean delete = changeType == ChangeType.DELETE || after == null || after.isJsonNull();
+
+        Object entity = null;
+        switch (type) {
+            case SESSION -> entity = delete ? tables.sessions().remove(id)
+                    : tables.sessions().put(id, gson.fromJson(after, Session.class));
+            case REGISTRATION -> entity = delete ? tables.registrations().remove(id)
+                    : tables.registrations().put(id, gson.fromJson(after, Registration.class));
+            case EVALUATION -> entity = delete ? tables.evaluations().remove(id)
+                    : tables.evaluations().put(id, gson.fromJson(after, Evaluation.class));
+            case USER -> entity = delete ? tables.removeUser(id) : tables.putUser(id, after.getAsJsonObject());
+        }
+        return new ChangeEvent(type, changeType, id, delete ? null : entity);
+    }
+
+    /**
+     * Working copies of the entity lists for one batch, written back once at the end.
+     */
+    private final class Tables {
+        private Table<Session> sessions;
+        private Table<Registration> registrations;
+        private Table<Evaluation> evaluations;
+        private Table<Student> students;
+        private Table<Evaluator> evaluators;
+        private Table<Coordinator> coordinators;
+
+        Table<Session> sessions() {
+            if (sessions == null) {
+                sessions = new Table<>(dataManager.getSessions(), Session::getId);
+            }
+            return sessions;
+        }
+
+        Table<Registration> registrations() {
+            if (registrations == null) {
+                registrations = new Table<>(dataManager.getRegistrations(), Registration::getId);
+            }
+            return registrations;
+        }
+
+        Table<Evaluation> evaluations() {
+            if (evaluations == null) {
+                evaluations = new Table<>(dataManager.getEvaluations(), Evaluation::getId);
+            }
+            return evaluations;
+        }
+
+        private void loadUsers() {
+            if (students == null) {
+                students = new Table<>(dataManager.getStudents(), User::getId);
+                evaluators = new Table<>(dataManager.getEvaluators(), User::getId);
+                coordinators = new Table<>(dataManager.getCoordinators(), User::getId);
+            }
+        }
+
+        User putUser(Long id, JsonObject after) {
+            loadUsers();
+            Role role = gson.fromJson(after.get("role"), Role.class);
+            User previous = removeUser(id);
+            User user;
+            if (role == Role.STUDENT) {
+                user = students.put(id, gson.fromJson(after, Student.class));
+            } else if (role == Role.EVALUATOR) {
+                user = evaluators.put(id, gson.fromJson(after, Evaluator.class));
+            } else if (role == Role.COORDINATOR) {
+                user = coordinators.put(id, gson.fromJson(after, Coordinator.class));
+            } else {
+                throw new IllegalStateException("Unknown role for user " + id + ": " + after.get("role"));
+            }
+            // The log leaves passwords out, so keep the one from the snapshot
+            if (user.getPassword() == null && previous != null) {
+                user.setPassword(previous.getPassword());
+            }
+            return user;
+        }
+
+        User removeUser(Long id) {
+            loadUsers();
+            User removed = students.remove(id);
+            if (removed == null) {
+                removed = evaluators.remove(id);
+            }
+            if (removed == null) {
+                removed = coordinators.remove(id);
+            }
+            return removed;
+        }
+
+        void save() {
+            if (sessions != null && sessions.changed) {
+                dataManager.setSessions(sessions.rows);
+            }
+            if (registrations != null && registrations.changed) {
+                dataManager.setRegistrations(registrations.rows);
+            }
+            if (evaluations != null && evaluations.changed) {
+                dataManager.setEvaluations(evaluations.rows);
+            }
+            if (students != null) {
+                if (students.changed) {
+                    dataManager.setStudents(students.rows);
+                }
+                if (evaluators.changed) {
+                    dataManager.setEvaluators(evaluators.rows);
+                }
+                if (coordinators.changed) {
+                    dataManager.setCoordinators(coordinators.rows);
+                }
+            }
+        }
+    }
+
+    /**
+     * A list of entities indexed by ID.
+     */
+    private static final class Table<T> {
+        private final List<T> rows;
+        private final Function<? super T, Long> idOf;
+        private final Map<Long, Integer> index = new HashMap<>();
+        private boolean changed;
+
+        Table(List<T> rows, Function<? super T, Long> idOf) {
+            this.rows = rows;
+            this.idOf = idOf;
+            reindex(0);
+        }
+
+        T put(Long id, T row) {
+            Integer position = index.get(id);
+            if (position != null) {
+                rows.set(position, row);
+            } else {
+                index.put(id, rows.size());
+                rows.add(row);
+            }
+            changed = true;
+            return row;
+        }
+
+        T remove(Long id) {
+            Integer position = index.remove(id);
+            if (position == null) {
+                return null;
+            }
+            T removed = rows.remove((int) position);
+            reindex(position);
+            changed = true;
+            return removed;
+        }
+
+        private void reindex(int from) {
+            for (int i = from; i < rows.size(); i++) {
+                index.put(idOf.apply(rows.get(i)), i);
+            }
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.fci.seminar.repository;
 
 import com.fci.seminar.model.Evaluation;
+import com.fci.seminar.repository.ChangeEvent.EntityType;
 import com.fci.seminar.util.DataManager;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -50,6 +54,13 @@ public class EvaluationRepository {
         return dataManager.getEvaluations();
     }
     
+    /**
+     * Visits all evaluations without copying them, for large exports.
+     */
+    public void forEach(Consumer<? super Evaluation> action) {
+        dataManager.forEachEvaluation(action);
+    }
+    
     /**
      * Finds evaluations by evaluator ID.
      * Requirements: 5.1
@@ -149,30 +160,82 @@ public class EvaluationRepository {
     public Evaluation save(Evaluation evaluation) {
         if (evaluation == null) return null;
         
-        List<Evaluation> evaluations = dataManager.getEvaluations();
+        synchronized (dataManager) {
+            List<Evaluation> evaluations = dataManager.getEvaluations();
         
-        if (evaluation.getId() == null) {
-            // New evaluation - assign ID
-            evaluation.setId(dataManager.getNextId(Evaluation.class));
-            evaluations.add(evaluation);
-        } else {
-            // Update existing evaluation
-            boolean found = false;
+            boolean inserted = evaluation.getId() == null;
+            if (inserted) {
+                // New evaluation - assign ID
+                evaluation.setId(dataManager.getNextId(Evaluation.class));
+                evaluations.add(evaluation);
+            } else {
+                // Update existing evaluation
+                boolean found = false;
+                for (int i = 0; i < evaluations.size(); i++) {
+                    if (evaluation.getId().equals(evaluations.get(i).getId())) {
+                        evaluations.set(i, evaluation);
+                        found = true;
+                        break;
+                    }
+                }
+                if (!found) {
+                    evaluations.add(evaluation);
+                    inserted = true;
+                }
+            }
+        
+            dataManager.setEvaluations(evaluations);
+            dataManager.saveEvaluations();
+            ChangeEventBus.getInstance().publishSaved(EntityType.EVALUATION, evaluation.getId(), evaluation, inserted);
+            return evaluation;
+        }
+    }
+    
+    /**
+     * Saves several evaluations with a single write of the data file.
+     * New evaluations are given increasing IDs.
+     * @param toSave the evaluations to create or update
+     * @return the saved evaluations
+     */
+    public List<Evaluation> saveAll(List<Evaluation> toSave) {
+        if (toSave == null || toSave.isEmpty()) return new ArrayList<>();
+        
+        synchronized (dataManager) {
+            List<Evaluation> evaluations = dataManager.getEvaluations();
+            Map<Long, Integer> indexById = new HashMap<>();
             for (int i = 0; i < evaluations.size(); i++) {
-                if (evaluation.getId().equals(evaluations.get(i).getId())) {
-                    evaluations.set(i, evaluation);
-                    found = true;
-                    break;
+                indexById.put(evaluations.get(i).getId(), i);
+            }
+            
+            long nextId = 0;
+            boolean[] inserted = new boolean[toSave.size()];
+            for (int i = 0; i < toSave.size(); i++) {
+                Evaluation evaluation = toSave.get(i);
+                Integer index = evaluation.getId() != null ? indexById.get(evaluation.getId()) : null;
+                if (index != null) {
+                    evaluations.set(index, evaluation);
+                } else {
+                    if (evaluation.getId() == null) {
+                        // The sequential default returns the same ID until the batch is stored
+                        nextId = Math.max(nextId, dataManager.getNextId(Evaluation.class));
+                        evaluation.setId(nextId++);
+                    } else {
+                        nextId = Math.max(nextId, evaluation.getId() + 1);
+                    }
+                    indexById.put(evaluation.getId(), evaluations.size());
+                    evaluations.add(evaluation);
+                    inserted[i] = true;
                 }
             }
-            if (!found) {
-                evaluations.add(evaluation);
+            
+            dataManager.setEvaluations(evaluations);
+            dataManager.saveEvaluations();
+            for (int i = 0; i < toSave.size(); i++) {
+                Evaluation evaluation = toSave.get(i);
+                ChangeEventBus.getInstance().publishSaved(EntityType.EVALUATION, evaluation.getId(), evaluation, inserted[i]);
             }
+            return new ArrayList<>(toSave);
         }
-        
-        dataManager.setEvaluations(evaluations);
-        dataManager.saveEvaluations();
-        return evaluation;
     }
     
     // ==================== Delete Operations ====================
@@ -183,10 +246,13 @@ public class EvaluationRepository {
     public void delete(Long id) {
         if (id == null) return;
         
-        List<Evaluation> evaluations = dataManager.getEvaluations();
-        if (evaluations.removeIf(e -> id.equals(e.getId()))) {
-            dataManager.setEvaluations(evaluations);
-            dataManager.saveEvaluations();
+        synchronized (dataManager) {
+            List<Evaluation> evaluations = dataManager.getEvaluations();
+            if (evaluations.removeIf(e -> id.equals(e.getId()))) {
+                dataManager.setEvaluations(evaluations);
+                dataManager.saveEvaluations();
+                ChangeEventBus.getInstance().publishDeleted(EntityType.EVALUATION, id);
+            }
         }
     }
     
@@ -204,10 +270,21 @@ public class EvaluationRepository {
     public void deleteByRegistrationId(Long registrationId) {
         if (registrationId == null) return;
         
-        List<Evaluation> evaluations = dataManager.getEvaluations();
-        if (evaluations.removeIf(e -> registrationId.equals(e.getRegistrationId()))) {
-            dataManager.setEvaluations(evaluations);
-            dataManager.saveEvaluations();
+        synchronized (dataManager) {
+            List<Evaluation> evaluations = dataManager.getEvaluations();
+            List<Long> removedIds = new ArrayList<>();
+            for (Evaluation evaluation : evaluations) {
+                if (registrationId.equals(evaluation.getRegistrationId())) {
+                    removedIds.add(evaluation.getId());
+                }
+            }
+            if (evaluations.removeIf(e -> registrationId.equals(e.getRegistrationId()))) {
+                dataManager.setEvaluations(evaluations);
+                dataManager.saveEvaluations();
+                for (Long removedId : removedIds) {
+                    ChangeEventBus.getInstance().publishDeleted(EntityType.EVALUATION, removedId);
+                }
+            }
         }
     }
 
@@ -328,4 +405,30 @@ public class EvaluationRepository {
                 .average()
                 .orElse(0.0);
     }
+    
+    /**
+     * Calculates the average total score of submitted evaluations for every
+     * registration in a single pass over all evaluations.
+     * @return map of registration ID to average score; registrations without
+     *         submitted evaluations are not included
+     */
+    public Map<Long, Double> getAverageScoresByRegistrationId() {
+        // Running [sum, count] per registration
+        Map<Long, long[]> totals = new HashMap<>();
+        for (Evaluation evaluation : dataManager.getEvaluations()) {
+            if (!evaluation.isSubmitted() || evaluation.getRegistrationId() == null) {
+                continue;
+            }
+            long[] total = totals.computeIfAbsent(evaluation.getRegistrationId(), k -> new long[2]);
+            total[0] += evaluation.getTotalScore();
+            total[1]++;
+        }
+        
+        Map<Long, Double> averages = new HashMap<>(totals.size() * 2);
+        for (Map.Entry<Long, long[]> entry : totals.entrySet()) {
+            long[] total = entry.getValue();
+            averages.put(entry.getKey(), (double) total[0] / total[1]);
+        }
+        return averages;
+    }
 }
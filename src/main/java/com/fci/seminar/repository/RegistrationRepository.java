@@ -1,11 +1,22 @@
 package com.fci.seminar.repository;
 
 import com.fci.seminar.model.Registration;
+import com.fci.seminar.model.Session;
 import com.fci.seminar.model.enums.RegistrationStatus;
+import com.fci.seminar.model.enums.SessionStatus;
+import com.fci.seminar.repository.ChangeEvent.EntityType;
 import com.fci.seminar.util.DataManager;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -50,6 +61,13 @@ public class RegistrationRepository {
         return dataManager.getRegistrations();
     }
     
+    /**
+     * Visits all registrations without copying them, for large exports.
+     */
+    public void forEach(Consumer<? super Registration> action) {
+        dataManager.forEachRegistration(action);
+    }
+    
     /**
      * Finds registrations by student ID.
      * Requirements: 3.6
@@ -141,30 +159,35 @@ public class RegistrationRepository {
     public Registration save(Registration registration) {
         if (registration == null) return null;
         
-        List<Registration> registrations = dataManager.getRegistrations();
+        synchronized (dataManager) {
+            List<Registration> registrations = dataManager.getRegistrations();
         
-        if (registration.getId() == null) {
-            // New registration - assign ID
-            registration.setId(dataManager.getNextId(Registration.class));
-            registrations.add(registration);
-        } else {
-            // Update existing registration
-            boolean found = false;
-            for (int i = 0; i < registrations.size(); i++) {
-                if (registration.getId().equals(registrations.get(i).getId())) {
-                    registrations.set(i, registration);
-                    found = true;
-                    break;
-                }
-            }
-            if (!found) {
+            boolean inserted = registration.getId() == null;
+            if (inserted) {
+                // New registration - assign ID
+                registration.setId(dataManager.getNextId(Registration.class));
                 registrations.add(registration);
+            } else {
+                // Update existing registration
+                boolean found = false;
+                for (int i = 0; i < registrations.size(); i++) {
+                    if (registration.getId().equals(registrations.get(i).getId())) {
+                        registrations.set(i, registration);
+                        found = true;
+                        break;
+                    }
+                }
+                if (!found) {
+                    registrations.add(registration);
+                    inserted = true;
+                }
             }
-        }
         
-        dataManager.setRegistrations(registrations);
-        dataManager.saveRegistrations();
-        return registration;
+            dataManager.setRegistrations(registrations);
+            dataManager.saveRegistrations();
+            ChangeEventBus.getInstance().publishSaved(EntityType.REGISTRATION, registration.getId(), registration, inserted);
+            return registration;
+        }
     }
     
     // ==================== Delete Operations ====================
@@ -175,10 +198,13 @@ public class RegistrationRepository {
     public void delete(Long id) {
         if (id == null) return;
         
-        List<Registration> registrations = dataManager.getRegistrations();
-        if (registrations.removeIf(r -> id.equals(r.getId()))) {
-            dataManager.setRegistrations(registrations);
-            dataManager.saveRegistrations();
+        synchronized (dataManager) {
+            List<Registration> registrations = dataManager.getRegistrations();
+            if (registrations.removeIf(r -> id.equals(r.getId()))) {
+                dataManager.setRegistrations(registrations);
+                dataManager.saveRegistrations();
+                ChangeEventBus.getInstance().publishDeleted(EntityType.REGISTRATION, id);
+            }
         }
     }
     
@@ -205,6 +231,112 @@ public class RegistrationRepository {
         return null;
     }
     
+    /**
+     * Sets the status of many registrations in one write.
+     * Every ID is checked first; if any is unknown, nothing changes.
+     * Registrations already in the status are left untouched.
+     * Cancelling also removes registrations from their sessions, with the
+     * session counts updated once per session.
+     * @param ids the registration IDs
+     * @param status the new status
+     * @return the registrations whose status changed
+     * @throws IllegalArgumentException if a registration does not exist
+     */
+    public List<Registration> updateStatuses(Collection<Long> ids, RegistrationStatus status) {
+        if (ids == null || ids.isEmpty()) return new ArrayList<>();
+        Set<Long> wanted = new HashSet<>(ids);
+        
+        synchronized (dataManager) {
+            List<Registration> registrations = dataManager.getRegistrations();
+            List<Registration> selected = new ArrayList<>(wanted.size());
+            for (Registration registration : registrations) {
+                if (wanted.contains(registration.getId())) {
+                    selected.add(registration);
+                }
+            }
+            if (selected.size() < wanted.size()) {
+                for (Registration registration : selected) {
+                    wanted.remove(registration.getId());
+                }
+                throw new IllegalArgumentException("Registration not found: " + wanted.iterator().next());
+            }
+            return applyStatus(registrations, selected, status);
+        }
+    }
+    
+    /**
+     * Sets the status of every registration matching a filter, in one write.
+     * @param criteria selects the registrations to change
+     * @param status the new status
+     * @return the registrations whose status changed
+     */
+    public List<Registration> updateStatusesWhere(Predicate<? super Registration> criteria, RegistrationStatus status) {
+        if (criteria == null) return new ArrayList<>();
+        
+        synchronized (dataManager) {
+            List<Registration> registrations = dataManager.getRegistrations();
+            List<Registration> selected = new ArrayList<>();
+            for (Registration registration : registrations) {
+                if (criteria.test(registration)) {
+                    selected.add(registration);
+                }
+            }
+            return applyStatus(registrations, selected, status);
+        }
+    }
+    
+    /**
+     * Applies a status to selected registrations and saves once. Caller holds the lock.
+     */
+    private List<Registration> applyStatus(List<Registration> registrations, List<Registration> selected,
+                                           RegistrationStatus status) {
+        List<Registration> updated = new ArrayList<>(selected.size());
+        Map<Long, Integer> removedBySession = new HashMap<>();
+        for (Registration registration : selected) {
+            if (registration.getStatus() == status) {
+                continue;
+            }
+            registration.setStatus(status);
+            if (status == RegistrationStatus.CANCELLED && registration.getSessionId() != null) {
+                removedBySession.merge(registration.getSessionId(), 1, Integer::sum);
+                registration.setSessionId(null);
+            }
+            updated.add(registration);
+        }
+        if (updated.isEmpty()) {
+            return updated;
+        }
+        
+        List<Session> updatedSessions = new ArrayList<>(removedBySession.size());
+        if (!removedBySession.isEmpty()) {
+            List<Session> sessions = dataManager.getSessions();
+            for (Session session : sessions) {
+                Integer removed = removedBySession.get(session.getId());
+                if (removed == null || session.getRegistered() == 0) {
+                    continue;
+                }
+                session.setRegistered(Math.max(0, session.getRegistered() - removed));
+                // Reopen a full session that now has space
+                if (session.getStatus() == SessionStatus.FULL && session.getRegistered() < session.getCapacity()) {
+                    session.setStatus(SessionStatus.OPEN);
+                }
+                updatedSessions.add(session);
+            }
+            dataManager.setSessions(sessions);
+            dataManager.saveSessions();
+        }
+        dataManager.setRegistrations(registrations);
+        dataManager.saveRegistrations();
+        
+        for (Registration registration : updated) {
+            ChangeEventBus.getInstance().publishSaved(EntityType.REGISTRATION, registration.getId(), registration, false);
+        }
+        for (Session session : updatedSessions) {
+            ChangeEventBus.getInstance().publishSaved(EntityType.SESSION, session.getId(), session, false);
+        }
+        return updated;
+    }
+    
     /**
      * Assigns a registration to a session.
      */
@@ -217,6 +349,91 @@ public class RegistrationRepository {
         return null;
     }
     
+    /**
+     * Assigns many approved, unassigned registrations to sessions in one write.
+     * Every assignment is checked before anything changes: if any registration
+     * is no longer approved and unassigned, or any session is missing, of the
+     * wrong type or short of free slots, nothing is assigned. Session counts
+     * and statuses are updated together with the registrations.
+     * @param sessionByRegistration session ID per registration ID
+     * @return the updated registrations
+     * @throws IllegalArgumentException if any assignment is no longer valid
+     */
+    public List<Registration> assignAllToSessions(Map<Long, Long> sessionByRegistration) {
+        if (sessionByRegistration == null || sessionByRegistration.isEmpty()) return new ArrayList<>();
+        
+        synchronized (dataManager) {
+            List<Registration> registrations = dataManager.getRegistrations();
+            List<Session> sessions = dataManager.getSessions();
+            Map<Long, Registration> registrationsById = new HashMap<>();
+            for (Registration registration : registrations) {
+                registrationsById.put(registration.getId(), registration);
+            }
+            Map<Long, Session> sessionsById = new HashMap<>();
+            for (Session session : sessions) {
+                sessionsById.put(session.getId(), session);
+            }
+            
+            // Validate everything first so a stale plan changes nothing
+            Map<Long, Integer> addedBySession = new LinkedHashMap<>();
+            for (Map.Entry<Long, Long> entry : sessionByRegistration.entrySet()) {
+                Registration registration = registrationsById.get(entry.getKey());
+                if (registration == null) {
+                    throw new IllegalArgumentException("Registration not found: " + entry.getKey());
+                }
+                if (registration.getStatus() != RegistrationStatus.APPROVED || registration.getSessionId() != null) {
+                    throw new IllegalArgumentException(
+                        "Registration " + entry.getKey() + " is no longer approved and unassigned");
+                }
+                Session session = sessionsById.get(entry.getValue());
+                if (session == null) {
+                    throw new IllegalArgumentException("Session not found: " + entry.getValue());
+                }
+                if (registration.getPresentationType() != session.getType()) {
+                    throw new IllegalArgumentException(
+                        "Presentation type of registration " + entry.getKey() + " does not match session type");
+                }
+                addedBySession.merge(session.getId(), 1, Integer::sum);
+            }
+            for (Map.Entry<Long, Integer> entry : addedBySession.entrySet()) {
+                Session session = sessionsById.get(entry.getKey());
+                if (session.getStatus() != SessionStatus.OPEN
+                        || session.getRegistered() + entry.getValue() > session.getCapacity()) {
+                    throw new IllegalArgumentException(
+                        "Session " + entry.getKey() + " does not have " + entry.getValue() + " free slots");
+                }
+            }
+            
+            List<Registration> updated = new ArrayList<>(sessionByRegistration.size());
+            for (Map.Entry<Long, Long> entry : sessionByRegistration.entrySet()) {
+                Registration registration = registrationsById.get(entry.getKey());
+                registration.setSessionId(entry.getValue());
+                updated.add(registration);
+            }
+            List<Session> updatedSessions = new ArrayList<>(addedBySession.size());
+            for (Map.Entry<Long, Integer> entry : addedBySession.entrySet()) {
+                Session session = sessionsById.get(entry.getKey());
+                session.setRegistered(session.getRegistered() + entry.getValue());
+                if (session.getRegistered() >= session.getCapacity()) {
+                    session.setStatus(SessionStatus.FULL);
+                }
+                updatedSessions.add(session);
+            }
+            
+            dataManager.setRegistrations(registrations);
+            dataManager.setSessions(sessions);
+            dataManager.saveRegistrations();
+            dataManager.saveSessions();
+            for (Registration registration : updated) {
+                ChangeEventBus.getInstance().publishSaved(EntityType.REGISTRATION, registration.getId(), registration, false);
+            }
+            for (Session session : updatedSessions) {
+                ChangeEventBus.getInstance().publishSaved(EntityType.SESSION, session.getId(), session, false);
+            }
+            return updated;
+        }
+    }
+    
     /**
      * Updates the file path for a registration.
      */
@@ -241,6 +458,43 @@ public class RegistrationRepository {
         return null;
     }
     
+    /**
+     * Sets the board IDs of many registrations in one write.
+     * @param boardByRegistration board ID per registration ID; a null board clears it
+     * @return the updated registrations
+     * @throws IllegalArgumentException if a registration does not exist
+     */
+    public List<Registration> updateBoardIds(Map<Long, String> boardByRegistration) {
+        if (boardByRegistration == null || boardByRegistration.isEmpty()) return new ArrayList<>();
+        
+        synchronized (dataManager) {
+            List<Registration> registrations = dataManager.getRegistrations();
+            Map<Long, Registration> registrationsById = new HashMap<>();
+            for (Registration registration : registrations) {
+                registrationsById.put(registration.getId(), registration);
+            }
+            for (Long id : boardByRegistration.keySet()) {
+                if (!registrationsById.containsKey(id)) {
+                    throw new IllegalArgumentException("Registration not found: " + id);
+                }
+            }
+            
+            List<Registration> updated = new ArrayList<>(boardByRegistration.size());
+            for (Map.Entry<Long, String> entry : boardByRegistration.entrySet()) {
+                Registration registration = registrationsById.get(entry.getKey());
+                registration.setBoardId(entry.getValue());
+                updated.add(registration);
+            }
+            
+            dataManager.setRegistrations(registrations);
+            dataManager.saveRegistrations();
+            for (Registration registration : updated) {
+                ChangeEventBus.getInstance().publishSaved(EntityType.REGISTRATION, registration.getId(), registration, false);
+            }
+            return updated;
+        }
+    }
+    
     // ==================== Utility Methods ====================
     
     /**
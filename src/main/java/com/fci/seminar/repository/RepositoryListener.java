@@ -0,0 +1,17 @@
+package com.fci.seminar.repository;
+
+import java.util.List;
+
+/**
+ * Receives repository change events from the ChangeEventBus.
+ */
+public interface RepositoryListener {
+
+    /**
+     * Called with one or more changes.
+     * Direct subscribers receive one event per call on the writing thread;
+     * coalescing subscribers receive a merged batch on the EDT.
+     * @param events The changes, in the order they were made
+     */
+    void onChanges(List<ChangeEvent> events);
+}
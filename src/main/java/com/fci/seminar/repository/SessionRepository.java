@@ -3,11 +3,13 @@ package com.fci.seminar.repository;
 import com.fci.seminar.model.Session;
 import com.fci.seminar.model.enums.SessionStatus;
 import com.fci.seminar.model.enums.SessionType;
+import com.fci.seminar.repository.ChangeEvent.EntityType;
 import com.fci.seminar.util.DataManager;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -53,6 +55,13 @@ public class SessionRepository {
         return dataManager.getSessions();
     }
     
+    /**
+     * Visits all sessions without copying them, for large exports.
+     */
+    public void forEach(Consumer<? super Session> action) {
+        dataManager.forEachSession(action);
+    }
+    
     /**
      * Finds sessions by date.
      * Requirements: 2.3
@@ -146,30 +155,35 @@ public class SessionRepository {
     public Session save(Session session) {
         if (session == null) return null;
         
-        List<Session> sessions = dataManager.getSessions();
+        synchronized (dataManager) {
+            List<Session> sessions = dataManager.getSessions();
         
-        if (session.getId() == null) {
-            // New session - assign ID
-            session.setId(dataManager.getNextId(Session.class));
-            sessions.add(session);
-        } else {
-            // Update existing session
-            boolean found = false;
-            for (int i = 0; i < sessions.size(); i++) {
-                if (session.getId().equals(sessions.get(i).getId())) {
-                    sessions.set(i, session);
-                    found = true;
-                    break;
-                }
-            }
-            if (!found) {
+            boolean inserted = session.getId() == null;
+            if (inserted) {
+                // New session - assign ID
+                session.setId(dataManager.getNextId(Session.class));
                 sessions.add(session);
+            } else {
+                // Update existing session
+                boolean found = false;
+                for (int i = 0; i < sessions.size(); i++) {
+                    if (session.getId().equals(sessions.get(i).getId())) {
+                        sessions.set(i, session);
+                        found = true;
+                        break;
+                    }
+                }
+                if (!found) {
+                    sessions.add(session);
+                    inserted = true;
+                }
             }
-        }
         
-        dataManager.setSessions(sessions);
-        dataManager.saveSessions();
-        return session;
+            dataManager.setSessions(sessions);
+            dataManager.saveSessions();
+            ChangeEventBus.getInstance().publishSaved(EntityType.SESSION, session.getId(), session, inserted);
+            return session;
+        }
     }
     
     // ==================== Delete Operations ====================
@@ -181,10 +195,13 @@ public class SessionRepository {
     public void delete(Long id) {
         if (id == null) return;
         
-        List<Session> sessions = dataManager.getSessions();
-        if (sessions.removeIf(s -> id.equals(s.getId()))) {
-            dataManager.setSessions(sessions);
-            dataManager.saveSessions();
+        synchronized (dataManager) {
+            List<Session> sessions = dataManager.getSessions();
+            if (sessions.removeIf(s -> id.equals(s.getId()))) {
+                dataManager.setSessions(sessions);
+                dataManager.saveSessions();
+                ChangeEventBus.getInstance().publishDeleted(EntityType.SESSION, id);
+            }
         }
     }
     
@@ -0,0 +1,113 @@
+package com.fci.seminar.repository;
+
+import com.fci.seminar.model.Evaluation;
+import com.fci.seminar.model.Registration;
+import com.fci.seminar.model.Session;
+import com.fci.seminar.model.User;
+import com.fci.seminar.repository.ChangeEvent.ChangeType;
+import com.fci.seminar.repository.ChangeEvent.EntityType;
+import com.fci.seminar.util.DataManager;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Publishes the records other processes commit to the shared data files on
+ * the {@link ChangeEventBus}, as if they had been saved through a repository
+ * here, so panels, caches and feeds pick them up.
+ * <p>
+ * Other processes' records can arrive in the middle of a repository save,
+ * whose own event would then follow and, after a merge, describe the record
+ * as it was before. The events are therefore published on a separate thread
+ * once the data manager is unlocked, which is after the repository's event.
+ */
+public class SharedDataPublisher implements DataManager.SharedDataListener {
+
+    private final DataManager dataManager;
+    private final ChangeEventBus bus;
+    private final Consumer<String> conflictHandler;
+    private final ExecutorService publisher;
+
+    /**
+     * Creates a publisher for the shared data manager and bus.
+     * @param conflictHandler shows conflicts to the user, or null to only log them
+     */
+    public SharedDataPublisher(Consumer<String> conflictHandler) {
+        this(DataManager.getInstance(), ChangeEventBus.getInstance(), conflictHandler);
+    }
+
+    /**
+     * Constructor for testing with a custom data manager and bus.
+     */
+    public SharedDataPublisher(DataManager dataManager, ChangeEventBus bus, Consumer<String> conflictHandler) {
+        this.dataManager = dataManager;
+        this.bus = bus;
+        this.conflictHandler = conflictHandler;
+        this.publisher = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "shared-data-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Publishes other processes' changes on the shared bus from now on.
+     * @param dataManager the data manager to listen to
+     * @param conflictHandler shows conflicts to the user, or null to only log them
+     */
+    public static void install(DataManager dataManager, Consumer<String> conflictHandler) {
+        dataManager.setSharedDataListener(new SharedDataPublisher(dataManager, ChangeEventBus.getInstance(),
+                conflictHandler));
+    }
+
+    @Override
+    public void onExternalChange(Class<?> entityClass, Long id, Object entity, boolean inserted) {
+        EntityType type = entityTypeOf(entityClass);
+        if (type == null) {
+            return;
+        }
+        ChangeType changeType = entity == null ? ChangeType.DELETE : inserted ? ChangeType.INSERT : ChangeType.UPDATE;
+        publishLater(new ChangeEvent(type, changeType, id, entity, true));
+    }
+
+    @Override
+    public void onDerivedChange(Class<?> entityClass, Long id, Object entity) {
+        EntityType type = entityTypeOf(entityClass);
+        if (type != null) {
+            // Made by this process, so the change log records it
+            publishLater(new ChangeEvent(type, ChangeType.UPDATE, id, entity));
+        }
+    }
+
+    private void publishLater(ChangeEvent event) {
+        publisher.execute(() -> {
+            synchronized (dataManager) {
+                bus.publish(event);
+            }
+        });
+    }
+
+    @Override
+    public void onConflict(String message) {
+        if (conflictHandler != null) {
+            conflictHandler.accept(message);
+        }
+    }
+
+    private static EntityType entityTypeOf(Class<?> entityClass) {
+        if (User.class.isAssignableFrom(entityClass)) {
+            return EntityType.USER;
+        }
+        if (entityClass == Session.class) {
+            return EntityType.SESSION;
+        }
+        if (entityClass == Registration.class) {
+            return EntityType.REGISTRATION;
+        }
+        if (entityClass == Evaluation.class) {
+            return EntityType.EVALUATION;
+        }
+        return null;
+    }
+}
@@ -2,6 +2,7 @@ package com.fci.seminar.repository;
 
 import com.fci.seminar.model.*;
 import com.fci.seminar.model.enums.Role;
+import com.fci.seminar.repository.ChangeEvent.EntityType;
 import com.fci.seminar.util.DataManager;
 
 import java.util.ArrayList;
@@ -199,30 +200,35 @@ public class UserRepository {
     public Student saveStudent(Student student) {
         if (student == null) return null;
         
-        List<Student> students = dataManager.getStudents();
+        synchronized (dataManager) {
+            List<Student> students = dataManager.getStudents();
         
-        if (student.getId() == null) {
-            // New student - assign ID
-            student.setId(dataManager.getNextId(Student.class));
-            students.add(student);
-        } else {
-            // Update existing student
-            boolean found = false;
-            for (int i = 0; i < students.size(); i++) {
-                if (student.getId().equals(students.get(i).getId())) {
-                    students.set(i, student);
-                    found = true;
-                    break;
-                }
-            }
-            if (!found) {
+            boolean inserted = student.getId() == null;
+            if (inserted) {
+                // New student - assign ID
+                student.setId(dataManager.getNextId(Student.class));
                 students.add(student);
+            } else {
+                // Update existing student
+                boolean found = false;
+                for (int i = 0; i < students.size(); i++) {
+                    if (student.getId().equals(students.get(i).getId())) {
+                        students.set(i, student);
+                        found = true;
+                        break;
+                    }
+                }
+                if (!found) {
+                    students.add(student);
+                    inserted = true;
+                }
             }
-        }
         
-        dataManager.setStudents(students);
-        dataManager.saveUsers();
-        return student;
+            dataManager.setStudents(students);
+            dataManager.saveUsers();
+            ChangeEventBus.getInstance().publishSaved(EntityType.USER, student.getId(), student, inserted);
+            return student;
+        }
     }
     
     /**
@@ -231,30 +237,35 @@ public class UserRepository {
     public Evaluator saveEvaluator(Evaluator evaluator) {
         if (evaluator == null) return null;
         
-        List<Evaluator> evaluators = dataManager.getEvaluators();
+        synchronized (dataManager) {
+            List<Evaluator> evaluators = dataManager.getEvaluators();
         
-        if (evaluator.getId() == null) {
-            // New evaluator - assign ID
-            evaluator.setId(dataManager.getNextId(Evaluator.class));
-            evaluators.add(evaluator);
-        } else {
-            // Update existing evaluator
-            boolean found = false;
-            for (int i = 0; i < evaluators.size(); i++) {
-                if (evaluator.getId().equals(evaluators.get(i).getId())) {
-                    evaluators.set(i, evaluator);
-                    found = true;
-                    break;
-                }
-            }
-            if (!found) {
+            boolean inserted = evaluator.getId() == null;
+            if (inserted) {
+                // New evaluator - assign ID
+                evaluator.setId(dataManager.getNextId(Evaluator.class));
                 evaluators.add(evaluator);
+            } else {
+                // Update existing evaluator
+                boolean found = false;
+                for (int i = 0; i < evaluators.size(); i++) {
+                    if (evaluator.getId().equals(evaluators.get(i).getId())) {
+                        evaluators.set(i, evaluator);
+                        found = true;
+                        break;
+                    }
+                }
+                if (!found) {
+                    evaluators.add(evaluator);
+                    inserted = true;
+                }
             }
-        }
         
-        dataManager.setEvaluators(evaluators);
-        dataManager.saveUsers();
-        return evaluator;
+            dataManager.setEvaluators(evaluators);
+            dataManager.saveUsers();
+            ChangeEventBus.getInstance().publishSaved(EntityType.USER, evaluator.getId(), evaluator, inserted);
+            return evaluator;
+        }
     }
     
     /**
@@ -263,30 +274,35 @@ public class UserRepository {
     public Coordinator saveCoordinator(Coordinator coordinator) {
         if (coordinator == null) return null;
         
-        List<Coordinator> coordinators = dataManager.getCoordinators();
+        synchronized (dataManager) {
+            List<Coordinator> coordinators = dataManager.getCoordinators();
         
-        if (coordinator.getId() == null) {
-            // New coordinator - assign ID
-            coordinator.setId(dataManager.getNextId(Coordinator.class));
-            coordinators.add(coordinator);
-        } else {
-            // Update existing coordinator
-            boolean found = false;
-            for (int i = 0; i < coordinators.size(); i++) {
-                if (coordinator.getId().equals(coordinators.get(i).getId())) {
-                    coordinators.set(i, coordinator);
-                    found = true;
-                    break;
-                }
-            }
-            if (!found) {
+            boolean inserted = coordinator.getId() == null;
+            if (inserted) {
+                // New coordinator - assign ID
+                coordinator.setId(dataManager.getNextId(Coordinator.class));
                 coordinators.add(coordinator);
+            } else {
+                // Update existing coordinator
+                boolean found = false;
+                for (int i = 0; i < coordinators.size(); i++) {
+                    if (coordinator.getId().equals(coordinators.get(i).getId())) {
+                        coordinators.set(i, coordinator);
+                        found = true;
+                        break;
+                    }
+                }
+                if (!found) {
+                    coordinators.add(coordinator);
+                    inserted = true;
+                }
             }
-        }
         
-        dataManager.setCoordinators(coordinators);
-        dataManager.saveUsers();
-        return coordinator;
+            dataManager.setCoordinators(coordinators);
+            dataManager.saveUsers();
+            ChangeEventBus.getInstance().publishSaved(EntityType.USER, coordinator.getId(), coordinator, inserted);
+            return coordinator;
+        }
     }
 
     
@@ -299,29 +315,34 @@ public class UserRepository {
         if (id == null) return;
         
         // Try to delete from students
-        List<Student> students = dataManager.getStudents();
-        boolean removed = students.removeIf(s -> id.equals(s.getId()));
-        if (removed) {
-            dataManager.setStudents(students);
-            dataManager.saveUsers();
-            return;
-        }
+        synchronized (dataManager) {
+            List<Student> students = dataManager.getStudents();
+            boolean removed = students.removeIf(s -> id.equals(s.getId()));
+            if (removed) {
+                dataManager.setStudents(students);
+                dataManager.saveUsers();
+                ChangeEventBus.getInstance().publishDeleted(EntityType.USER, id);
+                return;
+            }
         
-        // Try to delete from evaluators
-        List<Evaluator> evaluators = dataManager.getEvaluators();
-        removed = evaluators.removeIf(e -> id.equals(e.getId()));
-        if (removed) {
-            dataManager.setEvaluators(evaluators);
-            dataManager.saveUsers();
-            return;
-        }
+            // Try to delete from evaluators
+            List<Evaluator> evaluators = dataManager.getEvaluators();
+            removed = evaluators.removeIf(e -> id.equals(e.getId()));
+            if (removed) {
+                dataManager.setEvaluators(evaluators);
+                dataManager.saveUsers();
+                ChangeEventBus.getInstance().publishDeleted(EntityType.USER, id);
+                return;
+            }
         
-        // Try to delete from coordinators
-        List<Coordinator> coordinators = dataManager.getCoordinators();
-        removed = coordinators.removeIf(c -> id.equals(c.getId()));
-        if (removed) {
-            dataManager.setCoordinators(coordinators);
-            dataManager.saveUsers();
+            // Try to delete from coordinators
+            List<Coordinator> coordinators = dataManager.getCoordinators();
+            removed = coordinators.removeIf(c -> id.equals(c.getId()));
+            if (removed) {
+                dataManager.setCoordinators(coordinators);
+                dataManager.saveUsers();
+                ChangeEventBus.getInstance().publishDeleted(EntityType.USER, id);
+            }
         }
     }
     
@@ -331,10 +352,13 @@ public class UserRepository {
     public void deleteStudent(Long id) {
         if (id == null) return;
         
-        List<Student> students = dataManager.getStudents();
-        if (students.removeIf(s -> id.equals(s.getId()))) {
-            dataManager.setStudents(students);
-            dataManager.saveUsers();
+        synchronized (dataManager) {
+            List<Student> students = dataManager.getStudents();
+            if (students.removeIf(s -> id.equals(s.getId()))) {
+                dataManager.setStudents(students);
+                dataManager.saveUsers();
+                ChangeEventBus.getInstance().publishDeleted(EntityType.USER, id);
+            }
         }
     }
     
@@ -344,10 +368,13 @@ public class UserRepository {
     public void deleteEvaluator(Long id) {
         if (id == null) return;
         
-        List<Evaluator> evaluators = dataManager.getEvaluators();
-        if (evaluators.removeIf(e -> id.equals(e.getId()))) {
-            dataManager.setEvaluators(evaluators);
-            dataManager.saveUsers();
+        synchronized (dataManager) {
+            List<Evaluator> evaluators = dataManager.getEvaluators();
+            if (evaluators.removeIf(e -> id.equals(e.getId()))) {
+                dataManager.setEvaluators(evaluators);
+                dataManager.saveUsers();
+                ChangeEventBus.getInstance().publishDeleted(EntityType.USER, id);
+            }
         }
     }
     
@@ -357,10 +384,13 @@ public class UserRepository {
     public void deleteCoordinator(Long id) {
         if (id == null) return;
         
-        List<Coordinator> coordinators = dataManager.getCoordinators();
-        if (coordinators.removeIf(c -> id.equals(c.getId()))) {
-            dataManager.setCoordinators(coordinators);
-            dataManager.saveUsers();
+        synchronized (dataManager) {
+            List<Coordinator> coordinators = dataManager.getCoordinators();
+            if (coordinators.removeIf(c -> id.equals(c.getId()))) {
+                dataManager.setCoordinators(coordinators);
+                dataManager.saveUsers();
+                ChangeEventBus.getInstance().publishDeleted(EntityType.USER, id);
+            }
         }
     }
     
@@ -0,0 +1,36 @@
+package com.fci.seminar.server;
+
+/**
+ * Error that maps to an HTTP status other than 400.
+ * Validation failures keep using {@link IllegalArgumentException}, which the
+ * server answers with 400 Bad Request.
+ */
+public class ApiException extends RuntimeException {
+
+    private final int status;
+
+    public ApiException(int status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public static ApiException unauthorized(String message) {
+        return new ApiException(401, message);
+    }
+
+    public static ApiException forbidden(String message) {
+        return new ApiException(403, message);
+    }
+
+    public static ApiException notFound(String message) {
+        return new ApiException(404, message);
+    }
+
+    public static ApiException methodNotAllowed(String method) {
+        return new ApiException(405, "Method not allowed: " + method);
+    }
+}
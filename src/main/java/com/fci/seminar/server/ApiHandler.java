@@ -0,0 +1,348 @@
+package com.fci.seminar.server;
+
+import com.fci.seminar.repository.ChangeEvent.EntityType;
+import com.fci.seminar.repository.ChangeEventBus;
+import com.fci.seminar.service.AdmissionController;
+import com.fci.seminar.service.AdmissionRejectedException;
+import com.fci.seminar.service.AuthService;
+import com.fci.seminar.service.SecurityContext;
+import com.fci.seminar.service.ServiceExecutor;
+import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Base class of the JSON endpoints.
+ * Parses the exchange into an {@link ApiRequest}, lets the endpoint handle it
+ * and writes the result as JSON. Errors become JSON bodies of the form
+ * {"error": "..."}: {@link ApiException} with its own status,
+ * {@link IllegalArgumentException} with 400, writes refused by
+ * {@link AdmissionController} with 429 or 503 and a Retry-After header, and
+ * anything else with 500.
+ * A bearer token in the Authorization header selects the caller's
+ * {@link SecurityContext}, which stays bound to the handling thread for the
+ * request; requests without one run as a guest.
+ * <p>
+ * Endpoints that name the entity types their reads depend on get conditional
+ * GETs: the ETag is built from the {@link ChangeEventBus} versions of those
+ * types, the request and the caller, so a matching If-None-Match is answered
+ * with 304 Not Modified before the endpoint runs its query. Bodies of
+ * {@value #GZIP_MIN_BYTES} bytes or more are gzip-compressed for clients that
+ * accept it.
+ */
+public abstract class ApiHandler implements HttpHandler {
+
+    // Larger bodies are refused with 413 before they are parsed
+    static final int MAX_BODY_BYTES = 1 << 20;
+
+    // Smaller bodies gain less from compression than it costs
+    static final int GZIP_MIN_BYTES = 1024;
+
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+    // Versions restart at zero with the server, so ETags carry the start time
+    static final String SERVER_EPOCH = Long.toString(System.currentTimeMillis(), 36);
+
+    protected final Gson gson;
+    private final EntityType[] versionedBy;
+
+    /**
+     * Creates a handler.
+     * @param gson the JSON serializer
+     * @param versionedBy the entity types GET responses are built from; when
+     *        given, GET responses carry an ETag and honour If-None-Match
+     */
+    protected ApiHandler(Gson gson, EntityType... versionedBy) {
+        this.gson = gson;
+        this.versionedBy = versionedBy;
+    }
+
+    /**
+     * Handles a request.
+     * @param request the parsed request
+     * @return the response body; wrap it with {@link #created(Object)} for 201
+     *         or {@link #streamed(StreamBody)} for a streaming response,
+     *         or return null for 404 Not Found
+     * @throws Exception mapped to an error response
+     */
+    protected abstract Object handle(ApiRequest request) throws Exception;
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        int status;
+        Object body;
+        long retryAfterMillis = 0;
+        String etag = null;
+        try {
+            SecurityContext context = authenticate(exchange);
+            // Taken before reading, so a concurrent change can only make the tag older, never newer
+            etag = entityTag(exchange, context);
+            // The tag does not depend on the body, so a client holding it needs no query at all.
+            // "*" only matches a resource that exists, which the endpoint has to find out first
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            if (etag != null && ifNoneMatch != null && !ifNoneMatch.trim().equals("*") && matches(ifNoneMatch, etag)) {
+                try {
+                    sendNotModified(exchange, etag);
+                } finally {
+                    exchange.close();
+                }
+                return;
+            }
+            Object result;
+            SecurityContext.Scope scope = SecurityContext.bind(context);
+            try {
+                result = handle(readRequest(exchange, context));
+            } finally {
+                scope.close();
+            }
+            if (result == null) {
+                throw ApiException.notFound("Not found");
+            }
+            if (result instanceof Streamed streamed) {
+                stream(exchange, streamed.body());
+                return;
+            }
+            if (result instanceof Created created) {
+                status = 201;
+                body = created.body();
+            } else {
+                status = 200;
+                body = result;
+            }
+        } catch (ApiException e) {
+            status = e.getStatus();
+            body = error(e.getMessage());
+        } catch (AdmissionRejectedException e) {
+            status = e.getReason() == AdmissionRejectedException.Reason.RATE_LIMITED ? 429 : 503;
+            // Retry-After is omitted for READ_ONLY, where retrying here never helps
+            body = error(e.getMessage());
+            retryAfterMillis = e.getRetryAfterMillis();
+        } catch (IllegalArgumentException e) {
+            status = 400;
+            body = error(e.getMessage());
+        } catch (Exception e) {
+            System.err.println("Request failed: " + exchange.getRequestMethod() + " "
+                    + exchange.getRequestURI() + ": " + e);
+            status = 500;
+            body = error("Internal server error");
+        }
+        try {
+            if (retryAfterMillis > 0) {
+                // Retry-After is in whole seconds; round up so clients never retry too early
+                exchange.getResponseHeaders().set("Retry-After", String.valueOf((retryAfterMillis + 999) / 1000));
+            }
+            if (status == 200 && etag != null) {
+                if (matches(exchange.getRequestHeaders().getFirst("If-None-Match"), etag)) {
+                    sendNotModified(exchange, etag);
+                    return;
+                }
+                setCacheHeaders(exchange, etag);
+            }
+            sendJson(exchange, status, body);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static SecurityContext authenticate(HttpExchange exchange) {
+        String token = ApiRequest.bearerToken(exchange.getRequestHeaders());
+        if (token == null) {
+            return SecurityContext.GUEST;
+        }
+        SecurityContext context = AuthService.getInstance().resolveToken(token);
+        if (context == null) {
+            throw ApiException.unauthorized("Invalid or expired token");
+        }
+        return context;
+    }
+
+    private ApiRequest readRequest(HttpExchange exchange, SecurityContext context) throws IOException {
+        String contextPath = exchange.getHttpContext().getPath();
+        String path = exchange.getRequestURI().getRawPath();
+        String subPath = path.length() > contextPath.length() ? path.substring(contextPath.length()) : "";
+        return new ApiRequest(exchange.getRequestMethod(), subPath,
+                exchange.getRequestURI().getRawQuery(), exchange.getRequestHeaders(), readBody(exchange),
+                gson, context);
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readNBytes(MAX_BODY_BYTES + 1);
+            if (bytes.length > MAX_BODY_BYTES) {
+                throw new ApiException(413, "Request body exceeds " + MAX_BODY_BYTES + " bytes");
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private String entityTag(HttpExchange exchange, SecurityContext context) {
+        if (versionedBy.length == 0 || !"GET".equals(exchange.getRequestMethod())) {
+            return null;
+        }
+        StringBuilder tag = new StringBuilder("W/\"").append(SERVER_EPOCH);
+        for (EntityType type : versionedBy) {
+            tag.append('-').append(ChangeEventBus.getInstance().getVersion(type));
+        }
+        // Different queries and callers see different bodies of the same collections
+        int variant = (exchange.getRequestURI().getRawPath() + "?" + exchange.getRequestURI().getRawQuery()
+                + "#" + context.getUserId() + "#" + context.getRole()).hashCode();
+        return tag.append('-').append(Integer.toHexString(variant)).append('"').toString();
+    }
+
+    private static void sendNotModified(HttpExchange exchange, String etag) throws IOException {
+        setCacheHeaders(exchange, etag);
+        exchange.sendResponseHeaders(304, -1);
+    }
+
+    private static void setCacheHeaders(HttpExchange exchange, String etag) {
+        // Per caller, and always revalidated
+        exchange.getResponseHeaders().set("ETag", etag);
+        exchange.getResponseHeaders().set("Cache-Control", "private, no-cache");
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(etag) || ("W/" + trimmed).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = gson.toJson(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.getResponseHeaders().set("Vary", "Accept-Encoding, Authorization");
+        if (status == 401) {
+            exchange.getResponseHeaders().set("WWW-Authenticate", "Bearer");
+        }
+        if (bytes.length >= GZIP_MIN_BYTES && acceptsGzip(exchange)) {
+            bytes = gzip(bytes);
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    static boolean acceptsGzip(HttpExchange exchange) {
+        for (String value : exchange.getRequestHeaders().getOrDefault("Accept-Encoding", List.of())) {
+            for (String coding : value.split(",")) {
+                String[] parts = coding.trim().split(";");
+                if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                    return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+                }
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(bytes);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static void stream(HttpExchange exchange, StreamBody body) {
+        try {
+            body.writeTo(exchange);
+        } catch (IOException e) {
+            // The client went away
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static Map<String, String> error(String message) {
+        return Map.of("error", message != null ? message : "Unknown error");
+    }
+
+    // ==================== Helpers ====================
+
+    /**
+     * Marks a response body as a newly created resource (201 Created).
+     */
+    protected static Object created(Object body) {
+        return new Created(body);
+    }
+
+    /**
+     * Marks a response that the endpoint writes itself, e.g. an event stream.
+     * The body sends its own headers; the exchange is closed when it returns.
+     */
+    protected static Object streamed(StreamBody body) {
+        return new Streamed(body);
+    }
+
+    /**
+     * Runs a mutation on the service write lane and waits for it.
+     * Concurrent requests are applied one at a time, so a service's
+     * check-then-save sequence never interleaves with another request's.
+     * The task runs with the caller's security context. Writes must first be
+     * admitted by the {@link AdmissionController}, so a burst is refused at
+     * the door instead of queueing without bound behind the single writer.
+     * Check permissions before calling, so a refused caller spends no tokens
+     * and takes no place in the queue.
+     * @param task the mutation
+     * @return its result
+     * @throws AdmissionRejectedException if the write is over a limit
+     */
+    protected static <T> T write(Callable<T> task) {
+        SecurityContext context = SecurityContext.current();
+        try (AdmissionController.Permit permit = AdmissionController.getInstance().admit(context)) {
+            return ServiceExecutor.getInstance().submitWrite(() -> {
+                long start = System.nanoTime();
+                SecurityContext.Scope scope = SecurityContext.bind(context);
+                try {
+                    return task.call();
+                } finally {
+                    scope.close();
+                    permit.recordServiceTime(System.nanoTime() - start);
+                }
+            }).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Fails with 405 for a method the endpoint does not support.
+     */
+    protected static Object unsupported(ApiRequest request) {
+        throw ApiException.methodNotAllowed(request.getMethod());
+    }
+
+    /**
+     * Writes a streaming response.
+     */
+    @FunctionalInterface
+    protected interface StreamBody {
+        void writeTo(HttpExchange exchange) throws IOException;
+    }
+
+    private record Created(Object body) {
+    }
+
+    private record Streamed(StreamBody body) {
+    }
+}
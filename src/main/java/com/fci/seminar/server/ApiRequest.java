@@ -0,0 +1,288 @@
+package com.fci.seminar.server;
+
+import com.fci.seminar.model.enums.Permission;
+import com.fci.seminar.service.SecurityContext;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.sun.net.httpserver.Headers;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A parsed API request: method, path segments below the endpoint, query
+ * parameters, headers, body and the caller's security context. The typed getters throw {@link IllegalArgumentException}
+ * for malformed values, so they surface as 400 Bad Request.
+ */
+public class ApiRequest {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final String method;
+    private final List<String> segments;
+    private final Map<String, String> query;
+    private final Headers headers;
+    private final String body;
+    private final Gson gson;
+    private final SecurityContext context;
+
+    /**
+     * Creates a request.
+     * @param method the HTTP method
+     * @param subPath the path below the endpoint, e.g. "12/approve"
+     * @param rawQuery the undecoded query string, or null
+     * @param headers the request headers
+     * @param body the request body, or an empty string
+     * @param gson the Gson used to read the body
+     * @param context the caller
+     */
+    public ApiRequest(String method, String subPath, String rawQuery, Headers headers, String body, Gson gson,
+                      SecurityContext context) {
+        this.method = method.toUpperCase(Locale.ROOT);
+        this.segments = parseSegments(subPath);
+        this.query = parseQuery(rawQuery);
+        this.headers = headers != null ? headers : new Headers();
+        this.body = body != null ? body : "";
+        this.gson = gson;
+        this.context = context != null ? context : SecurityContext.GUEST;
+    }
+
+    private static List<String> parseSegments(String subPath) {
+        List<String> segments = new ArrayList<>();
+        if (subPath != null) {
+            for (String segment : subPath.split("/")) {
+                if (!segment.isEmpty()) {
+                    segments.add(URLDecoder.decode(segment, StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return Collections.unmodifiableList(segments);
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery != null) {
+            for (String pair : rawQuery.split("&")) {
+                if (pair.isEmpty()) {
+                    continue;
+                }
+                int eq = pair.indexOf('=');
+                String name = eq < 0 ? pair : pair.substring(0, eq);
+                String value = eq < 0 ? "" : pair.substring(eq + 1);
+                query.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                        URLDecoder.decode(value, StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+
+    // ==================== Path ====================
+
+    public String getMethod() {
+        return method;
+    }
+
+    public List<String> getSegments() {
+        return segments;
+    }
+
+    /**
+     * Gets a path segment.
+     * @return the segment, or null if the path is shorter
+     */
+    public String segment(int index) {
+        return index < segments.size() ? segments.get(index) : null;
+    }
+
+    /**
+     * Reads a path segment as an entity ID.
+     * @throws IllegalArgumentException if the segment is missing or not a number
+     */
+    public Long pathId(int index) {
+        return parseLong("ID", segment(index));
+    }
+
+    // ==================== Query ====================
+
+    /**
+     * Gets a query parameter.
+     * @return the value, or null if absent or blank
+     */
+    public String param(String name) {
+        String value = query.get(name);
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    public Long longParam(String name) {
+        String value = param(name);
+        return value != null ? parseLong(name, value) : null;
+    }
+
+    /**
+     * Reads a required numeric query parameter.
+     * @throws IllegalArgumentException if the parameter is missing or not a number
+     */
+    public Long requiredLongParam(String name) {
+        return parseLong(name, param(name));
+    }
+
+    public int intParam(String name, int defaultValue) {
+        String value = param(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    public boolean booleanParam(String name) {
+        return Boolean.parseBoolean(param(name));
+    }
+
+    public LocalDate dateParam(String name) {
+        String value = param(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value + " (expected yyyy-MM-dd)");
+        }
+    }
+
+    /**
+     * Reads an enum query parameter, ignoring case.
+     * @return the constant, or null if the parameter is absent
+     */
+    public <E extends Enum<E>> E enumParam(String name, Class<E> type) {
+        String value = param(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    private static Long parseLong(String name, String value) {
+        if (value == null) {
+            throw new IllegalArgumentException(name + " is required");
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    // ==================== Headers ====================
+
+    /**
+     * Gets the first value of a header.
+     * @return the value, or null if absent
+     */
+    public String header(String name) {
+        return headers.getFirst(name);
+    }
+
+    /**
+     * Gets the bearer token of the request.
+     * @return the token, or null if there is none
+     */
+    public String getToken() {
+        return bearerToken(headers);
+    }
+
+    static String bearerToken(Headers headers) {
+        String header = headers.getFirst("Authorization");
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return null;
+        }
+        String token = header.substring(BEARER_PREFIX.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+
+    // ==================== Caller ====================
+
+    public SecurityContext getContext() {
+        return context;
+    }
+
+    /**
+     * Fails unless the caller has a permission:
+     * 401 for a guest, who may gain it by logging in, 403 otherwise.
+     */
+    public void require(Permission permission) {
+        if (!context.hasPermission(permission)) {
+            throw denied();
+        }
+    }
+
+    /**
+     * Fails unless the caller is the given user or has an overriding permission,
+     * e.g. the student owning a registration or a coordinator.
+     * @param ownerId the user the resource belongs to
+     * @param ownerPermission what the owner needs
+     * @param overridePermission what anyone else needs
+     */
+    public void requireOwnerOr(Long ownerId, Permission ownerPermission, Permission overridePermission) {
+        if (context.hasPermission(overridePermission)) {
+            return;
+        }
+        if (!context.isUser(ownerId) || !context.hasPermission(ownerPermission)) {
+            throw denied();
+        }
+    }
+
+    private ApiException denied() {
+        return context.isAuthenticated()
+                ? ApiException.forbidden("Not permitted for " + context.getRole())
+                : ApiException.unauthorized("Login required");
+    }
+
+    // ==================== Body ====================
+
+    /**
+     * Reads the JSON body.
+     * @param type the class to read
+     * @throws IllegalArgumentException if the body is empty or not valid JSON for the type
+     */
+    public <T> T body(Class<T> type) {
+        if (body.isBlank()) {
+            throw new IllegalArgumentException("Request body is required");
+        }
+        try {
+            T value = gson.fromJson(body, type);
+            if (value == null) {
+                throw new IllegalArgumentException("Request body is required");
+            }
+            return value;
+        } catch (JsonParseException e) {
+            throw new IllegalArgumentException("Invalid JSON: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads a JSON array of IDs from the body.
+     */
+    public List<Long> idsBody() {
+        Long[] ids = body(Long[].class);
+        List<Long> list = new ArrayList<>(ids.length);
+        Collections.addAll(list, ids);
+        return list;
+    }
+}
@@ -0,0 +1,79 @@
+package com.fci.seminar.server;
+
+import com.fci.seminar.model.enums.Role;
+import com.fci.seminar.service.AuthService;
+import com.fci.seminar.service.SecurityContext;
+import com.google.gson.Gson;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * /api/auth
+ * <pre>
+ * POST /api/auth/login     body {"username", "password", "role"}; returns a bearer token
+ * POST /api/auth/logout    revokes the request's token
+ * GET  /api/auth/me        the caller's identity
+ * </pre>
+ */
+class AuthEndpoint extends ApiHandler {
+
+    private final AuthService authService;
+
+    AuthEndpoint(AuthService authService, Gson gson) {
+        super(gson);
+        this.authService = authService;
+    }
+
+    @Override
+    protected Object handle(ApiRequest request) {
+        String action = request.segment(0);
+        if (action == null) {
+            return null;
+        }
+        switch (request.getMethod() + " " + action) {
+            case "POST login":
+                return login(request.body(Credentials.class));
+            case "POST logout":
+                return Map.of("loggedOut", request.getToken() != null && authService.revokeToken(request.getToken()));
+            case "GET me":
+                return describe(request.getContext());
+            default:
+                return null;
+        }
+    }
+
+    private Map<String, Object> login(Credentials credentials) {
+        if (credentials.role == null) {
+            throw new IllegalArgumentException("Role is required");
+        }
+        String token = authService.issueToken(credentials.username, credentials.password, credentials.role);
+        if (token == null) {
+            throw ApiException.unauthorized("Invalid username or password");
+        }
+        Map<String, Object> result = describe(authService.resolveToken(token));
+        result.put("token", token);
+        result.put("expiresInSeconds", authService.getTokenStore().getTtl().toSeconds());
+        return result;
+    }
+
+    private static Map<String, Object> describe(SecurityContext context) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("role", context.getRole());
+        if (context.getUser() != null) {
+            result.put("userId", context.getUserId());
+            result.put("username", context.getUser().getUsername());
+            result.put("name", context.getUser().getName());
+        }
+        return result;
+    }
+
+    /**
+     * Login request body.
+     */
+    private static class Credentials {
+        String username;
+        String password;
+        Role role;
+    }
+}
@@ -0,0 +1,66 @@
+package com.fci.seminar.server;
+
+import com.fci.seminar.model.enums.AwardType;
+import com.fci.seminar.model.enums.Permission;
+import com.fci.seminar.service.AwardService;
+import com.google.gson.Gson;
+
+/**
+ * /api/awards
+ * <pre>
+ * GET  /api/awards                   ?type=
+ * GET  /api/awards/live              ?type= (required)
+ * GET  /api/awards/leaderboard       ?type= (required)&amp;limit=10
+ * POST /api/awards/calculate
+ * </pre>
+ * Viewing needs VIEW_REPORTS and calculating MANAGE_AWARDS.
+ */
+class AwardEndpoint extends ApiHandler {
+
+    private static final int DEFAULT_LEADERBOARD_SIZE = 10;
+
+    private final AwardService awardService;
+
+    AwardEndpoint(AwardService awardService, Gson gson) {
+        super(gson);
+        this.awardService = awardService;
+    }
+
+    @Override
+    protected Object handle(ApiRequest request) {
+        String first = request.segment(0);
+        AwardType type = request.enumParam("type", AwardType.class);
+        request.require("GET".equals(request.getMethod()) ? Permission.VIEW_REPORTS : Permission.MANAGE_AWARDS);
+        switch (request.getMethod()) {
+            case "GET":
+                if (first == null) {
+                    return type != null ? awardService.getAwardsByType(type) : awardService.getAllAwards();
+                }
+                if ("live".equals(first)) {
+                    return awardService.getLiveWinners(requireType(type));
+                }
+                if ("leaderboard".equals(first)) {
+                    int limit = request.intParam("limit", DEFAULT_LEADERBOARD_SIZE);
+                    if (limit < 1) {
+                        throw new IllegalArgumentException("limit must be positive");
+                    }
+                    return awardService.getLeaderboard().getTop(requireType(type), limit);
+                }
+                return null;
+            case "POST":
+                if ("calculate".equals(first)) {
+                    return write(awardService::calculateAwards);
+                }
+                return null;
+            default:
+                return unsupported(request);
+        }
+    }
+
+    private static AwardType requireType(AwardType type) {
+        if (type == null) {
+            throw new IllegalArgumentException("type is required");
+        }
+        return type;
+    }
+}
@@ -0,0 +1,147 @@
+package com.fci.seminar.server;
+
+import com.fci.seminar.model.Evaluation;
+import com.fci.seminar.model.enums.Permission;
+import com.fci.seminar.repository.ChangeEvent.EntityType;
+import com.fci.seminar.service.EvaluationService;
+import com.google.gson.Gson;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * /api/evaluations
+ * <pre>
+ * GET  /api/evaluations                    ?evaluatorId=&amp;registrationId=&amp;submitted=
+ * GET  /api/evaluations/{id}
+ * GET  /api/evaluations/average            ?registrationId=
+ * PUT  /api/evaluations/{id}               save scores and comments as a draft
+ * POST /api/evaluations/{id}/submit
+ * POST /api/evaluations/assign             ?evaluatorId=&amp;registrationId=
+ * POST /api/evaluations/unassign           ?evaluatorId=&amp;registrationId=
+ * </pre>
+ * Evaluators see their own evaluations and are the only ones who may score
+ * them; assignments need ASSIGN_EVALUATORS and averages VIEW_REPORTS.
+ */
+class EvaluationEndpoint extends ApiHandler {
+
+    private final EvaluationService evaluationService;
+
+    EvaluationEndpoint(EvaluationService evaluationService, Gson gson) {
+        super(gson, EntityType.EVALUATION);
+        this.evaluationService = evaluationService;
+    }
+
+    @Override
+    protected Object handle(ApiRequest request) {
+        String first = request.segment(0);
+        switch (request.getMethod()) {
+            case "GET":
+                if (first == null) {
+                    return listEvaluations(request);
+                }
+                if ("average".equals(first)) {
+                    request.require(Permission.VIEW_REPORTS);
+                    Long registrationId = request.requiredLongParam("registrationId");
+                    return Map.of("registrationId", registrationId,
+                            "averageScore", evaluationService.getAverageScore(registrationId));
+                }
+                return getEvaluation(request, request.pathId(0));
+            case "POST":
+                if ("assign".equals(first) || "unassign".equals(first)) {
+                    request.require(Permission.ASSIGN_EVALUATORS);
+                }
+                if ("assign".equals(first)) {
+                    Long evaluatorId = request.requiredLongParam("evaluatorId");
+                    Long registrationId = request.requiredLongParam("registrationId");
+                    return created(write(() -> evaluationService.assignEvaluator(evaluatorId, registrationId)));
+                }
+                if ("unassign".equals(first)) {
+                    Long evaluatorId = request.requiredLongParam("evaluatorId");
+                    Long registrationId = request.requiredLongParam("registrationId");
+                    write(() -> {
+                        evaluationService.removeAssignment(evaluatorId, registrationId);
+                        return null;
+                    });
+                    return Map.of("evaluatorId", evaluatorId, "registrationId", registrationId);
+                }
+                if ("submit".equals(request.segment(1))) {
+                    Long id = request.pathId(0);
+                    requireEvaluator(request, id, Permission.SUBMIT_EVALUATION);
+                    return write(() -> {
+                        // Checked again in case it was deleted before the write ran
+                        requireEvaluator(request, id, Permission.SUBMIT_EVALUATION);
+                        return evaluationService.submitEvaluation(id);
+                    });
+                }
+                return null;
+            case "PUT":
+                return saveDraft(request, request.pathId(0), request.body(Evaluation.class));
+            default:
+                return unsupported(request);
+        }
+    }
+
+    private List<Evaluation> listEvaluations(ApiRequest request) {
+        Long evaluatorId = request.longParam("evaluatorId");
+        if (!request.getContext().hasPermission(Permission.ASSIGN_EVALUATORS)) {
+            // Evaluators may only list their own
+            request.requireOwnerOr(evaluatorId != null ? evaluatorId : request.getContext().getUserId(),
+                    Permission.VIEW_ASSIGNED_PRESENTATIONS, Permission.ASSIGN_EVALUATORS);
+            evaluatorId = request.getContext().getUserId();
+        }
+        Long registrationId = request.longParam("registrationId");
+        String submitted = request.param("submitted");
+        List<Evaluation> evaluations;
+        if (evaluatorId != null) {
+            evaluations = evaluationService.getEvaluationsByEvaluator(evaluatorId);
+        } else if (registrationId != null) {
+            evaluations = evaluationService.getEvaluationsByRegistration(registrationId);
+        } else {
+            evaluations = evaluationService.getAllEvaluations();
+        }
+        return evaluations.stream()
+                .filter(e -> registrationId == null || registrationId.equals(e.getRegistrationId()))
+                .filter(e -> submitted == null || e.isSubmitted() == Boolean.parseBoolean(submitted))
+                .collect(Collectors.toList());
+    }
+
+    private Evaluation getEvaluation(ApiRequest request, Long id) {
+        Evaluation evaluation = evaluationService.getEvaluationById(id);
+        request.requireOwnerOr(evaluation != null ? evaluation.getEvaluatorId() : request.getContext().getUserId(),
+                Permission.VIEW_ASSIGNED_PRESENTATIONS, Permission.ASSIGN_EVALUATORS);
+        return evaluation;
+    }
+
+    /**
+     * Fails unless the caller is the evaluation's evaluator and has the permission.
+     * @return the evaluation
+     */
+    private Evaluation requireEvaluator(ApiRequest request, Long id, Permission permission) {
+        Evaluation existing = evaluationService.getEvaluationById(id);
+        if (existing == null) {
+            request.require(permission);
+            throw ApiException.notFound("Evaluation not found: " + id);
+        }
+        // Nobody scores on an evaluator's behalf, so there is no overriding permission
+        request.requireOwnerOr(existing.getEvaluatorId(), permission, null);
+        return existing;
+    }
+
+    private Evaluation saveDraft(ApiRequest request, Long id, Evaluation changes) {
+        requireEvaluator(request, id, Permission.SAVE_DRAFT);
+        return write(() -> {
+            // Read again on the write lane; an evaluation keeps its evaluator, but may be gone
+            Evaluation existing = requireEvaluator(request, id, Permission.SAVE_DRAFT);
+            // Only the scores and comments are editable; submitting is a separate action
+            Evaluation draft = new Evaluation(id, existing.getEvaluatorId(), existing.getRegistrationId());
+            draft.setProblemClarity(changes.getProblemClarity());
+            draft.setMethodology(changes.getMethodology());
+            draft.setResults(changes.getResults());
+            draft.setPresentationQuality(changes.getPresentationQuality());
+            draft.setComments(changes.getComments());
+            return evaluationService.saveEvaluation(draft);
+        });
+    }
+}
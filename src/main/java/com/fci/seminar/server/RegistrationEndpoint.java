@@ -0,0 +1,222 @@
+package com.fci.seminar.server;
+
+import com.fci.seminar.model.Registration;
+import com.fci.seminar.model.Session;
+import com.fci.seminar.model.enums.Permission;
+import com.fci.seminar.model.enums.RegistrationStatus;
+import com.fci.seminar.repository.ChangeEvent.EntityType;
+import com.fci.seminar.service.RegistrationService;
+import com.fci.seminar.service.SessionService;
+import com.google.gson.Gson;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * /api/registrations
+ * <pre>
+ * GET  /api/registrations                      ?studentId=&amp;sessionId=&amp;status=
+ * GET  /api/registrations/{id}
+ * POST /api/registrations                      register; ?sessionId= also assigns it
+ * PUT  /api/registrations/{id}                 edit title, abstract, supervisor, type
+ * POST /api/registrations/{id}/approve         also reject, cancel
+ * POST /api/registrations/{id}/assign          ?sessionId=
+ * POST /api/registrations/{id}/unassign
+ * POST /api/registrations/{id}/board           ?boardId=
+ * POST /api/registrations/approve              body [ids]; also reject, cancel
+ * POST /api/registrations/approve-pending
+ * </pre>
+ * Students see and edit only their own registrations, and register as
+ * themselves; anything else needs MANAGE_REGISTRATIONS.
+ */
+class RegistrationEndpoint extends ApiHandler {
+
+    private final RegistrationService registrationService;
+    private final SessionService sessionService;
+
+    RegistrationEndpoint(RegistrationService registrationService, SessionService sessionService, Gson gson) {
+        super(gson, EntityType.REGISTRATION);
+        this.registrationService = registrationService;
+        this.sessionService = sessionService;
+    }
+
+    @Override
+    protected Object handle(ApiRequest request) {
+        String first = request.segment(0);
+        switch (request.getMethod()) {
+            case "GET":
+                if (first == null) {
+                    return listRegistrations(request);
+                }
+                return getRegistration(request, request.pathId(0));
+            case "POST":
+                if (first == null) {
+                    return created(register(request));
+                }
+                if (request.getSegments().size() == 1) {
+                    request.require(Permission.MANAGE_REGISTRATIONS);
+                    return batchAction(request, first);
+                }
+                return action(request, request.pathId(0), request.segment(1));
+            case "PUT":
+                return update(request, request.pathId(0), request.body(Registration.class));
+            default:
+                return unsupported(request);
+        }
+    }
+
+    private List<Registration> listRegistrations(ApiRequest request) {
+        Long studentId = request.longParam("studentId");
+        if (!request.getContext().hasPermission(Permission.MANAGE_REGISTRATIONS)) {
+            // Students may only list their own
+            request.requireOwnerOr(studentId != null ? studentId : request.getContext().getUserId(),
+                    Permission.VIEW_OWN_REGISTRATION, Permission.MANAGE_REGISTRATIONS);
+            studentId = request.getContext().getUserId();
+        }
+        Long sessionId = request.longParam("sessionId");
+        RegistrationStatus status = request.enumParam("status", RegistrationStatus.class);
+        List<Registration> registrations;
+        if (studentId != null) {
+            registrations = registrationService.getRegistrationsByStudent(studentId);
+        } else if (sessionId != null) {
+            registrations = registrationService.getRegistrationsBySession(sessionId);
+        } else if (status != null) {
+            return registrationService.getRegistrationsByStatus(status);
+        } else {
+            return registrationService.getAllRegistrations();
+        }
+        return registrations.stream()
+                .filter(r -> sessionId == null || sessionId.equals(r.getSessionId()))
+                .filter(r -> status == null || status == r.getStatus())
+                .collect(Collectors.toList());
+    }
+
+    private Registration getRegistration(ApiRequest request, Long id) {
+        Registration registration = registrationService.getRegistrationById(id);
+        request.requireOwnerOr(registration != null ? registration.getStudentId() : request.getContext().getUserId(),
+                Permission.VIEW_OWN_REGISTRATION, Permission.MANAGE_REGISTRATIONS);
+        return registration;
+    }
+
+    private Registration register(ApiRequest request) {
+        request.require(Permission.REGISTER);
+        Registration registration = request.body(Registration.class);
+        boolean manager = request.getContext().hasPermission(Permission.MANAGE_REGISTRATIONS);
+        if (!manager) {
+            // Students register as themselves
+            registration.setStudentId(request.getContext().getUserId());
+        }
+        // The session comes from the sessionId parameter; boards only through assignment
+        registration.setSessionId(null);
+        registration.setBoardId(null);
+        Long sessionId = request.longParam("sessionId");
+        return write(() -> {
+            if (sessionId == null) {
+                return registrationService.register(registration);
+            }
+            // Checked before saving so a full session does not leave an unassigned registration behind
+            Session session = sessionService.getSessionById(sessionId);
+            if (session == null) {
+                throw new IllegalArgumentException("Session not found: " + sessionId);
+            }
+            if (!session.hasAvailableSlots()) {
+                throw new ApiException(409, "Session is full or not open for registration");
+            }
+            if (session.getType() != registration.getPresentationType()) {
+                throw new IllegalArgumentException("Presentation type does not match session type");
+            }
+            if (!manager) {
+                // Assigning approves, which is the coordinator's call; the session is only requested,
+                // as in the desktop registration form
+                registration.setSessionId(sessionId);
+                return registrationService.register(registration);
+            }
+            Registration saved = registrationService.register(registration);
+            return registrationService.assignToSession(saved.getId(), sessionId);
+        });
+    }
+
+    private Registration update(ApiRequest request, Long id, Registration changes) {
+        requireEditable(request, id);
+        return write(() -> {
+            // Read again on the write lane; a registration keeps its student, but may be gone
+            Registration existing = requireEditable(request, id);
+            // Edit a copy so a failed validation leaves the stored registration untouched
+            Registration updated = new Registration(id, existing.getStudentId(), existing.getSessionId(),
+                    changes.getResearchTitle(), changes.getAbstractText(), changes.getSupervisorName(),
+                    changes.getPresentationType());
+            updated.setStatus(existing.getStatus());
+            updated.setFilePath(existing.getFilePath());
+            updated.setBoardId(existing.getBoardId());
+            updated.setCreatedAt(existing.getCreatedAt());
+            return registrationService.updateRegistration(updated);
+        });
+    }
+
+    /**
+     * Fails unless the registration exists and the caller may edit it.
+     * @return the registration
+     */
+    private Registration requireEditable(ApiRequest request, Long id) {
+        Registration existing = registrationService.getRegistrationById(id);
+        if (existing == null) {
+            throw ApiException.notFound("Registration not found: " + id);
+        }
+        request.requireOwnerOr(existing.getStudentId(), Permission.REGISTER, Permission.MANAGE_REGISTRATIONS);
+        return existing;
+    }
+
+    private Object action(ApiRequest request, Long id, String action) {
+        if ("cancel".equals(action)) {
+            Registration registration = registrationService.getRegistrationById(id);
+            if (registration == null) {
+                request.require(Permission.MANAGE_REGISTRATIONS);
+                throw ApiException.notFound("Registration not found: " + id);
+            }
+            request.requireOwnerOr(registration.getStudentId(), Permission.REGISTER, Permission.MANAGE_REGISTRATIONS);
+        } else {
+            request.require(Permission.MANAGE_REGISTRATIONS);
+        }
+        switch (action) {
+            case "approve":
+                return write(() -> registrationService.approveRegistration(id));
+            case "reject":
+                return write(() -> registrationService.rejectRegistration(id));
+            case "cancel":
+                return write(() -> registrationService.cancelRegistration(id));
+            case "assign": {
+                Long sessionId = request.requiredLongParam("sessionId");
+                return write(() -> registrationService.assignToSession(id, sessionId));
+            }
+            case "unassign":
+                return write(() -> registrationService.unassignFromSession(id));
+            case "board": {
+                String boardId = request.param("boardId");
+                return write(() -> registrationService.assignBoardId(id, boardId));
+            }
+            default:
+                return null;
+        }
+    }
+
+    private Object batchAction(ApiRequest request, String action) {
+        switch (action) {
+            case "approve-pending":
+                return write(registrationService::approveAllPending);
+            case "approve": {
+                List<Long> ids = request.idsBody();
+                return write(() -> registrationService.approveRegistrations(ids));
+            }
+            case "reject": {
+                List<Long> ids = request.idsBody();
+                return write(() -> registrationService.rejectRegistrations(ids));
+            }
+            case "cancel": {
+                List<Long> ids = request.idsBody();
+                return write(() -> registrationService.cancelRegistrations(ids));
+            }
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.fci.seminar.server;
+
+import com.fci.seminar.repository.ChangeLog;
+import com.fci.seminar.util.DataManager;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * /api/replication
+ * <pre>
+ * GET /api/replication/snapshot                   all data and the log sequence it matches
+ * GET /api/replication/log    ?since=&amp;limit=1000&amp;waitMs=0
+ * </pre>
+ * Lets read replicas follow this node. A replica loads the snapshot, then
+ * repeatedly asks for the change log entries after the last sequence it has
+ * applied; with waitMs the request waits for new entries, so an idle replica
+ * is told about a change as soon as it is made.
+ * Callers must send the shared replication key in the X-Replication-Key
+ * header, since the snapshot includes passwords.
+ */
+class ReplicationEndpoint extends ApiHandler {
+
+    static final String KEY_HEADER = "X-Replication-Key";
+
+    private static final int DEFAULT_LIMIT = 1000;
+    private static final int MAX_LIMIT = 10_000;
+    private static final int MAX_WAIT_MS = 30_000;
+
+    private final ChangeLog changeLog;
+    private final DataManager dataManager;
+    private final byte[] key;
+
+    ReplicationEndpoint(ChangeLog changeLog, DataManager dataManager, String key, Gson gson) {
+        super(gson);
+        if (key == null || key.isEmpty()) {
+            throw new IllegalArgumentException("Replication key cannot be empty");
+        }
+        this.changeLog = changeLog;
+        this.dataManager = dataManager;
+        this.key = key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected Object handle(ApiRequest request) throws Exception {
+        String presented = request.header(KEY_HEADER);
+        if (presented == null || !MessageDigest.isEqual(key, presented.getBytes(StandardCharsets.UTF_8))) {
+            throw ApiException.forbidden("Invalid replication key");
+        }
+        if (!"GET".equals(request.getMethod())) {
+            return unsupported(request);
+        }
+        if (!changeLog.isStarted()) {
+            throw new ApiException(503, "The change log is not running on this node");
+        }
+        String first = request.segment(0);
+        if ("snapshot".equals(first)) {
+            return snapshot();
+        }
+        if ("log".equals(first)) {
+            return log(request);
+        }
+        return null;
+    }
+
+    private JsonObject snapshot() {
+        // Changes are logged while the data manager is locked, so the
+        // sequence read under the same lock matches the data exactly
+        JsonObject snapshot = new JsonObject();
+        synchronized (dataManager) {
+            snapshot.addProperty("sequence", changeLog.getLastSequence());
+            snapshot.add("data", dataManager.exportSnapshot());
+        }
+        return snapshot;
+    }
+
+    private Object log(ApiRequest request) throws IOException, InterruptedException {
+        Long since = request.requiredLongParam("since");
+        int limit = request.intParam("limit", DEFAULT_LIMIT);
+        int waitMs = request.intParam("waitMs", 0);
+        if (since < 0 || limit < 1 || limit > MAX_LIMIT || waitMs < 0 || waitMs > MAX_WAIT_MS) {
+            throw new IllegalArgumentException("since must not be negative, limit must be 1 to " + MAX_LIMIT
+                    + " and waitMs 0 to " + MAX_WAIT_MS);
+        }
+        // Nothing to wait for when the follower is already past the end
+        long last = waitMs > 0 && since <= changeLog.getLastSequence()
+                ? changeLog.awaitSequence(since, waitMs) : changeLog.getLastSequence();
+        // A follower ahead of the log sees lastSequence below its own and reloads a snapshot
+        List<String> entries = since > last ? List.of() : changeLog.readSince(since, limit);
+
+        // The entries are already JSON, so they are copied into the response as they are
+        return streamed(exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(("{\"lastSequence\":" + Math.max(last, changeLog.getLastSequence())
+                        + ",\"entries\":[").getBytes(StandardCharsets.UTF_8));
+                for (int i = 0; i < entries.size(); i++) {
+                    if (i > 0) {
+                        out.write(',');
+                    }
+                    out.write(entries.get(i).getBytes(StandardCharsets.UTF_8));
+                }
+                out.write("]}".getBytes(StandardCharsets.UTF_8));
+            }
+        });
+    }
+}
@@ -0,0 +1,48 @@
+package com.fci.seminar.server;
+
+import com.fci.seminar.model.enums.Permission;
+import com.fci.seminar.repository.ChangeEvent.EntityType;
+import com.fci.seminar.service.ReportService;
+import com.google.gson.Gson;
+
+/**
+ * /api/reports
+ * <pre>
+ * GET /api/reports/registrations
+ * GET /api/reports/evaluations
+ * GET /api/reports/attendance
+ * </pre>
+ * The reports are cached by {@link ReportService} until their data changes,
+ * so repeated requests do not rescan the store. All reports need VIEW_REPORTS.
+ */
+class ReportEndpoint extends ApiHandler {
+
+    private final ReportService reportService;
+
+    ReportEndpoint(ReportService reportService, Gson gson) {
+        super(gson, EntityType.values());
+        this.reportService = reportService;
+    }
+
+    @Override
+    protected Object handle(ApiRequest request) {
+        request.require(Permission.VIEW_REPORTS);
+        if (!"GET".equals(request.getMethod())) {
+            return unsupported(request);
+        }
+        String report = request.segment(0);
+        if (report == null) {
+            return null;
+        }
+        switch (report) {
+            case "registrations":
+                return reportService.getRegistrationStatistics();
+            case "evaluations":
+                return reportService.getEvaluationSummary();
+            case "attendance":
+                return reportService.getSessionAttendance();
+            default:
+                return null;
+        }
+    }
+}
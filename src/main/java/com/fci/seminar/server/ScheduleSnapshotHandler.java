@@ -0,0 +1,81 @@
+package com.fci.seminar.server;
+
+import com.fci.seminar.service.ScheduleSnapshotPublisher;
+import com.fci.seminar.service.ScheduleSnapshotPublisher.Snapshot;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * /schedule.json and /schedule.html
+ * <p>
+ * Serves the pre-rendered guest schedule straight from the latest
+ * {@link ScheduleSnapshotPublisher} snapshot: no authentication, no service
+ * calls and no locks. Responses are the same for everyone, so shared caches
+ * may keep them for a few seconds, and they are revalidated by ETag.
+ */
+class ScheduleSnapshotHandler implements HttpHandler {
+
+    static final String JSON_PATH = "/" + ScheduleSnapshotPublisher.JSON_FILE;
+    static final String HTML_PATH = "/" + ScheduleSnapshotPublisher.HTML_FILE;
+
+    // How stale a cached copy guests may see
+    private static final int MAX_AGE_SECONDS = 5;
+
+    private final ScheduleSnapshotPublisher publisher;
+
+    ScheduleSnapshotHandler(ScheduleSnapshotPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            boolean html = HTML_PATH.equals(path);
+            Snapshot snapshot = publisher.getSnapshot();
+            if (!html && !JSON_PATH.equals(path) || snapshot == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            String etag = "W/\"" + ApiHandler.SERVER_EPOCH + "-" + snapshot.version() + "\"";
+            exchange.getResponseHeaders().set("ETag", etag);
+            exchange.getResponseHeaders().set("Cache-Control", "public, max-age=" + MAX_AGE_SECONDS);
+            exchange.getResponseHeaders().set("Vary", "Accept-Encoding");
+            exchange.getResponseHeaders().set("Content-Type",
+                    (html ? "text/html" : "application/json") + "; charset=utf-8");
+            if (ApiHandler.matches(exchange.getRequestHeaders().getFirst("If-None-Match"), etag)) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+
+            byte[] body;
+            if (ApiHandler.acceptsGzip(exchange)) {
+                body = html ? snapshot.gzippedHtml() : snapshot.gzippedJson();
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            } else {
+                body = html ? snapshot.html() : snapshot.json();
+            }
+            if ("HEAD".equals(method)) {
+                exchange.getResponseHeaders().set("Content-Length", String.valueOf(body.length));
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+}
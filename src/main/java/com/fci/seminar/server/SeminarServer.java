@@ -0,0 +1,197 @@
+package com.fci.seminar.server;
+
+import com.fci.seminar.client.ReplicaFollower;
+import com.fci.seminar.repository.ChangeLog;
+import com.fci.seminar.service.AdmissionController;
+import com.fci.seminar.service.AuthService;
+import com.fci.seminar.service.AwardService;
+import com.fci.seminar.service.EvaluationService;
+import com.fci.seminar.service.RegistrationService;
+import com.fci.seminar.service.ReportService;
+import com.fci.seminar.service.ScheduleSnapshotPublisher;
+import com.fci.seminar.service.ServiceExecutor;
+import com.fci.seminar.service.SessionService;
+import com.fci.seminar.util.DataManager;
+import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Headless HTTP server exposing the services as JSON endpoints under /api.
+ * All clients share the one in-memory store behind the service singletons,
+ * so a registration made by one client is immediately visible to the others.
+ * Requests are handled on virtual threads where the JDK supports them and on
+ * a bounded pool otherwise; reads run concurrently, while writes are queued
+ * on the service write lane and applied one at a time.
+ * Clients log in at /api/auth/login and send the returned token as
+ * "Authorization: Bearer &lt;token&gt;"; each endpoint checks the caller's permissions.
+ * Clients showing the schedule can follow /api/sessions/availability instead
+ * of polling, and anonymous visitors can load the pre-rendered
+ * /schedule.json or /schedule.html.
+ * Several read replicas may follow one primary; see {@link ReplicaFollower}.
+ */
+public class SeminarServer {
+
+    public static final int DEFAULT_PORT = 8080;
+
+    // Pending connections the OS may queue while all handlers are busy
+    private static final int BACKLOG = 1024;
+    // Handler threads when virtual threads are not available
+    private static final int FALLBACK_HANDLER_THREADS = 200;
+    // Open availability streams; each holds a handler thread, so without
+    // virtual threads only part of the pool may be taken by them
+    private static final int MAX_FEED_SUBSCRIBERS = 10_000;
+    private static final int FALLBACK_FEED_SUBSCRIBERS = FALLBACK_HANDLER_THREADS / 2;
+    // A replica further behind than this reports itself unhealthy
+    private static final long MAX_REPLICA_LAG_MS = 10_000;
+
+    // Shared secret replicas present to follow this server
+    public static final String REPLICATION_KEY_PROPERTY = "seminar.replication.key";
+    public static final String REPLICATION_KEY_ENV = "SEMINAR_REPLICATION_KEY";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final SessionAvailabilityFeed availabilityFeed;
+    private final ScheduleSnapshotPublisher schedulePublisher;
+    private final ReplicaFollower follower;
+
+    /**
+     * Creates a server on all interfaces.
+     * @param port the port, or 0 for any free port
+     * @throws IOException if the port cannot be bound
+     */
+    public SeminarServer(int port) throws IOException {
+        this(new InetSocketAddress(port));
+    }
+
+    /**
+     * Creates a primary server with the service singletons.
+     * @param address the address to bind
+     * @throws IOException if the address cannot be bound
+     */
+    public SeminarServer(InetSocketAddress address) throws IOException {
+        this(address, null);
+    }
+
+    /**
+     * Creates a server with the service singletons.
+     * A primary takes writes and, when a replication key is configured, lets
+     * replicas follow it at /api/replication. A replica refuses writes and
+     * reports its lag behind the primary in /api/health.
+     * @param address the address to bind
+     * @param follower the follower keeping this node a replica, or null for a primary
+     * @throws IOException if the address cannot be bound
+     */
+    public SeminarServer(InetSocketAddress address, ReplicaFollower follower) throws IOException {
+        this.follower = follower;
+        this.server = HttpServer.create(address, BACKLOG);
+        this.executor = ServiceExecutor.createDefaultExecutor(FALLBACK_HANDLER_THREADS);
+        server.setExecutor(executor);
+
+        Gson gson = DataManager.createExportGson();
+        server.createContext("/api/auth", new AuthEndpoint(AuthService.getInstance(), gson));
+        server.createContext("/api/sessions", new SessionEndpoint(SessionService.getInstance(), gson));
+        this.availabilityFeed = new SessionAvailabilityFeed(SessionService.getInstance(), gson,
+                ServiceExecutor.supportsVirtualThreads() ? MAX_FEED_SUBSCRIBERS : FALLBACK_FEED_SUBSCRIBERS);
+        server.createContext("/api/sessions/availability", availabilityFeed);
+        server.createContext("/api/registrations",
+                new RegistrationEndpoint(RegistrationService.getInstance(), SessionService.getInstance(), gson));
+        server.createContext("/api/evaluations", new EvaluationEndpoint(EvaluationService.getInstance(), gson));
+        server.createContext("/api/reports", new ReportEndpoint(ReportService.getInstance(), gson));
+        server.createContext("/api/awards", new AwardEndpoint(AwardService.getInstance(), gson));
+        String replicationKey = replicationKey();
+        if (follower == null && replicationKey != null) {
+            server.createContext("/api/replication",
+                    new ReplicationEndpoint(ChangeLog.getInstance(), DataManager.getInstance(), replicationKey, gson));
+        }
+        if (follower != null) {
+            AdmissionController.getInstance().setReadOnly(true);
+        }
+        // Replicas may share the primary's directory, so only the primary writes the files
+        this.schedulePublisher = follower == null ? ScheduleSnapshotPublisher.getInstance()
+                : new ScheduleSnapshotPublisher(SessionService.getInstance(), null);
+        schedulePublisher.start();
+        ScheduleSnapshotHandler scheduleHandler = new ScheduleSnapshotHandler(schedulePublisher);
+        server.createContext(ScheduleSnapshotHandler.JSON_PATH, scheduleHandler);
+        server.createContext(ScheduleSnapshotHandler.HTML_PATH, scheduleHandler);
+        server.createContext("/api/health", new ApiHandler(gson) {
+            @Override
+            protected Object handle(ApiRequest request) {
+                return health();
+            }
+        });
+    }
+
+    private Map<String, Object> health() {
+        AdmissionController admission = AdmissionController.getInstance();
+        Map<String, Object> health = new LinkedHashMap<>();
+        health.put("status", "UP");
+        health.put("role", follower == null ? "PRIMARY" : "REPLICA");
+        health.put("pendingWrites", admission.getPendingCount());
+        health.put("rejectedWrites", admission.getRejectedCount());
+        health.put("feedSubscribers", availabilityFeed.getSubscriberCount());
+        if (follower != null) {
+            health.put("appliedSequence", follower.getAppliedSequence());
+            health.put("lagEntries", follower.getLagEntries());
+            health.put("lagMillis", follower.getLagMillis());
+            if (follower.isStale(MAX_REPLICA_LAG_MS)) {
+                // Lets a load balancer take the replica out of rotation
+                throw new ApiException(503, "Replica is " + follower.getLagMillis() + " ms behind the primary"
+                        + (follower.getLastError() != null ? ": " + follower.getLastError() : ""));
+            }
+        }
+        return health;
+    }
+
+    /**
+     * Gets the configured replication key, from the system property or else
+     * the environment.
+     * @return the key, or null if replication is not configured
+     */
+    public static String replicationKey() {
+        String key = System.getProperty(REPLICATION_KEY_PROPERTY, System.getenv(REPLICATION_KEY_ENV));
+        return key != null && !key.isEmpty() ? key : null;
+    }
+
+    // ==================== Lifecycle ====================
+
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops accepting requests and waits for running ones to finish.
+     * @param delaySeconds the longest time to wait for running requests
+     */
+    public void stop(int delaySeconds) {
+        // End the open streams first, or the server waits the full delay for them
+        availabilityFeed.close();
+        server.stop(delaySeconds);
+        schedulePublisher.stop();
+        if (follower != null) {
+            follower.stop();
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(delaySeconds, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Gets the bound port, e.g. after binding to port 0.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+}
@@ -0,0 +1,258 @@
+package com.fci.seminar.server;
+
+import com.fci.seminar.model.Session;
+import com.fci.seminar.model.enums.Permission;
+import com.fci.seminar.model.enums.SessionStatus;
+import com.fci.seminar.model.enums.SessionType;
+import com.fci.seminar.repository.ChangeEvent;
+import com.fci.seminar.repository.ChangeEvent.ChangeType;
+import com.fci.seminar.repository.ChangeEvent.EntityType;
+import com.fci.seminar.repository.ChangeEventBus;
+import com.fci.seminar.repository.RepositoryListener;
+import com.fci.seminar.service.SessionService;
+import com.fci.seminar.util.DataManager;
+import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * /api/sessions/availability
+ * <pre>
+ * GET /api/sessions/availability          text/event-stream
+ * </pre>
+ * Streams the seat counts and status of every session as server-sent events:
+ * a "snapshot" event with all sessions on connect, then "availability" events
+ * with the sessions that changed. Anyone who may view sessions may subscribe.
+ * <p>
+ * The feed keeps its own copy of the availability, kept current by a single
+ * bus subscription, so subscribers never read the store: a thousand watchers
+ * cost the same store work as one. Changes are gathered and fanned out every
+ * {@value #DISPATCH_INTERVAL_MS} ms, and each subscriber keeps at most one
+ * pending entry per session; a slow client skips intermediate counts instead
+ * of building up a backlog.
+ */
+class SessionAvailabilityFeed extends ApiHandler implements RepositoryListener {
+
+    // How often gathered changes are sent out
+    static final long DISPATCH_INTERVAL_MS = 250;
+    // Comment lines keep proxies from closing idle streams and reveal dead clients
+    private static final long HEARTBEAT_MS = 15_000;
+    // Reconnect delay suggested to clients
+    private static final long RETRY_MS = 5_000;
+
+    private final int maxSubscribers;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // Session ID -> availability JSON, in session order for snapshots
+    private final Map<Long, String> availability = new TreeMap<>();
+    // Session ID -> JSON changed since the last dispatch
+    private final Map<Long, String> changed = new LinkedHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ScheduledExecutorService dispatcher;
+    private final ChangeEventBus.Subscription subscription;
+    private volatile boolean closed;
+
+    /**
+     * Creates the feed and starts following session changes.
+     * @param sessionService the service used once to load the initial availability
+     * @param gson the JSON serializer
+     * @param maxSubscribers the most open streams; each holds a handler thread
+     */
+    SessionAvailabilityFeed(SessionService sessionService, Gson gson, int maxSubscribers) {
+        super(gson);
+        this.maxSubscribers = maxSubscribers;
+        // Repositories publish while holding the data manager, so nothing can
+        // change between the subscription and the initial load
+        synchronized (DataManager.getInstance()) {
+            this.subscription = ChangeEventBus.getInstance().subscribe(this, EntityType.SESSION);
+            for (Session session : sessionService.getAllSessions()) {
+                availability.put(session.getId(), gson.toJson(Availability.of(session)));
+            }
+        }
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "availability-feed");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher.scheduleWithFixedDelay(this::dispatch,
+                DISPATCH_INTERVAL_MS, DISPATCH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    // ==================== Change Tracking ====================
+
+    @Override
+    public void onChanges(List<ChangeEvent> events) {
+        // Called on the writing thread, so only record the change here
+        for (ChangeEvent event : events) {
+            Long id = event.getEntityId();
+            Session session = event.getEntity(Session.class);
+            String json = event.getChangeType() == ChangeType.DELETE || session == null
+                    ? gson.toJson(Map.of("id", id, "deleted", true))
+                    : gson.toJson(Availability.of(session));
+            synchronized (this) {
+                if (json.equals(availability.get(id))) {
+                    continue;
+                }
+                if (event.getChangeType() == ChangeType.DELETE) {
+                    availability.remove(id);
+                } else {
+                    availability.put(id, json);
+                }
+                changed.put(id, json);
+            }
+        }
+    }
+
+    private void dispatch() {
+        Map<Long, String> batch;
+        synchronized (this) {
+            if (changed.isEmpty()) {
+                return;
+            }
+            batch = new LinkedHashMap<>(changed);
+            changed.clear();
+        }
+        long id = sequence.incrementAndGet();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(id, batch);
+        }
+    }
+
+    private synchronized String snapshot() {
+        return "[" + String.join(",", availability.values()) + "]";
+    }
+
+    // ==================== Streaming ====================
+
+    @Override
+    protected Object handle(ApiRequest request) {
+        if (!"GET".equals(request.getMethod())) {
+            return unsupported(request);
+        }
+        request.require(Permission.VIEW_SESSIONS);
+        if (closed) {
+            throw new ApiException(503, "The server is shutting down");
+        }
+        Subscriber subscriber = new Subscriber();
+        synchronized (subscribers) {
+            if (subscribers.size() >= maxSubscribers) {
+                throw new ApiException(503, "Too many subscribers; please try again later");
+            }
+            subscribers.add(subscriber);
+        }
+        return streamed(exchange -> {
+            try {
+                subscriber.stream(exchange);
+            } finally {
+                subscribers.remove(subscriber);
+            }
+        });
+    }
+
+    /**
+     * Stops the feed and ends all open streams.
+     */
+    void close() {
+        closed = true;
+        subscription.cancel();
+        dispatcher.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.close();
+        }
+    }
+
+    /**
+     * Gets the number of open streams.
+     */
+    int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * One open stream. Holds the changes not yet written to it, merged per session.
+     */
+    private final class Subscriber {
+        private final Map<Long, String> pending = new LinkedHashMap<>();
+        private long lastId;
+        private boolean closed;
+
+        synchronized void offer(long id, Map<Long, String> batch) {
+            pending.putAll(batch);
+            lastId = id;
+            notifyAll();
+        }
+
+        synchronized void close() {
+            closed = true;
+            notifyAll();
+        }
+
+        void stream(HttpExchange exchange) throws IOException {
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream out = exchange.getResponseBody();
+            send(out, "retry: " + RETRY_MS + "\nevent: snapshot\ndata: " + snapshot() + "\n\n");
+
+            while (true) {
+                String event;
+                synchronized (this) {
+                    if (pending.isEmpty() && !closed) {
+                        try {
+                            wait(HEARTBEAT_MS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                    if (closed) {
+                        return;
+                    }
+                    if (pending.isEmpty()) {
+                        event = ": keep-alive\n\n";
+                    } else {
+                        event = "id: " + lastId + "\nevent: availability\ndata: ["
+                                + String.join(",", pending.values()) + "]\n\n";
+                        pending.clear();
+                    }
+                }
+                // Written outside the lock, so a slow client only delays itself
+                send(out, event);
+            }
+        }
+
+        private void send(OutputStream out, String event) throws IOException {
+            out.write(event.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+    }
+
+    /**
+     * What subscribers see of a session.
+     */
+    private record Availability(Long id, LocalDate date, LocalTime startTime, LocalTime endTime, String venue,
+                                SessionType type, int capacity, int registered, int available,
+                                SessionStatus status) {
+
+        static Availability of(Session session) {
+            return new Availability(session.getId(), session.getDate(), session.getStartTime(),
+                    session.getEndTime(), session.getVenue(), session.getType(), session.getCapacity(),
+                    session.getRegistered(), Math.max(0, session.getCapacity() - session.getRegistered()),
+                    session.getStatus());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.fci.seminar.server;
+
+import com.fci.seminar.model.Session;
+import com.fci.seminar.model.enums.Permission;
+import com.fci.seminar.model.enums.SessionStatus;
+import com.fci.seminar.model.enums.SessionType;
+import com.fci.seminar.repository.ChangeEvent.EntityType;
+import com.fci.seminar.service.SessionService;
+import com.google.gson.Gson;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * /api/sessions
+ * <pre>
+ * GET    /api/sessions                    ?date=&amp;type=&amp;status=&amp;available=true
+ * GET    /api/sessions/{id}
+ * GET    /api/sessions/conflicts
+ * POST   /api/sessions                    create
+ * PUT    /api/sessions/{id}               update
+ * POST   /api/sessions/{id}/status        ?status=CLOSED
+ * DELETE /api/sessions/{id}               ?confirm=true to delete one with registrations
+ * </pre>
+ * Anyone may view sessions; conflicts and changes need MANAGE_SESSIONS.
+ */
+class SessionEndpoint extends ApiHandler {
+
+    private final SessionService sessionService;
+
+    SessionEndpoint(SessionService sessionService, Gson gson) {
+        super(gson, EntityType.SESSION);
+        this.sessionService = sessionService;
+    }
+
+    @Override
+    protected Object handle(ApiRequest request) {
+        String first = request.segment(0);
+        String action = request.segment(1);
+        if ("GET".equals(request.getMethod()) && !"conflicts".equals(first)) {
+            request.require(Permission.VIEW_SESSIONS);
+        } else {
+            request.require(Permission.MANAGE_SESSIONS);
+        }
+        switch (request.getMethod()) {
+            case "GET":
+                if (first == null) {
+                    return listSessions(request);
+                }
+                if ("conflicts".equals(first)) {
+                    return sessionService.getScheduleConflicts();
+                }
+                return sessionService.getSessionById(request.pathId(0));
+            case "POST":
+                if (first == null) {
+                    Session session = request.body(Session.class);
+                    return created(write(() -> sessionService.createSession(session)));
+                }
+                if ("status".equals(action)) {
+                    Long id = request.pathId(0);
+                    SessionStatus status = request.enumParam("status", SessionStatus.class);
+                    if (status == null) {
+                        throw new IllegalArgumentException("status is required");
+                    }
+                    return write(() -> sessionService.updateSessionStatus(id, status));
+                }
+                return null;
+            case "PUT": {
+                Long id = request.pathId(0);
+                Session session = request.body(Session.class);
+                session.setId(id);
+                return write(() -> sessionService.updateSession(session));
+            }
+            case "DELETE": {
+                Long id = request.pathId(0);
+                boolean confirmed = request.booleanParam("confirm");
+                if (!write(() -> sessionService.deleteSessionWithConfirmation(id, confirmed))) {
+                    throw new ApiException(409, "Session " + id + " has registrations; add confirm=true to delete it");
+                }
+                return Map.of("deleted", id);
+            }
+            default:
+                return unsupported(request);
+        }
+    }
+
+    private List<Session> listSessions(ApiRequest request) {
+        LocalDate date = request.dateParam("date");
+        SessionType type = request.enumParam("type", SessionType.class);
+        SessionStatus status = request.enumParam("status", SessionStatus.class);
+        List<Session> sessions = request.booleanParam("available")
+                ? sessionService.getAvailableSessions(type)
+                : sessionService.filterSessions(null, type);
+        return sessions.stream()
+                .filter(s -> date == null || date.equals(s.getDate()))
+                .filter(s -> status == null || status == s.getStatus())
+                .collect(Collectors.toList());
+    }
+}
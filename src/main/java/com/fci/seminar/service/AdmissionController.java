@@ -0,0 +1,225 @@
+package com.fci.seminar.service;
+
+import com.fci.seminar.model.enums.Role;
+import com.fci.seminar.util.TokenBucket;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admission control in front of the write lane.
+ * Every write pays a token from its user's bucket and from a global bucket,
+ * and must find room in a bounded queue of pending writes. Anything over the
+ * limits is refused at once with a retry-after hint instead of piling up
+ * behind the single writer, where every write is a full file rewrite.
+ * Coordinators are not rate limited and may use a reserved part of the queue,
+ * so they can still act while students are flooding registration.
+ */
+public class AdmissionController {
+    private static AdmissionController instance;
+
+    // Guests share one bucket
+    private static final Long GUEST_KEY = Long.MIN_VALUE;
+    // Idle user buckets are dropped once there are this many
+    private static final int USER_BUCKET_SWEEP_SIZE = 10_000;
+    // Weight of the newest sample in the average write time
+    private static final double SERVICE_TIME_WEIGHT = 0.1;
+
+    /**
+     * Admission limits.
+     * @param globalRatePerSecond writes per second admitted from all users together
+     * @param globalBurst writes admitted at once after a quiet period
+     * @param userRatePerSecond writes per second admitted from one user
+     * @param userBurst writes one user may make at once
+     * @param queueCapacity the most writes admitted but not yet finished
+     * @param coordinatorReserve queue places only coordinators may take
+     */
+    public record Limits(double globalRatePerSecond, int globalBurst, double userRatePerSecond, int userBurst,
+                         int queueCapacity, int coordinatorReserve) {
+
+        public static final Limits DEFAULT = new Limits(100, 200, 1, 5, 200, 20);
+
+        public Limits {
+            if (globalRatePerSecond <= 0 || globalBurst < 1 || userRatePerSecond <= 0 || userBurst < 1) {
+                throw new IllegalArgumentException("Rates and bursts must be positive");
+            }
+            if (queueCapacity < 1 || coordinatorReserve < 0 || coordinatorReserve >= queueCapacity) {
+                throw new IllegalArgumentException("Coordinator reserve must be smaller than the queue capacity");
+            }
+        }
+    }
+
+    private final Limits limits;
+    private final TokenBucket globalBucket;
+    private final ConcurrentHashMap<Long, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    // Average time one write takes, for the queue retry-after hint
+    private volatile double averageServiceNanos = TimeUnit.MILLISECONDS.toNanos(10);
+    private volatile boolean readOnly;
+
+    /**
+     * Private constructor for singleton pattern.
+     */
+    private AdmissionController() {
+        this(Limits.DEFAULT);
+    }
+
+    /**
+     * Constructor for testing with custom limits.
+     */
+    public AdmissionController(Limits limits) {
+        if (limits == null) {
+            throw new IllegalArgumentException("Limits cannot be null");
+        }
+        this.limits = limits;
+        this.globalBucket = new TokenBucket(limits.globalRatePerSecond(), limits.globalBurst());
+    }
+
+    /**
+     * Gets the singleton instance of AdmissionController.
+     * @return the AdmissionController instance
+     */
+    public static synchronized AdmissionController getInstance() {
+        if (instance == null) {
+            instance = new AdmissionController();
+        }
+        return instance;
+    }
+
+    /**
+     * Resets the singleton instance (for testing purposes).
+     */
+    public static synchronized void resetInstance() {
+        instance = null;
+    }
+
+    // ==================== Admission ====================
+
+    /**
+     * Admits a write or refuses it.
+     * Close the returned permit when the write has finished.
+     * @param context the caller
+     * @return the permit
+     * @throws AdmissionRejectedException if the write is over a limit
+     */
+    public Permit admit(SecurityContext context) {
+        if (readOnly) {
+            rejected.incrementAndGet();
+            throw new AdmissionRejectedException(AdmissionRejectedException.Reason.READ_ONLY, 0,
+                    "This server is a read-only replica");
+        }
+        boolean priority = context != null && context.getRole() == Role.COORDINATOR;
+        TokenBucket userBucket = null;
+        if (!priority) {
+            userBucket = userBucket(context);
+            long waitNanos = userBucket.tryAcquire();
+            if (waitNanos > 0) {
+                throw reject(AdmissionRejectedException.Reason.RATE_LIMITED, waitNanos,
+                        "Too many requests; please slow down");
+            }
+            waitNanos = globalBucket.tryAcquire();
+            if (waitNanos > 0) {
+                userBucket.refund();
+                throw reject(AdmissionRejectedException.Reason.RATE_LIMITED, waitNanos,
+                        "The server is busy; please try again shortly");
+            }
+        }
+
+        int capacity = priority ? limits.queueCapacity() : limits.queueCapacity() - limits.coordinatorReserve();
+        while (true) {
+            int current = pending.get();
+            if (current >= capacity) {
+                if (userBucket != null) {
+                    // Neither token was used, so both go back
+                    userBucket.refund();
+                    globalBucket.refund();
+                }
+                throw reject(AdmissionRejectedException.Reason.QUEUE_FULL, (long) (current * averageServiceNanos),
+                        "Too many pending requests; please try again shortly");
+            }
+            if (pending.compareAndSet(current, current + 1)) {
+                return new Permit();
+            }
+        }
+    }
+
+    private TokenBucket userBucket(SecurityContext context) {
+        Long key = context != null && context.getUserId() != null ? context.getUserId() : GUEST_KEY;
+        TokenBucket bucket = userBuckets.get(key);
+        if (bucket == null) {
+            if (userBuckets.size() >= USER_BUCKET_SWEEP_SIZE) {
+                // A full bucket belongs to a user who has been idle, so forgetting it changes nothing
+                userBuckets.values().removeIf(TokenBucket::isFull);
+            }
+            bucket = userBuckets.computeIfAbsent(key,
+                    k -> new TokenBucket(limits.userRatePerSecond(), limits.userBurst()));
+        }
+        return bucket;
+    }
+
+    private AdmissionRejectedException reject(AdmissionRejectedException.Reason reason, long waitNanos,
+                                              String message) {
+        rejected.incrementAndGet();
+        return new AdmissionRejectedException(reason, Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos)), message);
+    }
+
+    /**
+     * A place in the write queue. Closing it frees the place.
+     */
+    public final class Permit implements AutoCloseable {
+        private boolean closed;
+
+        private Permit() {
+        }
+
+        /**
+         * Records how long the write itself took, to estimate queue waits.
+         */
+        public void recordServiceTime(long nanos) {
+            averageServiceNanos += SERVICE_TIME_WEIGHT * (nanos - averageServiceNanos);
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                pending.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Refuses all writes, e.g. on a read replica, whose data only changes
+     * by following the primary.
+     */
+    public void setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    // ==================== Statistics ====================
+
+    public Limits getLimits() {
+        return limits;
+    }
+
+    /**
+     * Gets the number of admitted writes that have not finished.
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Gets the number of writes refused since startup.
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+}
@@ -0,0 +1,40 @@
+package com.fci.seminar.service;
+
+/**
+ * Thrown when {@link AdmissionController} turns a write away.
+ * Carries a hint of how long the caller should wait before retrying.
+ */
+public class AdmissionRejectedException extends RuntimeException {
+
+    /**
+     * Why a write was turned away.
+     */
+    public enum Reason {
+        /** The caller, or everyone together, is writing faster than the allowed rate */
+        RATE_LIMITED,
+        /** Too many writes are already waiting */
+        QUEUE_FULL,
+        /** This node is a read-only replica; writes go to the primary */
+        READ_ONLY
+    }
+
+    private final Reason reason;
+    private final long retryAfterMillis;
+
+    public AdmissionRejectedException(Reason reason, long retryAfterMillis, String message) {
+        super(message);
+        this.reason = reason;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    /**
+     * Gets how long to wait before retrying.
+     */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
@@ -0,0 +1,413 @@
+package com.fci.seminar.service;
+
+import com.fci.seminar.model.Evaluation;
+import com.fci.seminar.model.Evaluator;
+import com.fci.seminar.model.Registration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Computes evaluator-to-registration assignments in one step.
+ * The problem is solved as a min-cost flow: each registration needs a number
+ * of evaluators, each pair costs more the less the evaluator's expertise
+ * matches the research title and abstract, and each further assignment to
+ * an evaluator costs more than the last, which spreads the workload evenly.
+ * Evaluators who supervise a registration are never assigned to it.
+ * Requirements: 5.1
+ */
+public class AssignmentOptimizer {
+
+    // Cost of a pair with no expertise match, relative to a full match
+    public static final int DEFAULT_MATCH_WEIGHT = 100;
+    // Extra cost of each further assignment to the same evaluator
+    public static final int DEFAULT_LOAD_WEIGHT = 20;
+
+    // Expertise hits in the abstract count less than hits in the title
+    private static final double ABSTRACT_HIT = 0.5;
+
+    private static final Set<String> STOP_WORDS = new HashSet<>(Arrays.asList(
+            "and", "the", "for", "with", "from", "into", "using", "based", "via", "its", "their",
+            "study", "analysis", "approach", "towards", "system", "systems"));
+
+    private static final Set<String> HONORIFICS = new HashSet<>(Arrays.asList(
+            "dr", "prof", "professor", "assoc", "associate", "assistant", "ir", "ts", "mr", "mrs", "ms"));
+
+    private final int matchWeight;
+    private final int loadWeight;
+
+    /**
+     * Creates an optimizer with the default weights.
+     */
+    public AssignmentOptimizer() {
+        this(DEFAULT_MATCH_WEIGHT, DEFAULT_LOAD_WEIGHT);
+    }
+
+    /**
+     * Creates an optimizer with custom weights.
+     * @param matchWeight cost of a pair without any expertise match
+     * @param loadWeight extra cost of each further assignment to one evaluator
+     */
+    public AssignmentOptimizer(int matchWeight, int loadWeight) {
+        if (matchWeight < 0 || loadWeight < 0) {
+            throw new IllegalArgumentException("Weights cannot be negative");
+        }
+        this.matchWeight = matchWeight;
+        this.loadWeight = loadWeight;
+    }
+
+    // ==================== Optimization ====================
+
+    /**
+     * Plans new assignments so every registration reaches the requested number of evaluators.
+     * Existing assignments count towards both that number and the evaluators' workload.
+     * @param registrations the registrations to staff
+     * @param evaluators the available evaluators
+     * @param existing the existing evaluations (assignments)
+     * @param evaluatorsPerRegistration the number of evaluators each registration needs
+     * @return the planned assignments
+     */
+    public Plan optimize(List<Registration> registrations, List<Evaluator> evaluators,
+                         List<Evaluation> existing, int evaluatorsPerRegistration) {
+        if (evaluatorsPerRegistration < 1) {
+            throw new IllegalArgumentException("Evaluators per registration must be at least 1");
+        }
+
+        // Existing assignments
+        Set<Long> evaluatorIds = new HashSet<>();
+        for (Evaluator evaluator : evaluators) {
+            evaluatorIds.add(evaluator.getId());
+        }
+        Set<String> assignedPairs = new HashSet<>();
+        Map<Long, Integer> countByRegistration = new HashMap<>();
+        Map<Long, Integer> loadByEvaluator = new LinkedHashMap<>();
+        for (Evaluator evaluator : evaluators) {
+            loadByEvaluator.put(evaluator.getId(), 0);
+        }
+        for (Evaluation evaluation : existing) {
+            if (evaluation.getEvaluatorId() == null || evaluation.getRegistrationId() == null) {
+                continue;
+            }
+            if (assignedPairs.add(pairKey(evaluation.getEvaluatorId(), evaluation.getRegistrationId()))) {
+                countByRegistration.merge(evaluation.getRegistrationId(), 1, Integer::sum);
+                if (evaluatorIds.contains(evaluation.getEvaluatorId())) {
+                    loadByEvaluator.merge(evaluation.getEvaluatorId(), 1, Integer::sum);
+                }
+            }
+        }
+
+        // Registrations that still need evaluators
+        List<Registration> open = new ArrayList<>();
+        List<Integer> needs = new ArrayList<>();
+        for (Registration registration : registrations) {
+            int need = evaluatorsPerRegistration - countByRegistration.getOrDefault(registration.getId(), 0);
+            if (need > 0) {
+                open.add(registration);
+                needs.add(need);
+            }
+        }
+        if (open.isEmpty() || evaluators.isEmpty()) {
+            return buildPlan(Collections.emptyList(), open, needs, loadByEvaluator);
+        }
+
+        // Nodes: source, registrations, evaluators, sink
+        int regCount = open.size();
+        int evalCount = evaluators.size();
+        int source = 0;
+        int sink = regCount + evalCount + 1;
+        FlowNetwork network = new FlowNetwork(sink + 1);
+
+        List<Set<String>> expertise = new ArrayList<>(evalCount);
+        List<String> evaluatorNames = new ArrayList<>(evalCount);
+        for (Evaluator evaluator : evaluators) {
+            expertise.add(keywords(evaluator.getExpertise()));
+            evaluatorNames.add(normalizeName(evaluator.getName()));
+        }
+
+        int totalNeed = 0;
+        int[] eligibleCount = new int[evalCount];
+        List<PairEdge> pairEdges = new ArrayList<>();
+        for (int r = 0; r < regCount; r++) {
+            Registration registration = open.get(r);
+            network.addEdge(source, 1 + r, needs.get(r), 0);
+            totalNeed += needs.get(r);
+
+            Set<String> titleWords = keywords(registration.getResearchTitle());
+            Set<String> abstractWords = keywords(registration.getAbstractText());
+            String supervisor = normalizeName(registration.getSupervisorName());
+            for (int e = 0; e < evalCount; e++) {
+                Evaluator evaluator = evaluators.get(e);
+                if (assignedPairs.contains(pairKey(evaluator.getId(), registration.getId()))
+                        || isConflict(evaluatorNames.get(e), supervisor)) {
+                    continue;
+                }
+                double match = match(expertise.get(e), titleWords, abstractWords);
+                int cost = (int) Math.round(matchWeight * (1.0 - match));
+                int edge = network.addEdge(1 + r, 1 + regCount + e, 1, cost);
+                pairEdges.add(new PairEdge(edge, r, e, match));
+                eligibleCount[e]++;
+            }
+        }
+
+        // Increasing marginal cost per further assignment balances the workload
+        for (int e = 0; e < evalCount; e++) {
+            int currentLoad = loadByEvaluator.get(evaluators.get(e).getId());
+            int units = Math.min(eligibleCount[e], totalNeed);
+            for (int k = 0; k < units; k++) {
+                network.addEdge(1 + regCount + e, sink, 1, loadWeight * (currentLoad + k));
+            }
+        }
+
+        network.minCostMaxFlow(source, sink);
+
+        List<Assignment> assignments = new ArrayList<>();
+        for (PairEdge pair : pairEdges) {
+            if (network.flow(pair.edge()) > 0) {
+                assignments.add(new Assignment(evaluators.get(pair.evaluator()).getId(),
+                        open.get(pair.registration()).getId(), pair.match()));
+            }
+        }
+        return buildPlan(assignments, open, needs, loadByEvaluator);
+    }
+
+    private Plan buildPlan(List<Assignment> assignments, List<Registration> open, List<Integer> needs,
+                           Map<Long, Integer> loadByEvaluator) {
+        Map<Long, Integer> planned = new HashMap<>();
+        Map<Long, Integer> loads = new LinkedHashMap<>(loadByEvaluator);
+        for (Assignment assignment : assignments) {
+            planned.merge(assignment.registrationId(), 1, Integer::sum);
+            loads.merge(assignment.evaluatorId(), 1, Integer::sum);
+        }
+        Map<Long, Integer> shortfalls = new LinkedHashMap<>();
+        for (int r = 0; r < open.size(); r++) {
+            Long registrationId = open.get(r).getId();
+            int missing = needs.get(r) - planned.getOrDefault(registrationId, 0);
+            if (missing > 0) {
+                shortfalls.put(registrationId, missing);
+            }
+        }
+        return new Plan(assignments, shortfalls, loads);
+    }
+
+    private static String pairKey(Long evaluatorId, Long registrationId) {
+        return evaluatorId + ":" + registrationId;
+    }
+
+    /**
+     * A registration-evaluator edge in the flow network.
+     */
+    private record PairEdge(int edge, int registration, int evaluator, double match) {
+    }
+
+    // ==================== Matching ====================
+
+    /**
+     * Scores how well expertise keywords appear in a registration.
+     * @return 0 for no match up to 1 when every keyword is in the title
+     */
+    static double match(Set<String> expertise, Set<String> titleWords, Set<String> abstractWords) {
+        if (expertise.isEmpty()) {
+            return 0.0;
+        }
+        double hits = 0;
+        for (String keyword : expertise) {
+            if (titleWords.contains(keyword)) {
+                hits += 1.0;
+            } else if (abstractWords.contains(keyword)) {
+                hits += ABSTRACT_HIT;
+            }
+        }
+        return hits / expertise.size();
+    }
+
+    /**
+     * Splits text into lower-case keywords, dropping short and common words
+     * and a plural "s" so "Networks" matches "network".
+     */
+    static Set<String> keywords(String text) {
+        Set<String> words = new HashSet<>();
+        if (text == null) {
+            return words;
+        }
+        for (String word : text.toLowerCase().split("[^\\p{L}\\p{Nd}]+")) {
+            if (word.length() < 3 || STOP_WORDS.contains(word)) {
+                continue;
+            }
+            if (word.length() > 3 && word.endsWith("s") && !word.endsWith("ss")) {
+                word = word.substring(0, word.length() - 1);
+            }
+            words.add(word);
+        }
+        return words;
+    }
+
+    /**
+     * Normalizes a person's name for comparison: lower case, no titles or punctuation.
+     */
+    static String normalizeName(String name) {
+        if (name == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder();
+        for (String part : name.toLowerCase().split("[^\\p{L}\\p{Nd}]+")) {
+            if (part.isEmpty() || HONORIFICS.contains(part)) {
+                continue;
+            }
+            if (normalized.length() > 0) {
+                normalized.append(' ');
+            }
+            normalized.append(part);
+        }
+        return normalized.toString();
+    }
+
+    private static boolean isConflict(String evaluatorName, String supervisorName) {
+        return !evaluatorName.isEmpty() && evaluatorName.equals(supervisorName);
+    }
+
+    // ==================== Results ====================
+
+    /**
+     * A planned evaluator assignment.
+     * @param evaluatorId the evaluator ID
+     * @param registrationId the registration ID
+     * @param matchScore how well the evaluator's expertise matches, from 0 to 1
+     */
+    public record Assignment(Long evaluatorId, Long registrationId, double matchScore) {
+    }
+
+    /**
+     * The outcome of an optimization.
+     * @param assignments the new assignments to create
+     * @param shortfalls registrations that could not be fully staffed, with the number missing
+     * @param evaluatorLoads total assignments per evaluator ID, existing plus planned
+     */
+    public record Plan(List<Assignment> assignments, Map<Long, Integer> shortfalls,
+                       Map<Long, Integer> evaluatorLoads) {
+
+        public Plan {
+            assignments = List.copyOf(assignments);
+            shortfalls = Collections.unmodifiableMap(new LinkedHashMap<>(shortfalls));
+            evaluatorLoads = Collections.unmodifiableMap(new LinkedHashMap<>(evaluatorLoads));
+        }
+
+        /**
+         * Gets the mean expertise match of the planned assignments.
+         */
+        public double averageMatch() {
+            return assignments.stream().mapToDouble(Assignment::matchScore).average().orElse(0.0);
+        }
+    }
+
+    // ==================== Flow Network ====================
+
+    /**
+     * Residual network solved by successive shortest paths. All costs are
+     * non-negative, so Dijkstra with node potentials is valid from the start.
+     */
+    private static class FlowNetwork {
+        private final int nodeCount;
+        private final int[] head;
+        private int[] to = new int[64];
+        private int[] next = new int[64];
+        private int[] capacity = new int[64];
+        private int[] cost = new int[64];
+        private int edgeCount;
+
+        FlowNetwork(int nodeCount) {
+            this.nodeCount = nodeCount;
+            this.head = new int[nodeCount];
+            Arrays.fill(head, -1);
+        }
+
+        /**
+         * Adds an edge and its residual twin.
+         * @return the index of the forward edge
+         */
+        int addEdge(int from, int target, int edgeCapacity, int edgeCost) {
+            int index = edgeCount;
+            append(from, target, edgeCapacity, edgeCost);
+            append(target, from, 0, -edgeCost);
+            return index;
+        }
+
+        private void append(int from, int target, int edgeCapacity, int edgeCost) {
+            if (edgeCount == to.length) {
+                int size = edgeCount * 2;
+                to = Arrays.copyOf(to, size);
+                next = Arrays.copyOf(next, size);
+                capacity = Arrays.copyOf(capacity, size);
+                cost = Arrays.copyOf(cost, size);
+            }
+            to[edgeCount] = target;
+            capacity[edgeCount] = edgeCapacity;
+            cost[edgeCount] = edgeCost;
+            next[edgeCount] = head[from];
+            head[from] = edgeCount++;
+        }
+
+        /**
+         * Gets the flow on a forward edge (the capacity of its residual twin).
+         */
+        int flow(int edge) {
+            return capacity[edge ^ 1];
+        }
+
+        void minCostMaxFlow(int source, int sink) {
+            long[] potential = new long[nodeCount];
+            long[] distance = new long[nodeCount];
+            int[] viaEdge = new int[nodeCount];
+
+            while (true) {
+                Arrays.fill(distance, Long.MAX_VALUE);
+                distance[source] = 0;
+                PriorityQueue<long[]> queue = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+                queue.add(new long[]{0, source});
+                while (!queue.isEmpty()) {
+                    long[] top = queue.poll();
+                    int node = (int) top[1];
+                    if (top[0] > distance[node]) {
+                        continue;
+                    }
+                    for (int e = head[node]; e != -1; e = next[e]) {
+                        if (capacity[e] == 0) {
+                            continue;
+                        }
+                        int target = to[e];
+                        long candidate = distance[node] + cost[e] + potential[node] - potential[target];
+                        if (candidate < distance[target]) {
+                            distance[target] = candidate;
+                            viaEdge[target] = e;
+                            queue.add(new long[]{candidate, target});
+                        }
+                    }
+                }
+                if (distance[sink] == Long.MAX_VALUE) {
+                    return; // No augmenting path left
+                }
+                // Capping at the sink distance keeps reduced costs non-negative for unreached nodes
+                for (int node = 0; node < nodeCount; node++) {
+                    potential[node] += Math.min(distance[node], distance[sink]);
+                }
+
+                // Push the bottleneck capacity along the path
+                int push = Integer.MAX_VALUE;
+                for (int node = sink; node != source; node = to[viaEdge[node] ^ 1]) {
+                    push = Math.min(push, capacity[viaEdge[node]]);
+                }
+                for (int node = sink; node != source; node = to[viaEdge[node] ^ 1]) {
+                    capacity[viaEdge[node]] -= push;
+                    capacity[viaEdge[node] ^ 1] += push;
+                }
+            }
+        }
+    }
+}
@@ -1,37 +1,47 @@
 package com.fci.seminar.service;
 
 import com.fci.seminar.model.User;
+import com.fci.seminar.model.enums.Permission;
 import com.fci.seminar.model.enums.Role;
 import com.fci.seminar.repository.UserRepository;
 
 /**
  * Singleton service for user authentication and session management.
  * Handles login, logout, and role-based access control.
+ * The desktop app has one login per process; the server issues tokens instead,
+ * and each request runs with the {@link SecurityContext} of its token bound to
+ * the handling thread. The "current user" queries answer from the bound
+ * context first and fall back to the desktop login.
  * Requirements: 1.3, 1.4, 1.5
  */
 public class AuthService {
     private static AuthService instance;
     
     private final UserRepository userRepository;
-    private User currentUser;
-    private Role currentRole;
+    private final AuthTokenStore tokenStore;
+    // Desktop login, used when no context is bound to the thread
+    private volatile SecurityContext desktopContext = SecurityContext.GUEST;
     
     /**
      * Private constructor for singleton pattern.
      */
     private AuthService() {
-        this.userRepository = new UserRepository();
-        this.currentUser = null;
-        this.currentRole = Role.GUEST;
+        this(new UserRepository(), new AuthTokenStore());
     }
     
     /**
      * Constructor for testing with custom UserRepository.
      */
     public AuthService(UserRepository userRepository) {
+        this(userRepository, new AuthTokenStore());
+    }
+    
+    /**
+     * Constructor for testing with a custom token store.
+     */
+    public AuthService(UserRepository userRepository, AuthTokenStore tokenStore) {
         this.userRepository = userRepository;
-        this.currentUser = null;
-        this.currentRole = Role.GUEST;
+        this.tokenStore = tokenStore;
     }
     
     /**
@@ -69,11 +79,26 @@ public class AuthService {
             return true;
         }
         
+        User user = authenticate(username, password, role);
+        if (user != null) {
+            this.desktopContext = new SecurityContext(user, user.getRole());
+            return true;
+        }
+        
+        // Authentication failed - maintain current session state
+        return false;
+    }
+    
+    /**
+     * Checks credentials.
+     * @return the user, or null if the credentials are wrong
+     */
+    private User authenticate(String username, String password, Role role) {
         // Validate input
         if (username == null || username.trim().isEmpty() ||
             password == null || password.trim().isEmpty() ||
             role == null) {
-            return false;
+            return null;
         }
         
         // Find user by username and role
@@ -81,13 +106,9 @@ public class AuthService {
         
         // Validate credentials
         if (user != null && password.equals(user.getPassword())) {
-            this.currentUser = user;
-            this.currentRole = user.getRole();
-            return true;
+            return user;
         }
-        
-        // Authentication failed - maintain current session state
-        return false;
+        return null;
     }
     
     /**
@@ -95,8 +116,61 @@ public class AuthService {
      * Requirements: 1.5
      */
     public void logout() {
-        this.currentUser = null;
-        this.currentRole = Role.GUEST;
+        this.desktopContext = SecurityContext.GUEST;
+    }
+    
+    // ==================== Tokens ====================
+    
+    /**
+     * Authenticates a user and issues a token for later requests.
+     * Does not change the desktop login.
+     * @param username the username
+     * @param password the password
+     * @param role the role to authenticate as
+     * @return the token, or null if the credentials are wrong
+     * @throws IllegalArgumentException if the role is GUEST, which needs no token
+     */
+    public String issueToken(String username, String password, Role role) {
+        if (role == Role.GUEST) {
+            throw new IllegalArgumentException("Guests do not need to log in");
+        }
+        User user = authenticate(username, password, role);
+        return user != null ? tokenStore.issue(new SecurityContext(user, user.getRole())) : null;
+    }
+    
+    /**
+     * Looks up the identity of a token.
+     * @param token the token
+     * @return the identity, or null if the token is unknown or expired
+     */
+    public SecurityContext resolveToken(String token) {
+        return tokenStore.resolve(token);
+    }
+    
+    /**
+     * Revokes a token.
+     * @return true if the token was active
+     */
+    public boolean revokeToken(String token) {
+        return tokenStore.revoke(token);
+    }
+    
+    /**
+     * Gets the token store, e.g. to read its lifetime.
+     */
+    public AuthTokenStore getTokenStore() {
+        return tokenStore;
+    }
+    
+    // ==================== Current Identity ====================
+    
+    /**
+     * Gets the identity of the current request, or the desktop login outside a request.
+     * @return the context, never null
+     */
+    public SecurityContext getCurrentContext() {
+        SecurityContext bound = SecurityContext.current();
+        return bound != null ? bound : desktopContext;
     }
     
     /**
@@ -104,7 +178,7 @@ public class AuthService {
      * @return the current user, or null if in Guest mode
      */
     public User getCurrentUser() {
-        return currentUser;
+        return getCurrentContext().getUser();
     }
     
     /**
@@ -112,7 +186,7 @@ public class AuthService {
      * @return the current role (GUEST if not authenticated)
      */
     public Role getCurrentRole() {
-        return currentRole;
+        return getCurrentContext().getRole();
     }
     
     /**
@@ -120,7 +194,7 @@ public class AuthService {
      * @return true if authenticated, false if in Guest mode
      */
     public boolean isAuthenticated() {
-        return currentUser != null && currentRole != Role.GUEST;
+        return getCurrentContext().isAuthenticated();
     }
     
     /**
@@ -128,52 +202,25 @@ public class AuthService {
      * @param permission the permission to check
      * @return true if the user has the permission
      */
+    public boolean hasPermission(Permission permission) {
+        return getCurrentContext().hasPermission(permission);
+    }
+    
+    /**
+     * Checks if the current user has a specific permission.
+     * @param permission the permission name, e.g. "REGISTER"
+     * @return true if the user has the permission
+     */
     public boolean hasPermission(String permission) {
         if (permission == null || permission.trim().isEmpty()) {
             return false;
         }
-        
-        switch (currentRole) {
-            case COORDINATOR:
-                // Coordinator has all permissions
-                return true;
-            case EVALUATOR:
-                return isEvaluatorPermission(permission);
-            case STUDENT:
-                return isStudentPermission(permission);
-            case GUEST:
-            default:
-                return isGuestPermission(permission);
+        Permission known = Permission.fromName(permission);
+        if (known == null) {
+            // Coordinator has all permissions, including ones without a constant
+            return getCurrentRole() == Role.COORDINATOR;
         }
-    }
-    
-    /**
-     * Checks if the permission is allowed for Guest role.
-     */
-    private boolean isGuestPermission(String permission) {
-        return "VIEW_SCHEDULE".equals(permission) ||
-               "VIEW_SESSIONS".equals(permission);
-    }
-    
-    /**
-     * Checks if the permission is allowed for Student role.
-     */
-    private boolean isStudentPermission(String permission) {
-        return isGuestPermission(permission) ||
-               "REGISTER".equals(permission) ||
-               "UPLOAD_FILE".equals(permission) ||
-               "VIEW_OWN_REGISTRATION".equals(permission);
-    }
-    
-    /**
-     * Checks if the permission is allowed for Evaluator role.
-     */
-    private boolean isEvaluatorPermission(String permission) {
-        return isGuestPermission(permission) ||
-               "VIEW_ASSIGNED_PRESENTATIONS".equals(permission) ||
-               "EVALUATE".equals(permission) ||
-               "SAVE_DRAFT".equals(permission) ||
-               "SUBMIT_EVALUATION".equals(permission);
+        return hasPermission(known);
     }
     
     /**
@@ -182,7 +229,7 @@ public class AuthService {
      * @return true if the current role matches
      */
     public boolean hasRole(Role role) {
-        return currentRole == role;
+        return getCurrentRole() == role;
     }
     
     /**
@@ -194,7 +241,7 @@ public class AuthService {
     public boolean hasMinimumRole(Role minimumRole) {
         if (minimumRole == null) return true;
         
-        int currentLevel = getRoleLevel(currentRole);
+        int currentLevel = getRoleLevel(getCurrentRole());
         int requiredLevel = getRoleLevel(minimumRole);
         
         return currentLevel >= requiredLevel;
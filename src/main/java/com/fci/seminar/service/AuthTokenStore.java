@@ -0,0 +1,143 @@
+package com.fci.seminar.service;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Issued login tokens and the identity each one stands for.
+ * Tokens are random 256-bit strings that carry no data themselves. A token
+ * expires after a period of inactivity; using it pushes the expiry back.
+ * Lookups are a single concurrent map read, and the expiry is only rewritten
+ * once half the period has passed, so busy tokens do not contend.
+ * Expired tokens are swept out every so many issues.
+ */
+public class AuthTokenStore {
+
+    /** Default inactivity period after which a token expires */
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(30);
+
+    private static final int TOKEN_BYTES = 32;
+    // Sweep expired tokens after this many new ones
+    private static final int PURGE_INTERVAL = 1024;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final SecureRandom random = new SecureRandom();
+    private final AtomicInteger issuedSincePurge = new AtomicInteger();
+    private final long ttlMillis;
+    private final LongSupplier clock;
+
+    public AuthTokenStore() {
+        this(DEFAULT_TTL, System::currentTimeMillis);
+    }
+
+    /**
+     * Creates a store.
+     * @param ttl the inactivity period after which a token expires
+     * @param clock the current time in milliseconds
+     */
+    public AuthTokenStore(Duration ttl, LongSupplier clock) {
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Token lifetime must be positive");
+        }
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Issues a token for an identity.
+     * @param context the identity the token stands for
+     * @return the token
+     */
+    public String issue(SecurityContext context) {
+        if (context == null) {
+            throw new IllegalArgumentException("Context cannot be null");
+        }
+        if (issuedSincePurge.incrementAndGet() >= PURGE_INTERVAL) {
+            issuedSincePurge.set(0);
+            purgeExpired();
+        }
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        entries.put(token, new Entry(context, clock.getAsLong() + ttlMillis));
+        return token;
+    }
+
+    /**
+     * Looks up a token and extends its lifetime.
+     * @param token the token
+     * @return the identity, or null if the token is unknown or expired
+     */
+    public SecurityContext resolve(String token) {
+        if (token == null) {
+            return null;
+        }
+        Entry entry = entries.get(token);
+        if (entry == null) {
+            return null;
+        }
+        long now = clock.getAsLong();
+        if (now >= entry.expiresAt) {
+            entries.remove(token, entry);
+            return null;
+        }
+        if (entry.expiresAt - now < ttlMillis / 2) {
+            entry.expiresAt = now + ttlMillis;
+        }
+        return entry.context;
+    }
+
+    /**
+     * Revokes a token, e.g. on logout.
+     * @return true if the token was active
+     */
+    public boolean revoke(String token) {
+        return token != null && entries.remove(token) != null;
+    }
+
+    /**
+     * Revokes every token of a user, e.g. after a password change.
+     * @return the number of tokens revoked
+     */
+    public int revokeUser(Long userId) {
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.context.isUser(userId));
+        return before - entries.size();
+    }
+
+    /**
+     * Removes expired tokens.
+     * @return the number removed
+     */
+    public int purgeExpired() {
+        long now = clock.getAsLong();
+        int before = entries.size();
+        entries.values().removeIf(entry -> now >= entry.expiresAt);
+        return before - entries.size();
+    }
+
+    /**
+     * Gets the number of tokens held, including expired ones not yet swept.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    public Duration getTtl() {
+        return Duration.ofMillis(ttlMillis);
+    }
+
+    private static final class Entry {
+        final SecurityContext context;
+        volatile long expiresAt;
+
+        Entry(SecurityContext context, long expiresAt) {
+            this.context = context;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
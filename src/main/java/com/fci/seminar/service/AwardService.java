@@ -1,17 +1,23 @@
 package com.fci.seminar.service;
 
 import com.fci.seminar.model.Award;
+import com.fci.seminar.model.Evaluation;
 import com.fci.seminar.model.Registration;
 import com.fci.seminar.model.enums.AwardType;
 import com.fci.seminar.model.enums.RegistrationStatus;
 import com.fci.seminar.model.enums.SessionType;
+import com.fci.seminar.repository.ChangeEvent;
+import com.fci.seminar.repository.ChangeEvent.ChangeType;
+import com.fci.seminar.repository.ChangeEvent.EntityType;
+import com.fci.seminar.repository.ChangeEventBus;
 import com.fci.seminar.repository.EvaluationRepository;
 import com.fci.seminar.repository.RegistrationRepository;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -28,6 +34,13 @@ public class AwardService {
     // Cached awards
     private List<Award> calculatedAwards;
     
+    // Live standings, built on first use
+    private volatile Leaderboard leaderboard;
+    
+    // Evaluator-bias adjustment applied before ranking
+    private final ScoreNormalizer scoreNormalizer = new ScoreNormalizer();
+    private volatile ScoreNormalizer.Mode scoringMode = ScoreNormalizer.Mode.RAW;
+    
     /**
      * Private constructor for singleton pattern.
      */
@@ -69,130 +82,131 @@ public class AwardService {
     
     /**
      * Calculates all awards based on evaluation scores.
+     * Results are cached per scoring mode until a registration or evaluation changes.
      * Requirements: 8.2
      * @return list of calculated awards (may include ties)
      */
-    public List<Award> calculateAwards() {
-        calculatedAwards = new ArrayList<>();
-        
+    public synchronized List<Award> calculateAwards() {
+        List<Award> awards = ReportCache.getInstance().get(this, "awards:" + scoringMode,
+                this::computeAwards, EntityType.REGISTRATION, EntityType.EVALUATION);
+        calculatedAwards = new ArrayList<>(awards);
+        return calculatedAwards;
+    }
+    
+    /**
+     * Computes all awards from scratch.
+     * Average scores are aggregated in one pass over the evaluations and
+     * the award categories are then determined in parallel.
+     * @return list of awards (may include ties)
+     */
+    private List<Award> computeAwards() {
         // Get all approved registrations
         List<Registration> approvedRegistrations = registrationRepository
                 .findByStatus(RegistrationStatus.APPROVED);
         
-        // Calculate Best Oral awards
-        List<Award> oralAwards = calculateAwardsByType(
-                approvedRegistrations, SessionType.ORAL, AwardType.BEST_ORAL);
-        calculatedAwards.addAll(oralAwards);
+        // Average score per registration, computed once for all categories
+        Map<Long, Double> averageScores = getAverageScores();
+        LocalDateTime awardedAt = LocalDateTime.now();
         
-        // Calculate Best Poster awards
-        List<Award> posterAwards = calculateAwardsByType(
-                approvedRegistrations, SessionType.POSTER, AwardType.BEST_POSTER);
-        calculatedAwards.addAll(posterAwards);
+        // Best Oral and Best Poster awards
+        CompletableFuture<List<Award>> oralAwards = CompletableFuture.supplyAsync(() ->
+                findWinners(approvedRegistrations, averageScores, SessionType.ORAL,
+                        AwardType.BEST_ORAL, awardedAt));
+        CompletableFuture<List<Award>> posterAwards = CompletableFuture.supplyAsync(() ->
+                findWinners(approvedRegistrations, averageScores, SessionType.POSTER,
+                        AwardType.BEST_POSTER, awardedAt));
         
-        // Calculate People's Choice (based on all registrations)
+        // People's Choice (based on all registrations)
         // For now, People's Choice uses the same scoring as others
         // In a full implementation, this would use a separate voting system
-        List<Award> peoplesChoice = calculatePeoplesChoice(approvedRegistrations);
-        calculatedAwards.addAll(peoplesChoice);
+        CompletableFuture<List<Award>> peoplesChoice = CompletableFuture.supplyAsync(() ->
+                findWinners(approvedRegistrations, averageScores, null,
+                        AwardType.PEOPLES_CHOICE, awardedAt));
         
-        return calculatedAwards;
+        List<Award> awards = new ArrayList<>();
+        awards.addAll(oralAwards.join());
+        awards.addAll(posterAwards.join());
+        awards.addAll(peoplesChoice.join());
+        return awards;
     }
     
     /**
-     * Calculates awards for a specific presentation type.
-     * Requirements: 8.2, 8.4
-     * @param registrations all approved registrations
-     * @param type the presentation type
-     * @param awardType the award type
-     * @return list of awards (multiple if tied)
+     * Gets the average score per registration under the current scoring mode.
+     * @return map of registration ID to average score
      */
-    private List<Award> calculateAwardsByType(List<Registration> registrations,
-                                               SessionType type, AwardType awardType) {
-        List<Award> awards = new ArrayList<>();
-        
-        // Filter by presentation type
-        List<Registration> typeRegistrations = registrations.stream()
-                .filter(r -> type.equals(r.getPresentationType()))
-                .collect(Collectors.toList());
-        
-        if (typeRegistrations.isEmpty()) {
-            return awards;
+    private Map<Long, Double> getAverageScores() {
+        ScoreNormalizer.Mode mode = scoringMode;
+        if (mode == ScoreNormalizer.Mode.RAW) {
+            return evaluationRepository.getAverageScoresByRegistrationId();
         }
-        
-        // Calculate scores for each registration
-        List<RegistrationScore> scores = typeRegistrations.stream()
-                .map(r -> new RegistrationScore(r.getId(), 
-                        evaluationRepository.getAverageScoreByRegistrationId(r.getId())))
-                .filter(rs -> rs.score > 0) // Only include those with evaluations
-                .sorted(Comparator.comparingDouble(RegistrationScore::getScore).reversed())
-                .collect(Collectors.toList());
-        
-        if (scores.isEmpty()) {
-            return awards;
-        }
-        
-        // Find highest score and all tied winners
-        double highestScore = scores.get(0).score;
-        
-        for (RegistrationScore rs : scores) {
-            if (rs.score == highestScore) {
-                Award award = new Award();
-                award.setType(awardType);
-                award.setRegistrationId(rs.registrationId);
-                award.setScore(rs.score);
-                award.setAwardedAt(LocalDateTime.now());
-                awards.add(award);
-            } else {
-                break; // No more ties
-            }
+        return scoreNormalizer.normalize(evaluationRepository.findAllSubmitted(), mode)
+                .getAverageByRegistration();
+    }
+    
+    /**
+     * Sets how evaluation scores are adjusted for evaluator bias before ranking.
+     * Affects subsequent calculations and live winners.
+     * @param mode the scoring mode
+     */
+    public void setScoringMode(ScoreNormalizer.Mode mode) {
+        if (mode == null) {
+            throw new IllegalArgumentException("Scoring mode cannot be null");
         }
-        
-        return awards;
+        this.scoringMode = mode;
     }
-
     
     /**
-     * Calculates People's Choice award.
-     * In a full implementation, this would use a voting system.
-     * Currently uses the highest overall score.
+     * Gets the current scoring mode.
+     * @return the scoring mode
+     */
+    public ScoreNormalizer.Mode getScoringMode() {
+        return scoringMode;
+    }
+    
+    /**
+     * Finds the highest scoring registrations for an award.
+     * Requirements: 8.2, 8.4
      * @param registrations all approved registrations
-     * @return list of People's Choice awards (multiple if tied)
+     * @param averageScores average score per registration ID
+     * @param type the presentation type, or null to consider all registrations
+     * @param awardType the award type
+     * @param awardedAt the award timestamp
+     * @return list of awards (multiple if tied)
      */
-    private List<Award> calculatePeoplesChoice(List<Registration> registrations) {
-        List<Award> awards = new ArrayList<>();
-        
-        if (registrations.isEmpty()) {
-            return awards;
-        }
-        
-        // Calculate scores for all registrations
-        List<RegistrationScore> scores = registrations.stream()
-                .map(r -> new RegistrationScore(r.getId(),
-                        evaluationRepository.getAverageScoreByRegistrationId(r.getId())))
-                .filter(rs -> rs.score > 0)
-                .sorted(Comparator.comparingDouble(RegistrationScore::getScore).reversed())
-                .collect(Collectors.toList());
-        
-        if (scores.isEmpty()) {
-            return awards;
-        }
+    private List<Award> findWinners(List<Registration> registrations, Map<Long, Double> averageScores,
+                                    SessionType type, AwardType awardType, LocalDateTime awardedAt) {
+        double highestScore = 0;
+        List<Long> winners = new ArrayList<>();
         
-        // Find highest score and all tied winners
-        double highestScore = scores.get(0).score;
-        
-        for (RegistrationScore rs : scores) {
-            if (rs.score == highestScore) {
-                Award award = new Award();
-                award.setType(AwardType.PEOPLES_CHOICE);
-                award.setRegistrationId(rs.registrationId);
-                award.setScore(rs.score);
-                award.setAwardedAt(LocalDateTime.now());
-                awards.add(award);
-            } else {
-                break;
+        for (Registration registration : registrations) {
+            if (type != null && !type.equals(registration.getPresentationType())) {
+                continue;
+            }
+            
+            // Only include those with evaluations
+            Double score = averageScores.get(registration.getId());
+            if (score == null || score <= 0) {
+                continue;
+            }
+            
+            if (score > highestScore) {
+                highestScore = score;
+                winners.clear();
+                winners.add(registration.getId());
+            } else if (score == highestScore) {
+                winners.add(registration.getId()); // Tie
             }
         }
         
+        List<Award> awards = new ArrayList<>();
+        for (Long registrationId : winners) {
+            Award award = new Award();
+            award.setType(awardType);
+            award.setRegistrationId(registrationId);
+            award.setScore(highestScore);
+            award.setAwardedAt(awardedAt);
+            awards.add(award);
+        }
         return awards;
     }
     
@@ -203,7 +217,7 @@ public class AwardService {
      * Requirements: 8.3
      * @return list of Best Oral awards (multiple if tied)
      */
-    public List<Award> getBestOral() {
+    public synchronized List<Award> getBestOral() {
         return calculatedAwards.stream()
                 .filter(a -> a.getType() == AwardType.BEST_ORAL)
                 .collect(Collectors.toList());
@@ -214,7 +228,7 @@ public class AwardService {
      * Requirements: 8.3
      * @return list of Best Poster awards (multiple if tied)
      */
-    public List<Award> getBestPoster() {
+    public synchronized List<Award> getBestPoster() {
         return calculatedAwards.stream()
                 .filter(a -> a.getType() == AwardType.BEST_POSTER)
                 .collect(Collectors.toList());
@@ -225,7 +239,7 @@ public class AwardService {
      * Requirements: 8.3
      * @return list of People's Choice awards (multiple if tied)
      */
-    public List<Award> getPeoplesChoice() {
+    public synchronized List<Award> getPeoplesChoice() {
         return calculatedAwards.stream()
                 .filter(a -> a.getType() == AwardType.PEOPLES_CHOICE)
                 .collect(Collectors.toList());
@@ -235,7 +249,7 @@ public class AwardService {
      * Gets all calculated awards.
      * @return list of all awards
      */
-    public List<Award> getAllAwards() {
+    public synchronized List<Award> getAllAwards() {
         return new ArrayList<>(calculatedAwards);
     }
     
@@ -244,7 +258,7 @@ public class AwardService {
      * @param type the award type
      * @return list of awards of the specified type
      */
-    public List<Award> getAwardsByType(AwardType type) {
+    public synchronized List<Award> getAwardsByType(AwardType type) {
         return calculatedAwards.stream()
                 .filter(a -> a.getType() == type)
                 .collect(Collectors.toList());
@@ -253,26 +267,89 @@ public class AwardService {
     /**
      * Clears calculated awards.
      */
-    public void clearAwards() {
+    public synchronized void clearAwards() {
         calculatedAwards.clear();
     }
     
-    // ==================== Helper Class ====================
+    // ==================== Live Standings ====================
     
     /**
-     * Helper class to hold registration ID and score for sorting.
+     * Gets the live leaderboard, building it from the repositories on first use.
+     * It is then kept up to date from evaluation and registration change events.
+     * @return the leaderboard
      */
-    private static class RegistrationScore {
-        final Long registrationId;
-        final double score;
-        
-        RegistrationScore(Long registrationId, double score) {
-            this.registrationId = registrationId;
-            this.score = score;
+    public synchronized Leaderboard getLeaderboard() {
+        if (leaderboard == null) {
+            Leaderboard board = new Leaderboard();
+            leaderboard = board;
+            // Subscribe before reading so no change between the read and the subscription is lost
+            ChangeEventBus.getInstance().subscribe(this::onRepositoryChanges,
+                    EntityType.REGISTRATION, EntityType.EVALUATION);
+            board.rebuild(registrationRepository.findAll(), evaluationRepository.findAll());
+        }
+        return leaderboard;
+    }
+    
+    /**
+     * Records a newly submitted evaluation in the live standings.
+     * @param evaluation the submitted evaluation
+     */
+    public void recordSubmission(Evaluation evaluation) {
+        getLeaderboard().recordSubmission(evaluation);
+    }
+    
+    /**
+     * Gets the current winners of an award from the live standings.
+     * @param type the award type
+     * @return list of awards (multiple if tied)
+     */
+    public List<Award> getLiveWinners(AwardType type) {
+        if (scoringMode == ScoreNormalizer.Mode.RAW) {
+            return getLeaderboard().getWinners(type);
         }
         
-        double getScore() {
-            return score;
+        // Normalized scores shift with every submission, so they are recomputed in full
+        SessionType presentationType = null;
+        if (type == AwardType.BEST_ORAL) {
+            presentationType = SessionType.ORAL;
+        } else if (type == AwardType.BEST_POSTER) {
+            presentationType = SessionType.POSTER;
         }
+        return findWinners(registrationRepository.findByStatus(RegistrationStatus.APPROVED),
+                getAverageScores(), presentationType, type, LocalDateTime.now());
+    }
+    
+    private void onRepositoryChanges(List<ChangeEvent> events) {
+        Leaderboard board = leaderboard;
+        for (ChangeEvent event : events) {
+            if (event.getEntityType() == EntityType.REGISTRATION) {
+                if (event.getChangeType() == ChangeType.DELETE) {
+                    board.removeRegistration(event.getEntityId());
+                } else {
+                    board.updateRegistration(event.getEntity(Registration.class));
+                }
+            } else if (event.getChangeType() == ChangeType.DELETE) {
+                if (board.isCounted(event.getEntityId())) {
+                    // A counted score was removed; running aggregates cannot drop it
+                    board.rebuild(registrationRepository.findAll(), evaluationRepository.findAll());
+                }
+            } else {
+                // Submissions saved here, applied from a primary or committed by another process
+                Evaluation evaluation = event.getEntity(Evaluation.class);
+                if (evaluation != null && evaluation.isSubmitted() && !board.isCounted(evaluation.getId())) {
+                    board.recordSubmission(evaluation);
+                }
+            }
+        }
+    }
+    
+    // ==================== Async Operations ====================
+    
+    /**
+     * Calculates all awards without blocking the caller.
+     * @return future with the calculated awards
+     */
+    public CompletableFuture<List<Award>> calculateAwardsAsync() {
+        return ServiceExecutor.getInstance().submitRead(this::calculateAwards);
     }
-}
+}
\ No newline at end of file
@@ -0,0 +1,132 @@
+package com.fci.seminar.service;
+
+import java.util.BitSet;
+
+/**
+ * Tracks which exhibition boards of one poster session are taken.
+ * Occupancy is a bitset over the board numbers of the session's
+ * {@link BoardIdScheme}; the lowest free board is found by scanning whole
+ * 64-bit words from a hint that only moves forward while boards are
+ * allocated, so filling a session board by board costs O(1) per board.
+ * Not thread-safe.
+ */
+public class BoardAllocator {
+
+    private final BoardIdScheme scheme;
+    private final BitSet taken;
+    // No board below this index is free
+    private int lowestFree;
+    private int takenCount;
+
+    /**
+     * Creates an allocator with every board free.
+     * @param scheme the session's board naming scheme
+     */
+    public BoardAllocator(BoardIdScheme scheme) {
+        if (scheme == null) {
+            throw new IllegalArgumentException("Board scheme cannot be null");
+        }
+        this.scheme = scheme;
+        this.taken = new BitSet(scheme.size());
+    }
+
+    private BoardAllocator(BoardAllocator other) {
+        this.scheme = other.scheme;
+        this.taken = (BitSet) other.taken.clone();
+        this.lowestFree = other.lowestFree;
+        this.takenCount = other.takenCount;
+    }
+
+    /**
+     * Creates an independent copy, e.g. to try out a bulk allocation.
+     */
+    public BoardAllocator copy() {
+        return new BoardAllocator(this);
+    }
+
+    // ==================== Allocation ====================
+
+    /**
+     * Takes the lowest-numbered free board.
+     * @return the board ID, or null if every board is taken
+     */
+    public String allocate() {
+        int index = taken.nextClearBit(lowestFree);
+        if (index >= scheme.size()) {
+            lowestFree = scheme.size();
+            return null;
+        }
+        taken.set(index);
+        takenCount++;
+        lowestFree = index + 1;
+        return scheme.format(index);
+    }
+
+    /**
+     * Takes a specific board.
+     * @param boardId the board ID
+     * @return true if the board was free and is now taken
+     * @throws IllegalArgumentException if the ID does not follow the session's scheme
+     */
+    public boolean claim(String boardId) {
+        int index = requireIndex(boardId);
+        if (taken.get(index)) {
+            return false;
+        }
+        taken.set(index);
+        takenCount++;
+        return true;
+    }
+
+    /**
+     * Frees a board. IDs outside the scheme are ignored.
+     * @param boardId the board ID
+     */
+    public void release(String boardId) {
+        int index = scheme.indexOf(boardId);
+        if (index >= 0 && taken.get(index)) {
+            taken.clear(index);
+            takenCount--;
+            lowestFree = Math.min(lowestFree, index);
+        }
+    }
+
+    /**
+     * Checks whether a board is free.
+     * @throws IllegalArgumentException if the ID does not follow the session's scheme
+     */
+    public boolean isFree(String boardId) {
+        return !taken.get(requireIndex(boardId));
+    }
+
+    private int requireIndex(String boardId) {
+        int index = scheme.indexOf(boardId);
+        if (index < 0) {
+            throw new IllegalArgumentException("Invalid board ID " + boardId + ". Use " + scheme.describe());
+        }
+        return index;
+    }
+
+    /**
+     * Gets the ID of the lowest-numbered free board without taking it.
+     * @return the board ID, or null if every board is taken
+     */
+    public String peekNextFree() {
+        int index = taken.nextClearBit(lowestFree);
+        return index < scheme.size() ? scheme.format(index) : null;
+    }
+
+    // ==================== Statistics ====================
+
+    public BoardIdScheme getScheme() {
+        return scheme;
+    }
+
+    public int getTakenCount() {
+        return takenCount;
+    }
+
+    public int getFreeCount() {
+        return scheme.size() - takenCount;
+    }
+}
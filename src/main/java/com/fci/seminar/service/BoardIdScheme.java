@@ -0,0 +1,209 @@
+package com.fci.seminar.service;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Naming scheme for the exhibition boards of a poster session.
+ * A scheme is written as a pattern: one run of '#' stands for the zero-padded
+ * board number, an optional letter range in brackets stands for the row, and
+ * everything else is copied literally. For example:
+ * <pre>
+ * B##          B01 .. B99                (99 boards, the default)
+ * B###         B001 .. B999              (999 boards)
+ * [A-J]##      A01 .. A99, B01 .. J99    (990 boards in rows A to J)
+ * H2-[A-F]-##  H2-A-01 .. H2-F-99        (594 boards)
+ * </pre>
+ * Boards are numbered from 0 in row order, which is the order they are allocated in.
+ */
+public final class BoardIdScheme {
+
+    private static final int MAX_DIGITS = 6;
+    private static final Pattern ROW_RANGE = Pattern.compile("\\[([A-Za-z])-([A-Za-z])]");
+
+    public static final String DEFAULT_PATTERN = "B##";
+    public static final BoardIdScheme DEFAULT = of(DEFAULT_PATTERN);
+
+    private final String pattern;
+    private final String prefix;
+    private final String separator;
+    private final String suffix;
+    private final char firstRow;
+    private final int rowCount;
+    private final int digits;
+    private final int boardsPerRow;
+    private final Pattern idPattern;
+
+    private BoardIdScheme(String pattern, String prefix, String separator, String suffix,
+                          char firstRow, int rowCount, int digits) {
+        this.pattern = pattern;
+        this.prefix = prefix;
+        this.separator = separator;
+        this.suffix = suffix;
+        this.firstRow = firstRow;
+        this.rowCount = rowCount;
+        this.digits = digits;
+        this.boardsPerRow = (int) Math.pow(10, digits) - 1;
+
+        StringBuilder regex = new StringBuilder(Pattern.quote(prefix));
+        if (rowCount > 0) {
+            regex.append("([").append(firstRow).append('-').append((char) (firstRow + rowCount - 1)).append("])");
+            regex.append(Pattern.quote(separator));
+        }
+        regex.append("(\\d{").append(digits).append("})").append(Pattern.quote(suffix));
+        this.idPattern = Pattern.compile(regex.toString());
+    }
+
+    /**
+     * Parses a scheme pattern.
+     * @param pattern the pattern, e.g. "B##" or "[A-J]##"
+     * @return the scheme
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static BoardIdScheme of(String pattern) {
+        if (pattern == null || pattern.trim().isEmpty()) {
+            throw new IllegalArgumentException("Board ID pattern cannot be empty");
+        }
+        String text = pattern.trim();
+
+        int hashStart = text.indexOf('#');
+        int hashEnd = hashStart;
+        while (hashEnd >= 0 && hashEnd < text.length() && text.charAt(hashEnd) == '#') {
+            hashEnd++;
+        }
+        if (hashStart < 0 || text.indexOf('#', hashEnd) >= 0) {
+            throw new IllegalArgumentException("Board ID pattern needs exactly one run of '#' for the number");
+        }
+        int digits = hashEnd - hashStart;
+        if (digits > MAX_DIGITS) {
+            throw new IllegalArgumentException("Board numbers can have at most " + MAX_DIGITS + " digits");
+        }
+
+        String beforeNumber = text.substring(0, hashStart);
+        String suffix = text.substring(hashEnd);
+        Matcher range = ROW_RANGE.matcher(beforeNumber);
+        if (!range.find()) {
+            if (beforeNumber.contains("[")) {
+                throw new IllegalArgumentException("Board rows must be written as a letter range, e.g. [A-J]");
+            }
+            return new BoardIdScheme(text, beforeNumber.toUpperCase(Locale.ROOT), "", suffix.toUpperCase(Locale.ROOT),
+                    'A', 0, digits);
+        }
+
+        char first = Character.toUpperCase(range.group(1).charAt(0));
+        char last = Character.toUpperCase(range.group(2).charAt(0));
+        if (last < first) {
+            throw new IllegalArgumentException("Board row range must run forwards, e.g. [A-J]");
+        }
+        String prefix = beforeNumber.substring(0, range.start());
+        String separator = beforeNumber.substring(range.end());
+        if (prefix.contains("[") || separator.contains("[")) {
+            throw new IllegalArgumentException("Board ID pattern can have only one row range");
+        }
+        return new BoardIdScheme(text, prefix.toUpperCase(Locale.ROOT), separator.toUpperCase(Locale.ROOT),
+                suffix.toUpperCase(Locale.ROOT), first, last - first + 1, digits);
+    }
+
+    /**
+     * Gets the scheme for a pattern, falling back to the default for null or blank.
+     */
+    public static BoardIdScheme ofOrDefault(String pattern) {
+        return pattern == null || pattern.trim().isEmpty() ? DEFAULT : of(pattern);
+    }
+
+    // ==================== Board IDs ====================
+
+    /**
+     * Gets the number of boards the scheme can name.
+     */
+    public int size() {
+        return Math.max(rowCount, 1) * boardsPerRow;
+    }
+
+    /**
+     * Gets the ID of a board.
+     * @param index the board number, from 0
+     * @return the board ID
+     */
+    public String format(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IllegalArgumentException("Board index out of range: " + index);
+        }
+        StringBuilder id = new StringBuilder(prefix);
+        if (rowCount > 0) {
+            id.append((char) (firstRow + index / boardsPerRow)).append(separator);
+        }
+        String number = Integer.toString(index % boardsPerRow + 1);
+        for (int i = number.length(); i < digits; i++) {
+            id.append('0');
+        }
+        return id.append(number).append(suffix).toString();
+    }
+
+    /**
+     * Gets the board number of an ID. Letters may be in either case.
+     * @param boardId the board ID
+     * @return the board number from 0, or -1 if the ID does not follow this scheme
+     */
+    public int indexOf(String boardId) {
+        if (boardId == null) {
+            return -1;
+        }
+        Matcher matcher = idPattern.matcher(boardId.trim().toUpperCase(Locale.ROOT));
+        if (!matcher.matches()) {
+            return -1;
+        }
+        int row = rowCount > 0 ? matcher.group(1).charAt(0) - firstRow : 0;
+        int number = Integer.parseInt(matcher.group(rowCount > 0 ? 2 : 1));
+        if (number == 0) {
+            return -1;
+        }
+        return row * boardsPerRow + number - 1;
+    }
+
+    /**
+     * Checks whether an ID follows this scheme.
+     */
+    public boolean isValid(String boardId) {
+        return indexOf(boardId) >= 0;
+    }
+
+    /**
+     * Gets the canonical form of an ID, e.g. "b07" becomes "B07".
+     * @return the canonical ID, or null if the ID does not follow this scheme
+     */
+    public String normalize(String boardId) {
+        int index = indexOf(boardId);
+        return index < 0 ? null : format(index);
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Describes the range of IDs, e.g. "B01-B99".
+     */
+    public String describe() {
+        return format(0) + "-" + format(size() - 1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return pattern.equals(((BoardIdScheme) o).pattern);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pattern);
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
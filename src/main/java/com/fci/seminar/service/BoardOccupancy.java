@@ -0,0 +1,288 @@
+package com.fci.seminar.service;
+
+import com.fci.seminar.model.Registration;
+import com.fci.seminar.model.Session;
+import com.fci.seminar.model.enums.RegistrationStatus;
+import com.fci.seminar.model.enums.SessionType;
+import com.fci.seminar.repository.ChangeEvent;
+import com.fci.seminar.repository.ChangeEvent.EntityType;
+import com.fci.seminar.repository.ChangeEventBus;
+import com.fci.seminar.repository.RegistrationRepository;
+import com.fci.seminar.repository.RepositoryListener;
+import com.fci.seminar.repository.SessionRepository;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Board allocators of all poster sessions, kept up to date from change events.
+ * The allocators are built with one pass over the registrations on first use.
+ * After that each registration change only releases the board it held and
+ * claims its new one, so checking a board never scans the registrations.
+ * A session whose type or scheme changes is rebuilt on its own, from its
+ * registrations only; other session changes, such as its registration
+ * count, leave the allocators alone.
+ */
+class BoardOccupancy implements RepositoryListener {
+
+    private final RegistrationRepository registrationRepository;
+    private final SessionRepository sessionRepository;
+
+    private ChangeEventBus.Subscription subscription;
+    // Null until built
+    private Map<Long, BoardAllocator> allocators;
+    // The scheme each allocator was built from, as stored on the session
+    private final Map<Long, String> boardSchemes = new HashMap<>();
+    // Sessions to rebuild before their allocator is used again
+    private final Set<Long> staleSessions = new HashSet<>();
+    private final Map<Long, HeldBoard> heldBoards = new HashMap<>();
+    // Counts changes, so a build that raced with a change is not kept
+    private long generation;
+
+    BoardOccupancy(RegistrationRepository registrationRepository, SessionRepository sessionRepository) {
+        this.registrationRepository = registrationRepository;
+        this.sessionRepository = sessionRepository;
+    }
+
+    /**
+     * Gets a copy of a poster session's allocator.
+     * @param sessionId the session ID
+     * @return the allocator, or null if there is no such poster session
+     */
+    BoardAllocator forSession(Long sessionId) {
+        return withAllocator(sessionId, allocator -> allocator != null ? allocator.copy() : null);
+    }
+
+    /**
+     * Claims a board for a registration and releases the board it held.
+     * The check and the claim happen under one lock, so two registrations
+     * cannot both be given the same board. The caller then saves the
+     * registration with the returned ID, or calls {@link #invalidate} if
+     * that fails.
+     * @param registration the registration, with the session it is in
+     * @param boardId the board ID as entered
+     * @return the board ID in the session scheme's canonical form
+     * @throws IllegalArgumentException if the ID is invalid or the board is taken
+     */
+    String claimBoard(Registration registration, String boardId) {
+        return withAllocator(registration.getSessionId(), allocator -> {
+            BoardIdScheme scheme = allocator != null ? allocator.getScheme() : BoardIdScheme.DEFAULT;
+            String normalized = scheme.normalize(boardId);
+            if (normalized == null) {
+                throw new IllegalArgumentException("Invalid board ID " + boardId + ". Use " + scheme.describe());
+            }
+            if (allocator == null) {
+                return normalized;
+            }
+            HeldBoard previous = heldBoards.get(registration.getId());
+            HeldBoard claimed = new HeldBoard(registration.getSessionId(), normalized);
+            if (claimed.equals(previous)) {
+                return normalized;
+            }
+            if (!allocator.claim(normalized)) {
+                throw new IllegalArgumentException("Board " + normalized + " is already taken in this session");
+            }
+            release(previous);
+            heldBoards.put(registration.getId(), claimed);
+            return normalized;
+        });
+    }
+
+    /**
+     * Rebuilds a session's allocator on next use, e.g. after a claimed board
+     * could not be saved.
+     * @param sessionId the session ID
+     */
+    synchronized void invalidate(Long sessionId) {
+        generation++;
+        if (allocators != null && sessionId != null) {
+            drop(sessionId);
+            staleSessions.add(sessionId);
+        }
+    }
+
+    /**
+     * Runs an action on a session's live allocator under this lock, first
+     * building the allocators or rebuilding the session if needed.
+     */
+    private <T> T withAllocator(Long sessionId, Function<BoardAllocator, T> action) {
+        while (true) {
+            long builtFrom;
+            boolean buildAll;
+            synchronized (this) {
+                if (subscription == null) {
+                    subscription = ChangeEventBus.getInstance().subscribe(this,
+                            EntityType.REGISTRATION, EntityType.SESSION);
+                }
+                if (allocators != null && !staleSessions.contains(sessionId)) {
+                    return action.apply(allocators.get(sessionId));
+                }
+                builtFrom = generation;
+                buildAll = allocators == null;
+            }
+            // Built without holding this lock: change events arrive under the repository lock
+            if (buildAll) {
+                buildAll(builtFrom);
+            } else {
+                rebuild(sessionId, builtFrom);
+            }
+        }
+    }
+
+    private void buildAll(long builtFrom) {
+        Map<Long, BoardAllocator> built = new HashMap<>();
+        Map<Long, String> schemes = new HashMap<>();
+        Map<Long, HeldBoard> held = new HashMap<>();
+        for (Session session : sessionRepository.findAll()) {
+            if (session.getType() == SessionType.POSTER) {
+                built.put(session.getId(), new BoardAllocator(schemeOf(session)));
+                schemes.put(session.getId(), session.getBoardScheme());
+            }
+        }
+        registrationRepository.forEach(registration -> claim(built, held, registration));
+
+        synchronized (this) {
+            if (generation == builtFrom) {
+                allocators = built;
+                boardSchemes.clear();
+                boardSchemes.putAll(schemes);
+                staleSessions.clear();
+                heldBoards.clear();
+                heldBoards.putAll(held);
+            }
+        }
+    }
+
+    private void rebuild(Long sessionId, long builtFrom) {
+        Session session = sessionRepository.findById(sessionId);
+        Map<Long, BoardAllocator> built = new HashMap<>();
+        Map<Long, HeldBoard> held = new HashMap<>();
+        if (session != null && session.getType() == SessionType.POSTER) {
+            built.put(sessionId, new BoardAllocator(schemeOf(session)));
+            registrationRepository.forEach(registration -> {
+                if (sessionId.equals(registration.getSessionId())) {
+                    claim(built, held, registration);
+                }
+            });
+        }
+
+        synchronized (this) {
+            if (generation == builtFrom && allocators != null) {
+                staleSessions.remove(sessionId);
+                if (!built.isEmpty()) {
+                    allocators.put(sessionId, built.get(sessionId));
+                    boardSchemes.put(sessionId, session.getBoardScheme());
+                    heldBoards.putAll(held);
+                }
+            }
+        }
+    }
+
+    private static void claim(Map<Long, BoardAllocator> allocators, Map<Long, HeldBoard> held,
+                              Registration registration) {
+        if (registration.getBoardId() == null || registration.getSessionId() == null
+                || registration.getStatus() == RegistrationStatus.CANCELLED
+                || registration.getStatus() == RegistrationStatus.REJECTED) {
+            return;
+        }
+        BoardAllocator allocator = allocators.get(registration.getSessionId());
+        if (allocator == null || !allocator.getScheme().isValid(registration.getBoardId())) {
+            return;
+        }
+        if (allocator.claim(registration.getBoardId())) {
+            held.put(registration.getId(), new HeldBoard(registration.getSessionId(), registration.getBoardId()));
+        }
+    }
+
+    private void release(HeldBoard held) {
+        if (held != null) {
+            BoardAllocator allocator = allocators.get(held.sessionId());
+            if (allocator != null) {
+                allocator.release(held.boardId());
+            }
+        }
+    }
+
+    /**
+     * Drops a session's allocator and the boards held in it.
+     */
+    private void drop(Long sessionId) {
+        allocators.remove(sessionId);
+        boardSchemes.remove(sessionId);
+        heldBoards.values().removeIf(held -> held.sessionId().equals(sessionId));
+    }
+
+    static BoardIdScheme schemeOf(Session session) {
+        try {
+            return BoardIdScheme.ofOrDefault(session.getBoardScheme());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid board scheme for session " + session.getId() + ": " + e.getMessage());
+            return BoardIdScheme.DEFAULT;
+        }
+    }
+
+    // ==================== Change Tracking ====================
+
+    @Override
+    public synchronized void onChanges(List<ChangeEvent> events) {
+        generation++;
+        if (allocators == null) {
+            return;
+        }
+        for (ChangeEvent event : events) {
+            if (event.getEntityType() == EntityType.SESSION) {
+                onSessionChange(event.getEntityId(), event.getEntity(Session.class));
+                continue;
+            }
+            release(heldBoards.remove(event.getEntityId()));
+            Registration registration = event.getEntity(Registration.class);
+            if (registration != null) {
+                claim(allocators, heldBoards, registration);
+            }
+        }
+    }
+
+    private void onSessionChange(Long sessionId, Session session) {
+        boolean poster = session != null && session.getType() == SessionType.POSTER;
+        boolean tracked = allocators.containsKey(sessionId) || staleSessions.contains(sessionId);
+        if (!poster && !tracked) {
+            return;
+        }
+        if (poster && allocators.containsKey(sessionId)
+                && Objects.equals(boardSchemes.get(sessionId), session.getBoardScheme())) {
+            // Same boards, e.g. only the registration count changed
+            return;
+        }
+        drop(sessionId);
+        if (poster) {
+            staleSessions.add(sessionId);
+        } else {
+            staleSessions.remove(sessionId);
+        }
+    }
+
+    /**
+     * Stops tracking changes and drops the allocators.
+     */
+    synchronized void close() {
+        if (subscription != null) {
+            subscription.cancel();
+            subscription = null;
+        }
+        allocators = null;
+        boardSchemes.clear();
+        staleSessions.clear();
+        heldBoards.clear();
+    }
+
+    /**
+     * The board a registration currently holds.
+     */
+    private record HeldBoard(Long sessionId, String boardId) {
+    }
+}
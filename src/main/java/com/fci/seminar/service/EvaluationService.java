@@ -2,9 +2,15 @@ package com.fci.seminar.service;
 
 import com.fci.seminar.model.Evaluation;
 import com.fci.seminar.repository.EvaluationRepository;
+import com.fci.seminar.repository.RegistrationRepository;
+import com.fci.seminar.repository.UserRepository;
+import com.fci.seminar.service.AssignmentOptimizer.Assignment;
+import com.fci.seminar.service.AssignmentOptimizer.Plan;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service for managing evaluations.
@@ -15,19 +21,33 @@ public class EvaluationService {
     private static EvaluationService instance;
     
     private final EvaluationRepository evaluationRepository;
+    private final RegistrationRepository registrationRepository;
+    private final UserRepository userRepository;
+    private final AssignmentOptimizer assignmentOptimizer = new AssignmentOptimizer();
     
     /**
      * Private constructor for singleton pattern.
      */
     private EvaluationService() {
-        this.evaluationRepository = new EvaluationRepository();
+        this(new EvaluationRepository(), new RegistrationRepository(), new UserRepository());
     }
     
     /**
      * Constructor for testing with custom repository.
      */
     public EvaluationService(EvaluationRepository evaluationRepository) {
+        this(evaluationRepository, new RegistrationRepository(), new UserRepository());
+    }
+    
+    /**
+     * Constructor for testing with custom repositories.
+     */
+    public EvaluationService(EvaluationRepository evaluationRepository,
+                             RegistrationRepository registrationRepository,
+                             UserRepository userRepository) {
         this.evaluationRepository = evaluationRepository;
+        this.registrationRepository = registrationRepository;
+        this.userRepository = userRepository;
     }
     
     /**
@@ -202,6 +222,7 @@ public class EvaluationService {
         evaluation.setSubmitted(true);
         evaluation.setSubmittedAt(LocalDateTime.now());
         
+        // The live award standings pick the submission up from the change event
         return evaluationRepository.save(evaluation);
     }
     
@@ -256,6 +277,48 @@ public class EvaluationService {
     }
 
     
+    // ==================== Automatic Assignment ====================
+    
+    /**
+     * Plans evaluator assignments for all approved registrations, balancing
+     * workload and matching expertise. Nothing is saved until the plan is applied.
+     * Requirements: 5.1
+     * @param evaluatorsPerRegistration the number of evaluators each registration needs
+     * @return the planned assignments
+     */
+    public Plan planAssignments(int evaluatorsPerRegistration) {
+        return assignmentOptimizer.optimize(
+                registrationRepository.findApproved(),
+                userRepository.findAllEvaluators(),
+                evaluationRepository.findAll(),
+                evaluatorsPerRegistration);
+    }
+    
+    /**
+     * Creates the evaluations of a plan with a single batch save.
+     * Pairs assigned in the meantime are skipped.
+     * Requirements: 5.1
+     * @param plan the plan from {@link #planAssignments(int)}
+     * @return the created evaluations
+     */
+    public List<Evaluation> applyAssignments(Plan plan) {
+        if (plan == null) {
+            throw new IllegalArgumentException("Plan cannot be null");
+        }
+        
+        List<Evaluation> evaluations = new ArrayList<>();
+        for (Assignment assignment : plan.assignments()) {
+            if (!evaluationRepository.existsByEvaluatorIdAndRegistrationId(
+                    assignment.evaluatorId(), assignment.registrationId())) {
+                Evaluation evaluation = new Evaluation();
+                evaluation.setEvaluatorId(assignment.evaluatorId());
+                evaluation.setRegistrationId(assignment.registrationId());
+                evaluations.add(evaluation);
+            }
+        }
+        return evaluationRepository.saveAll(evaluations);
+    }
+    
     // ==================== Score Calculations ====================
     
     /**
@@ -320,4 +383,82 @@ public class EvaluationService {
     public long countByRegistration(Long registrationId) {
         return evaluationRepository.countByRegistrationId(registrationId);
     }
+    
+    // ==================== Async Operations ====================
+    
+    /**
+     * Gets all evaluations without blocking the caller.
+     * @return future with the list of all evaluations
+     */
+    public CompletableFuture<List<Evaluation>> getAllEvaluationsAsync() {
+        return ServiceExecutor.getInstance().submitRead(this::getAllEvaluations);
+    }
+    
+    /**
+     * Gets evaluations assigned to an evaluator without blocking the caller.
+     * @param evaluatorId the evaluator ID
+     * @return future with the list of evaluations for the evaluator
+     */
+    public CompletableFuture<List<Evaluation>> getEvaluationsByEvaluatorAsync(Long evaluatorId) {
+        return ServiceExecutor.getInstance().submitRead(() -> getEvaluationsByEvaluator(evaluatorId));
+    }
+    
+    /**
+     * Saves an evaluation draft on the write lane.
+     * @param evaluation the evaluation to save
+     * @return future with the saved evaluation
+     */
+    public CompletableFuture<Evaluation> saveEvaluationAsync(Evaluation evaluation) {
+        return ServiceExecutor.getInstance().submitWrite(() -> saveEvaluation(evaluation));
+    }
+    
+    /**
+     * Submits an evaluation on the write lane.
+     * @param evaluationId the evaluation ID
+     * @return future with the submitted evaluation
+     */
+    public CompletableFuture<Evaluation> submitEvaluationAsync(Long evaluationId) {
+        return ServiceExecutor.getInstance().submitWrite(() -> submitEvaluation(evaluationId));
+    }
+    
+    /**
+     * Assigns an evaluator to a presentation on the write lane.
+     * @param evaluatorId the evaluator ID
+     * @param registrationId the registration ID
+     * @return future with the created evaluation assignment
+     */
+    public CompletableFuture<Evaluation> assignEvaluatorAsync(Long evaluatorId, Long registrationId) {
+        return ServiceExecutor.getInstance().submitWrite(() -> assignEvaluator(evaluatorId, registrationId));
+    }
+    
+    /**
+     * Removes an evaluator assignment on the write lane.
+     * @param evaluatorId the evaluator ID
+     * @param registrationId the registration ID
+     * @return future that completes when the assignment is removed
+     */
+    public CompletableFuture<Void> removeAssignmentAsync(Long evaluatorId, Long registrationId) {
+        return ServiceExecutor.getInstance().submitWrite(() -> {
+            removeAssignment(evaluatorId, registrationId);
+            return null;
+        });
+    }
+    
+    /**
+     * Plans evaluator assignments without blocking the caller.
+     * @param evaluatorsPerRegistration the number of evaluators each registration needs
+     * @return future with the planned assignments
+     */
+    public CompletableFuture<Plan> planAssignmentsAsync(int evaluatorsPerRegistration) {
+        return ServiceExecutor.getInstance().submitRead(() -> planAssignments(evaluatorsPerRegistration));
+    }
+    
+    /**
+     * Applies a plan of assignments on the write lane.
+     * @param plan the plan to apply
+     * @return future with the created evaluations
+     */
+    public CompletableFuture<List<Evaluation>> applyAssignmentsAsync(Plan plan) {
+        return ServiceExecutor.getInstance().submitWrite(() -> applyAssignments(plan));
+    }
 }
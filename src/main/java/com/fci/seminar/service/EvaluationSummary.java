@@ -0,0 +1,128 @@
+package com.fci.seminar.service;
+
+import com.fci.seminar.model.Evaluation;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Evaluation summary report. Averages cover submitted evaluations only.
+ * Requirements: 9.2
+ */
+public record EvaluationSummary(
+        int totalEvaluations,
+        int submittedCount,
+        int pendingCount,
+        double averageTotalScore,
+        double averageProblemClarity,
+        double averageMethodology,
+        double averageResults,
+        double averagePresentationQuality,
+        int[] scoreDistribution) {
+
+    public EvaluationSummary {
+        scoreDistribution = scoreDistribution.clone();
+    }
+
+    /**
+     * Gets the number of submitted evaluations per score bucket.
+     * @return a copy of the distribution
+     */
+    @Override
+    public int[] scoreDistribution() {
+        return scoreDistribution.clone();
+    }
+
+    // The generated methods would compare the distribution by identity
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EvaluationSummary other)) return false;
+        return totalEvaluations == other.totalEvaluations
+                && submittedCount == other.submittedCount
+                && pendingCount == other.pendingCount
+                && Double.compare(averageTotalScore, other.averageTotalScore) == 0
+                && Double.compare(averageProblemClarity, other.averageProblemClarity) == 0
+                && Double.compare(averageMethodology, other.averageMethodology) == 0
+                && Double.compare(averageResults, other.averageResults) == 0
+                && Double.compare(averagePresentationQuality, other.averagePresentationQuality) == 0
+                && Arrays.equals(scoreDistribution, other.scoreDistribution);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(totalEvaluations, submittedCount, pendingCount, averageTotalScore,
+                averageProblemClarity, averageMethodology, averageResults, averagePresentationQuality);
+        return 31 * result + Arrays.hashCode(scoreDistribution);
+    }
+
+    @Override
+    public String toString() {
+        return "EvaluationSummary[totalEvaluations=" + totalEvaluations
+                + ", submittedCount=" + submittedCount
+                + ", pendingCount=" + pendingCount
+                + ", averageTotalScore=" + averageTotalScore
+                + ", averageProblemClarity=" + averageProblemClarity
+                + ", averageMethodology=" + averageMethodology
+                + ", averageResults=" + averageResults
+                + ", averagePresentationQuality=" + averagePresentationQuality
+                + ", scoreDistribution=" + Arrays.toString(scoreDistribution) + "]";
+    }
+
+    /**
+     * Single-pass accumulator for the evaluation summary.
+     */
+    static final class Accumulator implements ReportAggregator.Accumulator<Evaluation, Accumulator> {
+        private int total;
+        private int submitted;
+        private long sumClarity;
+        private long sumMethodology;
+        private long sumResults;
+        private long sumPresentation;
+        private final int[] distribution = new int[5];
+
+        @Override
+        public void accept(Evaluation evaluation) {
+            total++;
+            if (!evaluation.isSubmitted()) {
+                return;
+            }
+            submitted++;
+            sumClarity += evaluation.getProblemClarity();
+            sumMethodology += evaluation.getMethodology();
+            sumResults += evaluation.getResults();
+            sumPresentation += evaluation.getPresentationQuality();
+
+            int score = evaluation.getTotalScore();
+            if (score <= 20) distribution[0]++;
+            else if (score <= 40) distribution[1]++;
+            else if (score <= 60) distribution[2]++;
+            else if (score <= 80) distribution[3]++;
+            else distribution[4]++;
+        }
+
+        @Override
+        public void combine(Accumulator other) {
+            total += other.total;
+            submitted += other.submitted;
+            sumClarity += other.sumClarity;
+            sumMethodology += other.sumMethodology;
+            sumResults += other.sumResults;
+            sumPresentation += other.sumPresentation;
+            for (int i = 0; i < distribution.length; i++) {
+                distribution[i] += other.distribution[i];
+            }
+        }
+
+        EvaluationSummary toResult() {
+            long sumTotal = sumClarity + sumMethodology + sumResults + sumPresentation;
+            return new EvaluationSummary(total, submitted, total - submitted,
+                    average(sumTotal), average(sumClarity), average(sumMethodology),
+                    average(sumResults), average(sumPresentation), distribution);
+        }
+
+        private double average(long sum) {
+            return submitted == 0 ? 0.0 : (double) sum / submitted;
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.fci.seminar.service;
+
+import com.fci.seminar.model.Award;
+import com.fci.seminar.model.Evaluation;
+import com.fci.seminar.model.Registration;
+import com.fci.seminar.model.enums.AwardType;
+import com.fci.seminar.model.enums.RegistrationStatus;
+import com.fci.seminar.model.enums.SessionType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Incrementally maintained award standings.
+ * Keeps a running score aggregate per registration and, for each award type,
+ * a ranking ordered by average score so current winners can be read without
+ * rescanning evaluations.
+ * Requirements: 8.2, 8.3, 8.4
+ */
+public class Leaderboard {
+
+    // Highest average first, then by registration ID for a stable order
+    private static final Comparator<Standing> RANKING_ORDER = Comparator
+            .comparingDouble(Standing::getAverageScore).reversed()
+            .thenComparing(Standing::getRegistrationId);
+
+    private final Map<Long, ScoreStats> statsByRegistration = new HashMap<>();
+    private final Map<Long, SessionType> eligibleRegistrations = new HashMap<>();
+    private final Map<Long, Standing> currentStandings = new HashMap<>();
+    private final Map<AwardType, TreeSet<Standing>> rankings = new EnumMap<>(AwardType.class);
+    private final Set<Long> countedEvaluations = new HashSet<>();
+
+    /**
+     * Creates an empty leaderboard.
+     */
+    public Leaderboard() {
+        for (AwardType type : AwardType.values()) {
+            rankings.put(type, new TreeSet<>(RANKING_ORDER));
+        }
+    }
+
+    // ==================== Updates ====================
+
+    /**
+     * Rebuilds all standings from scratch.
+     * @param registrations all registrations; only approved ones are ranked
+     * @param evaluations all evaluations; only submitted ones are counted
+     */
+    public synchronized void rebuild(List<Registration> registrations, List<Evaluation> evaluations) {
+        statsByRegistration.clear();
+        eligibleRegistrations.clear();
+        currentStandings.clear();
+        countedEvaluations.clear();
+        for (TreeSet<Standing> ranking : rankings.values()) {
+            ranking.clear();
+        }
+
+        for (Evaluation evaluation : evaluations) {
+            if (evaluation.isSubmitted() && evaluation.getRegistrationId() != null
+                    && countedEvaluations.add(evaluation.getId())) {
+                statsByRegistration
+                        .computeIfAbsent(evaluation.getRegistrationId(), k -> new ScoreStats())
+                        .add(evaluation.getTotalScore());
+            }
+        }
+        for (Registration registration : registrations) {
+            updateRegistration(registration);
+        }
+    }
+
+    /**
+     * Records a submitted evaluation. Evaluations already counted are ignored.
+     * @param evaluation the submitted evaluation
+     */
+    public synchronized void recordSubmission(Evaluation evaluation) {
+        if (evaluation == null || !evaluation.isSubmitted() || evaluation.getRegistrationId() == null) {
+            return;
+        }
+        if (evaluation.getId() != null && !countedEvaluations.add(evaluation.getId())) {
+            return;
+        }
+
+        Long registrationId = evaluation.getRegistrationId();
+        statsByRegistration.computeIfAbsent(registrationId, k -> new ScoreStats())
+                .add(evaluation.getTotalScore());
+        reposition(registrationId);
+    }
+
+    /**
+     * Updates whether a registration competes, e.g. after approval or cancellation.
+     * @param registration the registration after the change
+     */
+    public synchronized void updateRegistration(Registration registration) {
+        if (registration == null || registration.getId() == null) {
+            return;
+        }
+        if (registration.getStatus() == RegistrationStatus.APPROVED) {
+            eligibleRegistrations.put(registration.getId(), registration.getPresentationType());
+        } else {
+            eligibleRegistrations.remove(registration.getId());
+        }
+        reposition(registration.getId());
+    }
+
+    /**
+     * Removes a deleted registration and its scores.
+     * @param registrationId the registration ID
+     */
+    public synchronized void removeRegistration(Long registrationId) {
+        eligibleRegistrations.remove(registrationId);
+        statsByRegistration.remove(registrationId);
+        reposition(registrationId);
+    }
+
+    private void reposition(Long registrationId) {
+        Standing previous = currentStandings.remove(registrationId);
+        if (previous != null) {
+            for (TreeSet<Standing> ranking : rankings.values()) {
+                ranking.remove(previous);
+            }
+        }
+
+        ScoreStats stats = statsByRegistration.get(registrationId);
+        boolean eligible = eligibleRegistrations.containsKey(registrationId);
+        // Only include those with evaluations
+        if (!eligible || stats == null || stats.getMean() <= 0) {
+            return;
+        }
+
+        Standing standing = new Standing(registrationId, stats.getMean(), stats.getCount());
+        currentStandings.put(registrationId, standing);
+        rankings.get(AwardType.PEOPLES_CHOICE).add(standing);
+
+        SessionType type = eligibleRegistrations.get(registrationId);
+        if (type == SessionType.ORAL) {
+            rankings.get(AwardType.BEST_ORAL).add(standing);
+        } else if (type == SessionType.POSTER) {
+            rankings.get(AwardType.BEST_POSTER).add(standing);
+        }
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Gets the current winners for an award, including ties.
+     * Runs in O(k) for k tied winners.
+     * @param type the award type
+     * @return list of awards (empty if nobody qualifies)
+     */
+    public synchronized List<Award> getWinners(AwardType type) {
+        List<Award> awards = new ArrayList<>();
+        TreeSet<Standing> ranking = rankings.get(type);
+        if (ranking.isEmpty()) {
+            return awards;
+        }
+
+        double highestScore = ranking.first().getAverageScore();
+        LocalDateTime now = LocalDateTime.now();
+        for (Standing standing : ranking) {
+            if (standing.getAverageScore() != highestScore) {
+                break; // No more ties
+            }
+            Award award = new Award();
+            award.setType(type);
+            award.setRegistrationId(standing.getRegistrationId());
+            award.setScore(highestScore);
+            award.setAwardedAt(now);
+            awards.add(award);
+        }
+        return awards;
+    }
+
+    /**
+     * Gets the top standings for an award.
+     * @param type the award type
+     * @param limit the maximum number of standings
+     * @return standings ordered from highest to lowest average score
+     */
+    public synchronized List<Standing> getTop(AwardType type, int limit) {
+        List<Standing> top = new ArrayList<>();
+        for (Standing standing : rankings.get(type)) {
+            if (top.size() >= limit) {
+                break;
+            }
+            top.add(standing);
+        }
+        return top;
+    }
+
+    /**
+     * Checks if an evaluation has been counted in the standings.
+     * @param evaluationId the evaluation ID
+     * @return true if counted
+     */
+    public synchronized boolean isCounted(Long evaluationId) {
+        return countedEvaluations.contains(evaluationId);
+    }
+
+    /**
+     * Gets a copy of the score statistics for a registration.
+     * @param registrationId the registration ID
+     * @return the statistics, or null if no evaluations were submitted
+     */
+    public synchronized ScoreStats getStats(Long registrationId) {
+        ScoreStats stats = statsByRegistration.get(registrationId);
+        return stats != null ? stats.copy() : null;
+    }
+
+    // ==================== Helper Classes ====================
+
+    /**
+     * Running score aggregate using Welford's algorithm for the variance.
+     */
+    public static class ScoreStats {
+        private long count;
+        private long sum;
+        private double mean;
+        private double m2;
+
+        /**
+         * Adds a score to the aggregate.
+         * @param score the total score
+         */
+        public void add(int score) {
+            count++;
+            sum += score;
+            double delta = score - mean;
+            mean += delta / count;
+            m2 += delta * (score - mean);
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getSum() {
+            return sum;
+        }
+
+        public double getMean() {
+            // Derived from the exact sum so it matches a full recomputation
+            return count == 0 ? 0.0 : (double) sum / count;
+        }
+
+        /**
+         * Gets the sample variance of the scores.
+         * @return the variance, or 0 with fewer than two scores
+         */
+        public double getVariance() {
+            return count < 2 ? 0.0 : m2 / (count - 1);
+        }
+
+        public double getStandardDeviation() {
+            return Math.sqrt(getVariance());
+        }
+
+        ScoreStats copy() {
+            ScoreStats copy = new ScoreStats();
+            copy.count = count;
+            copy.sum = sum;
+            copy.mean = mean;
+            copy.m2 = m2;
+            return copy;
+        }
+    }
+
+    /**
+     * A registration's position in the rankings. Immutable so it can be
+     * removed and re-inserted when the score changes.
+     */
+    public static class Standing {
+        private final Long registrationId;
+        private final double averageScore;
+        private final long evaluationCount;
+
+        Standing(Long registrationId, double averageScore, long evaluationCount) {
+            this.registrationId = registrationId;
+            this.averageScore = averageScore;
+            this.evaluationCount = evaluationCount;
+        }
+
+        public Long getRegistrationId() {
+            return registrationId;
+        }
+
+        public double getAverageScore() {
+            return averageScore;
+        }
+
+        public long getEvaluationCount() {
+            return evaluationCount;
+        }
+    }
+}
@@ -3,11 +3,22 @@ package com.fci.seminar.service;
 import com.fci.seminar.model.Registration;
 import com.fci.seminar.model.Session;
 import com.fci.seminar.model.enums.RegistrationStatus;
+import com.fci.seminar.model.enums.SessionType;
 import com.fci.seminar.repository.RegistrationRepository;
 import com.fci.seminar.repository.SessionRepository;
+import com.fci.seminar.service.SessionScheduler.Plan;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 
 /**
  * Service for managing student registrations.
@@ -19,6 +30,8 @@ public class RegistrationService {
     
     private final RegistrationRepository registrationRepository;
     private final SessionRepository sessionRepository;
+    private final SessionScheduler sessionScheduler = new SessionScheduler();
+    private final BoardOccupancy boardOccupancy;
     
     /**
      * Private constructor for singleton pattern.
@@ -26,6 +39,7 @@ public class RegistrationService {
     private RegistrationService() {
         this.registrationRepository = new RegistrationRepository();
         this.sessionRepository = new SessionRepository();
+        this.boardOccupancy = new BoardOccupancy(registrationRepository, sessionRepository);
     }
     
     /**
@@ -35,6 +49,7 @@ public class RegistrationService {
                                SessionRepository sessionRepository) {
         this.registrationRepository = registrationRepository;
         this.sessionRepository = sessionRepository;
+        this.boardOccupancy = new BoardOccupancy(registrationRepository, sessionRepository);
     }
     
     /**
@@ -286,6 +301,95 @@ public class RegistrationService {
         return registrationRepository.save(registration);
     }
 
+    // ==================== Batch Status Management ====================
+    
+    /**
+     * Approves many registrations in one write.
+     * All IDs are checked before anything changes.
+     * @param registrationIds the registration IDs
+     * @return the registrations that were not already approved
+     * @throws IllegalArgumentException if any registration is not found
+     */
+    public List<Registration> approveRegistrations(Collection<Long> registrationIds) {
+        return changeStatuses(registrationIds, RegistrationStatus.APPROVED);
+    }
+    
+    /**
+     * Rejects many registrations in one write.
+     * All IDs are checked before anything changes.
+     * @param registrationIds the registration IDs
+     * @return the registrations that were not already rejected
+     * @throws IllegalArgumentException if any registration is not found
+     */
+    public List<Registration> rejectRegistrations(Collection<Long> registrationIds) {
+        return changeStatuses(registrationIds, RegistrationStatus.REJECTED);
+    }
+    
+    /**
+     * Cancels many registrations in one write, removing them from their sessions.
+     * All IDs are checked before anything changes.
+     * @param registrationIds the registration IDs
+     * @return the registrations that were not already cancelled
+     * @throws IllegalArgumentException if any registration is not found
+     */
+    public List<Registration> cancelRegistrations(Collection<Long> registrationIds) {
+        return changeStatuses(registrationIds, RegistrationStatus.CANCELLED);
+    }
+    
+    /**
+     * Approves every registration matching a filter, e.g. all pending oral presentations.
+     * @param criteria selects the registrations
+     * @return the registrations that were not already approved
+     */
+    public List<Registration> approveRegistrationsWhere(Predicate<? super Registration> criteria) {
+        return changeStatusesWhere(criteria, RegistrationStatus.APPROVED);
+    }
+    
+    /**
+     * Rejects every registration matching a filter.
+     * @param criteria selects the registrations
+     * @return the registrations that were not already rejected
+     */
+    public List<Registration> rejectRegistrationsWhere(Predicate<? super Registration> criteria) {
+        return changeStatusesWhere(criteria, RegistrationStatus.REJECTED);
+    }
+    
+    /**
+     * Cancels every registration matching a filter.
+     * @param criteria selects the registrations
+     * @return the registrations that were not already cancelled
+     */
+    public List<Registration> cancelRegistrationsWhere(Predicate<? super Registration> criteria) {
+        return changeStatusesWhere(criteria, RegistrationStatus.CANCELLED);
+    }
+    
+    /**
+     * Approves all pending registrations.
+     * @return the approved registrations
+     */
+    public List<Registration> approveAllPending() {
+        return approveRegistrationsWhere(r -> r.getStatus() == RegistrationStatus.PENDING);
+    }
+    
+    private List<Registration> changeStatuses(Collection<Long> registrationIds, RegistrationStatus status) {
+        if (registrationIds == null) {
+            throw new IllegalArgumentException("Registration IDs cannot be null");
+        }
+        for (Long registrationId : registrationIds) {
+            if (registrationId == null) {
+                throw new IllegalArgumentException("Registration ID cannot be null");
+            }
+        }
+        return registrationRepository.updateStatuses(registrationIds, status);
+    }
+    
+    private List<Registration> changeStatusesWhere(Predicate<? super Registration> criteria, RegistrationStatus status) {
+        if (criteria == null) {
+            throw new IllegalArgumentException("Criteria cannot be null");
+        }
+        return registrationRepository.updateStatusesWhere(criteria, status);
+    }
+
     
     // ==================== Session Assignment ====================
     
@@ -367,6 +471,32 @@ public class RegistrationService {
         return registration;
     }
     
+    // ==================== Automatic Scheduling ====================
+    
+    /**
+     * Plans sessions for all approved registrations without one.
+     * Nothing is saved; the plan can be previewed and then applied.
+     * @return the planned placements
+     */
+    public Plan planSchedule() {
+        return sessionScheduler.schedule(registrationRepository.findUnassigned(),
+            sessionRepository.findAll(), registrationRepository.findAll());
+    }
+    
+    /**
+     * Applies a schedule in a single write. Either every placement is made or,
+     * if the data changed since the plan was made, none is.
+     * @param plan the plan from {@link #planSchedule()}
+     * @return the assigned registrations
+     * @throws IllegalArgumentException if the plan is out of date
+     */
+    public List<Registration> applySchedule(Plan plan) {
+        if (plan == null) {
+            throw new IllegalArgumentException("Plan cannot be null");
+        }
+        return registrationRepository.assignAllToSessions(plan.sessionByRegistration());
+    }
+    
     // ==================== File Management ====================
     
     /**
@@ -379,12 +509,17 @@ public class RegistrationService {
         return registrationRepository.updateFilePath(registrationId, filePath);
     }
     
+    // ==================== Board Allocation ====================
+    
     /**
      * Assigns a board ID to a poster presentation.
+     * When the registration has a session, the ID must follow the session's
+     * board scheme and the board must not be taken by another poster.
      * @param registrationId the registration ID
-     * @param boardId the board ID (e.g., "B01", "B02")
+     * @param boardId the board ID (e.g., "B01", "B02"), or null to clear it
      * @return the updated registration
-     * @throws IllegalArgumentException if registration is not a poster type
+     * @throws IllegalArgumentException if registration is not a poster type,
+     *         the ID is invalid or the board is taken
      */
     public Registration assignBoardId(Long registrationId, String boardId) {
         if (registrationId == null) {
@@ -397,11 +532,117 @@ public class RegistrationService {
         }
         
         // Only poster presentations can have board IDs
-        if (registration.getPresentationType() != com.fci.seminar.model.enums.SessionType.POSTER) {
+        if (registration.getPresentationType() != SessionType.POSTER) {
             throw new IllegalArgumentException("Board ID can only be assigned to poster presentations");
         }
+        if (boardId == null) {
+            return registrationRepository.updateBoardId(registrationId, null);
+        }
         
-        return registrationRepository.updateBoardId(registrationId, boardId);
+        String normalized = boardOccupancy.claimBoard(registration, boardId);
+        try {
+            return registrationRepository.updateBoardId(registrationId, normalized);
+        } catch (RuntimeException e) {
+            boardOccupancy.invalidate(registration.getSessionId());
+            throw e;
+        }
+    }
+    
+    /**
+     * Gets the board allocator of a poster session, reflecting the boards
+     * taken so far. The allocator is a copy; changing it saves nothing.
+     * @param sessionId the session ID
+     * @return the allocator
+     * @throws IllegalArgumentException if the session is not a poster session
+     */
+    public BoardAllocator getBoardAllocator(Long sessionId) {
+        BoardAllocator allocator = sessionId != null ? boardOccupancy.forSession(sessionId) : null;
+        if (allocator == null) {
+            throw new IllegalArgumentException("Not a poster session: " + sessionId);
+        }
+        return allocator;
+    }
+    
+    /**
+     * Allocates boards to every poster in a session that does not have a valid one yet.
+     * All boards are saved in a single write.
+     * @param sessionId the poster session ID
+     * @param groupByTopic true to give posters on the same topic neighbouring boards
+     * @return the registrations that received a board
+     * @throws IllegalArgumentException if the session is not a poster session
+     *         or does not have enough free boards
+     */
+    public List<Registration> autoAllocateBoards(Long sessionId, boolean groupByTopic) {
+        BoardAllocator allocator = getBoardAllocator(sessionId);
+        
+        List<Registration> unboarded = new ArrayList<>();
+        for (Registration registration : registrationRepository.findBySessionId(sessionId)) {
+            boolean active = registration.getStatus() != RegistrationStatus.CANCELLED
+                && registration.getStatus() != RegistrationStatus.REJECTED;
+            if (active && !allocator.getScheme().isValid(registration.getBoardId())) {
+                unboarded.add(registration);
+            }
+        }
+        if (unboarded.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (unboarded.size() > allocator.getFreeCount()) {
+            throw new IllegalArgumentException(String.format(
+                "%d posters need a board but only %d boards are free", unboarded.size(), allocator.getFreeCount()));
+        }
+        
+        if (groupByTopic) {
+            sortByTopic(unboarded);
+        } else {
+            unboarded.sort(Comparator.comparing(Registration::getId));
+        }
+        Map<Long, String> boardByRegistration = new LinkedHashMap<>();
+        for (Registration registration : unboarded) {
+            boardByRegistration.put(registration.getId(), allocator.allocate());
+        }
+        return registrationRepository.updateBoardIds(boardByRegistration);
+    }
+    
+    /**
+     * Orders posters so those sharing a topic are next to each other.
+     * A poster's topic is the keyword of its title that the most posters share,
+     * ignoring keywords common to more than half of them, which do not tell topics apart.
+     */
+    private void sortByTopic(List<Registration> posters) {
+        Map<Long, Set<String>> keywordsById = new HashMap<>();
+        Map<String, Integer> postersByKeyword = new HashMap<>();
+        for (Registration poster : posters) {
+            Set<String> keywords = AssignmentOptimizer.keywords(poster.getResearchTitle());
+            keywordsById.put(poster.getId(), keywords);
+            for (String keyword : keywords) {
+                postersByKeyword.merge(keyword, 1, Integer::sum);
+            }
+        }
+        
+        int maxShared = posters.size() > 2 ? posters.size() / 2 : posters.size();
+        Map<Long, String> topicById = new HashMap<>();
+        for (Registration poster : posters) {
+            String topic = "";
+            int topicCount = 0;
+            for (String keyword : keywordsById.get(poster.getId())) {
+                int count = postersByKeyword.get(keyword);
+                if (count > maxShared) {
+                    continue;
+                }
+                if (count > topicCount || (count == topicCount && keyword.compareTo(topic) < 0)) {
+                    topic = keyword;
+                    topicCount = count;
+                }
+            }
+            // Keywords no other poster shares do not form a group
+            topicById.put(poster.getId(), topicCount > 1 ? topic : "");
+        }
+        
+        posters.sort(Comparator
+            .comparing((Registration r) -> topicById.get(r.getId()).isEmpty())
+            .thenComparing(r -> -postersByKeyword.getOrDefault(topicById.get(r.getId()), 0))
+            .thenComparing(r -> topicById.get(r.getId()))
+            .thenComparing(Registration::getId));
     }
     
     // ==================== Statistics ====================
@@ -431,4 +672,152 @@ public class RegistrationService {
     public boolean hasStudentRegistered(Long studentId) {
         return registrationRepository.existsByStudentId(studentId);
     }
+    
+    // ==================== Async Operations ====================
+    
+    /**
+     * Gets all registrations without blocking the caller.
+     * @return future with the list of all registrations
+     */
+    public CompletableFuture<List<Registration>> getAllRegistrationsAsync() {
+        return ServiceExecutor.getInstance().submitRead(this::getAllRegistrations);
+    }
+    
+    /**
+     * Gets registrations by student ID without blocking the caller.
+     * @param studentId the student ID
+     * @return future with the list of registrations for the student
+     */
+    public CompletableFuture<List<Registration>> getRegistrationsByStudentAsync(Long studentId) {
+        return ServiceExecutor.getInstance().submitRead(() -> getRegistrationsByStudent(studentId));
+    }
+    
+    /**
+     * Gets registrations by status without blocking the caller.
+     * @param status the registration status
+     * @return future with the list of registrations with the status
+     */
+    public CompletableFuture<List<Registration>> getRegistrationsByStatusAsync(RegistrationStatus status) {
+        return ServiceExecutor.getInstance().submitRead(() -> getRegistrationsByStatus(status));
+    }
+    
+    /**
+     * Registers a student on the write lane.
+     * @param registration the registration to create
+     * @return future with the created registration
+     */
+    public CompletableFuture<Registration> registerAsync(Registration registration) {
+        return ServiceExecutor.getInstance().submitWrite(() -> register(registration));
+    }
+    
+    /**
+     * Approves a registration on the write lane.
+     * @param registrationId the registration ID
+     * @return future with the updated registration
+     */
+    public CompletableFuture<Registration> approveRegistrationAsync(Long registrationId) {
+        return ServiceExecutor.getInstance().submitWrite(() -> approveRegistration(registrationId));
+    }
+    
+    /**
+     * Rejects a registration on the write lane.
+     * @param registrationId the registration ID
+     * @return future with the updated registration
+     */
+    public CompletableFuture<Registration> rejectRegistrationAsync(Long registrationId) {
+        return ServiceExecutor.getInstance().submitWrite(() -> rejectRegistration(registrationId));
+    }
+    
+    /**
+     * Cancels a registration on the write lane.
+     * @param registrationId the registration ID
+     * @return future with the updated registration
+     */
+    public CompletableFuture<Registration> cancelRegistrationAsync(Long registrationId) {
+        return ServiceExecutor.getInstance().submitWrite(() -> cancelRegistration(registrationId));
+    }
+    
+    /**
+     * Approves many registrations on the write lane.
+     * @param registrationIds the registration IDs
+     * @return future with the registrations that changed
+     */
+    public CompletableFuture<List<Registration>> approveRegistrationsAsync(Collection<Long> registrationIds) {
+        return ServiceExecutor.getInstance().submitWrite(() -> approveRegistrations(registrationIds));
+    }
+    
+    /**
+     * Rejects many registrations on the write lane.
+     * @param registrationIds the registration IDs
+     * @return future with the registrations that changed
+     */
+    public CompletableFuture<List<Registration>> rejectRegistrationsAsync(Collection<Long> registrationIds) {
+        return ServiceExecutor.getInstance().submitWrite(() -> rejectRegistrations(registrationIds));
+    }
+    
+    /**
+     * Cancels many registrations on the write lane.
+     * @param registrationIds the registration IDs
+     * @return future with the registrations that changed
+     */
+    public CompletableFuture<List<Registration>> cancelRegistrationsAsync(Collection<Long> registrationIds) {
+        return ServiceExecutor.getInstance().submitWrite(() -> cancelRegistrations(registrationIds));
+    }
+    
+    /**
+     * Approves all pending registrations on the write lane.
+     * @return future with the approved registrations
+     */
+    public CompletableFuture<List<Registration>> approveAllPendingAsync() {
+        return ServiceExecutor.getInstance().submitWrite(this::approveAllPending);
+    }
+    
+    /**
+     * Assigns a registration to a session on the write lane.
+     * @param registrationId the registration ID
+     * @param sessionId the session ID
+     * @return future with the updated registration
+     */
+    public CompletableFuture<Registration> assignToSessionAsync(Long registrationId, Long sessionId) {
+        return ServiceExecutor.getInstance().submitWrite(() -> assignToSession(registrationId, sessionId));
+    }
+    
+    /**
+     * Plans sessions for all unassigned registrations in the background.
+     * @return future with the plan
+     */
+    public CompletableFuture<Plan> planScheduleAsync() {
+        return ServiceExecutor.getInstance().submitRead(this::planSchedule);
+    }
+    
+    /**
+     * Applies a schedule on the write lane.
+     * @param plan the plan to apply
+     * @return future with the assigned registrations
+     */
+    public CompletableFuture<List<Registration>> applyScheduleAsync(Plan plan) {
+        return ServiceExecutor.getInstance().submitWrite(() -> applySchedule(plan));
+    }
+    
+    /**
+     * Allocates boards to the posters of a session on the write lane.
+     * @param sessionId the poster session ID
+     * @param groupByTopic true to give posters on the same topic neighbouring boards
+     * @return future with the registrations that received a board
+     */
+    public CompletableFuture<List<Registration>> autoAllocateBoardsAsync(Long sessionId, boolean groupByTopic) {
+        return ServiceExecutor.getInstance().submitWrite(() -> autoAllocateBoards(sessionId, groupByTopic));
+    }
+    
+    /**
+     * Registers a student and assigns the new registration to a session.
+     * The assignment only runs if the registration succeeds.
+     * @param registration the registration to create
+     * @param sessionId the session ID
+     * @return future with the assigned registration
+     */
+    public CompletableFuture<Registration> registerAndAssignAsync(Registration registration, Long sessionId) {
+        return registerAsync(registration)
+                .thenCompose(saved -> assignToSessionAsync(saved.getId(), sessionId));
+    }
 }
@@ -0,0 +1,69 @@
+package com.fci.seminar.service;
+
+import com.fci.seminar.model.Registration;
+import com.fci.seminar.model.enums.RegistrationStatus;
+import com.fci.seminar.model.enums.SessionType;
+
+/**
+ * Registration statistics report.
+ * Requirements: 9.1
+ */
+public record RegistrationStatistics(
+        int totalRegistrations,
+        int pendingCount,
+        int approvedCount,
+        int rejectedCount,
+        int cancelledCount,
+        int oralCount,
+        int posterCount,
+        int assignedCount,
+        int unassignedCount) {
+
+    /**
+     * Single-pass accumulator for registration statistics.
+     */
+    static final class Accumulator implements ReportAggregator.Accumulator<Registration, Accumulator> {
+        private int total;
+        // Indexed by RegistrationStatus ordinal
+        private final int[] byStatus = new int[RegistrationStatus.values().length];
+        private int oral;
+        private int poster;
+        private int assigned;
+
+        @Override
+        public void accept(Registration registration) {
+            total++;
+            if (registration.getStatus() != null) {
+                byStatus[registration.getStatus().ordinal()]++;
+            }
+            if (registration.getPresentationType() == SessionType.ORAL) {
+                oral++;
+            } else if (registration.getPresentationType() == SessionType.POSTER) {
+                poster++;
+            }
+            if (registration.getSessionId() != null) {
+                assigned++;
+            }
+        }
+
+        @Override
+        public void combine(Accumulator other) {
+            total += other.total;
+            for (int i = 0; i < byStatus.length; i++) {
+                byStatus[i] += other.byStatus[i];
+            }
+            oral += other.oral;
+            poster += other.poster;
+            assigned += other.assigned;
+        }
+
+        RegistrationStatistics toResult() {
+            return new RegistrationStatistics(total,
+                    byStatus[RegistrationStatus.PENDING.ordinal()],
+                    byStatus[RegistrationStatus.APPROVED.ordinal()],
+                    byStatus[RegistrationStatus.REJECTED.ordinal()],
+                    byStatus[RegistrationStatus.CANCELLED.ordinal()],
+                    oral, poster, assigned, total - assigned);
+        }
+    }
+}
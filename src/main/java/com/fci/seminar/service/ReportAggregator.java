@@ -0,0 +1,108 @@
+package com.fci.seminar.service;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Runs a report accumulator over a list in a single pass, either sequentially
+ * or split across the common fork-join pool for large data sets.
+ */
+public final class ReportAggregator {
+
+    /**
+     * Lists at least this long are aggregated in parallel by default.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 50_000;
+
+    // Smallest slice a fork-join task processes without splitting further
+    private static final int MIN_SLICE = 8_192;
+
+    private ReportAggregator() {
+    }
+
+    /**
+     * A mutable, primitive-backed accumulator for one report.
+     * @param <T> the item type
+     * @param <A> the accumulator type itself
+     */
+    public interface Accumulator<T, A extends Accumulator<T, A>> {
+        /**
+         * Adds one item.
+         */
+        void accept(T item);
+
+        /**
+         * Merges the counts of another accumulator that saw the items after this one.
+         */
+        void combine(A other);
+    }
+
+    /**
+     * Aggregates a list sequentially.
+     * @param items the items
+     * @param supplier creates an empty accumulator
+     * @return the filled accumulator
+     */
+    public static <T, A extends Accumulator<T, A>> A aggregate(List<T> items, Supplier<A> supplier) {
+        return aggregate(items, supplier, false);
+    }
+
+    /**
+     * Aggregates a list, optionally splitting the work across the fork-join pool.
+     * Items are always combined in list order.
+     * @param items the items
+     * @param supplier creates an empty accumulator
+     * @param parallel true to use the fork-join pool
+     * @return the filled accumulator
+     */
+    public static <T, A extends Accumulator<T, A>> A aggregate(List<T> items, Supplier<A> supplier,
+                                                              boolean parallel) {
+        if (!parallel || items.size() < MIN_SLICE * 2) {
+            return accumulateRange(items, 0, items.size(), supplier);
+        }
+        return ForkJoinPool.commonPool().invoke(new AggregateTask<>(items, 0, items.size(), supplier));
+    }
+
+    private static <T, A extends Accumulator<T, A>> A accumulateRange(List<T> items, int from, int to,
+                                                                     Supplier<A> supplier) {
+        A accumulator = supplier.get();
+        for (int i = from; i < to; i++) {
+            accumulator.accept(items.get(i));
+        }
+        return accumulator;
+    }
+
+    /**
+     * Splits the range in halves until slices are small enough.
+     */
+    private static class AggregateTask<T, A extends Accumulator<T, A>> extends RecursiveTask<A> {
+        private final List<T> items;
+        private final int from;
+        private final int to;
+        private final Supplier<A> supplier;
+
+        AggregateTask(List<T> items, int from, int to, Supplier<A> supplier) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.supplier = supplier;
+        }
+
+        @Override
+        protected A compute() {
+            if (to - from <= MIN_SLICE) {
+                return accumulateRange(items, from, to, supplier);
+            }
+            int middle = (from + to) >>> 1;
+            AggregateTask<T, A> left = new AggregateTask<>(items, from, middle, supplier);
+            AggregateTask<T, A> right = new AggregateTask<>(items, middle, to, supplier);
+            left.fork();
+            A rightResult = right.compute();
+            A leftResult = left.join();
+            leftResult.combine(rightResult);
+            return leftResult;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.fci.seminar.service;
+
+import com.fci.seminar.repository.ChangeEvent.EntityType;
+import com.fci.seminar.repository.ChangeEventBus;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Singleton cache for computed reports and awards.
+ * Each entry is keyed by the service instance that owns it and the report
+ * name, so services built over different repositories never see each
+ * other's reports; an owner's entries go once the owner is garbage
+ * collected. An entry remembers the data version of every entity collection
+ * it was computed from and stays valid until one of those collections
+ * changes. Hit and miss counts are kept for monitoring.
+ */
+public class ReportCache {
+    private static ReportCache instance;
+
+    // Guarded by itself; owners are compared by identity, as services do not override equals
+    private final Map<Object, Map<String, Entry>> entries = new WeakHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Private constructor for singleton pattern.
+     */
+    private ReportCache() {
+    }
+
+    /**
+     * Gets the singleton instance of ReportCache.
+     */
+    public static synchronized ReportCache getInstance() {
+        if (instance == null) {
+            instance = new ReportCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Resets the singleton instance (for testing purposes).
+     */
+    public static synchronized void resetInstance() {
+        instance = null;
+    }
+
+    // ==================== Lookup ====================
+
+    /**
+     * Gets a cached value, computing it if the cached copy is missing or stale.
+     * @param owner the service the value belongs to
+     * @param key the report key
+     * @param compute computes the value on a miss
+     * @param dependencies the entity collections the value is derived from
+     * @return the cached or freshly computed value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object owner, String key, Supplier<T> compute, EntityType... dependencies) {
+        if (owner == null || key == null || compute == null) {
+            throw new IllegalArgumentException("Owner, key and compute function cannot be null");
+        }
+
+        // Read versions before computing, so a change made meanwhile leaves the entry stale
+        long[] versions = currentVersions(dependencies);
+        Map<String, Entry> ownerEntries;
+        synchronized (entries) {
+            ownerEntries = entries.computeIfAbsent(owner, o -> new ConcurrentHashMap<>());
+        }
+        Entry entry = ownerEntries.get(key);
+        if (entry != null && entry.isValid(versions)) {
+            hits.incrementAndGet();
+            return (T) entry.value;
+        }
+
+        misses.incrementAndGet();
+        T value = compute.get();
+        ownerEntries.put(key, new Entry(value, versions));
+        return value;
+    }
+
+    private long[] currentVersions(EntityType... dependencies) {
+        ChangeEventBus bus = ChangeEventBus.getInstance();
+        long[] versions = new long[EntityType.values().length];
+        for (EntityType type : dependencies) {
+            versions[type.ordinal()] = bus.getVersion(type);
+        }
+        return versions;
+    }
+
+    /**
+     * Removes all cached values.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    // ==================== Statistics ====================
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the fraction of lookups served from the cache.
+     * @return the hit rate between 0 and 1
+     */
+    public double getHitRate() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : (double) hits.get() / total;
+    }
+
+    /**
+     * Resets the hit and miss counters.
+     */
+    public void resetStatistics() {
+        hits.set(0);
+        misses.set(0);
+    }
+
+    /**
+     * A cached value and the data versions it was computed from.
+     */
+    private static class Entry {
+        private final Object value;
+        private final long[] versions;
+
+        Entry(Object value, long[] versions) {
+            this.value = value;
+            this.versions = versions;
+        }
+
+        boolean isValid(long[] current) {
+            for (int i = 0; i < versions.length; i++) {
+                if (versions[i] != current[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -1,21 +1,31 @@
 package com.fci.seminar.service;
 
+import com.fci.seminar.model.Award;
 import com.fci.seminar.model.Evaluation;
 import com.fci.seminar.model.Registration;
 import com.fci.seminar.model.Session;
-import com.fci.seminar.model.enums.RegistrationStatus;
-import com.fci.seminar.model.enums.SessionStatus;
-import com.fci.seminar.model.enums.SessionType;
+import com.fci.seminar.repository.ChangeEvent.EntityType;
+import com.fci.seminar.repository.ChangeLog;
+import com.fci.seminar.repository.ChangeLog.ExportRange;
 import com.fci.seminar.repository.EvaluationRepository;
 import com.fci.seminar.repository.RegistrationRepository;
 import com.fci.seminar.repository.SessionRepository;
+import com.fci.seminar.util.ColumnarWriter;
+import com.fci.seminar.util.ColumnarWriter.Column;
+import com.fci.seminar.util.CsvWriter;
+import com.fci.seminar.util.FileUtils;
+import com.fci.seminar.util.JsonLinesWriter;
 
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.util.HashMap;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Service for generating reports and analytics.
@@ -25,10 +35,71 @@ import java.util.Map;
 public class ReportService {
     private static ReportService instance;
     
+    // CSV export columns
+    private static final String[] REGISTRATION_CSV_COLUMNS = {
+        "ID", "Student ID", "Session ID", "Research Title", "Presentation Type", "Status", "Created At"
+    };
+    
+    private static final String[] EVALUATION_CSV_COLUMNS = {
+        "ID", "Evaluator ID", "Registration ID", "Problem Clarity", "Methodology", "Results",
+        "Presentation Quality", "Total Score", "Submitted", "Submitted At"
+    };
+    
+    private static final String[] SESSION_CSV_COLUMNS = {
+        "ID", "Date", "Start Time", "End Time", "Venue", "Type", "Capacity", "Registered", "Status"
+    };
+    
+    private static final String[] AWARD_CSV_COLUMNS = {
+        "Award Type", "Registration ID", "Score", "Awarded At"
+    };
+    
+    // Columnar export columns
+    private static final List<Column<Registration>> REGISTRATION_COLUMNS = List.of(
+            Column.int64("id", Registration::getId),
+            Column.int64("studentId", Registration::getStudentId),
+            Column.int64("sessionId", Registration::getSessionId),
+            Column.string("researchTitle", Registration::getResearchTitle),
+            Column.string("supervisorName", Registration::getSupervisorName),
+            Column.string("presentationType", Registration::getPresentationType),
+            Column.string("status", Registration::getStatus),
+            Column.string("boardId", Registration::getBoardId),
+            Column.timestamp("createdAt", Registration::getCreatedAt));
+    
+    private static final List<Column<Evaluation>> EVALUATION_COLUMNS = List.of(
+            Column.int64("id", Evaluation::getId),
+            Column.int64("evaluatorId", Evaluation::getEvaluatorId),
+            Column.int64("registrationId", Evaluation::getRegistrationId),
+            Column.int32("problemClarity", Evaluation::getProblemClarity),
+            Column.int32("methodology", Evaluation::getMethodology),
+            Column.int32("results", Evaluation::getResults),
+            Column.int32("presentationQuality", Evaluation::getPresentationQuality),
+            Column.int32("totalScore", Evaluation::getTotalScore),
+            Column.bool("submitted", Evaluation::isSubmitted),
+            Column.timestamp("submittedAt", Evaluation::getSubmittedAt));
+    
+    private static final List<Column<Session>> SESSION_COLUMNS = List.of(
+            Column.int64("id", Session::getId),
+            Column.date("date", Session::getDate),
+            Column.time("startTime", Session::getStartTime),
+            Column.time("endTime", Session::getEndTime),
+            Column.string("venue", Session::getVenue),
+            Column.string("type", Session::getType),
+            Column.int32("capacity", Session::getCapacity),
+            Column.int32("registered", Session::getRegistered),
+            Column.string("status", Session::getStatus));
+    
+    private static final List<Column<Award>> AWARD_COLUMNS = List.of(
+            Column.string("type", Award::getType),
+            Column.int64("registrationId", Award::getRegistrationId),
+            Column.float64("score", Award::getScore),
+            Column.timestamp("awardedAt", Award::getAwardedAt));
+    
     private final SessionRepository sessionRepository;
     private final RegistrationRepository registrationRepository;
     private final EvaluationRepository evaluationRepository;
     
+    private volatile int parallelThreshold = ReportAggregator.DEFAULT_PARALLEL_THRESHOLD;
+    
     /**
      * Private constructor for singleton pattern.
      */
@@ -67,292 +138,364 @@ public class ReportService {
         instance = null;
     }
     
+    // ==================== Configuration ====================
+    
+    /**
+     * Sets the list size from which reports are aggregated on the fork-join pool.
+     * @param threshold the minimum size for parallel aggregation
+     */
+    public void setParallelThreshold(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive");
+        }
+        this.parallelThreshold = threshold;
+    }
+    
+    private boolean useParallel(List<?> items) {
+        return items.size() >= parallelThreshold;
+    }
+    
     // ==================== Registration Statistics ====================
     
     /**
-     * Gets registration statistics.
+     * Gets registration statistics, cached until a registration changes.
      * Requirements: 9.1
-     * @return map containing registration statistics
+     * @return the registration statistics
      */
-    public Map<String, Object> getRegistrationStatistics() {
-        Map<String, Object> stats = new HashMap<>();
-        
+    public RegistrationStatistics getRegistrationStatistics() {
+        return ReportCache.getInstance().get(this, "report:registrations",
+                this::computeRegistrationStatistics, EntityType.REGISTRATION);
+    }
+    
+    /**
+     * Computes registration statistics in a single pass over the registrations.
+     */
+    private RegistrationStatistics computeRegistrationStatistics() {
         List<Registration> allRegistrations = registrationRepository.findAll();
-        
-        // Total registrations
-        stats.put("totalRegistrations", allRegistrations.size());
-        
-        // By status
-        stats.put("pendingCount", registrationRepository.countByStatus(RegistrationStatus.PENDING));
-        stats.put("approvedCount", registrationRepository.countByStatus(RegistrationStatus.APPROVED));
-        stats.put("rejectedCount", registrationRepository.countByStatus(RegistrationStatus.REJECTED));
-        stats.put("cancelledCount", registrationRepository.countByStatus(RegistrationStatus.CANCELLED));
-        
-        // By presentation type
-        long oralCount = allRegistrations.stream()
-                .filter(r -> r.getPresentationType() == SessionType.ORAL)
-                .count();
-        long posterCount = allRegistrations.stream()
-                .filter(r -> r.getPresentationType() == SessionType.POSTER)
-                .count();
-        stats.put("oralCount", oralCount);
-        stats.put("posterCount", posterCount);
-        
-        // Assigned vs unassigned
-        long assignedCount = allRegistrations.stream()
-                .filter(r -> r.getSessionId() != null)
-                .count();
-        stats.put("assignedCount", assignedCount);
-        stats.put("unassignedCount", allRegistrations.size() - assignedCount);
-        
-        return stats;
+        return ReportAggregator.aggregate(allRegistrations, RegistrationStatistics.Accumulator::new,
+                useParallel(allRegistrations)).toResult();
     }
     
     // ==================== Evaluation Summary ====================
     
     /**
-     * Gets evaluation summary.
+     * Gets evaluation summary, cached until an evaluation changes.
      * Requirements: 9.2
-     * @return map containing evaluation summary
+     * @return the evaluation summary
      */
-    public Map<String, Object> getEvaluationSummary() {
-        Map<String, Object> summary = new HashMap<>();
-        
+    public EvaluationSummary getEvaluationSummary() {
+        return ReportCache.getInstance().get(this, "report:evaluations",
+                this::computeEvaluationSummary, EntityType.EVALUATION);
+    }
+    
+    /**
+     * Computes the evaluation summary in a single pass over the evaluations.
+     */
+    private EvaluationSummary computeEvaluationSummary() {
         List<Evaluation> allEvaluations = evaluationRepository.findAll();
-        
-        // Total evaluations
-        summary.put("totalEvaluations", allEvaluations.size());
-        
-        // Submitted vs pending
-        long submittedCount = evaluationRepository.countSubmitted();
-        long pendingCount = evaluationRepository.countPending();
-        summary.put("submittedCount", submittedCount);
-        summary.put("pendingCount", pendingCount);
-        
-        // Average scores (from submitted evaluations only)
-        List<Evaluation> submitted = evaluationRepository.findAllSubmitted();
-        if (!submitted.isEmpty()) {
-            double avgTotal = submitted.stream()
-                    .mapToInt(Evaluation::getTotalScore)
-                    .average()
-                    .orElse(0.0);
-            double avgClarity = submitted.stream()
-                    .mapToInt(Evaluation::getProblemClarity)
-                    .average()
-                    .orElse(0.0);
-            double avgMethodology = submitted.stream()
-                    .mapToInt(Evaluation::getMethodology)
-                    .average()
-                    .orElse(0.0);
-            double avgResults = submitted.stream()
-                    .mapToInt(Evaluation::getResults)
-                    .average()
-                    .orElse(0.0);
-            double avgPresentation = submitted.stream()
-                    .mapToInt(Evaluation::getPresentationQuality)
-                    .average()
-                    .orElse(0.0);
-            
-            summary.put("averageTotalScore", avgTotal);
-            summary.put("averageProblemClarity", avgClarity);
-            summary.put("averageMethodology", avgMethodology);
-            summary.put("averageResults", avgResults);
-            summary.put("averagePresentationQuality", avgPresentation);
-        } else {
-            summary.put("averageTotalScore", 0.0);
-            summary.put("averageProblemClarity", 0.0);
-            summary.put("averageMethodology", 0.0);
-            summary.put("averageResults", 0.0);
-            summary.put("averagePresentationQuality", 0.0);
-        }
-        
-        // Score distribution
-        int[] distribution = new int[5]; // 0-20, 21-40, 41-60, 61-80, 81-100
-        for (Evaluation eval : submitted) {
-            int score = eval.getTotalScore();
-            if (score <= 20) distribution[0]++;
-            else if (score <= 40) distribution[1]++;
-            else if (score <= 60) distribution[2]++;
-            else if (score <= 80) distribution[3]++;
-            else distribution[4]++;
-        }
-        summary.put("scoreDistribution", distribution);
-        
-        return summary;
+        return ReportAggregator.aggregate(allEvaluations, EvaluationSummary.Accumulator::new,
+                useParallel(allEvaluations)).toResult();
     }
 
     
     // ==================== Session Attendance ====================
     
     /**
-     * Gets session attendance report.
+     * Gets session attendance report, cached until a session changes.
      * Requirements: 9.2
-     * @return map containing session attendance data
+     * @return the session attendance report
      */
-    public Map<String, Object> getSessionAttendance() {
-        Map<String, Object> attendance = new HashMap<>();
-        
+    public SessionAttendance getSessionAttendance() {
+        return ReportCache.getInstance().get(this, "report:sessions",
+                this::computeSessionAttendance, EntityType.SESSION);
+    }
+    
+    /**
+     * Computes the session attendance report in a single pass over the sessions.
+     */
+    private SessionAttendance computeSessionAttendance() {
         List<Session> allSessions = sessionRepository.findAll();
+        return ReportAggregator.aggregate(allSessions, SessionAttendance.Accumulator::new,
+                useParallel(allSessions)).toResult();
+    }
+    
+    // ==================== Export ====================
+    
+    /**
+     * File formats for data export.
+     */
+    public enum ExportFormat {
+        /** Comma-separated values (RFC 4180) */
+        CSV("csv"),
+        /** One JSON object per line, using the data file field names */
+        JSON_LINES("jsonl"),
+        /** Typed columnar binary, see {@link ColumnarWriter} */
+        COLUMNAR("scol");
         
-        // Total sessions
-        attendance.put("totalSessions", allSessions.size());
-        
-        // By status
-        attendance.put("openSessions", sessionRepository.countByStatus(SessionStatus.OPEN));
-        attendance.put("fullSessions", sessionRepository.countByStatus(SessionStatus.FULL));
-        attendance.put("closedSessions", sessionRepository.countByStatus(SessionStatus.CLOSED));
-        
-        // By type
-        attendance.put("oralSessions", sessionRepository.countByType(SessionType.ORAL));
-        attendance.put("posterSessions", sessionRepository.countByType(SessionType.POSTER));
-        
-        // Capacity utilization
-        int totalCapacity = allSessions.stream()
-                .mapToInt(Session::getCapacity)
-                .sum();
-        int totalRegistered = allSessions.stream()
-                .mapToInt(Session::getRegistered)
-                .sum();
-        
-        attendance.put("totalCapacity", totalCapacity);
-        attendance.put("totalRegistered", totalRegistered);
+        private final String extension;
         
-        if (totalCapacity > 0) {
-            double utilizationRate = (double) totalRegistered / totalCapacity * 100;
-            attendance.put("utilizationRate", utilizationRate);
-        } else {
-            attendance.put("utilizationRate", 0.0);
+        ExportFormat(String extension) {
+            this.extension = extension;
         }
         
-        // Per-session details
-        Map<Long, Map<String, Object>> sessionDetails = new HashMap<>();
-        for (Session session : allSessions) {
-            Map<String, Object> detail = new HashMap<>();
-            detail.put("date", session.getDate());
-            detail.put("venue", session.getVenue());
-            detail.put("type", session.getType());
-            detail.put("capacity", session.getCapacity());
-            detail.put("registered", session.getRegistered());
-            detail.put("status", session.getStatus());
-            detail.put("availableSlots", session.getCapacity() - session.getRegistered());
-            sessionDetails.put(session.getId(), detail);
+        public String getExtension() {
+            return extension;
         }
-        attendance.put("sessionDetails", sessionDetails);
         
-        return attendance;
+        /**
+         * Picks the format from a file name, ignoring a trailing ".gz".
+         * @param fileName the file name
+         * @return the matching format, or CSV if none matches
+         */
+        public static ExportFormat fromFileName(String fileName) {
+            String name = fileName.toLowerCase();
+            if (name.endsWith(".gz")) {
+                name = name.substring(0, name.length() - 3);
+            }
+            for (ExportFormat format : values()) {
+                if (name.endsWith("." + format.extension)) {
+                    return format;
+                }
+            }
+            return CSV;
+        }
     }
     
-    // ==================== CSV Export ====================
-    
     /**
-     * Exports data to CSV file.
+     * Exports data to CSV file. Files ending in ".gz" are gzip-compressed.
      * Requirements: 9.3
      * @param reportType the type of report to export
      * @param filePath the output file path
      * @throws IOException if file writing fails
      */
     public void exportToCsv(String reportType, String filePath) throws IOException {
-        if (reportType == null || filePath == null) {
-            throw new IllegalArgumentException("Report type and file path cannot be null");
+        exportToCsv(reportType, filePath, filePath != null && filePath.toLowerCase().endsWith(".gz"));
+    }
+    
+    /**
+     * Exports data to a UTF-8 CSV file, streaming rows straight from the store.
+     * Requirements: 9.3
+     * @param reportType the type of report to export
+     * @param filePath the output file path
+     * @param gzip true to gzip-compress the file
+     * @return the number of data rows written
+     * @throws IOException if file writing fails
+     */
+    public long exportToCsv(String reportType, String filePath, boolean gzip) throws IOException {
+        return export(reportType, filePath, ExportFormat.CSV, gzip);
+    }
+    
+    /**
+     * Exports data in the given format, streaming rows straight from the store
+     * so memory use does not grow with the number of rows.
+     * Requirements: 9.3
+     * @param reportType "registrations", "evaluations", "sessions" or "awards"
+     * @param filePath the output file path
+     * @param format the file format
+     * @param gzip true to gzip-compress the file
+     * @return the number of rows written
+     * @throws IOException if file writing fails
+     */
+    public long export(String reportType, String filePath, ExportFormat format, boolean gzip) throws IOException {
+        if (reportType == null || filePath == null || format == null) {
+            throw new IllegalArgumentException("Report type, file path and format cannot be null");
         }
         
         switch (reportType.toLowerCase()) {
             case "registrations":
-                exportRegistrationsToCsv(filePath);
-                break;
+                return writeExport(filePath, format, gzip, registrationRepository::forEach,
+                        REGISTRATION_CSV_COLUMNS, this::writeRegistrationRow, REGISTRATION_COLUMNS);
             case "evaluations":
-                exportEvaluationsToCsv(filePath);
-                break;
+                return writeExport(filePath, format, gzip, evaluationRepository::forEach,
+                        EVALUATION_CSV_COLUMNS, this::writeEvaluationRow, EVALUATION_COLUMNS);
             case "sessions":
-                exportSessionsToCsv(filePath);
-                break;
+                return writeExport(filePath, format, gzip, sessionRepository::forEach,
+                        SESSION_CSV_COLUMNS, this::writeSessionRow, SESSION_COLUMNS);
+            case "awards":
+                Consumer<Consumer<Award>> awards = action -> AwardService.getInstance().calculateAwards().forEach(action);
+                return writeExport(filePath, format, gzip, awards,
+                        AWARD_CSV_COLUMNS, this::writeAwardRow, AWARD_COLUMNS);
             default:
                 throw new IllegalArgumentException("Unknown report type: " + reportType);
         }
     }
     
     /**
-     * Exports registrations to CSV.
+     * Writes one row for an entity.
      */
-    private void exportRegistrationsToCsv(String filePath) throws IOException {
-        List<Registration> registrations = registrationRepository.findAll();
-        
-        try (PrintWriter writer = new PrintWriter(new FileWriter(filePath))) {
-            // Header
-            writer.println("ID,Student ID,Session ID,Research Title,Presentation Type,Status,Created At");
-            
-            // Data rows
-            for (Registration r : registrations) {
-                writer.printf("%d,%d,%s,\"%s\",%s,%s,%s%n",
-                        r.getId(),
-                        r.getStudentId(),
-                        r.getSessionId() != null ? r.getSessionId() : "",
-                        escapeCsv(r.getResearchTitle()),
-                        r.getPresentationType(),
-                        r.getStatus(),
-                        r.getCreatedAt());
-            }
+    private interface RowWriter<W, T> {
+        void write(W writer, T row) throws IOException;
+    }
+    
+    private <T> long writeExport(String filePath, ExportFormat format, boolean gzip,
+                                 Consumer<Consumer<T>> source, String[] csvColumns,
+                                 RowWriter<CsvWriter, T> csvRowWriter,
+                                 List<Column<T>> columns) throws IOException {
+        Path path = Paths.get(filePath);
+        switch (format) {
+            case JSON_LINES:
+                try (JsonLinesWriter writer = JsonLinesWriter.open(path, gzip)) {
+                    forEachRow(source, writer, JsonLinesWriter::write);
+                    return writer.getRecordCount();
+                }
+            case COLUMNAR:
+                try (ColumnarWriter<T> writer = ColumnarWriter.open(path, columns, gzip)) {
+                    forEachRow(source, writer, ColumnarWriter::write);
+                    return writer.getRowCount();
+                }
+            case CSV:
+            default:
+                try (CsvWriter writer = CsvWriter.open(path, gzip)) {
+                    writer.writeRow(csvColumns);
+                    forEachRow(source, writer, csvRowWriter);
+                    return writer.getRowCount() - 1;
+                }
         }
     }
     
     /**
-     * Exports evaluations to CSV.
+     * Writes every row visited by the source, passing write failures through.
      */
-    private void exportEvaluationsToCsv(String filePath) throws IOException {
-        List<Evaluation> evaluations = evaluationRepository.findAll();
-        
-        try (PrintWriter writer = new PrintWriter(new FileWriter(filePath))) {
-            // Header
-            writer.println("ID,Evaluator ID,Registration ID,Problem Clarity,Methodology,Results,Presentation Quality,Total Score,Submitted,Submitted At");
-            
-            // Data rows
-            for (Evaluation e : evaluations) {
-                writer.printf("%d,%d,%d,%d,%d,%d,%d,%d,%s,%s%n",
-                        e.getId(),
-                        e.getEvaluatorId(),
-                        e.getRegistrationId(),
-                        e.getProblemClarity(),
-                        e.getMethodology(),
-                        e.getResults(),
-                        e.getPresentationQuality(),
-                        e.getTotalScore(),
-                        e.isSubmitted(),
-                        e.getSubmittedAt() != null ? e.getSubmittedAt() : "");
-            }
+    private <W, T> void forEachRow(Consumer<Consumer<T>> source, W writer,
+                                   RowWriter<? super W, ? super T> rowWriter) throws IOException {
+        try {
+            source.accept(row -> {
+                try {
+                    rowWriter.write(writer, row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
     }
     
+    private void writeRegistrationRow(CsvWriter csv, Registration r) throws IOException {
+        csv.field(r.getId())
+                .field(r.getStudentId())
+                .field(r.getSessionId())
+                .field(r.getResearchTitle())
+                .field(r.getPresentationType())
+                .field(r.getStatus())
+                .field(r.getCreatedAt())
+                .endRow();
+    }
+    
+    private void writeEvaluationRow(CsvWriter csv, Evaluation e) throws IOException {
+        csv.field(e.getId())
+                .field(e.getEvaluatorId())
+                .field(e.getRegistrationId())
+                .field(e.getProblemClarity())
+                .field(e.getMethodology())
+                .field(e.getResults())
+                .field(e.getPresentationQuality())
+                .field(e.getTotalScore())
+                .field(e.isSubmitted())
+                .field(e.getSubmittedAt())
+                .endRow();
+    }
+    
+    private void writeSessionRow(CsvWriter csv, Session s) throws IOException {
+        csv.field(s.getId())
+                .field(s.getDate())
+                .field(s.getStartTime())
+                .field(s.getEndTime())
+                .field(s.getVenue())
+                .field(s.getType())
+                .field(s.getCapacity())
+                .field(s.getRegistered())
+                .field(s.getStatus())
+                .endRow();
+    }
+    
+    private void writeAwardRow(CsvWriter csv, Award a) throws IOException {
+        csv.field(a.getType())
+                .field(a.getRegistrationId())
+                .field(a.getScore())
+                .field(a.getAwardedAt())
+                .endRow();
+    }
+    
+    // ==================== Change Export ====================
+    
     /**
-     * Exports sessions to CSV.
+     * Exports the changes a consumer has not received yet as JSON lines, then
+     * advances the consumer's stored watermark. If writing fails the watermark
+     * is left unchanged, so the next export repeats the same changes.
+     * @param consumer the name of the downstream consumer
+     * @param filePath the output file path
+     * @param gzip true to gzip-compress the file
+     * @return the range of changes written
+     * @throws IOException if file writing fails
+     * @throws IllegalStateException if the change log was truncated or
+     *         recreated after the consumer's last export
      */
-    private void exportSessionsToCsv(String filePath) throws IOException {
-        List<Session> sessions = sessionRepository.findAll();
+    public ExportRange exportChanges(String consumer, String filePath, boolean gzip) throws IOException {
+        if (filePath == null) {
+            throw new IllegalArgumentException("File path cannot be null");
+        }
+        ChangeLog changeLog = ChangeLog.getInstance();
+        long watermark = changeLog.getWatermark(consumer);
         
-        try (PrintWriter writer = new PrintWriter(new FileWriter(filePath))) {
-            // Header
-            writer.println("ID,Date,Start Time,End Time,Venue,Type,Capacity,Registered,Status");
-            
-            // Data rows
-            for (Session s : sessions) {
-                writer.printf("%d,%s,%s,%s,\"%s\",%s,%d,%d,%s%n",
-                        s.getId(),
-                        s.getDate(),
-                        s.getStartTime(),
-                        s.getEndTime(),
-                        escapeCsv(s.getVenue()),
-                        s.getType(),
-                        s.getCapacity(),
-                        s.getRegistered(),
-                        s.getStatus());
-            }
+        ExportRange range;
+        try (Writer writer = new OutputStreamWriter(
+                FileUtils.openExportStream(Paths.get(filePath), gzip), StandardCharsets.UTF_8)) {
+            range = changeLog.exportSince(watermark, writer);
         }
+        changeLog.setWatermark(consumer, range.toSequence());
+        return range;
+    }
+    
+    // ==================== Async Operations ====================
+    
+    /**
+     * Gets registration statistics without blocking the caller.
+     * @return future with the registration statistics
+     */
+    public CompletableFuture<RegistrationStatistics> getRegistrationStatisticsAsync() {
+        return ServiceExecutor.getInstance().submitRead(this::getRegistrationStatistics);
+    }
+    
+    /**
+     * Gets the evaluation summary without blocking the caller.
+     * @return future with the evaluation summary
+     */
+    public CompletableFuture<EvaluationSummary> getEvaluationSummaryAsync() {
+        return ServiceExecutor.getInstance().submitRead(this::getEvaluationSummary);
+    }
+    
+    /**
+     * Gets the session attendance report without blocking the caller.
+     * @return future with the session attendance data
+     */
+    public CompletableFuture<SessionAttendance> getSessionAttendanceAsync() {
+        return ServiceExecutor.getInstance().submitRead(this::getSessionAttendance);
+    }
+    
+    /**
+     * Exports data to a CSV file without blocking the caller.
+     * @param reportType the type of report to export
+     * @param filePath the output file path
+     * @return future that completes when the file is written
+     */
+    public CompletableFuture<Void> exportToCsvAsync(String reportType, String filePath) {
+        return ServiceExecutor.getInstance().submitRead(() -> {
+            exportToCsv(reportType, filePath);
+            return null;
+        });
     }
     
     /**
-     * Escapes special characters for CSV.
+     * Exports data in the given format without blocking the caller.
+     * @param reportType the type of report to export
+     * @param filePath the output file path
+     * @param format the file format
+     * @param gzip true to gzip-compress the file
+     * @return future with the number of rows written
      */
-    private String escapeCsv(String value) {
-        if (value == null) return "";
-        return value.replace("\"", "\"\"");
+    public CompletableFuture<Long> exportAsync(String reportType, String filePath,
+                                               ExportFormat format, boolean gzip) {
+        return ServiceExecutor.getInstance().submitRead(() -> export(reportType, filePath, format, gzip));
     }
 }
@@ -0,0 +1,39 @@
+package com.fci.seminar.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Two sessions that cannot both go ahead as scheduled.
+ * @param kind what the sessions compete for
+ * @param venue the shared venue, for venue conflicts
+ * @param evaluatorId the evaluator expected at both, for evaluator conflicts
+ * @param firstSessionId the earlier (or lower-numbered) session
+ * @param secondSessionId the other session
+ * @param overlapStart when the overlap begins
+ * @param overlapEnd when the overlap ends
+ */
+public record ScheduleConflict(Kind kind, String venue, Long evaluatorId, Long firstSessionId,
+                               Long secondSessionId, LocalDateTime overlapStart, LocalDateTime overlapEnd) {
+
+    /**
+     * What two overlapping sessions compete for.
+     */
+    public enum Kind {
+        /** Both sessions are booked in the same venue */
+        VENUE,
+        /** One evaluator is assigned to presentations in both sessions */
+        EVALUATOR
+    }
+
+    /**
+     * Describes the conflict for display.
+     */
+    public String describe() {
+        String when = overlapStart.toLocalDate() + " " + overlapStart.toLocalTime() + "-" + overlapEnd.toLocalTime();
+        if (kind == Kind.VENUE) {
+            return "Sessions " + firstSessionId + " and " + secondSessionId + " both use " + venue + " on " + when;
+        }
+        return "Evaluator " + evaluatorId + " is assigned to sessions " + firstSessionId + " and "
+                + secondSessionId + ", which overlap on " + when;
+    }
+}
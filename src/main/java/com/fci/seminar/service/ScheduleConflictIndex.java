@@ -0,0 +1,382 @@
+package com.fci.seminar.service;
+
+import com.fci.seminar.model.Evaluation;
+import com.fci.seminar.model.Registration;
+import com.fci.seminar.model.Session;
+import com.fci.seminar.model.enums.RegistrationStatus;
+import com.fci.seminar.repository.ChangeEvent;
+import com.fci.seminar.repository.ChangeEvent.EntityType;
+import com.fci.seminar.repository.ChangeEventBus;
+import com.fci.seminar.repository.EvaluationRepository;
+import com.fci.seminar.repository.RegistrationRepository;
+import com.fci.seminar.repository.RepositoryListener;
+import com.fci.seminar.repository.SessionRepository;
+import com.fci.seminar.util.IntervalTree;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Interval trees over session times, one per venue and one per evaluator,
+ * for finding schedule conflicts without comparing every pair of sessions.
+ * Times are seconds since 1970-01-01T00:00 (local time), and a session
+ * covers [start, end), so back-to-back sessions do not conflict.
+ *
+ * The trees are built on first use and then kept up to date from change
+ * events: new and edited sessions move within the venue trees, and new or
+ * removed assignments within the evaluator trees. Changes that move already
+ * assigned presentations in time (a session rescheduled, a registration
+ * moved to another session) rebuild the trees on the next query.
+ */
+class ScheduleConflictIndex implements RepositoryListener {
+
+    private final SessionRepository sessionRepository;
+    private final RegistrationRepository registrationRepository;
+    private final EvaluationRepository evaluationRepository;
+
+    private ChangeEventBus.Subscription subscription;
+    // Null until built, and again when a change needs a rebuild
+    private State state;
+    // Counts changes, so a build that raced with a change is not kept
+    private long generation;
+
+    ScheduleConflictIndex(SessionRepository sessionRepository, RegistrationRepository registrationRepository,
+                          EvaluationRepository evaluationRepository) {
+        this.sessionRepository = sessionRepository;
+        this.registrationRepository = registrationRepository;
+        this.evaluationRepository = evaluationRepository;
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Finds sessions in the same venue that overlap a session's time.
+     * @param session the new or edited session
+     * @return the IDs of the overlapping sessions, other than the session itself
+     */
+    List<Long> findVenueConflicts(Session session) {
+        Slot slot = Slot.of(session);
+        List<Long> conflicts = new ArrayList<>();
+        if (slot == null) {
+            return conflicts;
+        }
+        State current = state();
+        synchronized (current) {
+            IntervalTree<Long> tree = current.venueTrees.get(slot.venueKey());
+            if (tree != null) {
+                tree.forEachOverlapping(slot.start(), slot.end(), interval -> {
+                    if (!interval.value().equals(session.getId())) {
+                        conflicts.add(interval.value());
+                    }
+                });
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Finds evaluators who would be expected elsewhere if a session took place at its new time.
+     * @param session the edited session
+     * @return the conflicts with the evaluators' other sessions
+     */
+    List<ScheduleConflict> findEvaluatorConflicts(Session session) {
+        Slot slot = Slot.of(session);
+        List<ScheduleConflict> conflicts = new ArrayList<>();
+        if (slot == null || session.getId() == null) {
+            return conflicts;
+        }
+        State current = state();
+        synchronized (current) {
+            Set<Long> evaluators = new HashSet<>();
+            for (Long evaluationId : current.evaluationsBySession.getOrDefault(session.getId(), Set.of())) {
+                evaluators.add(current.evaluationSlots.get(evaluationId).evaluatorId());
+            }
+            for (Long evaluatorId : evaluators) {
+                Set<Long> reported = new HashSet<>();
+                current.evaluatorTrees.get(evaluatorId).forEachOverlapping(slot.start(), slot.end(), interval -> {
+                    Long otherSession = interval.value().sessionId();
+                    if (!otherSession.equals(session.getId()) && reported.add(otherSession)) {
+                        conflicts.add(conflict(ScheduleConflict.Kind.EVALUATOR, null, evaluatorId,
+                                session.getId(), otherSession, slot.start(), slot.end(),
+                                interval.start(), interval.end()));
+                    }
+                });
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Lists every venue and evaluator conflict in the schedule.
+     * @return the conflicts, each pair of sessions once per venue or evaluator
+     */
+    List<ScheduleConflict> findAllConflicts() {
+        List<ScheduleConflict> conflicts = new ArrayList<>();
+        State current = state();
+        synchronized (current) {
+            for (IntervalTree<Long> tree : current.venueTrees.values()) {
+                tree.forEach(first -> tree.forEachOverlapping(first.start(), first.end(), second -> {
+                    if (first.id() < second.id()) {
+                        Slot slot = current.sessionSlots.get(first.value());
+                        conflicts.add(conflict(ScheduleConflict.Kind.VENUE, slot.venue(), null,
+                                first.value(), second.value(), first.start(), first.end(),
+                                second.start(), second.end()));
+                    }
+                }));
+            }
+            for (Map.Entry<Long, IntervalTree<Assignment>> entry : current.evaluatorTrees.entrySet()) {
+                IntervalTree<Assignment> tree = entry.getValue();
+                Set<String> reported = new HashSet<>();
+                tree.forEach(first -> tree.forEachOverlapping(first.start(), first.end(), second -> {
+                    Long a = first.value().sessionId();
+                    Long b = second.value().sessionId();
+                    if (a < b && reported.add(a + ":" + b)) {
+                        conflicts.add(conflict(ScheduleConflict.Kind.EVALUATOR, null, entry.getKey(),
+                                a, b, first.start(), first.end(), second.start(), second.end()));
+                    }
+                }));
+            }
+        }
+        conflicts.sort((x, y) -> x.overlapStart().compareTo(y.overlapStart()));
+        return conflicts;
+    }
+
+    private static ScheduleConflict conflict(ScheduleConflict.Kind kind, String venue, Long evaluatorId,
+                                             Long firstSessionId, Long secondSessionId,
+                                             long firstStart, long firstEnd, long secondStart, long secondEnd) {
+        return new ScheduleConflict(kind, venue, evaluatorId, firstSessionId, secondSessionId,
+                toDateTime(Math.max(firstStart, secondStart)), toDateTime(Math.min(firstEnd, secondEnd)));
+    }
+
+    private static LocalDateTime toDateTime(long seconds) {
+        return LocalDateTime.ofEpochSecond(seconds, 0, ZoneOffset.UTC);
+    }
+
+    // ==================== Building ====================
+
+    private State state() {
+        long builtFrom;
+        synchronized (this) {
+            if (subscription == null) {
+                subscription = ChangeEventBus.getInstance().subscribe(this,
+                        EntityType.SESSION, EntityType.REGISTRATION, EntityType.EVALUATION);
+            }
+            if (state != null) {
+                return state;
+            }
+            builtFrom = generation;
+        }
+
+        // Built without holding this lock: change events arrive under the repository lock
+        State built = new State();
+        sessionRepository.forEach(built::putSession);
+        registrationRepository.forEach(built::putRegistration);
+        evaluationRepository.forEach(built::putEvaluation);
+
+        synchronized (this) {
+            if (generation == builtFrom) {
+                state = built;
+            }
+        }
+        return built;
+    }
+
+    // ==================== Change Tracking ====================
+
+    @Override
+    public synchronized void onChanges(List<ChangeEvent> events) {
+        generation++;
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            for (ChangeEvent event : events) {
+                if (!state.apply(event)) {
+                    state = null;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops tracking changes and drops the trees.
+     */
+    synchronized void close() {
+        if (subscription != null) {
+            subscription.cancel();
+            subscription = null;
+        }
+        state = null;
+    }
+
+    // ==================== Index State ====================
+
+    /**
+     * A session's venue and time.
+     */
+    private record Slot(String venue, String venueKey, long start, long end) {
+
+        static Slot of(Session session) {
+            if (session.getDate() == null || session.getStartTime() == null || session.getEndTime() == null) {
+                return null;
+            }
+            long day = session.getDate().toEpochDay() * 86_400L;
+            String venue = session.getVenue() != null ? session.getVenue().trim() : "";
+            return new Slot(venue, venue.toLowerCase(Locale.ROOT),
+                    day + session.getStartTime().toSecondOfDay(), day + session.getEndTime().toSecondOfDay());
+        }
+
+        boolean sameTime(Slot other) {
+            return other != null && start == other.start && end == other.end;
+        }
+    }
+
+    /**
+     * An evaluator's assignment to a presentation in a session.
+     */
+    private record Assignment(Long evaluatorId, Long registrationId, Long sessionId, long start) {
+    }
+
+    /**
+     * The trees and the lookups needed to keep them current. Guarded by its own monitor.
+     */
+    private static class State {
+        final Map<Long, Slot> sessionSlots = new HashMap<>();
+        final Map<String, IntervalTree<Long>> venueTrees = new HashMap<>();
+        final Map<Long, Long> sessionByRegistration = new HashMap<>();
+        final Map<Long, Assignment> evaluationSlots = new HashMap<>();
+        final Map<Long, IntervalTree<Assignment>> evaluatorTrees = new HashMap<>();
+        final Map<Long, Set<Long>> evaluationsBySession = new HashMap<>();
+        final Map<Long, Long> registrationByEvaluation = new HashMap<>();
+        final Map<Long, Integer> evaluationCountByRegistration = new HashMap<>();
+
+        void putSession(Session session) {
+            Slot slot = Slot.of(session);
+            if (slot == null || session.getId() == null) {
+                return;
+            }
+            sessionSlots.put(session.getId(), slot);
+            venueTrees.computeIfAbsent(slot.venueKey(), v -> new IntervalTree<>())
+                    .insert(slot.start(), slot.end(), session.getId(), session.getId());
+        }
+
+        void removeSession(Long sessionId) {
+            Slot slot = sessionSlots.remove(sessionId);
+            if (slot != null) {
+                IntervalTree<Long> tree = venueTrees.get(slot.venueKey());
+                tree.remove(slot.start(), sessionId);
+                if (tree.isEmpty()) {
+                    venueTrees.remove(slot.venueKey());
+                }
+            }
+        }
+
+        void putRegistration(Registration registration) {
+            if (registration.getSessionId() != null && isActive(registration)) {
+                sessionByRegistration.put(registration.getId(), registration.getSessionId());
+            }
+        }
+
+        void putEvaluation(Evaluation evaluation) {
+            if (evaluation.getId() == null || evaluation.getEvaluatorId() == null) {
+                return;
+            }
+            if (evaluation.getRegistrationId() != null) {
+                registrationByEvaluation.put(evaluation.getId(), evaluation.getRegistrationId());
+                evaluationCountByRegistration.merge(evaluation.getRegistrationId(), 1, Integer::sum);
+            }
+            Long sessionId = sessionByRegistration.get(evaluation.getRegistrationId());
+            Slot slot = sessionId != null ? sessionSlots.get(sessionId) : null;
+            if (slot == null) {
+                return;
+            }
+            Assignment assignment = new Assignment(evaluation.getEvaluatorId(),
+                    evaluation.getRegistrationId(), sessionId, slot.start());
+            evaluationSlots.put(evaluation.getId(), assignment);
+            evaluationsBySession.computeIfAbsent(sessionId, s -> new HashSet<>()).add(evaluation.getId());
+            evaluatorTrees.computeIfAbsent(evaluation.getEvaluatorId(), e -> new IntervalTree<>())
+                    .insert(slot.start(), slot.end(), evaluation.getId(), assignment);
+        }
+
+        void removeEvaluation(Long evaluationId) {
+            Long registrationId = registrationByEvaluation.remove(evaluationId);
+            if (registrationId != null) {
+                evaluationCountByRegistration.computeIfPresent(registrationId, (r, count) -> count > 1 ? count - 1 : null);
+            }
+            Assignment assignment = evaluationSlots.remove(evaluationId);
+            if (assignment == null) {
+                return;
+            }
+            Set<Long> inSession = evaluationsBySession.get(assignment.sessionId());
+            inSession.remove(evaluationId);
+            if (inSession.isEmpty()) {
+                evaluationsBySession.remove(assignment.sessionId());
+            }
+            IntervalTree<Assignment> tree = evaluatorTrees.get(assignment.evaluatorId());
+            tree.remove(assignment.start(), evaluationId);
+            if (tree.isEmpty()) {
+                evaluatorTrees.remove(assignment.evaluatorId());
+            }
+        }
+
+        /**
+         * Applies a change in place.
+         * @return false if the change needs a rebuild instead
+         */
+        boolean apply(ChangeEvent event) {
+            Long id = event.getEntityId();
+            switch (event.getEntityType()) {
+                case SESSION: {
+                    Session session = event.getEntity(Session.class);
+                    Slot before = sessionSlots.get(id);
+                    Slot after = session != null ? Slot.of(session) : null;
+                    if (evaluationsBySession.containsKey(id) && (after == null || !after.sameTime(before))) {
+                        return false; // Assigned presentations move in time
+                    }
+                    removeSession(id);
+                    if (session != null) {
+                        putSession(session);
+                    }
+                    return true;
+                }
+                case REGISTRATION: {
+                    Registration registration = event.getEntity(Registration.class);
+                    Long before = sessionByRegistration.get(id);
+                    Long after = registration != null && isActive(registration) ? registration.getSessionId() : null;
+                    if (!Objects.equals(before, after) && evaluationCountByRegistration.containsKey(id)) {
+                        return false; // Assigned presentation moves to another session
+                    }
+                    sessionByRegistration.remove(id);
+                    if (registration != null) {
+                        putRegistration(registration);
+                    }
+                    return true;
+                }
+                case EVALUATION: {
+                    Evaluation evaluation = event.getEntity(Evaluation.class);
+                    removeEvaluation(id);
+                    if (evaluation != null) {
+                        putEvaluation(evaluation);
+                    }
+                    return true;
+                }
+                default:
+                    return true;
+            }
+        }
+
+        private static boolean isActive(Registration registration) {
+            return registration.getStatus() != RegistrationStatus.CANCELLED
+                    && registration.getStatus() != RegistrationStatus.REJECTED;
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package com.fci.seminar.service;
+
+import com.fci.seminar.model.Session;
+import com.fci.seminar.model.enums.SessionStatus;
+import com.fci.seminar.model.enums.SessionType;
+import com.fci.seminar.repository.ChangeEvent;
+import com.fci.seminar.repository.ChangeEvent.ChangeType;
+import com.fci.seminar.repository.ChangeEvent.EntityType;
+import com.fci.seminar.repository.ChangeEventBus;
+import com.fci.seminar.repository.RepositoryListener;
+import com.fci.seminar.util.DataManager;
+import com.google.gson.Gson;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Publishes the guest schedule as pre-rendered JSON and HTML.
+ * Guests only need what the schedule view shows, so the publisher keeps a
+ * rendered fragment per session, re-renders just the sessions a change
+ * touches, and assembles a new immutable {@link Snapshot} shortly after.
+ * The snapshot is served from memory through a volatile reference, so
+ * anonymous traffic never reaches {@link SessionService} or takes a lock;
+ * it is also written to schedule.json and schedule.html for a static web
+ * server to serve.
+ */
+public class ScheduleSnapshotPublisher implements RepositoryListener {
+    private static ScheduleSnapshotPublisher instance;
+
+    public static final String JSON_FILE = "schedule.json";
+    public static final String HTML_FILE = "schedule.html";
+
+    // Changes within this window go into one snapshot
+    private static final long PUBLISH_DELAY_MS = 200;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    private static final Comparator<Fragment> SCHEDULE_ORDER = Comparator
+            .comparing(Fragment::date, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Fragment::startTime, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Fragment::id);
+
+    private final SessionService sessionService;
+    private final Path outputDirectory;
+    private final Gson gson = DataManager.createExportGson();
+    // Session ID -> rendered session
+    private final Map<Long, Fragment> fragments = new HashMap<>();
+    private ScheduledExecutorService publisher;
+    private ChangeEventBus.Subscription subscription;
+    private boolean publishScheduled;
+    private long version;
+    private volatile Snapshot snapshot;
+
+    /**
+     * Private constructor for singleton pattern.
+     */
+    private ScheduleSnapshotPublisher() {
+        this(SessionService.getInstance(), DataManager.getInstance().getDataDirectory().resolve("public"));
+    }
+
+    /**
+     * Constructor for testing with a custom service and output directory.
+     * @param sessionService the service used once to load the schedule
+     * @param outputDirectory where the files are written, or null to keep them in memory only
+     */
+    public ScheduleSnapshotPublisher(SessionService sessionService, Path outputDirectory) {
+        this.sessionService = sessionService;
+        this.outputDirectory = outputDirectory;
+    }
+
+    /**
+     * Gets the singleton instance of ScheduleSnapshotPublisher.
+     * @return the ScheduleSnapshotPublisher instance
+     */
+    public static synchronized ScheduleSnapshotPublisher getInstance() {
+        if (instance == null) {
+            instance = new ScheduleSnapshotPublisher();
+        }
+        return instance;
+    }
+
+    /**
+     * Resets the singleton instance (for testing purposes).
+     */
+    public static synchronized void resetInstance() {
+        if (instance != null) {
+            instance.stop();
+        }
+        instance = null;
+    }
+
+    // ==================== Lifecycle ====================
+
+    /**
+     * Renders the schedule and starts following session changes.
+     * Does nothing if already started.
+     */
+    public void start() {
+        synchronized (this) {
+            if (subscription != null) {
+                return;
+            }
+            publisher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "schedule-publisher");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        // Repositories publish while holding the data manager, so nothing can
+        // change between the subscription and the initial load
+        synchronized (DataManager.getInstance()) {
+            synchronized (this) {
+                subscription = ChangeEventBus.getInstance().subscribe(this, EntityType.SESSION);
+                fragments.clear();
+                for (Session session : sessionService.getAllSessions()) {
+                    fragments.put(session.getId(), render(session));
+                }
+            }
+        }
+        publish();
+    }
+
+    /**
+     * Stops following changes. The last snapshot stays available.
+     */
+    public synchronized void stop() {
+        if (subscription != null) {
+            subscription.cancel();
+            subscription = null;
+        }
+        if (publisher != null) {
+            publisher.shutdownNow();
+            publisher = null;
+        }
+        publishScheduled = false;
+    }
+
+    // ==================== Rendering ====================
+
+    @Override
+    public void onChanges(List<ChangeEvent> events) {
+        // Called on the writing thread: re-render only the changed sessions
+        synchronized (this) {
+            for (ChangeEvent event : events) {
+                Session session = event.getEntity(Session.class);
+                if (event.getChangeType() == ChangeType.DELETE || session == null) {
+                    fragments.remove(event.getEntityId());
+                } else {
+                    fragments.put(session.getId(), render(session));
+                }
+            }
+            if (publishScheduled || publisher == null) {
+                return;
+            }
+            publishScheduled = true;
+            publisher.schedule(this::publish, PUBLISH_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private Fragment render(Session session) {
+        int available = Math.max(0, session.getCapacity() - session.getRegistered());
+        String json = gson.toJson(new ScheduleEntry(session.getId(), session.getDate(), session.getStartTime(),
+                session.getEndTime(), session.getVenue(), session.getType(), session.getCapacity(),
+                session.getRegistered(), available, session.getStatus(), session.getDescription()));
+        String html = "<tr><td>" + format(session.getDate(), DATE_FORMATTER) + "</td><td>"
+                + format(session.getStartTime(), TIME_FORMATTER) + " - " + format(session.getEndTime(), TIME_FORMATTER)
+                + "</td><td>" + escapeHtml(session.getVenue()) + "</td><td>"
+                + (session.getType() == SessionType.ORAL ? "Oral Presentation" : "Poster Presentation")
+                + "</td><td>" + available + "/" + session.getCapacity() + "</td><td>"
+                + (session.getStatus() != null ? session.getStatus().name() : "") + "</td></tr>\n";
+        return new Fragment(session.getId(), session.getDate(), session.getStartTime(), json, html);
+    }
+
+    /**
+     * Assembles the fragments into a new snapshot and writes the files.
+     */
+    private void publish() {
+        List<Fragment> ordered;
+        long snapshotVersion;
+        synchronized (this) {
+            publishScheduled = false;
+            ordered = new ArrayList<>(fragments.values());
+            snapshotVersion = ++version;
+        }
+        ordered.sort(SCHEDULE_ORDER);
+        LocalDateTime generatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        StringBuilder json = new StringBuilder("{\"version\":").append(snapshotVersion)
+                .append(",\"generatedAt\":\"").append(generatedAt).append("\",\"sessions\":[");
+        StringBuilder html = new StringBuilder("<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\">"
+                + "<title>Seminar Schedule</title></head>\n<body>\n<h1>Seminar Schedule</h1>\n"
+                + "<p>Updated " + generatedAt.toString().replace('T', ' ') + "</p>\n<table>\n"
+                + "<tr><th>Date</th><th>Time</th><th>Venue</th><th>Type</th><th>Remaining</th><th>Status</th></tr>\n");
+        for (int i = 0; i < ordered.size(); i++) {
+            json.append(i > 0 ? "," : "").append(ordered.get(i).json());
+            html.append(ordered.get(i).html());
+        }
+        json.append("]}");
+        html.append("</table>\n</body></html>\n");
+
+        byte[] jsonBytes = json.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] htmlBytes = html.toString().getBytes(StandardCharsets.UTF_8);
+        Snapshot next = new Snapshot(snapshotVersion, generatedAt, ordered.size(),
+                jsonBytes, gzip(jsonBytes), htmlBytes, gzip(htmlBytes));
+        synchronized (this) {
+            // A slower earlier publish must not replace a newer snapshot
+            if (snapshot != null && snapshot.version() > next.version()) {
+                return;
+            }
+            snapshot = next;
+        }
+        writeFiles(next);
+    }
+
+    private void writeFiles(Snapshot published) {
+        if (outputDirectory == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(outputDirectory);
+            writeAtomically(outputDirectory.resolve(JSON_FILE), published.json());
+            writeAtomically(outputDirectory.resolve(HTML_FILE), published.html());
+        } catch (IOException e) {
+            System.err.println("Error writing schedule snapshot: " + e.getMessage());
+        }
+    }
+
+    private static void writeAtomically(Path file, byte[] bytes) throws IOException {
+        // Readers see either the old file or the new one, never a partial write
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, bytes);
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String format(TemporalAccessor value, DateTimeFormatter formatter) {
+        return value != null ? formatter.format(value) : "";
+    }
+
+    private static String escapeHtml(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            switch (c) {
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '&' -> escaped.append("&amp;");
+                case '"' -> escaped.append("&quot;");
+                case '\'' -> escaped.append("&#39;");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    // ==================== Snapshot Access ====================
+
+    /**
+     * Gets the latest snapshot without locking.
+     * @return the snapshot, or null before {@link #start()}
+     */
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * An immutable published schedule, with gzip-compressed copies made once
+     * when it is published. The byte arrays are shared and must not be modified.
+     * @param version increases with every snapshot
+     * @param generatedAt when it was assembled
+     * @param sessionCount the number of sessions
+     * @param json the schedule as JSON
+     * @param gzippedJson the JSON gzip-compressed
+     * @param html the schedule as an HTML page
+     * @param gzippedHtml the HTML gzip-compressed
+     */
+    public record Snapshot(long version, LocalDateTime generatedAt, int sessionCount,
+                           byte[] json, byte[] gzippedJson, byte[] html, byte[] gzippedHtml) {
+    }
+
+    private record Fragment(Long id, LocalDate date, LocalTime startTime, String json, String html) {
+    }
+
+    private record ScheduleEntry(Long id, LocalDate date, LocalTime startTime, LocalTime endTime, String venue,
+                                 SessionType type, int capacity, int registered, int available,
+                                 SessionStatus status, String description) {
+    }
+}
@@ -0,0 +1,279 @@
+package com.fci.seminar.service;
+
+import com.fci.seminar.model.Evaluation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Removes evaluator bias from evaluation scores before ranking.
+ * Computes the mean and standard deviation of each rubric criterion per
+ * evaluator and adjusts every score relative to its evaluator, so a
+ * registration that drew harsh evaluators is not penalised.
+ * Per-evaluator work runs in parallel.
+ * Requirements: 8.2
+ */
+public class ScoreNormalizer {
+
+    /**
+     * How scores are adjusted before ranking.
+     */
+    public enum Mode {
+        /** Raw total scores, no adjustment. */
+        RAW,
+        /** Each criterion z-scored per evaluator, then mapped back onto the overall scale. */
+        Z_SCORE,
+        /**
+         * Each criterion shifted by the evaluator's estimated bias. The bias is shrunk
+         * towards zero for evaluators with few evaluations (random-effects estimate).
+         */
+        BIAS_ADJUSTED
+    }
+
+    // Rubric criteria: problemClarity, methodology, results, presentationQuality
+    static final int CRITERIA = 4;
+
+    // Evaluators with fewer evaluations keep their raw scores under Z_SCORE
+    private static final int MIN_EVALUATIONS_FOR_Z = 2;
+
+    /**
+     * Normalizes all submitted evaluations.
+     * @param evaluations the evaluations; unsubmitted ones are ignored
+     * @param mode the adjustment to apply
+     * @return the adjusted scores
+     */
+    public Result normalize(List<Evaluation> evaluations, Mode mode) {
+        Map<Long, List<Evaluation>> byEvaluator = new HashMap<>();
+        for (Evaluation evaluation : evaluations) {
+            if (evaluation.isSubmitted() && evaluation.getEvaluatorId() != null
+                    && evaluation.getRegistrationId() != null) {
+                byEvaluator.computeIfAbsent(evaluation.getEvaluatorId(), k -> new ArrayList<>())
+                        .add(evaluation);
+            }
+        }
+        if (byEvaluator.isEmpty()) {
+            return new Result(Collections.emptyMap(), Collections.emptyMap());
+        }
+
+        // Phase 1: per-evaluator statistics
+        Map<Long, EvaluatorStats> statsByEvaluator = byEvaluator.entrySet().parallelStream()
+                .collect(Collectors.toMap(Map.Entry::getKey,
+                        e -> EvaluatorStats.of(e.getKey(), e.getValue())));
+
+        // Phase 2: overall statistics and shrinkage weights
+        Population population = Population.of(statsByEvaluator.values());
+
+        // Phase 3: adjust every evaluation relative to its evaluator
+        List<double[]> adjusted = byEvaluator.entrySet().parallelStream()
+                .flatMap(e -> adjust(e.getValue(), statsByEvaluator.get(e.getKey()), population, mode).stream())
+                .collect(Collectors.toList());
+
+        // Average adjusted total per registration: [registrationId, total]
+        Map<Long, double[]> totals = new HashMap<>();
+        for (double[] entry : adjusted) {
+            double[] total = totals.computeIfAbsent((long) entry[0], k -> new double[2]);
+            total[0] += entry[1];
+            total[1]++;
+        }
+        Map<Long, Double> averages = new HashMap<>(totals.size() * 2);
+        for (Map.Entry<Long, double[]> entry : totals.entrySet()) {
+            averages.put(entry.getKey(), entry.getValue()[0] / entry.getValue()[1]);
+        }
+        return new Result(averages, statsByEvaluator);
+    }
+
+    private List<double[]> adjust(List<Evaluation> evaluations, EvaluatorStats stats,
+                                  Population population, Mode mode) {
+        List<double[]> adjusted = new ArrayList<>(evaluations.size());
+        for (Evaluation evaluation : evaluations) {
+            int[] scores = criteria(evaluation);
+            double total = 0;
+            for (int c = 0; c < CRITERIA; c++) {
+                total += adjustCriterion(scores[c], c, stats, population, mode);
+            }
+            adjusted.add(new double[]{evaluation.getRegistrationId(), total});
+        }
+        return adjusted;
+    }
+
+    private double adjustCriterion(int score, int c, EvaluatorStats stats, Population population, Mode mode) {
+        double value;
+        switch (mode) {
+            case Z_SCORE:
+                if (stats.count < MIN_EVALUATIONS_FOR_Z) {
+                    value = score; // Not enough data to estimate this evaluator's scale
+                } else if (stats.stddev[c] == 0) {
+                    value = score - stats.mean[c] + population.mean[c];
+                } else {
+                    double z = (score - stats.mean[c]) / stats.stddev[c];
+                    value = population.mean[c] + z * population.stddev[c];
+                }
+                break;
+            case BIAS_ADJUSTED:
+                double weight = stats.count / (stats.count + population.shrinkage[c]);
+                value = score - weight * (stats.mean[c] - population.mean[c]);
+                break;
+            case RAW:
+            default:
+                value = score;
+                break;
+        }
+        return Math.max(Evaluation.MIN_SCORE, Math.min(Evaluation.MAX_SCORE, value));
+    }
+
+    static int[] criteria(Evaluation evaluation) {
+        return new int[]{
+            evaluation.getProblemClarity(),
+            evaluation.getMethodology(),
+            evaluation.getResults(),
+            evaluation.getPresentationQuality()
+        };
+    }
+
+    // ==================== Helper Classes ====================
+
+    /**
+     * Outcome of a normalization pass.
+     */
+    public static class Result {
+        private final Map<Long, Double> averageByRegistration;
+        private final Map<Long, EvaluatorStats> statsByEvaluator;
+
+        Result(Map<Long, Double> averageByRegistration, Map<Long, EvaluatorStats> statsByEvaluator) {
+            this.averageByRegistration = averageByRegistration;
+            this.statsByEvaluator = statsByEvaluator;
+        }
+
+        /**
+         * Gets the average adjusted total score per registration ID.
+         */
+        public Map<Long, Double> getAverageByRegistration() {
+            return averageByRegistration;
+        }
+
+        /**
+         * Gets the per-criterion statistics per evaluator ID.
+         */
+        public Map<Long, EvaluatorStats> getStatsByEvaluator() {
+            return statsByEvaluator;
+        }
+    }
+
+    /**
+     * Mean and sample standard deviation of each criterion for one evaluator.
+     */
+    public static class EvaluatorStats {
+        private final Long evaluatorId;
+        private final int count;
+        private final double[] mean = new double[CRITERIA];
+        private final double[] stddev = new double[CRITERIA];
+
+        private EvaluatorStats(Long evaluatorId, int count) {
+            this.evaluatorId = evaluatorId;
+            this.count = count;
+        }
+
+        static EvaluatorStats of(Long evaluatorId, List<Evaluation> evaluations) {
+            EvaluatorStats stats = new EvaluatorStats(evaluatorId, evaluations.size());
+            double[] m2 = new double[CRITERIA];
+            int n = 0;
+            // Welford's algorithm, one pass per evaluator
+            for (Evaluation evaluation : evaluations) {
+                int[] scores = criteria(evaluation);
+                n++;
+                for (int c = 0; c < CRITERIA; c++) {
+                    double delta = scores[c] - stats.mean[c];
+                    stats.mean[c] += delta / n;
+                    m2[c] += delta * (scores[c] - stats.mean[c]);
+                }
+            }
+            for (int c = 0; c < CRITERIA; c++) {
+                stats.stddev[c] = n < 2 ? 0.0 : Math.sqrt(m2[c] / (n - 1));
+            }
+            return stats;
+        }
+
+        public Long getEvaluatorId() {
+            return evaluatorId;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * Gets the mean of a criterion (0 = problem clarity, 1 = methodology,
+         * 2 = results, 3 = presentation quality).
+         */
+        public double getMean(int criterion) {
+            return mean[criterion];
+        }
+
+        /**
+         * Gets the sample standard deviation of a criterion.
+         */
+        public double getStandardDeviation(int criterion) {
+            return stddev[criterion];
+        }
+    }
+
+    /**
+     * Overall statistics across evaluators, derived from the per-evaluator ones.
+     */
+    private static class Population {
+        final double[] mean = new double[CRITERIA];
+        final double[] stddev = new double[CRITERIA];
+        // Ratio of within-evaluator to between-evaluator variance per criterion
+        final double[] shrinkage = new double[CRITERIA];
+
+        static Population of(Iterable<EvaluatorStats> evaluators) {
+            Population population = new Population();
+            long total = 0;
+            int groups = 0;
+            double sumSquaredCounts = 0;
+            double[] sum = new double[CRITERIA];
+            for (EvaluatorStats stats : evaluators) {
+                total += stats.count;
+                groups++;
+                sumSquaredCounts += (double) stats.count * stats.count;
+                for (int c = 0; c < CRITERIA; c++) {
+                    sum[c] += stats.mean[c] * stats.count;
+                }
+            }
+            for (int c = 0; c < CRITERIA; c++) {
+                population.mean[c] = sum[c] / total;
+            }
+
+            // Split the overall variance into within- and between-evaluator parts
+            double[] within = new double[CRITERIA];
+            double[] between = new double[CRITERIA];
+            for (EvaluatorStats stats : evaluators) {
+                for (int c = 0; c < CRITERIA; c++) {
+                    within[c] += stats.stddev[c] * stats.stddev[c] * (stats.count - 1);
+                    double offset = stats.mean[c] - population.mean[c];
+                    between[c] += offset * offset * stats.count;
+                }
+            }
+            for (int c = 0; c < CRITERIA; c++) {
+                population.stddev[c] = total < 2 ? 0.0 : Math.sqrt((within[c] + between[c]) / (total - 1));
+
+                // One-way ANOVA estimates for unbalanced group sizes
+                double withinVariance = total > groups ? within[c] / (total - groups) : 0.0;
+                double betweenVariance = 0.0;
+                if (groups > 1) {
+                    double effectiveGroupSize = (total - sumSquaredCounts / total) / (groups - 1);
+                    betweenVariance = (between[c] / (groups - 1) - withinVariance) / effectiveGroupSize;
+                }
+                // No measurable evaluator effect means no adjustment
+                population.shrinkage[c] = betweenVariance > 1e-9
+                        ? withinVariance / betweenVariance
+                        : Double.POSITIVE_INFINITY;
+            }
+            return population;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.fci.seminar.service;
+
+import com.fci.seminar.model.User;
+import com.fci.seminar.model.enums.Permission;
+import com.fci.seminar.model.enums.Role;
+
+/**
+ * The identity a piece of work runs as: a user, their role and the role's
+ * permissions as a bitmask. Immutable, so one context can be shared by every
+ * request made with the same token.
+ * A context can be bound to the current thread for the duration of a request;
+ * {@link AuthService} answers "who is the current user" from the bound context
+ * and falls back to the desktop login otherwise.
+ */
+public final class SecurityContext {
+
+    /** Anonymous access */
+    public static final SecurityContext GUEST = new SecurityContext(null, Role.GUEST);
+
+    private static final ThreadLocal<SecurityContext> CURRENT = new ThreadLocal<>();
+
+    private final User user;
+    private final Role role;
+    private final long permissions;
+
+    /**
+     * Creates a context.
+     * @param user the user, null for a guest
+     * @param role the role
+     */
+    public SecurityContext(User user, Role role) {
+        this.user = user;
+        this.role = role != null ? role : Role.GUEST;
+        this.permissions = Permission.maskOf(this.role);
+    }
+
+    // ==================== Thread Binding ====================
+
+    /**
+     * Gets the context bound to the current thread.
+     * @return the context, or null if none is bound
+     */
+    public static SecurityContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds a context to the current thread until the returned scope is closed.
+     * Scopes nest: closing one restores the previously bound context.
+     * <pre>
+     * SecurityContext.Scope scope = SecurityContext.bind(context);
+     * try {
+     *     ...
+     * } finally {
+     *     scope.close();
+     * }
+     * </pre>
+     * @param context the context to bind
+     * @return the scope to close
+     */
+    public static Scope bind(SecurityContext context) {
+        SecurityContext previous = CURRENT.get();
+        CURRENT.set(context);
+        return new Scope(previous);
+    }
+
+    /**
+     * Restores the previously bound context when closed.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final SecurityContext previous;
+
+        private Scope(SecurityContext previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    // ==================== Identity ====================
+
+    public User getUser() {
+        return user;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    /**
+     * Gets the user's ID.
+     * @return the ID, or null for a guest
+     */
+    public Long getUserId() {
+        return user != null ? user.getId() : null;
+    }
+
+    public boolean isAuthenticated() {
+        return user != null && role != Role.GUEST;
+    }
+
+    // ==================== Permissions ====================
+
+    public boolean hasPermission(Permission permission) {
+        return permission != null && (permissions & permission.bit()) != 0;
+    }
+
+    /**
+     * Checks whether this context is the given user, e.g. the owner of a registration.
+     */
+    public boolean isUser(Long userId) {
+        return userId != null && user != null && userId.equals(user.getId());
+    }
+
+    @Override
+    public String toString() {
+        return user != null ? role + ":" + user.getUsername() : role.toString();
+    }
+}
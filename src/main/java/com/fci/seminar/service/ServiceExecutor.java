@@ -0,0 +1,212 @@
+package com.fci.seminar.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Singleton executor used by the asynchronous service methods.
+ * Runs read operations on a shared pool (virtual threads on JDK 21+,
+ * a bounded platform thread pool otherwise) and write operations on a
+ * single serialized lane so JSON file rewrites never interleave.
+ */
+public class ServiceExecutor {
+    private static ServiceExecutor instance;
+
+    // Bounded pool settings used when virtual threads are not available
+    private static final int QUEUE_CAPACITY = 1000;
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private ExecutorService readExecutor;
+    private ExecutorService writeExecutor;
+
+    /**
+     * Private constructor for singleton pattern.
+     */
+    private ServiceExecutor() {
+        this(createDefaultExecutor(), createWriteExecutor());
+    }
+
+    /**
+     * Constructor for testing with custom executors.
+     */
+    public ServiceExecutor(ExecutorService readExecutor, ExecutorService writeExecutor) {
+        this.readExecutor = readExecutor;
+        this.writeExecutor = writeExecutor;
+    }
+
+    /**
+     * Gets the singleton instance of ServiceExecutor.
+     */
+    public static synchronized ServiceExecutor getInstance() {
+        if (instance == null) {
+            instance = new ServiceExecutor();
+        }
+        return instance;
+    }
+
+    /**
+     * Resets the singleton instance (for testing purposes).
+     */
+    public static synchronized void resetInstance() {
+        if (instance != null) {
+            instance.shutdown();
+        }
+        instance = null;
+    }
+
+    // ==================== Configuration ====================
+
+    /**
+     * Creates the default read executor.
+     * Uses a virtual-thread-per-task executor when the running JDK supports it,
+     * otherwise a bounded pool sized to the available processors.
+     * @return the executor
+     */
+    public static ExecutorService createDefaultExecutor() {
+        return createDefaultExecutor(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Creates a virtual-thread-per-task executor when the running JDK supports it,
+     * otherwise a bounded pool of the given size.
+     * @param fallbackThreads the pool size used without virtual threads
+     * @return the executor
+     */
+    public static ExecutorService createDefaultExecutor(int fallbackThreads) {
+        try {
+            // Looked up reflectively so the code still compiles for Java 17
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return createBoundedExecutor(fallbackThreads);
+        }
+    }
+
+    /**
+     * Checks whether the running JDK has virtual threads, i.e. whether
+     * {@link #createDefaultExecutor(int)} gives every task its own cheap thread.
+     */
+    public static boolean supportsVirtualThreads() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates a bounded platform thread pool.
+     * Tasks beyond the queue capacity run on the caller thread instead of being dropped.
+     * @param maxThreads the maximum number of threads
+     * @return the executor
+     */
+    public static ExecutorService createBoundedExecutor(int maxThreads) {
+        int size = Math.max(1, maxThreads);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                size, size, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                daemonThreadFactory("service-worker"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static ExecutorService createWriteExecutor() {
+        return Executors.newSingleThreadExecutor(daemonThreadFactory("service-writer"));
+    }
+
+    private static ThreadFactory daemonThreadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Replaces the read executor. The previous executor is shut down.
+     * @param executor the new executor
+     */
+    public synchronized void setReadExecutor(ExecutorService executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        ExecutorService previous = this.readExecutor;
+        this.readExecutor = executor;
+        previous.shutdown();
+    }
+
+    /**
+     * Gets the read executor.
+     */
+    public synchronized ExecutorService getReadExecutor() {
+        return readExecutor;
+    }
+
+    // ==================== Task Submission ====================
+
+    /**
+     * Runs a read-only task on the shared pool.
+     * Cancelling the returned future interrupts the running task.
+     * @param task the task to run
+     * @return a future with the task result
+     */
+    public <T> CompletableFuture<T> submitRead(Callable<T> task) {
+        return submit(getReadExecutor(), task, true);
+    }
+
+    /**
+     * Runs a mutating task on the serialized write lane.
+     * Cancelling the returned future before it starts prevents the write.
+     * A write that has started is never interrupted, as that could leave a
+     * data file and the data in memory out of step.
+     * @param task the task to run
+     * @return a future with the task result
+     */
+    public <T> CompletableFuture<T> submitWrite(Callable<T> task) {
+        return submit(writeExecutor, task, false);
+    }
+
+    /**
+     * Runs a task, cancelling it when the returned future is cancelled.
+     * @param interruptible whether cancelling interrupts a task that is running
+     */
+    private <T> CompletableFuture<T> submit(ExecutorService executor, Callable<T> task, boolean interruptible) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> running = executor.submit(() -> {
+            if (result.isDone()) {
+                return; // Cancelled before it started
+            }
+            try {
+                result.complete(task.call());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                running.cancel(interruptible);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Shuts down both executors. Pending writes are allowed to finish.
+     */
+    public synchronized void shutdown() {
+        readExecutor.shutdownNow();
+        writeExecutor.shutdown();
+    }
+}
@@ -0,0 +1,100 @@
+package com.fci.seminar.service;
+
+import com.fci.seminar.model.Session;
+import com.fci.seminar.model.enums.SessionStatus;
+import com.fci.seminar.model.enums.SessionType;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Session attendance report.
+ * Requirements: 9.2
+ */
+public record SessionAttendance(
+        int totalSessions,
+        int openSessions,
+        int fullSessions,
+        int closedSessions,
+        int oralSessions,
+        int posterSessions,
+        int totalCapacity,
+        int totalRegistered,
+        double utilizationRate,
+        List<SessionDetail> sessionDetails) {
+
+    public SessionAttendance {
+        sessionDetails = List.copyOf(sessionDetails);
+    }
+
+    /**
+     * Attendance figures for one session.
+     */
+    public record SessionDetail(
+            Long sessionId,
+            LocalDate date,
+            String venue,
+            SessionType type,
+            int capacity,
+            int registered,
+            SessionStatus status) {
+
+        public int availableSlots() {
+            return capacity - registered;
+        }
+    }
+
+    /**
+     * Single-pass accumulator for session attendance.
+     */
+    static final class Accumulator implements ReportAggregator.Accumulator<Session, Accumulator> {
+        private int total;
+        // Indexed by SessionStatus ordinal
+        private final int[] byStatus = new int[SessionStatus.values().length];
+        private int oral;
+        private int poster;
+        private int capacity;
+        private int registered;
+        private final List<SessionDetail> details = new ArrayList<>();
+
+        @Override
+        public void accept(Session session) {
+            total++;
+            if (session.getStatus() != null) {
+                byStatus[session.getStatus().ordinal()]++;
+            }
+            if (session.getType() == SessionType.ORAL) {
+                oral++;
+            } else if (session.getType() == SessionType.POSTER) {
+                poster++;
+            }
+            capacity += session.getCapacity();
+            registered += session.getRegistered();
+            details.add(new SessionDetail(session.getId(), session.getDate(), session.getVenue(),
+                    session.getType(), session.getCapacity(), session.getRegistered(), session.getStatus()));
+        }
+
+        @Override
+        public void combine(Accumulator other) {
+            total += other.total;
+            for (int i = 0; i < byStatus.length; i++) {
+                byStatus[i] += other.byStatus[i];
+            }
+            oral += other.oral;
+            poster += other.poster;
+            capacity += other.capacity;
+            registered += other.registered;
+            details.addAll(other.details);
+        }
+
+        SessionAttendance toResult() {
+            double utilizationRate = capacity > 0 ? (double) registered / capacity * 100 : 0.0;
+            return new SessionAttendance(total,
+                    byStatus[SessionStatus.OPEN.ordinal()],
+                    byStatus[SessionStatus.FULL.ordinal()],
+                    byStatus[SessionStatus.CLOSED.ordinal()],
+                    oral, poster, capacity, registered, utilizationRate, details);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.fci.seminar.service;
+
+import com.fci.seminar.model.Registration;
+import com.fci.seminar.model.Session;
+import com.fci.seminar.model.enums.RegistrationStatus;
+import com.fci.seminar.model.enums.SessionType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Plans session assignments for many registrations at once.
+ * Registrations are placed first come, first served into open sessions of
+ * their presentation type. Each goes to the matching session with the lowest
+ * fill rate, so sessions fill evenly instead of one after another.
+ * Two students of the same supervisor are never placed in different sessions
+ * that overlap in time, so the supervisor can attend both presentations.
+ * Requirements: 7.2
+ */
+public class SessionScheduler {
+
+    private static final Comparator<Registration> ARRIVAL_ORDER = Comparator
+            .comparing(Registration::getCreatedAt, Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(Registration::getId, Comparator.nullsLast(Comparator.<Long>naturalOrder()));
+
+    // ==================== Scheduling ====================
+
+    /**
+     * Plans a session for each registration.
+     * @param toSchedule the registrations to place, normally the approved unassigned ones
+     * @param sessions all sessions; only open sessions with free slots receive registrations
+     * @param existing all registrations, used for the sessions supervisors already present in
+     * @return the planned placements
+     */
+    public Plan schedule(List<Registration> toSchedule, List<Session> sessions, List<Registration> existing) {
+        int sessionCount = sessions.size();
+        Map<Long, Integer> indexById = new HashMap<>();
+        int[] filled = new int[sessionCount];
+        int[] capacity = new int[sessionCount];
+        for (int i = 0; i < sessionCount; i++) {
+            Session session = sessions.get(i);
+            indexById.put(session.getId(), i);
+            filled[i] = session.getRegistered();
+            capacity[i] = session.getCapacity();
+        }
+        List<List<Integer>> overlaps = findOverlaps(sessions);
+
+        // Sessions each supervisor may no longer be placed in
+        Map<String, Set<Integer>> blockedBySupervisor = new HashMap<>();
+        for (Registration registration : existing) {
+            Integer index = registration.getSessionId() != null ? indexById.get(registration.getSessionId()) : null;
+            if (index != null && isActive(registration)) {
+                block(blockedBySupervisor, registration, index, overlaps);
+            }
+        }
+
+        // One queue of sessions with free slots per presentation type, least filled first
+        Comparator<Integer> byFillRate = (a, b) -> {
+            int compare = Long.compare((long) filled[a] * capacity[b], (long) filled[b] * capacity[a]);
+            return compare != 0 ? compare : compareStart(sessions.get(a), sessions.get(b));
+        };
+        Map<SessionType, PriorityQueue<Integer>> openByType = new EnumMap<>(SessionType.class);
+        for (int i = 0; i < sessionCount; i++) {
+            Session session = sessions.get(i);
+            if (session.getType() != null && session.hasAvailableSlots()) {
+                openByType.computeIfAbsent(session.getType(), t -> new PriorityQueue<>(byFillRate)).add(i);
+            }
+        }
+
+        List<Registration> ordered = new ArrayList<>(toSchedule);
+        ordered.sort(ARRIVAL_ORDER);
+
+        List<Placement> placements = new ArrayList<>(ordered.size());
+        Map<Long, UnscheduledReason> unscheduled = new LinkedHashMap<>();
+        List<Integer> skipped = new ArrayList<>();
+        for (Registration registration : ordered) {
+            PriorityQueue<Integer> open = openByType.get(registration.getPresentationType());
+            if (open == null || open.isEmpty()) {
+                unscheduled.put(registration.getId(), UnscheduledReason.NO_CAPACITY);
+                continue;
+            }
+
+            Set<Integer> blocked = blockedBySupervisor.getOrDefault(
+                    supervisorKey(registration), Collections.emptySet());
+            Integer chosen = null;
+            while (!open.isEmpty()) {
+                Integer candidate = open.poll();
+                if (!blocked.contains(candidate)) {
+                    chosen = candidate;
+                    break;
+                }
+                skipped.add(candidate);
+            }
+            open.addAll(skipped);
+            skipped.clear();
+
+            if (chosen == null) {
+                unscheduled.put(registration.getId(), UnscheduledReason.SUPERVISOR_CONFLICT);
+                continue;
+            }
+            placements.add(new Placement(registration.getId(), sessions.get(chosen).getId()));
+            filled[chosen]++;
+            if (filled[chosen] < capacity[chosen]) {
+                open.add(chosen);
+            }
+            block(blockedBySupervisor, registration, chosen, overlaps);
+        }
+
+        List<SessionFill> fills = new ArrayList<>();
+        for (int i = 0; i < sessionCount; i++) {
+            Session session = sessions.get(i);
+            int planned = filled[i] - session.getRegistered();
+            if (planned > 0) {
+                fills.add(new SessionFill(session.getId(), planned, filled[i], capacity[i]));
+            }
+        }
+        return new Plan(placements, unscheduled, fills);
+    }
+
+    /**
+     * Lists, for every session, the other sessions on the same date whose time ranges overlap it.
+     */
+    private static List<List<Integer>> findOverlaps(List<Session> sessions) {
+        List<List<Integer>> overlaps = new ArrayList<>(sessions.size());
+        List<Integer> timed = new ArrayList<>();
+        for (int i = 0; i < sessions.size(); i++) {
+            overlaps.add(new ArrayList<>());
+            Session session = sessions.get(i);
+            if (session.getDate() != null && session.getStartTime() != null && session.getEndTime() != null) {
+                timed.add(i);
+            }
+        }
+        timed.sort((a, b) -> compareStart(sessions.get(a), sessions.get(b)));
+
+        // Sweep in start order; later sessions overlap while they start before this one ends
+        for (int x = 0; x < timed.size(); x++) {
+            Session first = sessions.get(timed.get(x));
+            for (int y = x + 1; y < timed.size(); y++) {
+                Session second = sessions.get(timed.get(y));
+                if (!second.getDate().equals(first.getDate())
+                        || !second.getStartTime().isBefore(first.getEndTime())) {
+                    break;
+                }
+                overlaps.get(timed.get(x)).add(timed.get(y));
+                overlaps.get(timed.get(y)).add(timed.get(x));
+            }
+        }
+        return overlaps;
+    }
+
+    private static int compareStart(Session a, Session b) {
+        int compare = Comparator.nullsLast(Comparator.<LocalDate>naturalOrder())
+                .compare(a.getDate(), b.getDate());
+        if (compare == 0) {
+            compare = Comparator.nullsLast(Comparator.<LocalTime>naturalOrder())
+                    .compare(a.getStartTime(), b.getStartTime());
+        }
+        if (compare == 0) {
+            compare = Comparator.nullsLast(Comparator.<Long>naturalOrder()).compare(a.getId(), b.getId());
+        }
+        return compare;
+    }
+
+    private static void block(Map<String, Set<Integer>> blockedBySupervisor, Registration registration,
+                              int sessionIndex, List<List<Integer>> overlaps) {
+        String supervisor = supervisorKey(registration);
+        if (supervisor.isEmpty() || overlaps.get(sessionIndex).isEmpty()) {
+            return;
+        }
+        blockedBySupervisor.computeIfAbsent(supervisor, s -> new HashSet<>()).addAll(overlaps.get(sessionIndex));
+    }
+
+    private static String supervisorKey(Registration registration) {
+        return AssignmentOptimizer.normalizeName(registration.getSupervisorName());
+    }
+
+    private static boolean isActive(Registration registration) {
+        return registration.getStatus() != RegistrationStatus.CANCELLED
+                && registration.getStatus() != RegistrationStatus.REJECTED;
+    }
+
+    // ==================== Results ====================
+
+    /**
+     * Why a registration could not be placed.
+     */
+    public enum UnscheduledReason {
+        /** No open session of the presentation type has a free slot */
+        NO_CAPACITY,
+        /** Every session with a free slot overlaps one the supervisor already attends */
+        SUPERVISOR_CONFLICT
+    }
+
+    /**
+     * A planned session assignment.
+     * @param registrationId the registration ID
+     * @param sessionId the session ID
+     */
+    public record Placement(Long registrationId, Long sessionId) {
+    }
+
+    /**
+     * How full a session will be once the plan is applied.
+     * @param sessionId the session ID
+     * @param planned the registrations the plan adds
+     * @param registered the registrations in total, existing plus planned
+     * @param capacity the session capacity
+     */
+    public record SessionFill(Long sessionId, int planned, int registered, int capacity) {
+
+        public double fillRate() {
+            return capacity > 0 ? (double) registered / capacity : 0.0;
+        }
+    }
+
+    /**
+     * The outcome of scheduling.
+     * @param placements the session assignments to make
+     * @param unscheduled registrations that could not be placed, with the reason
+     * @param sessionFills the sessions receiving registrations and their resulting fill
+     */
+    public record Plan(List<Placement> placements, Map<Long, UnscheduledReason> unscheduled,
+                       List<SessionFill> sessionFills) {
+
+        public Plan {
+            placements = List.copyOf(placements);
+            unscheduled = Collections.unmodifiableMap(new LinkedHashMap<>(unscheduled));
+            sessionFills = List.copyOf(sessionFills);
+        }
+
+        /**
+         * Gets the placements as a registration ID to session ID map.
+         */
+        public Map<Long, Long> sessionByRegistration() {
+            Map<Long, Long> map = new LinkedHashMap<>();
+            for (Placement placement : placements) {
+                map.put(placement.registrationId(), placement.sessionId());
+            }
+            return map;
+        }
+    }
+}
@@ -3,11 +3,13 @@ package com.fci.seminar.service;
 import com.fci.seminar.model.Session;
 import com.fci.seminar.model.enums.SessionStatus;
 import com.fci.seminar.model.enums.SessionType;
+import com.fci.seminar.repository.EvaluationRepository;
 import com.fci.seminar.repository.RegistrationRepository;
 import com.fci.seminar.repository.SessionRepository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -20,13 +22,13 @@ public class SessionService {
     
     private final SessionRepository sessionRepository;
     private final RegistrationRepository registrationRepository;
+    private final ScheduleConflictIndex conflictIndex;
     
     /**
      * Private constructor for singleton pattern.
      */
     private SessionService() {
-        this.sessionRepository = new SessionRepository();
-        this.registrationRepository = new RegistrationRepository();
+        this(new SessionRepository(), new RegistrationRepository(), new EvaluationRepository());
     }
     
     /**
@@ -34,8 +36,18 @@ public class SessionService {
      */
     public SessionService(SessionRepository sessionRepository, 
                           RegistrationRepository registrationRepository) {
+        this(sessionRepository, registrationRepository, new EvaluationRepository());
+    }
+    
+    /**
+     * Constructor for testing with custom repositories.
+     */
+    public SessionService(SessionRepository sessionRepository, 
+                          RegistrationRepository registrationRepository,
+                          EvaluationRepository evaluationRepository) {
         this.sessionRepository = sessionRepository;
         this.registrationRepository = registrationRepository;
+        this.conflictIndex = new ScheduleConflictIndex(sessionRepository, registrationRepository, evaluationRepository);
     }
     
     /**
@@ -232,6 +244,22 @@ public class SessionService {
         if (!session.getStartTime().isBefore(session.getEndTime())) {
             throw new IllegalArgumentException("Start time must be before end time");
         }
+        if (session.getBoardScheme() != null && !session.getBoardScheme().trim().isEmpty()) {
+            BoardIdScheme.of(session.getBoardScheme());
+        }
+        
+        // Check for clashes with other sessions
+        List<Long> venueConflicts = conflictIndex.findVenueConflicts(session);
+        if (!venueConflicts.isEmpty()) {
+            Session other = sessionRepository.findById(venueConflicts.get(0));
+            throw new IllegalArgumentException(String.format(
+                "%s is already booked on %s from %s to %s (session %d)",
+                other.getVenue(), other.getDate(), other.getStartTime(), other.getEndTime(), other.getId()));
+        }
+        List<ScheduleConflict> evaluatorConflicts = conflictIndex.findEvaluatorConflicts(session);
+        if (!evaluatorConflicts.isEmpty()) {
+            throw new IllegalArgumentException(evaluatorConflicts.get(0).describe());
+        }
     }
     
     /**
@@ -389,4 +417,91 @@ public class SessionService {
     public long countByType(SessionType type) {
         return sessionRepository.countByType(type);
     }
+    
+    // ==================== Conflict Detection ====================
+    
+    /**
+     * Lists every schedule conflict: sessions sharing a venue at overlapping
+     * times, and evaluators assigned to presentations in overlapping sessions.
+     * @return the conflicts, ordered by when they occur
+     */
+    public List<ScheduleConflict> getScheduleConflicts() {
+        return conflictIndex.findAllConflicts();
+    }
+    
+    // ==================== Async Operations ====================
+    
+    /**
+     * Gets all sessions without blocking the caller.
+     * @return future with the list of all sessions
+     */
+    public CompletableFuture<List<Session>> getAllSessionsAsync() {
+        return ServiceExecutor.getInstance().submitRead(this::getAllSessions);
+    }
+    
+    /**
+     * Gets available sessions by type without blocking the caller.
+     * @param type the session type, or null for all types
+     * @return future with the list of available sessions
+     */
+    public CompletableFuture<List<Session>> getAvailableSessionsAsync(SessionType type) {
+        return ServiceExecutor.getInstance().submitRead(() -> getAvailableSessions(type));
+    }
+    
+    /**
+     * Filters sessions by date and/or type without blocking the caller.
+     * @param date optional date filter
+     * @param type optional type filter
+     * @return future with the filtered list of sessions
+     */
+    public CompletableFuture<List<Session>> filterSessionsAsync(LocalDate date, SessionType type) {
+        return ServiceExecutor.getInstance().submitRead(() -> filterSessions(date, type));
+    }
+    
+    /**
+     * Creates a session on the write lane.
+     * @param session the session to create
+     * @return future with the created session
+     */
+    public CompletableFuture<Session> createSessionAsync(Session session) {
+        return ServiceExecutor.getInstance().submitWrite(() -> createSession(session));
+    }
+    
+    /**
+     * Updates a session on the write lane.
+     * @param session the session to update
+     * @return future with the updated session
+     */
+    public CompletableFuture<Session> updateSessionAsync(Session session) {
+        return ServiceExecutor.getInstance().submitWrite(() -> updateSession(session));
+    }
+    
+    /**
+     * Updates the status of a session on the write lane.
+     * @param sessionId the session ID
+     * @param status the new status
+     * @return future with the updated session
+     */
+    public CompletableFuture<Session> updateSessionStatusAsync(Long sessionId, SessionStatus status) {
+        return ServiceExecutor.getInstance().submitWrite(() -> updateSessionStatus(sessionId, status));
+    }
+    
+    /**
+     * Deletes a session on the write lane.
+     * @param sessionId the session ID
+     * @param confirmed whether deletion of a session with registrations is confirmed
+     * @return future that is true if the session was deleted
+     */
+    public CompletableFuture<Boolean> deleteSessionAsync(Long sessionId, boolean confirmed) {
+        return ServiceExecutor.getInstance().submitWrite(
+                () -> deleteSessionWithConfirmation(sessionId, confirmed));
+    }
+    
+    /**
+     * Lists every schedule conflict in the background.
+     * @return future with the conflicts
+     */
+    public CompletableFuture<List<ScheduleConflict>> getScheduleConflictsAsync() {
+        return ServiceExecutor.getInstance().submitRead(this::getScheduleConflicts);
+    }
 }
@@ -0,0 +1,191 @@
+package com.fci.seminar.ui;
+
+import com.fci.seminar.ui.components.LoadingIndicator;
+
+import javax.swing.*;
+import java.awt.event.HierarchyEvent;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Runs panel data queries on a SwingWorker thread and hands the results
+ * back on the EDT. Only the most recent request for an owner is applied;
+ * older results are discarded. Loading is cancelled when the owner stops
+ * showing and restarted when it is shown again.
+ *
+ * All methods must be called on the EDT.
+ */
+public class BackgroundLoader {
+
+    private final JComponent owner;
+    private final LoadingIndicator indicator;
+
+    private SwingWorker<?, ?> currentWorker;
+    private Runnable lastRequest;
+    private int generation;
+    private boolean interrupted;
+
+    /**
+     * Creates a loader bound to a panel.
+     * @param owner The panel that displays the loaded data
+     * @param indicator The indicator to show while loading, may be null
+     */
+    public BackgroundLoader(JComponent owner, LoadingIndicator indicator) {
+        this.owner = owner;
+        this.indicator = indicator;
+        owner.addHierarchyListener(this::handleHierarchyChange);
+    }
+
+    // ==================== Loading ====================
+
+    /**
+     * Runs a query in the background and passes its result to the callback on the EDT.
+     * @param query The query to run off the EDT
+     * @param onLoaded Callback that applies the result to the UI
+     */
+    public <T> void load(Callable<T> query, Consumer<T> onLoaded) {
+        lastRequest = () -> load(query, onLoaded);
+        final int token = startRequest();
+
+        SwingWorker<T, Void> worker = new SwingWorker<>() {
+            @Override
+            protected T doInBackground() throws Exception {
+                return query.call();
+            }
+
+            @Override
+            protected void done() {
+                if (!isCurrent(token) || isCancelled()) {
+                    return; // Stale result
+                }
+                try {
+                    T result = get();
+                    finishRequest();
+                    onLoaded.accept(result);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    failRequest(e.getCause());
+                }
+            }
+        };
+        currentWorker = worker;
+        worker.execute();
+    }
+
+    /**
+     * Runs a row query in the background and publishes rows to the EDT in batches.
+     * @param query The query returning the rows to display
+     * @param onStart Called on the EDT before loading starts, e.g. to clear a table
+     * @param onRows Called on the EDT with each batch of rows
+     */
+    public <R> void loadRows(Callable<List<R>> query, Runnable onStart, Consumer<List<R>> onRows) {
+        lastRequest = () -> loadRows(query, onStart, onRows);
+        final int token = startRequest();
+        onStart.run();
+
+        SwingWorker<Void, R> worker = new SwingWorker<>() {
+            @Override
+            protected Void doInBackground() throws Exception {
+                for (R row : query.call()) {
+                    if (isCancelled()) {
+                        break;
+                    }
+                    publish(row);
+                }
+                return null;
+            }
+
+            @Override
+            protected void process(List<R> rows) {
+                if (isCurrent(token) && !isCancelled()) {
+                    onRows.accept(rows);
+                }
+            }
+
+            @Override
+            protected void done() {
+                if (!isCurrent(token) || isCancelled()) {
+                    return;
+                }
+                try {
+                    get();
+                    finishRequest();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    failRequest(e.getCause());
+                }
+            }
+        };
+        currentWorker = worker;
+        worker.execute();
+    }
+
+    /**
+     * Cancels the running request, if any. Its results will be discarded.
+     */
+    public void cancel() {
+        generation++;
+        if (currentWorker != null) {
+            currentWorker.cancel(true);
+            currentWorker = null;
+        }
+        if (indicator != null) {
+            indicator.hideIndicator();
+        }
+    }
+
+    /**
+     * Checks if a request is still running.
+     * @return true if loading
+     */
+    public boolean isLoading() {
+        return currentWorker != null;
+    }
+
+    // ==================== Internal State ====================
+
+    private int startRequest() {
+        cancel();
+        interrupted = false;
+        if (indicator != null) {
+            indicator.showLoading();
+        }
+        return generation;
+    }
+
+    private boolean isCurrent(int token) {
+        return token == generation;
+    }
+
+    private void finishRequest() {
+        currentWorker = null;
+        if (indicator != null) {
+            indicator.hideIndicator();
+        }
+    }
+
+    private void failRequest(Throwable cause) {
+        currentWorker = null;
+        System.err.println("Error loading data: " + (cause != null ? cause.getMessage() : "unknown"));
+        if (indicator != null) {
+            indicator.showError("Failed to load data");
+        }
+    }
+
+    private void handleHierarchyChange(HierarchyEvent e) {
+        if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) == 0) {
+            return;
+        }
+        if (!owner.isShowing() && isLoading()) {
+            // Navigated away mid-load - drop the work and reload when shown again
+            cancel();
+            interrupted = true;
+        } else if (owner.isShowing() && interrupted && lastRequest != null) {
+            lastRequest.run();
+        }
+    }
+}
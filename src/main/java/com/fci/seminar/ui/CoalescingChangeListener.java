@@ -0,0 +1,98 @@
+package com.fci.seminar.ui;
+
+import com.fci.seminar.repository.ChangeEvent;
+import com.fci.seminar.repository.ChangeEvent.ChangeType;
+import com.fci.seminar.repository.ChangeEvent.EntityType;
+import com.fci.seminar.repository.ChangeEventBus;
+import com.fci.seminar.repository.RepositoryListener;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Buffers repository changes and delivers them to a panel on the EDT,
+ * at most once per event-queue pass. Repeated changes to the same entity
+ * are merged, so a bulk import produces one batch instead of thousands
+ * of repaints.
+ */
+public class CoalescingChangeListener implements RepositoryListener {
+
+    private final RepositoryListener target;
+    private final Map<String, ChangeEvent> pending = new LinkedHashMap<>();
+    private boolean flushScheduled;
+
+    /**
+     * Creates a coalescing listener.
+     * @param target Listener that receives merged batches on the EDT
+     */
+    public CoalescingChangeListener(RepositoryListener target) {
+        this.target = target;
+    }
+
+    /**
+     * Subscribes a panel callback to the shared bus through a coalescing listener.
+     * @param target Listener that receives merged batches on the EDT
+     * @param types The entity types of interest; all types if none are given
+     * @return the subscription, to be cancelled when the panel is disposed
+     */
+    public static ChangeEventBus.Subscription subscribe(RepositoryListener target, EntityType... types) {
+        return ChangeEventBus.getInstance().subscribe(new CoalescingChangeListener(target), types);
+    }
+
+    @Override
+    public void onChanges(List<ChangeEvent> events) {
+        synchronized (pending) {
+            for (ChangeEvent event : events) {
+                merge(event);
+            }
+            if (flushScheduled || pending.isEmpty()) {
+                return;
+            }
+            flushScheduled = true;
+        }
+        SwingUtilities.invokeLater(this::flush);
+    }
+
+    private void merge(ChangeEvent event) {
+        String key = event.getEntityType() + ":" + event.getEntityId();
+        ChangeEvent previous = pending.remove(key);
+        if (previous == null) {
+            pending.put(key, event);
+            return;
+        }
+
+        ChangeType before = previous.getChangeType();
+        ChangeType after = event.getChangeType();
+        if (before == ChangeType.INSERT && after == ChangeType.DELETE) {
+            return; // Never seen by the panel
+        }
+
+        ChangeType merged = after;
+        if (before == ChangeType.INSERT) {
+            merged = ChangeType.INSERT;
+        } else if (before == ChangeType.DELETE && after == ChangeType.INSERT) {
+            merged = ChangeType.UPDATE;
+        }
+        pending.put(key, new ChangeEvent(event.getEntityType(), merged, event.getEntityId(), event.getEntity()));
+    }
+
+    private void flush() {
+        List<ChangeEvent> batch;
+        synchronized (pending) {
+            batch = new ArrayList<>(pending.values());
+            pending.clear();
+            flushScheduled = false;
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            target.onChanges(batch);
+        } catch (RuntimeException e) {
+            System.err.println("Error applying changes: " + e.getMessage());
+        }
+    }
+}
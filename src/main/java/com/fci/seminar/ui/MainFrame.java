@@ -205,6 +205,11 @@ public class MainFrame extends JFrame {
         statusBar.updateRoleDisplay(role);
         
         // Clear panel cache on role change
+        for (JPanel panel : panelCache.values()) {
+            if (panel instanceof Disposable) {
+                ((Disposable) panel).dispose();
+            }
+        }
         panelCache.clear();
         
         // Notify listener
@@ -316,4 +321,12 @@ public class MainFrame extends JFrame {
     public interface Refreshable {
         void refresh();
     }
+    
+    /**
+     * Interface for panels that hold subscriptions or other resources
+     * which must be released when the panel is dropped from the cache.
+     */
+    public interface Disposable {
+        void dispose();
+    }
 }
@@ -0,0 +1,70 @@
+package com.fci.seminar.ui.components;
+
+import com.fci.seminar.util.UIConstants;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Small inline progress indicator shown while a panel loads data.
+ * Hidden by default; driven by BackgroundLoader.
+ */
+public class LoadingIndicator extends JPanel {
+
+    private static final String DEFAULT_TEXT = "Loading...";
+
+    private JProgressBar progressBar;
+    private JLabel messageLabel;
+
+    /**
+     * Creates a new hidden loading indicator.
+     */
+    public LoadingIndicator() {
+        initComponents();
+    }
+
+    private void initComponents() {
+        setLayout(new FlowLayout(FlowLayout.LEFT, UIConstants.SPACING_SM, 0));
+        setOpaque(false);
+
+        progressBar = new JProgressBar();
+        progressBar.setIndeterminate(true);
+        progressBar.setPreferredSize(new Dimension(80, 8));
+        add(progressBar);
+
+        messageLabel = new JLabel(DEFAULT_TEXT);
+        messageLabel.setFont(UIConstants.SMALL);
+        messageLabel.setForeground(UIConstants.TEXT_SECONDARY);
+        add(messageLabel);
+
+        setVisible(false);
+    }
+
+    /**
+     * Shows the indicator in its loading state.
+     */
+    public void showLoading() {
+        progressBar.setVisible(true);
+        messageLabel.setText(DEFAULT_TEXT);
+        messageLabel.setForeground(UIConstants.TEXT_SECONDARY);
+        setVisible(true);
+    }
+
+    /**
+     * Shows an error message instead of the progress bar.
+     * @param message The error message
+     */
+    public void showError(String message) {
+        progressBar.setVisible(false);
+        messageLabel.setText(message);
+        messageLabel.setForeground(UIConstants.DANGER);
+        setVisible(true);
+    }
+
+    /**
+     * Hides the indicator.
+     */
+    public void hideIndicator() {
+        setVisible(false);
+    }
+}
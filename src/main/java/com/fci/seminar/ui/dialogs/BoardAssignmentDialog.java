@@ -1,6 +1,7 @@
 package com.fci.seminar.ui.dialogs;
 
 import com.fci.seminar.model.Registration;
+import com.fci.seminar.service.BoardIdScheme;
 import com.fci.seminar.ui.components.StyledButton;
 import com.fci.seminar.ui.components.StyledTextField;
 import com.fci.seminar.util.UIConstants;
@@ -14,6 +15,7 @@ import java.awt.*;
  */
 public class BoardAssignmentDialog extends JDialog {
     
+    private final BoardIdScheme scheme;
     private StyledTextField boardIdField;
     private boolean confirmed = false;
     private String assignedBoardId;
@@ -22,15 +24,19 @@ public class BoardAssignmentDialog extends JDialog {
      * Creates a board assignment dialog.
      * @param parent The parent frame
      * @param registration The registration to assign board to
+     * @param scheme The board ID scheme of the registration's session
+     * @param suggestedBoardId The board to pre-fill when none is assigned, or null
      */
-    public BoardAssignmentDialog(JFrame parent, Registration registration) {
+    public BoardAssignmentDialog(JFrame parent, Registration registration, BoardIdScheme scheme,
+                                 String suggestedBoardId) {
         super(parent, "Assign Board ID", true);
-        initComponents(registration);
+        this.scheme = scheme != null ? scheme : BoardIdScheme.DEFAULT;
+        initComponents(registration, suggestedBoardId);
         pack();
         setLocationRelativeTo(parent);
     }
     
-    private void initComponents(Registration registration) {
+    private void initComponents(Registration registration, String suggestedBoardId) {
         setLayout(new BorderLayout(UIConstants.SPACING_MD, UIConstants.SPACING_MD));
         
         // Content panel
@@ -85,13 +91,15 @@ public class BoardAssignmentDialog extends JDialog {
         
         contentPanel.add(Box.createVerticalStrut(UIConstants.SPACING_SM));
         
-        boardIdField = new StyledTextField("e.g., B01, B02, B03...");
+        boardIdField = new StyledTextField("e.g., " + scheme.format(0) + ", " + scheme.format(1) + "...");
         boardIdField.setAlignmentX(Component.LEFT_ALIGNMENT);
         boardIdField.setMaximumSize(new Dimension(400, UIConstants.INPUT_HEIGHT));
         
         // Pre-fill if already assigned
         if (registration.getBoardId() != null && !registration.getBoardId().isEmpty()) {
             boardIdField.setText(registration.getBoardId());
+        } else if (suggestedBoardId != null) {
+            boardIdField.setText(suggestedBoardId);
         }
         
         contentPanel.add(boardIdField);
@@ -99,7 +107,7 @@ public class BoardAssignmentDialog extends JDialog {
         contentPanel.add(Box.createVerticalStrut(UIConstants.SPACING_SM));
         
         // Help text
-        JLabel helpLabel = new JLabel("Format: B01-B99 (Board number for poster exhibition)");
+        JLabel helpLabel = new JLabel("Format: " + scheme.describe() + " (Board number for poster exhibition)");
         helpLabel.setFont(UIConstants.SMALL);
         helpLabel.setForeground(UIConstants.TEXT_MUTED);
         helpLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
@@ -144,16 +152,17 @@ public class BoardAssignmentDialog extends JDialog {
             return;
         }
         
-        // Validate format (B01-B99)
-        if (!boardId.matches("^B\\d{2}$")) {
+        // Validate format against the session's scheme
+        if (!scheme.isValid(boardId)) {
             JOptionPane.showMessageDialog(this,
-                "Invalid board ID format. Please use format: B01, B02, etc.",
+                "Invalid board ID format. Please use format: " + scheme.format(0) + ", " 
+                    + scheme.format(1) + ", etc. (" + scheme.describe() + ")",
                 "Validation Error",
                 JOptionPane.WARNING_MESSAGE);
             return;
         }
         
-        assignedBoardId = boardId;
+        assignedBoardId = scheme.normalize(boardId);
         confirmed = true;
         dispose();
     }
@@ -168,10 +177,13 @@ public class BoardAssignmentDialog extends JDialog {
      * Shows the dialog and returns the assigned board ID.
      * @param parent The parent frame
      * @param registration The registration to assign board to
+     * @param scheme The board ID scheme of the registration's session
+     * @param suggestedBoardId The board to pre-fill when none is assigned, or null
      * @return The assigned board ID, or null if cancelled
      */
-    public static String showDialog(JFrame parent, Registration registration) {
-        BoardAssignmentDialog dialog = new BoardAssignmentDialog(parent, registration);
+    public static String showDialog(JFrame parent, Registration registration, BoardIdScheme scheme,
+                                    String suggestedBoardId) {
+        BoardAssignmentDialog dialog = new BoardAssignmentDialog(parent, registration, scheme, suggestedBoardId);
         dialog.setVisible(true);
         return dialog.confirmed ? dialog.assignedBoardId : null;
     }
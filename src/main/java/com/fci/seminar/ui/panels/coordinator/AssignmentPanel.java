@@ -6,12 +6,21 @@ import com.fci.seminar.model.Session;
 import com.fci.seminar.model.Student;
 import com.fci.seminar.model.User;
 import com.fci.seminar.model.enums.RegistrationStatus;
+import com.fci.seminar.model.enums.SessionType;
+import com.fci.seminar.repository.ChangeEventBus;
 import com.fci.seminar.repository.UserRepository;
+import com.fci.seminar.service.AssignmentOptimizer.Plan;
+import com.fci.seminar.service.BoardAllocator;
+import com.fci.seminar.service.BoardIdScheme;
 import com.fci.seminar.service.EvaluationService;
 import com.fci.seminar.service.RegistrationService;
+import com.fci.seminar.service.SessionScheduler;
 import com.fci.seminar.service.SessionService;
+import com.fci.seminar.ui.BackgroundLoader;
+import com.fci.seminar.ui.CoalescingChangeListener;
 import com.fci.seminar.ui.MainFrame;
 import com.fci.seminar.ui.components.CardPanel;
+import com.fci.seminar.ui.components.LoadingIndicator;
 import com.fci.seminar.ui.components.StyledButton;
 import com.fci.seminar.ui.components.StyledTable;
 import com.fci.seminar.ui.dialogs.BoardAssignmentDialog;
@@ -21,13 +30,14 @@ import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Panel for managing student-session and evaluator-presentation assignments.
  * Requirements: 7.1, 7.2, 7.3, 7.4, 7.5
  */
-public class AssignmentPanel extends JPanel implements MainFrame.Refreshable {
+public class AssignmentPanel extends JPanel implements MainFrame.Refreshable, MainFrame.Disposable {
     
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     
@@ -56,6 +66,12 @@ public class AssignmentPanel extends JPanel implements MainFrame.Refreshable {
     private StyledTable posterRegistrationsTable;
     private DefaultTableModel posterRegistrationsModel;
     
+    // Background data loading
+    private LoadingIndicator loadingIndicator;
+    private BackgroundLoader loader;
+    private BackgroundLoader planLoader;
+    private ChangeEventBus.Subscription changeSubscription;
+    
     /**
      * Creates the assignment panel.
      */
@@ -65,6 +81,9 @@ public class AssignmentPanel extends JPanel implements MainFrame.Refreshable {
         this.evaluationService = EvaluationService.getInstance();
         this.userRepository = new UserRepository();
         initComponents();
+        this.loader = new BackgroundLoader(this, loadingIndicator);
+        this.planLoader = new BackgroundLoader(this, loadingIndicator);
+        this.changeSubscription = CoalescingChangeListener.subscribe(events -> loadData());
         loadData();
     }
     
@@ -95,9 +114,17 @@ public class AssignmentPanel extends JPanel implements MainFrame.Refreshable {
         titleLabel.setForeground(UIConstants.TEXT_PRIMARY);
         headerPanel.add(titleLabel, BorderLayout.WEST);
         
+        JPanel actionsPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, UIConstants.SPACING_SM, 0));
+        actionsPanel.setOpaque(false);
+        
+        loadingIndicator = new LoadingIndicator();
+        actionsPanel.add(loadingIndicator);
+        
         StyledButton refreshBtn = StyledButton.secondary("Refresh");
         refreshBtn.addActionListener(e -> refresh());
-        headerPanel.add(refreshBtn, BorderLayout.EAST);
+        actionsPanel.add(refreshBtn);
+        
+        headerPanel.add(actionsPanel, BorderLayout.EAST);
         
         return headerPanel;
     }
@@ -128,6 +155,10 @@ public class AssignmentPanel extends JPanel implements MainFrame.Refreshable {
         assignBtn.addActionListener(e -> assignSelectedStudentToSession());
         topPanel.add(assignBtn);
         
+        StyledButton autoScheduleBtn = StyledButton.secondary("Auto-Schedule...");
+        autoScheduleBtn.addActionListener(e -> autoScheduleRegistrations());
+        topPanel.add(autoScheduleBtn);
+        
         content.add(topPanel, BorderLayout.NORTH);
         
         // Unassigned students table
@@ -139,13 +170,37 @@ public class AssignmentPanel extends JPanel implements MainFrame.Refreshable {
             }
         };
         unassignedStudentsTable = new StyledTable(unassignedStudentsModel);
-        unassignedStudentsTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        unassignedStudentsTable.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
         
         JScrollPane scrollPane = new JScrollPane(unassignedStudentsTable);
         scrollPane.setBorder(BorderFactory.createTitledBorder("Unassigned/Pending Registrations"));
         
         content.add(scrollPane, BorderLayout.CENTER);
         
+        // Bulk status actions on the selected rows
+        JPanel bulkPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, UIConstants.SPACING_SM, 0));
+        bulkPanel.setOpaque(false);
+        
+        StyledButton approveBtn = StyledButton.primary("Approve Selected");
+        approveBtn.addActionListener(e -> changeSelectedStatus(RegistrationStatus.APPROVED));
+        bulkPanel.add(approveBtn);
+        
+        StyledButton rejectBtn = StyledButton.secondary("Reject Selected");
+        rejectBtn.addActionListener(e -> changeSelectedStatus(RegistrationStatus.REJECTED));
+        bulkPanel.add(rejectBtn);
+        
+        StyledButton cancelBtn = StyledButton.danger("Cancel Selected");
+        cancelBtn.addActionListener(e -> changeSelectedStatus(RegistrationStatus.CANCELLED));
+        bulkPanel.add(cancelBtn);
+        
+        bulkPanel.add(Box.createHorizontalStrut(UIConstants.SPACING_MD));
+        
+        StyledButton approveAllBtn = StyledButton.secondary("Approve All Pending");
+        approveAllBtn.addActionListener(e -> approveAllPending());
+        bulkPanel.add(approveAllBtn);
+        
+        content.add(bulkPanel, BorderLayout.SOUTH);
+        
         return card;
     }
     
@@ -217,6 +272,10 @@ public class AssignmentPanel extends JPanel implements MainFrame.Refreshable {
         removeAssignBtn.addActionListener(e -> removeEvaluatorAssignment());
         buttonPanel.add(removeAssignBtn);
         
+        StyledButton autoAssignBtn = StyledButton.secondary("Auto-Assign...");
+        autoAssignBtn.addActionListener(e -> autoAssignEvaluators());
+        buttonPanel.add(autoAssignBtn);
+        
         bottomPanel.add(buttonPanel, BorderLayout.NORTH);
         
         // Assignment matrix
@@ -283,6 +342,10 @@ public class AssignmentPanel extends JPanel implements MainFrame.Refreshable {
         clearBoardBtn.addActionListener(e -> clearBoardFromSelected());
         buttonPanel.add(clearBoardBtn);
         
+        StyledButton autoAllocateBtn = StyledButton.secondary("Auto-Allocate...");
+        autoAllocateBtn.addActionListener(e -> autoAllocateBoards());
+        buttonPanel.add(autoAllocateBtn);
+        
         content.add(buttonPanel, BorderLayout.SOUTH);
         
         return card;
@@ -290,122 +353,106 @@ public class AssignmentPanel extends JPanel implements MainFrame.Refreshable {
 
     
     private void loadData() {
-        loadSessions();
-        loadUnassignedStudents();
-        loadApprovedRegistrations();
-        loadEvaluators();
-        loadAssignmentMatrix();
-        loadPosterRegistrations();
+        // Build all table rows on a worker thread, then swap them in on the EDT
+        loader.load(this::queryAssignmentData, this::applyAssignmentData);
     }
     
-    private void loadSessions() {
-        sessionCombo.removeAllItems();
-        List<Session> sessions = sessionService.getAvailableSessions();
-        for (Session session : sessions) {
-            sessionCombo.addItem(new SessionItem(session));
-        }
-    }
-    
-    private void loadUnassignedStudents() {
-        unassignedStudentsModel.setRowCount(0);
+    private AssignmentData queryAssignmentData() {
+        AssignmentData data = new AssignmentData();
+        data.sessions = sessionService.getAvailableSessions();
+        
+        List<Registration> allRegistrations = registrationService.getAllRegistrations();
+        List<Registration> approved = registrationService.getApprovedRegistrations();
+        List<Evaluator> evaluators = userRepository.findAllEvaluators();
         
-        // Get pending and unassigned registrations
-        List<Registration> registrations = registrationService.getAllRegistrations();
-        for (Registration reg : registrations) {
+        // Pending and unassigned registrations
+        for (Registration reg : allRegistrations) {
             if (reg.getStatus() == RegistrationStatus.PENDING || 
                 (reg.getStatus() == RegistrationStatus.APPROVED && reg.getSessionId() == null)) {
-                
-                String studentName = getStudentName(reg.getStudentId());
-                unassignedStudentsModel.addRow(new Object[]{
+                data.unassignedRows.add(new Object[]{
                     reg.getId(),
-                    studentName,
+                    getStudentName(reg.getStudentId()),
                     truncateText(reg.getResearchTitle(), 40),
                     reg.getPresentationType().name(),
                     reg.getStatus().name()
                 });
             }
         }
-    }
-    
-    private void loadApprovedRegistrations() {
-        registrationsModel.setRowCount(0);
         
-        List<Registration> registrations = registrationService.getApprovedRegistrations();
-        for (Registration reg : registrations) {
-            String studentName = getStudentName(reg.getStudentId());
-            registrationsModel.addRow(new Object[]{
+        // Approved registrations
+        for (Registration reg : approved) {
+            data.approvedRows.add(new Object[]{
                 reg.getId(),
-                studentName,
+                getStudentName(reg.getStudentId()),
                 truncateText(reg.getResearchTitle(), 30),
                 reg.getPresentationType().name()
             });
         }
-    }
-    
-    private void loadEvaluators() {
-        evaluatorsModel.setRowCount(0);
         
-        List<Evaluator> evaluators = userRepository.findAllEvaluators();
+        // Evaluators
         for (Evaluator evaluator : evaluators) {
-            evaluatorsModel.addRow(new Object[]{
+            data.evaluatorRows.add(new Object[]{
                 evaluator.getId(),
                 evaluator.getName(),
                 evaluator.getDepartment(),
                 evaluator.getExpertise()
             });
         }
-    }
-    
-    private void loadAssignmentMatrix() {
-        // Get all evaluators and approved registrations
-        List<Evaluator> evaluators = userRepository.findAllEvaluators();
-        List<Registration> registrations = registrationService.getApprovedRegistrations();
         
-        // Build column names: first column is "Registration", then evaluator names
-        String[] columns = new String[evaluators.size() + 1];
-        columns[0] = "Registration";
+        // Assignment matrix: first column is "Registration", then evaluator names
+        data.matrixColumns = new String[evaluators.size() + 1];
+        data.matrixColumns[0] = "Registration";
         for (int i = 0; i < evaluators.size(); i++) {
-            columns[i + 1] = evaluators.get(i).getName();
+            data.matrixColumns[i + 1] = evaluators.get(i).getName();
         }
-        
-        assignmentMatrixModel.setColumnIdentifiers(columns);
-        assignmentMatrixModel.setRowCount(0);
-        
-        // Build rows: each row is a registration
-        for (Registration reg : registrations) {
+        for (Registration reg : approved) {
             Object[] row = new Object[evaluators.size() + 1];
             row[0] = truncateText(reg.getResearchTitle(), 25);
-            
             for (int i = 0; i < evaluators.size(); i++) {
                 boolean assigned = evaluationService.isAssigned(evaluators.get(i).getId(), reg.getId());
                 row[i + 1] = assigned ? "✓" : "";
             }
-            
-            assignmentMatrixModel.addRow(row);
+            data.matrixRows.add(row);
         }
-    }
-    
-    private void loadPosterRegistrations() {
-        posterRegistrationsModel.setRowCount(0);
         
-        List<Registration> registrations = registrationService.getAllRegistrations();
-        for (Registration reg : registrations) {
-            // Only show poster presentations
+        // Poster presentations only
+        for (Registration reg : allRegistrations) {
             if (reg.getPresentationType() == com.fci.seminar.model.enums.SessionType.POSTER) {
-                String studentName = getStudentName(reg.getStudentId());
-                String sessionInfo = getSessionInfo(reg.getSessionId());
-                String boardId = reg.getBoardId() != null ? reg.getBoardId() : "Not Assigned";
-                
-                posterRegistrationsModel.addRow(new Object[]{
+                data.posterRows.add(new Object[]{
                     reg.getId(),
-                    studentName,
+                    getStudentName(reg.getStudentId()),
                     truncateText(reg.getResearchTitle(), 40),
-                    sessionInfo,
-                    boardId,
+                    getSessionInfo(reg.getSessionId()),
+                    reg.getBoardId() != null ? reg.getBoardId() : "Not Assigned",
                     reg.getStatus().name()
                 });
             }
         }
+        
+        return data;
+    }
+    
+    private void applyAssignmentData(AssignmentData data) {
+        sessionCombo.removeAllItems();
+        for (Session session : data.sessions) {
+            sessionCombo.addItem(new SessionItem(session));
+        }
+        
+        fillTable(unassignedStudentsModel, data.unassignedRows);
+        fillTable(registrationsModel, data.approvedRows);
+        fillTable(evaluatorsModel, data.evaluatorRows);
+        
+        assignmentMatrixModel.setColumnIdentifiers(data.matrixColumns);
+        fillTable(assignmentMatrixModel, data.matrixRows);
+        
+        fillTable(posterRegistrationsModel, data.posterRows);
+    }
+    
+    private void fillTable(DefaultTableModel model, List<Object[]> rows) {
+        model.setRowCount(0);
+        for (Object[] row : rows) {
+            model.addRow(row);
+        }
     }
     
     private String getSessionInfo(Long sessionId) {
@@ -436,13 +483,142 @@ public class AssignmentPanel extends JPanel implements MainFrame.Refreshable {
             registrationService.assignToSession(registrationId, selectedSession.session.getId());
             JOptionPane.showMessageDialog(this, "Registration assigned successfully.", 
                 "Success", JOptionPane.INFORMATION_MESSAGE);
-            loadData();
         } catch (IllegalArgumentException e) {
             JOptionPane.showMessageDialog(this, e.getMessage(), 
                 "Assignment Error", JOptionPane.ERROR_MESSAGE);
         }
     }
     
+    private void changeSelectedStatus(RegistrationStatus status) {
+        int[] selectedRows = unassignedStudentsTable.getSelectedRows();
+        if (selectedRows.length == 0) {
+            JOptionPane.showMessageDialog(this, "Please select one or more registrations.", 
+                "No Selection", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        
+        List<Long> registrationIds = new ArrayList<>(selectedRows.length);
+        for (int row : selectedRows) {
+            registrationIds.add((Long) unassignedStudentsModel.getValueAt(row, 0));
+        }
+        
+        String action = status == RegistrationStatus.APPROVED ? "Approve"
+            : status == RegistrationStatus.REJECTED ? "Reject" : "Cancel";
+        int confirm = JOptionPane.showConfirmDialog(this, 
+            String.format("%s %d selected registrations?", action, registrationIds.size()), 
+            action + " Registrations", JOptionPane.YES_NO_OPTION, 
+            status == RegistrationStatus.APPROVED ? JOptionPane.QUESTION_MESSAGE : JOptionPane.WARNING_MESSAGE);
+        if (confirm != JOptionPane.YES_OPTION) {
+            return;
+        }
+        
+        try {
+            List<Registration> changed;
+            if (status == RegistrationStatus.APPROVED) {
+                changed = registrationService.approveRegistrations(registrationIds);
+            } else if (status == RegistrationStatus.REJECTED) {
+                changed = registrationService.rejectRegistrations(registrationIds);
+            } else {
+                changed = registrationService.cancelRegistrations(registrationIds);
+            }
+            showBulkResult(changed.size(), registrationIds.size() - changed.size(), status);
+        } catch (IllegalArgumentException e) {
+            JOptionPane.showMessageDialog(this, e.getMessage(), 
+                "Update Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+    
+    private void approveAllPending() {
+        long pending = registrationService.countByStatus(RegistrationStatus.PENDING);
+        if (pending == 0) {
+            JOptionPane.showMessageDialog(this, "There are no pending registrations.", 
+                "Approve All Pending", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        int confirm = JOptionPane.showConfirmDialog(this, 
+            String.format("Approve all %d pending registrations?", pending), 
+            "Approve All Pending", JOptionPane.YES_NO_OPTION, JOptionPane.QUESTION_MESSAGE);
+        if (confirm != JOptionPane.YES_OPTION) {
+            return;
+        }
+        showBulkResult(registrationService.approveAllPending().size(), 0, RegistrationStatus.APPROVED);
+    }
+    
+    private void showBulkResult(int changed, int unchanged, RegistrationStatus status) {
+        String message = String.format("%d registrations %s.", changed, status.name().toLowerCase());
+        if (unchanged > 0) {
+            message += String.format(" %d were already %s.", unchanged, status.name().toLowerCase());
+        }
+        JOptionPane.showMessageDialog(this, message, "Success", JOptionPane.INFORMATION_MESSAGE);
+    }
+    
+    private void autoScheduleRegistrations() {
+        planLoader.load(registrationService::planSchedule, this::confirmSchedule);
+    }
+    
+    private void confirmSchedule(SessionScheduler.Plan plan) {
+        if (plan.placements().isEmpty()) {
+            String message = plan.unscheduled().isEmpty()
+                ? "There are no approved registrations waiting for a session."
+                : "No registrations could be scheduled. Open more sessions or increase capacity.";
+            JOptionPane.showMessageDialog(this, message, 
+                "Auto-Schedule", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        
+        String[] columns = {"Session", "Type", "Added", "Registered", "Capacity", "Fill"};
+        DefaultTableModel previewModel = new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        for (SessionScheduler.SessionFill fill : plan.sessionFills()) {
+            Session session = sessionService.getSessionById(fill.sessionId());
+            previewModel.addRow(new Object[]{
+                getSessionInfo(fill.sessionId()),
+                session != null ? session.getType() : "",
+                fill.planned(),
+                fill.registered(),
+                fill.capacity(),
+                String.format("%.0f%%", fill.fillRate() * 100)
+            });
+        }
+        StyledTable previewTable = new StyledTable(previewModel);
+        JScrollPane previewScroll = new JScrollPane(previewTable);
+        previewScroll.setPreferredSize(new Dimension(560, 260));
+        
+        long conflicts = plan.unscheduled().values().stream()
+            .filter(reason -> reason == SessionScheduler.UnscheduledReason.SUPERVISOR_CONFLICT).count();
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("Assign %d registrations to %d sessions?", 
+            plan.placements().size(), plan.sessionFills().size()));
+        if (!plan.unscheduled().isEmpty()) {
+            summary.append(String.format(" %d cannot be scheduled (%d no free slot, %d supervisor time clash).",
+                plan.unscheduled().size(), plan.unscheduled().size() - conflicts, conflicts));
+        }
+        
+        JPanel preview = new JPanel(new BorderLayout(0, UIConstants.SPACING_SM));
+        preview.add(new JLabel(summary.toString()), BorderLayout.NORTH);
+        preview.add(previewScroll, BorderLayout.CENTER);
+        
+        int confirm = JOptionPane.showConfirmDialog(this, preview, 
+            "Auto-Schedule", JOptionPane.YES_NO_OPTION, JOptionPane.PLAIN_MESSAGE);
+        if (confirm != JOptionPane.YES_OPTION) {
+            return;
+        }
+        try {
+            int assigned = registrationService.applySchedule(plan).size();
+            JOptionPane.showMessageDialog(this, assigned + " registrations assigned to sessions.", 
+                "Success", JOptionPane.INFORMATION_MESSAGE);
+        } catch (IllegalArgumentException e) {
+            JOptionPane.showMessageDialog(this, 
+                "Registrations or sessions changed while the schedule was open. Please run it again.\n" 
+                    + e.getMessage(), 
+                "Schedule Out of Date", JOptionPane.WARNING_MESSAGE);
+        }
+    }
+    
     private void assignEvaluatorToPresentation() {
         int regRow = registrationsTable.getSelectedRow();
         int evalRow = evaluatorsTable.getSelectedRow();
@@ -461,7 +637,6 @@ public class AssignmentPanel extends JPanel implements MainFrame.Refreshable {
             evaluationService.assignEvaluator(evaluatorId, registrationId);
             JOptionPane.showMessageDialog(this, "Evaluator assigned successfully.", 
                 "Success", JOptionPane.INFORMATION_MESSAGE);
-            loadAssignmentMatrix();
         } catch (IllegalArgumentException e) {
             JOptionPane.showMessageDialog(this, e.getMessage(), 
                 "Assignment Error", JOptionPane.ERROR_MESSAGE);
@@ -488,7 +663,53 @@ public class AssignmentPanel extends JPanel implements MainFrame.Refreshable {
         
         if (confirm == JOptionPane.YES_OPTION) {
             evaluationService.removeAssignment(evaluatorId, registrationId);
-            loadAssignmentMatrix();
+        }
+    }
+    
+    private void autoAssignEvaluators() {
+        JSpinner countSpinner = new JSpinner(new SpinnerNumberModel(2, 1, 10, 1));
+        JPanel prompt = new JPanel(new FlowLayout(FlowLayout.LEFT, UIConstants.SPACING_SM, 0));
+        prompt.add(new JLabel("Evaluators per registration:"));
+        prompt.add(countSpinner);
+        
+        int choice = JOptionPane.showConfirmDialog(this, prompt, 
+            "Auto-Assign Evaluators", JOptionPane.OK_CANCEL_OPTION, JOptionPane.QUESTION_MESSAGE);
+        if (choice != JOptionPane.OK_OPTION) {
+            return;
+        }
+        
+        int evaluatorsPerRegistration = (Integer) countSpinner.getValue();
+        planLoader.load(() -> evaluationService.planAssignments(evaluatorsPerRegistration), 
+            this::confirmAssignmentPlan);
+    }
+    
+    private void confirmAssignmentPlan(Plan plan) {
+        if (plan.assignments().isEmpty()) {
+            String message = plan.shortfalls().isEmpty()
+                ? "All approved registrations already have enough evaluators."
+                : "No evaluators could be assigned. Check for supervisor conflicts.";
+            JOptionPane.showMessageDialog(this, message, 
+                "Auto-Assign Evaluators", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        
+        int minLoad = plan.evaluatorLoads().values().stream().mapToInt(Integer::intValue).min().orElse(0);
+        int maxLoad = plan.evaluatorLoads().values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        StringBuilder message = new StringBuilder();
+        message.append(String.format("Create %d evaluator assignments?%n%n", plan.assignments().size()));
+        message.append(String.format("Average expertise match: %.0f%%%n", plan.averageMatch() * 100));
+        message.append(String.format("Evaluator workload: %d to %d presentations%n", minLoad, maxLoad));
+        if (!plan.shortfalls().isEmpty()) {
+            message.append(String.format("%n%d registrations cannot be fully staffed (supervisor conflicts "
+                + "or too few evaluators).%n", plan.shortfalls().size()));
+        }
+        
+        int confirm = JOptionPane.showConfirmDialog(this, message.toString(), 
+            "Auto-Assign Evaluators", JOptionPane.YES_NO_OPTION);
+        if (confirm == JOptionPane.YES_OPTION) {
+            int created = evaluationService.applyAssignments(plan).size();
+            JOptionPane.showMessageDialog(this, created + " evaluator assignments created.", 
+                "Success", JOptionPane.INFORMATION_MESSAGE);
         }
     }
     
@@ -513,10 +734,23 @@ public class AssignmentPanel extends JPanel implements MainFrame.Refreshable {
             return;
         }
         
+        // Suggest the next free board of the session
+        BoardIdScheme scheme = BoardIdScheme.DEFAULT;
+        String suggestedBoardId = null;
+        Session session = registration.getSessionId() != null
+            ? sessionService.getSessionById(registration.getSessionId()) : null;
+        if (session != null && session.getType() == SessionType.POSTER) {
+            BoardAllocator allocator = registrationService.getBoardAllocator(session.getId());
+            scheme = allocator.getScheme();
+            suggestedBoardId = allocator.peekNextFree();
+        }
+        
         // Show board assignment dialog
         String boardId = BoardAssignmentDialog.showDialog(
             (JFrame) SwingUtilities.getWindowAncestor(this),
-            registration
+            registration,
+            scheme,
+            suggestedBoardId
         );
         
         if (boardId != null) {
@@ -526,7 +760,6 @@ public class AssignmentPanel extends JPanel implements MainFrame.Refreshable {
                     "Board " + boardId + " assigned successfully.",
                     "Success",
                     JOptionPane.INFORMATION_MESSAGE);
-                loadPosterRegistrations();
             } catch (IllegalArgumentException e) {
                 JOptionPane.showMessageDialog(this,
                     e.getMessage(),
@@ -536,6 +769,52 @@ public class AssignmentPanel extends JPanel implements MainFrame.Refreshable {
         }
     }
     
+    private void autoAllocateBoards() {
+        List<Session> posterSessions = sessionService.getSessionsByType(SessionType.POSTER);
+        if (posterSessions.isEmpty()) {
+            JOptionPane.showMessageDialog(this,
+                "There are no poster sessions.",
+                "Auto-Allocate Boards",
+                JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        
+        JComboBox<SessionItem> posterSessionCombo = new JComboBox<>();
+        for (Session session : posterSessions) {
+            posterSessionCombo.addItem(new SessionItem(session));
+        }
+        JCheckBox groupByTopicBox = new JCheckBox("Place posters on the same topic next to each other", true);
+        
+        JPanel prompt = new JPanel(new GridLayout(0, 1, 0, UIConstants.SPACING_SM));
+        prompt.add(new JLabel("Allocate boards to all posters without one in:"));
+        prompt.add(posterSessionCombo);
+        prompt.add(groupByTopicBox);
+        
+        int choice = JOptionPane.showConfirmDialog(this, prompt,
+            "Auto-Allocate Boards", JOptionPane.OK_CANCEL_OPTION, JOptionPane.QUESTION_MESSAGE);
+        SessionItem selected = (SessionItem) posterSessionCombo.getSelectedItem();
+        if (choice != JOptionPane.OK_OPTION || selected == null) {
+            return;
+        }
+        
+        try {
+            List<Registration> allocated = registrationService.autoAllocateBoards(
+                selected.session.getId(), groupByTopicBox.isSelected());
+            String message = allocated.isEmpty()
+                ? "Every poster in this session already has a board."
+                : allocated.size() + " boards allocated.";
+            JOptionPane.showMessageDialog(this,
+                message,
+                "Success",
+                JOptionPane.INFORMATION_MESSAGE);
+        } catch (IllegalArgumentException e) {
+            JOptionPane.showMessageDialog(this,
+                e.getMessage(),
+                "Allocation Error",
+                JOptionPane.ERROR_MESSAGE);
+        }
+    }
+    
     private void clearBoardFromSelected() {
         int selectedRow = posterRegistrationsTable.getSelectedRow();
         if (selectedRow < 0) {
@@ -569,7 +848,6 @@ public class AssignmentPanel extends JPanel implements MainFrame.Refreshable {
                     "Board assignment cleared.",
                     "Success",
                     JOptionPane.INFORMATION_MESSAGE);
-                loadPosterRegistrations();
             } catch (IllegalArgumentException e) {
                 JOptionPane.showMessageDialog(this,
                     e.getMessage(),
@@ -598,6 +876,26 @@ public class AssignmentPanel extends JPanel implements MainFrame.Refreshable {
     public void refresh() {
         loadData();
     }
+
+    @Override
+    public void dispose() {
+        changeSubscription.cancel();
+        loader.cancel();
+        planLoader.cancel();
+    }
+    
+    /**
+     * Snapshot of all assignment tables queried off the EDT.
+     */
+    private static class AssignmentData {
+        List<Session> sessions = new ArrayList<>();
+        List<Object[]> unassignedRows = new ArrayList<>();
+        List<Object[]> approvedRows = new ArrayList<>();
+        List<Object[]> evaluatorRows = new ArrayList<>();
+        String[] matrixColumns = new String[0];
+        List<Object[]> matrixRows = new ArrayList<>();
+        List<Object[]> posterRows = new ArrayList<>();
+    }
     
     /**
      * Helper class for session combo box items.
@@ -4,11 +4,18 @@ import com.fci.seminar.model.Award;
 import com.fci.seminar.model.Registration;
 import com.fci.seminar.model.Student;
 import com.fci.seminar.model.User;
+import com.fci.seminar.model.enums.AwardType;
+import com.fci.seminar.repository.ChangeEvent.EntityType;
+import com.fci.seminar.repository.ChangeEventBus;
 import com.fci.seminar.repository.UserRepository;
 import com.fci.seminar.service.AwardService;
 import com.fci.seminar.service.RegistrationService;
+import com.fci.seminar.service.ScoreNormalizer;
+import com.fci.seminar.ui.BackgroundLoader;
+import com.fci.seminar.ui.CoalescingChangeListener;
 import com.fci.seminar.ui.MainFrame;
 import com.fci.seminar.ui.components.CardPanel;
+import com.fci.seminar.ui.components.LoadingIndicator;
 import com.fci.seminar.ui.components.RoundedPanel;
 import com.fci.seminar.ui.components.StyledButton;
 import com.fci.seminar.util.UIConstants;
@@ -16,13 +23,22 @@ import com.fci.seminar.util.UIConstants;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Panel for managing and displaying awards.
  * Requirements: 8.1, 8.2, 8.3, 8.4
  */
-public class AwardPanel extends JPanel implements MainFrame.Refreshable {
+public class AwardPanel extends JPanel implements MainFrame.Refreshable, MainFrame.Disposable {
+    
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
+    
+    // Labels in ScoreNormalizer.Mode order
+    private static final String[] SCORING_MODE_LABELS = {"Raw scores", "Z-score normalized", "Bias adjusted"};
     
     private final AwardService awardService;
     private final RegistrationService registrationService;
@@ -36,6 +52,11 @@ public class AwardPanel extends JPanel implements MainFrame.Refreshable {
     // Status label
     private JLabel statusLabel;
     
+    // Background data loading
+    private LoadingIndicator loadingIndicator;
+    private BackgroundLoader loader;
+    private ChangeEventBus.Subscription changeSubscription;
+    
     /**
      * Creates the award panel.
      */
@@ -44,6 +65,10 @@ public class AwardPanel extends JPanel implements MainFrame.Refreshable {
         this.registrationService = RegistrationService.getInstance();
         this.userRepository = new UserRepository();
         initComponents();
+        this.loader = new BackgroundLoader(this, loadingIndicator);
+        // Follow submissions and approvals as they happen
+        this.changeSubscription = CoalescingChangeListener.subscribe(events -> loadLiveStandings(),
+                EntityType.EVALUATION, EntityType.REGISTRATION);
         loadData();
     }
     
@@ -73,6 +98,24 @@ public class AwardPanel extends JPanel implements MainFrame.Refreshable {
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, UIConstants.SPACING_SM, 0));
         buttonPanel.setOpaque(false);
         
+        loadingIndicator = new LoadingIndicator();
+        buttonPanel.add(loadingIndicator);
+        
+        // Scoring mode selector
+        JLabel scoringLabel = new JLabel("Scoring:");
+        scoringLabel.setFont(UIConstants.BODY);
+        scoringLabel.setForeground(UIConstants.TEXT_SECONDARY);
+        buttonPanel.add(scoringLabel);
+        
+        JComboBox<String> scoringCombo = new JComboBox<>(SCORING_MODE_LABELS);
+        scoringCombo.setFont(UIConstants.BODY);
+        scoringCombo.setSelectedIndex(awardService.getScoringMode().ordinal());
+        scoringCombo.addActionListener(e -> {
+            awardService.setScoringMode(ScoreNormalizer.Mode.values()[scoringCombo.getSelectedIndex()]);
+            calculateAwards();
+        });
+        buttonPanel.add(scoringCombo);
+        
         StyledButton calculateBtn = StyledButton.primary("Calculate Awards");
         calculateBtn.addActionListener(e -> calculateAwards());
         buttonPanel.add(calculateBtn);
@@ -162,44 +205,87 @@ public class AwardPanel extends JPanel implements MainFrame.Refreshable {
     
     private void loadData() {
         // Display existing awards if any
-        displayAwards();
+        loader.load(this::queryAwardData, this::displayAwards);
     }
     
     private void calculateAwards() {
-        try {
+        loader.load(() -> {
+            // Scoring and winner lookups both run off the EDT
             List<Award> awards = awardService.calculateAwards();
-            
-            if (awards.isEmpty()) {
+            AwardData data = queryAwardData();
+            data.calculatedCount = awards.size();
+            return data;
+        }, data -> {
+            if (data.calculatedCount == 0) {
                 statusLabel.setText("No awards could be calculated. Ensure there are approved registrations with evaluations.");
                 statusLabel.setForeground(UIConstants.WARNING);
             } else {
-                statusLabel.setText("Awards calculated successfully! " + awards.size() + " award(s) determined.");
+                statusLabel.setText("Awards calculated successfully! " + data.calculatedCount + " award(s) determined.");
                 statusLabel.setForeground(UIConstants.SUCCESS);
             }
             
-            displayAwards();
+            displayAwards(data);
+        });
+    }
+    
+    private void loadLiveStandings() {
+        loader.load(() -> queryAwardData(
+                awardService.getLiveWinners(AwardType.BEST_ORAL),
+                awardService.getLiveWinners(AwardType.BEST_POSTER),
+                awardService.getLiveWinners(AwardType.PEOPLES_CHOICE)), data -> {
+            statusLabel.setText("Live standings - updated at " + LocalTime.now().format(TIME_FORMATTER));
+            statusLabel.setForeground(UIConstants.INFO);
+            displayAwards(data);
+        });
+    }
+    
+    private AwardData queryAwardData() {
+        return queryAwardData(awardService.getBestOral(), awardService.getBestPoster(),
+                awardService.getPeoplesChoice());
+    }
+    
+    private AwardData queryAwardData(List<Award> bestOral, List<Award> bestPoster, List<Award> peoplesChoice) {
+        AwardData data = new AwardData();
+        data.bestOral = bestOral;
+        data.bestPoster = bestPoster;
+        data.peoplesChoice = peoplesChoice;
+        
+        // Resolve winner names and titles up front so card rendering never hits the repositories
+        resolveWinners(data, data.bestOral);
+        resolveWinners(data, data.bestPoster);
+        resolveWinners(data, data.peoplesChoice);
+        return data;
+    }
+    
+    private void resolveWinners(AwardData data, List<Award> awards) {
+        for (Award award : awards) {
+            Registration registration = registrationService.getRegistrationById(award.getRegistrationId());
+            String studentName = "Unknown";
+            String researchTitle = "Unknown";
             
-        } catch (Exception e) {
-            statusLabel.setText("Error calculating awards: " + e.getMessage());
-            statusLabel.setForeground(UIConstants.DANGER);
+            if (registration != null) {
+                researchTitle = registration.getResearchTitle();
+                User user = userRepository.findById(registration.getStudentId());
+                if (user instanceof Student) {
+                    studentName = ((Student) user).getName();
+                }
+            }
+            data.winnerInfo.put(award.getRegistrationId(), new String[]{studentName, researchTitle});
         }
     }
     
-    private void displayAwards() {
+    private void displayAwards(AwardData data) {
         // Display Best Oral
-        List<Award> bestOral = awardService.getBestOral();
-        updateAwardCard(bestOralPanel, bestOral, "Best Oral Presentation", "\uD83E\uDD47", UIConstants.SUCCESS);
+        updateAwardCard(bestOralPanel, data.bestOral, data, "Best Oral Presentation", "\uD83E\uDD47", UIConstants.SUCCESS);
         
         // Display Best Poster
-        List<Award> bestPoster = awardService.getBestPoster();
-        updateAwardCard(bestPosterPanel, bestPoster, "Best Poster Presentation", "\uD83E\uDD48", UIConstants.INFO);
+        updateAwardCard(bestPosterPanel, data.bestPoster, data, "Best Poster Presentation", "\uD83E\uDD48", UIConstants.INFO);
         
         // Display People's Choice
-        List<Award> peoplesChoice = awardService.getPeoplesChoice();
-        updateAwardCard(peoplesChoicePanel, peoplesChoice, "People's Choice Award", "\uD83C\uDFC6", UIConstants.WARNING);
+        updateAwardCard(peoplesChoicePanel, data.peoplesChoice, data, "People's Choice Award", "\uD83C\uDFC6", UIConstants.WARNING);
     }
     
-    private void updateAwardCard(JPanel cardPanel, List<Award> awards, String title, String emoji, Color accentColor) {
+    private void updateAwardCard(JPanel cardPanel, List<Award> awards, AwardData data, String title, String emoji, Color accentColor) {
         if (!(cardPanel instanceof CardPanel)) return;
         
         CardPanel card = (CardPanel) cardPanel;
@@ -250,7 +336,7 @@ public class AwardPanel extends JPanel implements MainFrame.Refreshable {
             
             // Display each winner
             for (Award award : awards) {
-                content.add(createWinnerPanel(award));
+                content.add(createWinnerPanel(award, data.winnerInfo.get(award.getRegistrationId())));
                 content.add(Box.createVerticalStrut(UIConstants.SPACING_SM));
             }
         }
@@ -260,7 +346,7 @@ public class AwardPanel extends JPanel implements MainFrame.Refreshable {
         content.repaint();
     }
     
-    private JPanel createWinnerPanel(Award award) {
+    private JPanel createWinnerPanel(Award award, String[] info) {
         RoundedPanel panel = new RoundedPanel(UIConstants.RADIUS_SM, false);
         panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
         panel.setBorder(new EmptyBorder(UIConstants.SPACING_SM, UIConstants.SPACING_SM, 
@@ -269,18 +355,9 @@ public class AwardPanel extends JPanel implements MainFrame.Refreshable {
         panel.setAlignmentX(Component.LEFT_ALIGNMENT);
         panel.setMaximumSize(new Dimension(Integer.MAX_VALUE, 100));
         
-        // Get registration and student info
-        Registration registration = registrationService.getRegistrationById(award.getRegistrationId());
-        String studentName = "Unknown";
-        String researchTitle = "Unknown";
-        
-        if (registration != null) {
-            researchTitle = registration.getResearchTitle();
-            User user = userRepository.findById(registration.getStudentId());
-            if (user instanceof Student) {
-                studentName = ((Student) user).getName();
-            }
-        }
+        // Student info resolved by queryAwardData
+        String studentName = info != null ? info[0] : "Unknown";
+        String researchTitle = info != null ? info[1] : "Unknown";
         
         // Winner name
         JLabel nameLabel = new JLabel("\uD83D\uDC64 " + studentName);
@@ -316,4 +393,21 @@ public class AwardPanel extends JPanel implements MainFrame.Refreshable {
     public void refresh() {
         loadData();
     }
+    
+    @Override
+    public void dispose() {
+        changeSubscription.cancel();
+        loader.cancel();
+    }
+    
+    /**
+     * Snapshot of award winners queried off the EDT.
+     */
+    private static class AwardData {
+        List<Award> bestOral = List.of();
+        List<Award> bestPoster = List.of();
+        List<Award> peoplesChoice = List.of();
+        Map<Long, String[]> winnerInfo = new HashMap<>();
+        int calculatedCount;
+    }
 }
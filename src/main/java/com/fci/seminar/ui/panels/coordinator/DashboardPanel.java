@@ -4,11 +4,15 @@ import com.fci.seminar.model.Registration;
 import com.fci.seminar.model.Session;
 import com.fci.seminar.model.enums.RegistrationStatus;
 import com.fci.seminar.model.enums.SessionStatus;
+import com.fci.seminar.repository.ChangeEventBus;
 import com.fci.seminar.service.EvaluationService;
 import com.fci.seminar.service.RegistrationService;
 import com.fci.seminar.service.SessionService;
+import com.fci.seminar.ui.BackgroundLoader;
+import com.fci.seminar.ui.CoalescingChangeListener;
 import com.fci.seminar.ui.MainFrame;
 import com.fci.seminar.ui.components.CardPanel;
+import com.fci.seminar.ui.components.LoadingIndicator;
 import com.fci.seminar.ui.components.RoundedPanel;
 import com.fci.seminar.ui.components.StatusLabel;
 import com.fci.seminar.ui.components.StyledButton;
@@ -19,6 +23,7 @@ import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -26,7 +31,7 @@ import java.util.List;
  * Displays summary statistics, recent activities, and quick access to common actions.
  * Requirements: 6.1
  */
-public class DashboardPanel extends JPanel implements MainFrame.Refreshable {
+public class DashboardPanel extends JPanel implements MainFrame.Refreshable, MainFrame.Disposable {
     
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     
@@ -48,6 +53,11 @@ public class DashboardPanel extends JPanel implements MainFrame.Refreshable {
     // Quick action handler
     private QuickActionHandler quickActionHandler;
     
+    // Background data loading
+    private LoadingIndicator loadingIndicator;
+    private BackgroundLoader loader;
+    private ChangeEventBus.Subscription changeSubscription;
+    
     /**
      * Creates the dashboard panel.
      */
@@ -56,6 +66,8 @@ public class DashboardPanel extends JPanel implements MainFrame.Refreshable {
         this.registrationService = RegistrationService.getInstance();
         this.evaluationService = EvaluationService.getInstance();
         initComponents();
+        this.loader = new BackgroundLoader(this, loadingIndicator);
+        this.changeSubscription = CoalescingChangeListener.subscribe(events -> loadData());
         loadData();
     }
 
@@ -95,9 +107,17 @@ public class DashboardPanel extends JPanel implements MainFrame.Refreshable {
         titleLabel.setForeground(UIConstants.TEXT_PRIMARY);
         headerPanel.add(titleLabel, BorderLayout.WEST);
         
+        JPanel actionsPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, UIConstants.SPACING_SM, 0));
+        actionsPanel.setOpaque(false);
+        
+        loadingIndicator = new LoadingIndicator();
+        actionsPanel.add(loadingIndicator);
+        
         StyledButton refreshButton = StyledButton.secondary("Refresh");
         refreshButton.addActionListener(e -> refresh());
-        headerPanel.add(refreshButton, BorderLayout.EAST);
+        actionsPanel.add(refreshButton);
+        
+        headerPanel.add(actionsPanel, BorderLayout.EAST);
         
         return headerPanel;
     }
@@ -277,69 +297,72 @@ public class DashboardPanel extends JPanel implements MainFrame.Refreshable {
     }
     
     private void loadData() {
-        // Load statistics
-        loadStatistics();
-        
-        // Load recent activities
-        loadRecentActivities();
+        // Query on a worker thread, then update labels and activities on the EDT
+        loader.load(this::queryDashboardData, data -> {
+            applyStatistics(data);
+            applyRecentActivities(data);
+        });
     }
     
-    private void loadStatistics() {
+    private DashboardData queryDashboardData() {
+        DashboardData data = new DashboardData();
+        
         // Sessions statistics
-        long totalSessions = sessionService.countSessions();
-        long openSessions = sessionService.countByStatus(SessionStatus.OPEN);
-        totalSessionsLabel.setText(String.valueOf(totalSessions));
-        openSessionsLabel.setText(String.valueOf(openSessions));
+        data.totalSessions = sessionService.countSessions();
+        data.openSessions = sessionService.countByStatus(SessionStatus.OPEN);
         
         // Registrations statistics
-        long totalRegistrations = registrationService.countRegistrations();
-        long pendingRegistrations = registrationService.countByStatus(RegistrationStatus.PENDING);
-        totalRegistrationsLabel.setText(String.valueOf(totalRegistrations));
-        pendingRegistrationsLabel.setText(String.valueOf(pendingRegistrations));
+        data.totalRegistrations = registrationService.countRegistrations();
+        data.pendingRegistrations = registrationService.countByStatus(RegistrationStatus.PENDING);
         
         // Evaluations statistics
-        long totalEvaluations = evaluationService.countEvaluations();
-        long pendingEvaluations = evaluationService.countPending();
-        totalEvaluationsLabel.setText(String.valueOf(totalEvaluations));
-        pendingEvaluationsLabel.setText(String.valueOf(pendingEvaluations));
+        data.totalEvaluations = evaluationService.countEvaluations();
+        data.pendingEvaluations = evaluationService.countPending();
+        
+        // Recent registrations (first 5)
+        List<Registration> registrations = registrationService.getAllRegistrations();
+        data.recentRegistrations = registrations.subList(0, Math.min(5, registrations.size()));
+        
+        // Upcoming sessions (next 3)
+        LocalDate today = LocalDate.now();
+        for (Session session : sessionService.getAllSessions()) {
+            if (data.upcomingSessions.size() >= 3) break;
+            if (session.getDate() != null && !session.getDate().isBefore(today)) {
+                data.upcomingSessions.add(session);
+            }
+        }
+        
+        return data;
+    }
+    
+    private void applyStatistics(DashboardData data) {
+        totalSessionsLabel.setText(String.valueOf(data.totalSessions));
+        openSessionsLabel.setText(String.valueOf(data.openSessions));
+        totalRegistrationsLabel.setText(String.valueOf(data.totalRegistrations));
+        pendingRegistrationsLabel.setText(String.valueOf(data.pendingRegistrations));
+        totalEvaluationsLabel.setText(String.valueOf(data.totalEvaluations));
+        pendingEvaluationsLabel.setText(String.valueOf(data.pendingEvaluations));
     }
     
-    private void loadRecentActivities() {
+    private void applyRecentActivities(DashboardData data) {
         recentActivitiesPanel.removeAll();
         
-        // Get recent registrations
-        List<Registration> recentRegistrations = registrationService.getAllRegistrations();
-        
-        // Get upcoming sessions
-        List<Session> upcomingSessions = sessionService.getAllSessions();
-        
-        // Show recent registrations (last 5)
-        int count = 0;
-        for (Registration reg : recentRegistrations) {
-            if (count >= 5) break;
+        for (Registration reg : data.recentRegistrations) {
             recentActivitiesPanel.add(createActivityItem(
                 "New registration: " + truncateText(reg.getResearchTitle(), 30),
                 reg.getStatus().name(),
                 reg.getCreatedAt() != null ? reg.getCreatedAt().toLocalDate().format(DATE_FORMATTER) : "N/A"
             ));
             recentActivitiesPanel.add(Box.createVerticalStrut(UIConstants.SPACING_XS));
-            count++;
         }
         
-        // Show upcoming sessions (next 3)
-        LocalDate today = LocalDate.now();
-        count = 0;
-        for (Session session : upcomingSessions) {
-            if (count >= 3) break;
-            if (session.getDate() != null && !session.getDate().isBefore(today)) {
-                recentActivitiesPanel.add(createActivityItem(
-                    "Session: " + session.getVenue() + " (" + session.getType() + ")",
-                    session.getStatus().name(),
-                    session.getDate().format(DATE_FORMATTER)
-                ));
-                recentActivitiesPanel.add(Box.createVerticalStrut(UIConstants.SPACING_XS));
-                count++;
-            }
+        for (Session session : data.upcomingSessions) {
+            recentActivitiesPanel.add(createActivityItem(
+                "Session: " + session.getVenue() + " (" + session.getType() + ")",
+                session.getStatus().name(),
+                session.getDate().format(DATE_FORMATTER)
+            ));
+            recentActivitiesPanel.add(Box.createVerticalStrut(UIConstants.SPACING_XS));
         }
         
         if (recentActivitiesPanel.getComponentCount() == 0) {
@@ -405,6 +428,26 @@ public class DashboardPanel extends JPanel implements MainFrame.Refreshable {
     public void refresh() {
         loadData();
     }
+
+    @Override
+    public void dispose() {
+        changeSubscription.cancel();
+        loader.cancel();
+    }
+    
+    /**
+     * Snapshot of dashboard data queried off the EDT.
+     */
+    private static class DashboardData {
+        long totalSessions;
+        long openSessions;
+        long totalRegistrations;
+        long pendingRegistrations;
+        long totalEvaluations;
+        long pendingEvaluations;
+        List<Registration> recentRegistrations = new ArrayList<>();
+        List<Session> upcomingSessions = new ArrayList<>();
+    }
     
     /**
      * Interface for handling quick action button clicks.
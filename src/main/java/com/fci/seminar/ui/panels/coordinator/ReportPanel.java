@@ -1,21 +1,33 @@
 package com.fci.seminar.ui.panels.coordinator;
 
+import com.fci.seminar.model.Award;
 import com.fci.seminar.service.AwardService;
+import com.fci.seminar.service.EvaluationSummary;
+import com.fci.seminar.service.RegistrationStatistics;
+import com.fci.seminar.service.ReportCache;
 import com.fci.seminar.service.ReportService;
+import com.fci.seminar.service.ReportService.ExportFormat;
+import com.fci.seminar.service.SessionAttendance;
+import com.fci.seminar.ui.BackgroundLoader;
 import com.fci.seminar.ui.MainFrame;
 import com.fci.seminar.ui.components.CardPanel;
+import com.fci.seminar.ui.components.LoadingIndicator;
 import com.fci.seminar.ui.components.StyledButton;
 import com.fci.seminar.ui.components.StyledTable;
 import com.fci.seminar.util.UIConstants;
 
 import javax.swing.*;
+import javax.swing.filechooser.FileFilter;
 import javax.swing.filechooser.FileNameExtensionFilter;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.print.PrinterException;
 import java.io.File;
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Panel for generating reports and exporting data.
@@ -38,6 +50,13 @@ public class ReportPanel extends JPanel implements MainFrame.Refreshable {
     // Current report type
     private String currentReportType;
     
+    // Background data loading
+    private LoadingIndicator loadingIndicator;
+    private BackgroundLoader loader;
+    
+    // Report cache statistics
+    private JLabel cacheStatsLabel;
+    
     /**
      * Creates the report panel.
      */
@@ -45,6 +64,7 @@ public class ReportPanel extends JPanel implements MainFrame.Refreshable {
         this.reportService = ReportService.getInstance();
         this.awardService = AwardService.getInstance();
         initComponents();
+        this.loader = new BackgroundLoader(this, loadingIndicator);
     }
     
     private void initComponents() {
@@ -68,6 +88,20 @@ public class ReportPanel extends JPanel implements MainFrame.Refreshable {
         titleLabel.setForeground(UIConstants.TEXT_PRIMARY);
         headerPanel.add(titleLabel, BorderLayout.WEST);
         
+        JPanel statusPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, UIConstants.SPACING_SM, 0));
+        statusPanel.setOpaque(false);
+        
+        loadingIndicator = new LoadingIndicator();
+        statusPanel.add(loadingIndicator);
+        
+        cacheStatsLabel = new JLabel();
+        cacheStatsLabel.setFont(UIConstants.SMALL);
+        cacheStatsLabel.setForeground(UIConstants.TEXT_MUTED);
+        statusPanel.add(cacheStatsLabel);
+        updateCacheStats();
+        
+        headerPanel.add(statusPanel, BorderLayout.EAST);
+        
         return headerPanel;
     }
     
@@ -115,8 +149,8 @@ public class ReportPanel extends JPanel implements MainFrame.Refreshable {
         content.add(Box.createHorizontalStrut(UIConstants.SPACING_MD));
         
         // Export button
-        StyledButton exportBtn = StyledButton.secondary("Export to CSV");
-        exportBtn.addActionListener(e -> exportToCsv());
+        StyledButton exportBtn = StyledButton.secondary("Export");
+        exportBtn.addActionListener(e -> exportReport());
         content.add(exportBtn);
         
         // Print button
@@ -163,40 +197,53 @@ public class ReportPanel extends JPanel implements MainFrame.Refreshable {
             return;
         }
         
+        // Reports are computed on a worker thread and rendered on the EDT
         switch (currentReportType) {
             case "Registration Statistics":
-                generateRegistrationStatistics();
+                loader.load(reportService::getRegistrationStatistics,
+                        withCacheStats(this::showRegistrationStatistics));
                 break;
             case "Evaluation Summary":
-                generateEvaluationSummary();
+                loader.load(reportService::getEvaluationSummary, withCacheStats(this::showEvaluationSummary));
                 break;
             case "Session Attendance":
-                generateSessionAttendance();
+                loader.load(reportService::getSessionAttendance, withCacheStats(this::showSessionAttendance));
                 break;
             case "Award Results":
-                generateAwardResults();
+                loader.load(this::queryAwardResults, withCacheStats(this::showAwardResults));
                 break;
         }
     }
     
-    private void generateRegistrationStatistics() {
-        Map<String, Object> stats = reportService.getRegistrationStatistics();
-        
+    private <T> Consumer<T> withCacheStats(Consumer<T> display) {
+        return result -> {
+            display.accept(result);
+            updateCacheStats();
+        };
+    }
+    
+    private void updateCacheStats() {
+        ReportCache cache = ReportCache.getInstance();
+        cacheStatsLabel.setText(String.format("Cache: %d hits / %d misses",
+                cache.getHitCount(), cache.getMissCount()));
+    }
+    
+    private void showRegistrationStatistics(RegistrationStatistics stats) {
         // Build summary
         StringBuilder summary = new StringBuilder();
         summary.append("=== Registration Statistics Report ===\n\n");
-        summary.append("Total Registrations: ").append(stats.get("totalRegistrations")).append("\n\n");
+        summary.append("Total Registrations: ").append(stats.totalRegistrations()).append("\n\n");
         summary.append("By Status:\n");
-        summary.append("  - Pending: ").append(stats.get("pendingCount")).append("\n");
-        summary.append("  - Approved: ").append(stats.get("approvedCount")).append("\n");
-        summary.append("  - Rejected: ").append(stats.get("rejectedCount")).append("\n");
-        summary.append("  - Cancelled: ").append(stats.get("cancelledCount")).append("\n\n");
+        summary.append("  - Pending: ").append(stats.pendingCount()).append("\n");
+        summary.append("  - Approved: ").append(stats.approvedCount()).append("\n");
+        summary.append("  - Rejected: ").append(stats.rejectedCount()).append("\n");
+        summary.append("  - Cancelled: ").append(stats.cancelledCount()).append("\n\n");
         summary.append("By Presentation Type:\n");
-        summary.append("  - Oral: ").append(stats.get("oralCount")).append("\n");
-        summary.append("  - Poster: ").append(stats.get("posterCount")).append("\n\n");
+        summary.append("  - Oral: ").append(stats.oralCount()).append("\n");
+        summary.append("  - Poster: ").append(stats.posterCount()).append("\n\n");
         summary.append("Assignment Status:\n");
-        summary.append("  - Assigned: ").append(stats.get("assignedCount")).append("\n");
-        summary.append("  - Unassigned: ").append(stats.get("unassignedCount")).append("\n");
+        summary.append("  - Assigned: ").append(stats.assignedCount()).append("\n");
+        summary.append("  - Unassigned: ").append(stats.unassignedCount()).append("\n");
         
         summaryArea.setText(summary.toString());
         
@@ -205,35 +252,33 @@ public class ReportPanel extends JPanel implements MainFrame.Refreshable {
         tableModel.setColumnIdentifiers(columns);
         tableModel.setRowCount(0);
         
-        tableModel.addRow(new Object[]{"Total Registrations", stats.get("totalRegistrations")});
-        tableModel.addRow(new Object[]{"Pending", stats.get("pendingCount")});
-        tableModel.addRow(new Object[]{"Approved", stats.get("approvedCount")});
-        tableModel.addRow(new Object[]{"Rejected", stats.get("rejectedCount")});
-        tableModel.addRow(new Object[]{"Cancelled", stats.get("cancelledCount")});
-        tableModel.addRow(new Object[]{"Oral Presentations", stats.get("oralCount")});
-        tableModel.addRow(new Object[]{"Poster Presentations", stats.get("posterCount")});
-        tableModel.addRow(new Object[]{"Assigned to Sessions", stats.get("assignedCount")});
-        tableModel.addRow(new Object[]{"Unassigned", stats.get("unassignedCount")});
+        tableModel.addRow(new Object[]{"Total Registrations", stats.totalRegistrations()});
+        tableModel.addRow(new Object[]{"Pending", stats.pendingCount()});
+        tableModel.addRow(new Object[]{"Approved", stats.approvedCount()});
+        tableModel.addRow(new Object[]{"Rejected", stats.rejectedCount()});
+        tableModel.addRow(new Object[]{"Cancelled", stats.cancelledCount()});
+        tableModel.addRow(new Object[]{"Oral Presentations", stats.oralCount()});
+        tableModel.addRow(new Object[]{"Poster Presentations", stats.posterCount()});
+        tableModel.addRow(new Object[]{"Assigned to Sessions", stats.assignedCount()});
+        tableModel.addRow(new Object[]{"Unassigned", stats.unassignedCount()});
     }
     
-    private void generateEvaluationSummary() {
-        Map<String, Object> summary = reportService.getEvaluationSummary();
-        
+    private void showEvaluationSummary(EvaluationSummary summary) {
         // Build summary text
         StringBuilder sb = new StringBuilder();
         sb.append("=== Evaluation Summary Report ===\n\n");
-        sb.append("Total Evaluations: ").append(summary.get("totalEvaluations")).append("\n");
-        sb.append("Submitted: ").append(summary.get("submittedCount")).append("\n");
-        sb.append("Pending: ").append(summary.get("pendingCount")).append("\n\n");
+        sb.append("Total Evaluations: ").append(summary.totalEvaluations()).append("\n");
+        sb.append("Submitted: ").append(summary.submittedCount()).append("\n");
+        sb.append("Pending: ").append(summary.pendingCount()).append("\n\n");
         sb.append("Average Scores:\n");
-        sb.append(String.format("  - Total Score: %.2f / 100\n", summary.get("averageTotalScore")));
-        sb.append(String.format("  - Problem Clarity: %.2f / 25\n", summary.get("averageProblemClarity")));
-        sb.append(String.format("  - Methodology: %.2f / 25\n", summary.get("averageMethodology")));
-        sb.append(String.format("  - Results: %.2f / 25\n", summary.get("averageResults")));
-        sb.append(String.format("  - Presentation Quality: %.2f / 25\n", summary.get("averagePresentationQuality")));
+        sb.append(String.format("  - Total Score: %.2f / 100\n", summary.averageTotalScore()));
+        sb.append(String.format("  - Problem Clarity: %.2f / 25\n", summary.averageProblemClarity()));
+        sb.append(String.format("  - Methodology: %.2f / 25\n", summary.averageMethodology()));
+        sb.append(String.format("  - Results: %.2f / 25\n", summary.averageResults()));
+        sb.append(String.format("  - Presentation Quality: %.2f / 25\n", summary.averagePresentationQuality()));
         
         // Score distribution
-        int[] distribution = (int[]) summary.get("scoreDistribution");
+        int[] distribution = summary.scoreDistribution();
         if (distribution != null) {
             sb.append("\nScore Distribution:\n");
             sb.append("  - 0-20: ").append(distribution[0]).append("\n");
@@ -250,34 +295,32 @@ public class ReportPanel extends JPanel implements MainFrame.Refreshable {
         tableModel.setColumnIdentifiers(columns);
         tableModel.setRowCount(0);
         
-        tableModel.addRow(new Object[]{"Total Evaluations", summary.get("totalEvaluations")});
-        tableModel.addRow(new Object[]{"Submitted", summary.get("submittedCount")});
-        tableModel.addRow(new Object[]{"Pending", summary.get("pendingCount")});
-        tableModel.addRow(new Object[]{"Avg Total Score", String.format("%.2f", summary.get("averageTotalScore"))});
-        tableModel.addRow(new Object[]{"Avg Problem Clarity", String.format("%.2f", summary.get("averageProblemClarity"))});
-        tableModel.addRow(new Object[]{"Avg Methodology", String.format("%.2f", summary.get("averageMethodology"))});
-        tableModel.addRow(new Object[]{"Avg Results", String.format("%.2f", summary.get("averageResults"))});
-        tableModel.addRow(new Object[]{"Avg Presentation Quality", String.format("%.2f", summary.get("averagePresentationQuality"))});
+        tableModel.addRow(new Object[]{"Total Evaluations", summary.totalEvaluations()});
+        tableModel.addRow(new Object[]{"Submitted", summary.submittedCount()});
+        tableModel.addRow(new Object[]{"Pending", summary.pendingCount()});
+        tableModel.addRow(new Object[]{"Avg Total Score", String.format("%.2f", summary.averageTotalScore())});
+        tableModel.addRow(new Object[]{"Avg Problem Clarity", String.format("%.2f", summary.averageProblemClarity())});
+        tableModel.addRow(new Object[]{"Avg Methodology", String.format("%.2f", summary.averageMethodology())});
+        tableModel.addRow(new Object[]{"Avg Results", String.format("%.2f", summary.averageResults())});
+        tableModel.addRow(new Object[]{"Avg Presentation Quality", String.format("%.2f", summary.averagePresentationQuality())});
     }
     
-    private void generateSessionAttendance() {
-        Map<String, Object> attendance = reportService.getSessionAttendance();
-        
+    private void showSessionAttendance(SessionAttendance attendance) {
         // Build summary text
         StringBuilder sb = new StringBuilder();
         sb.append("=== Session Attendance Report ===\n\n");
-        sb.append("Total Sessions: ").append(attendance.get("totalSessions")).append("\n\n");
+        sb.append("Total Sessions: ").append(attendance.totalSessions()).append("\n\n");
         sb.append("By Status:\n");
-        sb.append("  - Open: ").append(attendance.get("openSessions")).append("\n");
-        sb.append("  - Full: ").append(attendance.get("fullSessions")).append("\n");
-        sb.append("  - Closed: ").append(attendance.get("closedSessions")).append("\n\n");
+        sb.append("  - Open: ").append(attendance.openSessions()).append("\n");
+        sb.append("  - Full: ").append(attendance.fullSessions()).append("\n");
+        sb.append("  - Closed: ").append(attendance.closedSessions()).append("\n\n");
         sb.append("By Type:\n");
-        sb.append("  - Oral: ").append(attendance.get("oralSessions")).append("\n");
-        sb.append("  - Poster: ").append(attendance.get("posterSessions")).append("\n\n");
+        sb.append("  - Oral: ").append(attendance.oralSessions()).append("\n");
+        sb.append("  - Poster: ").append(attendance.posterSessions()).append("\n\n");
         sb.append("Capacity Utilization:\n");
-        sb.append("  - Total Capacity: ").append(attendance.get("totalCapacity")).append("\n");
-        sb.append("  - Total Registered: ").append(attendance.get("totalRegistered")).append("\n");
-        sb.append(String.format("  - Utilization Rate: %.1f%%\n", attendance.get("utilizationRate")));
+        sb.append("  - Total Capacity: ").append(attendance.totalCapacity()).append("\n");
+        sb.append("  - Total Registered: ").append(attendance.totalRegistered()).append("\n");
+        sb.append(String.format("  - Utilization Rate: %.1f%%\n", attendance.utilizationRate()));
         
         summaryArea.setText(sb.toString());
         
@@ -286,27 +329,35 @@ public class ReportPanel extends JPanel implements MainFrame.Refreshable {
         tableModel.setColumnIdentifiers(columns);
         tableModel.setRowCount(0);
         
-        tableModel.addRow(new Object[]{"Total Sessions", attendance.get("totalSessions")});
-        tableModel.addRow(new Object[]{"Open Sessions", attendance.get("openSessions")});
-        tableModel.addRow(new Object[]{"Full Sessions", attendance.get("fullSessions")});
-        tableModel.addRow(new Object[]{"Closed Sessions", attendance.get("closedSessions")});
-        tableModel.addRow(new Object[]{"Oral Sessions", attendance.get("oralSessions")});
-        tableModel.addRow(new Object[]{"Poster Sessions", attendance.get("posterSessions")});
-        tableModel.addRow(new Object[]{"Total Capacity", attendance.get("totalCapacity")});
-        tableModel.addRow(new Object[]{"Total Registered", attendance.get("totalRegistered")});
-        tableModel.addRow(new Object[]{"Utilization Rate", String.format("%.1f%%", attendance.get("utilizationRate"))});
+        tableModel.addRow(new Object[]{"Total Sessions", attendance.totalSessions()});
+        tableModel.addRow(new Object[]{"Open Sessions", attendance.openSessions()});
+        tableModel.addRow(new Object[]{"Full Sessions", attendance.fullSessions()});
+        tableModel.addRow(new Object[]{"Closed Sessions", attendance.closedSessions()});
+        tableModel.addRow(new Object[]{"Oral Sessions", attendance.oralSessions()});
+        tableModel.addRow(new Object[]{"Poster Sessions", attendance.posterSessions()});
+        tableModel.addRow(new Object[]{"Total Capacity", attendance.totalCapacity()});
+        tableModel.addRow(new Object[]{"Total Registered", attendance.totalRegistered()});
+        tableModel.addRow(new Object[]{"Utilization Rate", String.format("%.1f%%", attendance.utilizationRate())});
     }
     
-    private void generateAwardResults() {
+    private AwardResults queryAwardResults() {
         // Calculate awards first
         awardService.calculateAwards();
         
+        AwardResults results = new AwardResults();
+        results.bestOral = awardService.getBestOral();
+        results.bestPoster = awardService.getBestPoster();
+        results.peoplesChoice = awardService.getPeoplesChoice();
+        return results;
+    }
+    
+    private void showAwardResults(AwardResults results) {
         StringBuilder sb = new StringBuilder();
         sb.append("=== Award Results Report ===\n\n");
         
         // Best Oral
         sb.append("Best Oral Presentation:\n");
-        var bestOral = awardService.getBestOral();
+        var bestOral = results.bestOral;
         if (bestOral.isEmpty()) {
             sb.append("  No winner determined\n");
         } else {
@@ -317,7 +368,7 @@ public class ReportPanel extends JPanel implements MainFrame.Refreshable {
         }
         
         sb.append("\nBest Poster Presentation:\n");
-        var bestPoster = awardService.getBestPoster();
+        var bestPoster = results.bestPoster;
         if (bestPoster.isEmpty()) {
             sb.append("  No winner determined\n");
         } else {
@@ -328,7 +379,7 @@ public class ReportPanel extends JPanel implements MainFrame.Refreshable {
         }
         
         sb.append("\nPeople's Choice Award:\n");
-        var peoplesChoice = awardService.getPeoplesChoice();
+        var peoplesChoice = results.peoplesChoice;
         if (peoplesChoice.isEmpty()) {
             sb.append("  No winner determined\n");
         } else {
@@ -360,7 +411,7 @@ public class ReportPanel extends JPanel implements MainFrame.Refreshable {
     }
 
     
-    private void exportToCsv() {
+    private void exportReport() {
         if (currentReportType == null) {
             JOptionPane.showMessageDialog(this, "Please generate a report first.", 
                 "No Report", JOptionPane.WARNING_MESSAGE);
@@ -368,33 +419,61 @@ public class ReportPanel extends JPanel implements MainFrame.Refreshable {
         }
         
         JFileChooser fileChooser = new JFileChooser();
-        fileChooser.setDialogTitle("Export to CSV");
-        fileChooser.setFileFilter(new FileNameExtensionFilter("CSV Files", "csv"));
+        fileChooser.setDialogTitle("Export Report");
+        Map<FileFilter, ExportFormat> formatsByFilter = new LinkedHashMap<>();
+        formatsByFilter.put(new FileNameExtensionFilter("CSV Files (*.csv)", "csv"), ExportFormat.CSV);
+        formatsByFilter.put(new FileNameExtensionFilter("JSON Lines (*.jsonl)", "jsonl"), ExportFormat.JSON_LINES);
+        formatsByFilter.put(new FileNameExtensionFilter("Columnar Binary (*.scol)", "scol"), ExportFormat.COLUMNAR);
+        fileChooser.setAcceptAllFileFilterUsed(false);
+        for (FileFilter filter : formatsByFilter.keySet()) {
+            fileChooser.addChoosableFileFilter(filter);
+        }
+        fileChooser.setFileFilter(formatsByFilter.keySet().iterator().next());
+        JCheckBox gzipCheckBox = new JCheckBox("Compress (gzip)");
+        fileChooser.setAccessory(gzipCheckBox);
         fileChooser.setSelectedFile(new File(getDefaultFileName() + ".csv"));
         
         int result = fileChooser.showSaveDialog(this);
         if (result == JFileChooser.APPROVE_OPTION) {
-            File file = fileChooser.getSelectedFile();
-            String filePath = file.getAbsolutePath();
-            if (!filePath.toLowerCase().endsWith(".csv")) {
-                filePath += ".csv";
-            }
+            String filePath = fileChooser.getSelectedFile().getAbsolutePath();
+            ExportFormat format = formatsByFilter.getOrDefault(fileChooser.getFileFilter(), ExportFormat.CSV);
+            boolean gzip = gzipCheckBox.isSelected() || filePath.toLowerCase().endsWith(".gz");
+            filePath = withExtension(filePath, format, gzip);
             
             try {
                 String reportType = getReportTypeForExport();
-                reportService.exportToCsv(reportType, filePath);
-                JOptionPane.showMessageDialog(this, "Report exported successfully to:\n" + filePath, 
+                long rows = reportService.export(reportType, filePath, format, gzip);
+                JOptionPane.showMessageDialog(this, String.format(
+                    "Exported %,d rows successfully to:%n%s", rows, filePath), 
                     "Export Complete", JOptionPane.INFORMATION_MESSAGE);
             } catch (IOException e) {
                 JOptionPane.showMessageDialog(this, "Error exporting report: " + e.getMessage(), 
                     "Export Error", JOptionPane.ERROR_MESSAGE);
             } catch (IllegalArgumentException e) {
-                JOptionPane.showMessageDialog(this, "Cannot export this report type to CSV.", 
+                JOptionPane.showMessageDialog(this, "Cannot export this report type.", 
                     "Export Error", JOptionPane.WARNING_MESSAGE);
             }
         }
     }
     
+    /**
+     * Replaces the file extension with the one for the chosen format.
+     */
+    private String withExtension(String filePath, ExportFormat format, boolean gzip) {
+        String path = filePath;
+        if (path.toLowerCase().endsWith(".gz")) {
+            path = path.substring(0, path.length() - 3);
+        }
+        for (ExportFormat other : ExportFormat.values()) {
+            String extension = "." + other.getExtension();
+            if (path.toLowerCase().endsWith(extension)) {
+                path = path.substring(0, path.length() - extension.length());
+                break;
+            }
+        }
+        return path + "." + format.getExtension() + (gzip ? ".gz" : "");
+    }
+    
     private String getReportTypeForExport() {
         switch (currentReportType) {
             case "Registration Statistics":
@@ -403,6 +482,8 @@ public class ReportPanel extends JPanel implements MainFrame.Refreshable {
                 return "evaluations";
             case "Session Attendance":
                 return "sessions";
+            case "Award Results":
+                return "awards";
             default:
                 throw new IllegalArgumentException("Cannot export this report type");
         }
@@ -443,9 +524,19 @@ public class ReportPanel extends JPanel implements MainFrame.Refreshable {
     @Override
     public void refresh() {
         // Clear current report
+        loader.cancel();
         summaryArea.setText("Select a report type and click 'Generate Report' to view data.");
         tableModel.setRowCount(0);
         tableModel.setColumnCount(0);
         currentReportType = null;
     }
-}
+    
+    /**
+     * Award lists computed off the EDT for the award results report.
+     */
+    private static class AwardResults {
+        List<Award> bestOral = List.of();
+        List<Award> bestPoster = List.of();
+        List<Award> peoplesChoice = List.of();
+    }
+}
\ No newline at end of file
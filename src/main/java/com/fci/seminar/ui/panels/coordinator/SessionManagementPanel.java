@@ -3,9 +3,18 @@ package com.fci.seminar.ui.panels.coordinator;
 import com.fci.seminar.model.Session;
 import com.fci.seminar.model.enums.SessionStatus;
 import com.fci.seminar.model.enums.SessionType;
+import com.fci.seminar.repository.ChangeEvent;
+import com.fci.seminar.repository.ChangeEvent.ChangeType;
+import com.fci.seminar.repository.ChangeEvent.EntityType;
+import com.fci.seminar.repository.ChangeEventBus;
+import com.fci.seminar.service.BoardIdScheme;
+import com.fci.seminar.service.ScheduleConflict;
 import com.fci.seminar.service.SessionService;
+import com.fci.seminar.ui.BackgroundLoader;
+import com.fci.seminar.ui.CoalescingChangeListener;
 import com.fci.seminar.ui.MainFrame;
 import com.fci.seminar.ui.components.CardPanel;
+import com.fci.seminar.ui.components.LoadingIndicator;
 import com.fci.seminar.ui.components.StatusLabel;
 import com.fci.seminar.ui.components.StyledButton;
 import com.fci.seminar.ui.components.StyledTable;
@@ -19,6 +28,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -26,7 +36,7 @@ import java.util.List;
  * Provides CRUD operations and status management.
  * Requirements: 6.1, 6.2, 6.3, 6.4, 6.5, 6.6
  */
-public class SessionManagementPanel extends JPanel implements MainFrame.Refreshable {
+public class SessionManagementPanel extends JPanel implements MainFrame.Refreshable, MainFrame.Disposable {
     
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
@@ -41,12 +51,21 @@ public class SessionManagementPanel extends JPanel implements MainFrame.Refresha
     private JComboBox<String> statusFilterCombo;
     private JComboBox<String> typeFilterCombo;
     
+    // Background data loading
+    private LoadingIndicator loadingIndicator;
+    private BackgroundLoader loader;
+    private BackgroundLoader conflictLoader;
+    private ChangeEventBus.Subscription changeSubscription;
+    
     /**
      * Creates the session management panel.
      */
     public SessionManagementPanel() {
         this.sessionService = SessionService.getInstance();
         initComponents();
+        this.loader = new BackgroundLoader(this, loadingIndicator);
+        this.conflictLoader = new BackgroundLoader(this, loadingIndicator);
+        this.changeSubscription = CoalescingChangeListener.subscribe(this::applySessionChanges, EntityType.SESSION);
         loadData();
     }
     
@@ -123,6 +142,9 @@ public class SessionManagementPanel extends JPanel implements MainFrame.Refresha
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, UIConstants.SPACING_SM, 0));
         buttonPanel.setOpaque(false);
         
+        loadingIndicator = new LoadingIndicator();
+        buttonPanel.add(loadingIndicator);
+        
         StyledButton editBtn = StyledButton.secondary("Edit");
         editBtn.addActionListener(e -> editSelectedSession());
         buttonPanel.add(editBtn);
@@ -131,6 +153,10 @@ public class SessionManagementPanel extends JPanel implements MainFrame.Refresha
         statusBtn.addActionListener(e -> changeSelectedSessionStatus());
         buttonPanel.add(statusBtn);
         
+        StyledButton conflictsBtn = StyledButton.secondary("Check Conflicts");
+        conflictsBtn.addActionListener(e -> checkConflicts());
+        buttonPanel.add(conflictsBtn);
+        
         StyledButton deleteBtn = StyledButton.danger("Delete");
         deleteBtn.addActionListener(e -> deleteSelectedSession());
         buttonPanel.add(deleteBtn);
@@ -176,44 +202,97 @@ public class SessionManagementPanel extends JPanel implements MainFrame.Refresha
     }
     
     private void loadData() {
-        tableModel.setRowCount(0);
-        List<Session> sessions = sessionService.getAllSessions();
-        for (Session session : sessions) {
-            addSessionToTable(session);
-        }
+        loader.loadRows(sessionService::getAllSessions,
+                () -> tableModel.setRowCount(0),
+                sessions -> sessions.forEach(this::addSessionToTable));
     }
     
     private void applyFilters() {
-        tableModel.setRowCount(0);
-        
+        final SessionStatus statusMatch = getStatusFilter();
+        final SessionType typeMatch = getTypeFilter();
+        loader.loadRows(() -> {
+            List<Session> matches = new ArrayList<>();
+            for (Session session : sessionService.getAllSessions()) {
+                if (matchesFilters(session, statusMatch, typeMatch)) {
+                    matches.add(session);
+                }
+            }
+            return matches;
+        }, () -> tableModel.setRowCount(0), sessions -> sessions.forEach(this::addSessionToTable));
+    }
+    
+    private SessionStatus getStatusFilter() {
         String statusFilter = (String) statusFilterCombo.getSelectedItem();
-        String typeFilter = (String) typeFilterCombo.getSelectedItem();
-        
-        SessionStatus status = null;
-        SessionType type = null;
-        
         if (statusFilter != null && !"All Status".equals(statusFilter)) {
-            status = SessionStatus.valueOf(statusFilter);
+            return SessionStatus.valueOf(statusFilter);
         }
+        return null;
+    }
+    
+    private SessionType getTypeFilter() {
+        String typeFilter = (String) typeFilterCombo.getSelectedItem();
         if (typeFilter != null && !"All Types".equals(typeFilter)) {
-            type = SessionType.valueOf(typeFilter);
+            return SessionType.valueOf(typeFilter);
+        }
+        return null;
+    }
+    
+    private boolean matchesFilters(Session session, SessionStatus status, SessionType type) {
+        boolean matchesStatus = status == null || session.getStatus() == status;
+        boolean matchesType = type == null || session.getType() == type;
+        return matchesStatus && matchesType;
+    }
+    
+    /**
+     * Applies a batch of session changes to the table row by row.
+     */
+    private void applySessionChanges(List<ChangeEvent> events) {
+        if (loader.isLoading()) {
+            // The running load may have read the list before these changes
+            applyFilters();
+            return;
         }
         
-        List<Session> sessions = sessionService.getAllSessions();
-        for (Session session : sessions) {
-            boolean matchesStatus = status == null || session.getStatus() == status;
-            boolean matchesType = type == null || session.getType() == type;
+        SessionStatus status = getStatusFilter();
+        SessionType type = getTypeFilter();
+        for (ChangeEvent event : events) {
+            int row = findRow(event.getEntityId());
+            Session session = event.getEntity(Session.class);
+            boolean visible = event.getChangeType() != ChangeType.DELETE && session != null
+                    && matchesFilters(session, status, type);
             
-            if (matchesStatus && matchesType) {
+            if (!visible) {
+                if (row >= 0) {
+                    tableModel.removeRow(row);
+                }
+            } else if (row >= 0) {
+                Object[] values = toRow(session);
+                for (int col = 0; col < values.length; col++) {
+                    tableModel.setValueAt(values[col], row, col);
+                }
+            } else {
                 addSessionToTable(session);
             }
         }
     }
     
+    private int findRow(Long id) {
+        for (int row = 0; row < tableModel.getRowCount(); row++) {
+            if (id != null && id.equals(tableModel.getValueAt(row, 0))) {
+                return row;
+            }
+        }
+        return -1;
+    }
+    
     private void addSessionToTable(Session session) {
+        tableModel.addRow(toRow(session));
+    }
+    
+    private Object[] toRow(Session session) {
         String timeRange = session.getStartTime().format(TIME_FORMATTER) + " - " + 
                           session.getEndTime().format(TIME_FORMATTER);
-        tableModel.addRow(new Object[]{
+        return new Object[]{
             session.getId(),
             session.getDate().format(DATE_FORMATTER),
             timeRange,
@@ -222,14 +301,14 @@ public class SessionManagementPanel extends JPanel implements MainFrame.Refresha
             session.getCapacity(),
             session.getRegistered(),
             session.getStatus().name()
-        });
+        };
     }
 
     
     private void showSessionDialog(Session session) {
         JDialog dialog = new JDialog((Frame) SwingUtilities.getWindowAncestor(this), 
             session == null ? "Create Session" : "Edit Session", true);
-        dialog.setSize(450, 450);
+        dialog.setSize(450, 490);
         dialog.setLocationRelativeTo(this);
         
         JPanel panel = new JPanel(new GridBagLayout());
@@ -297,8 +376,21 @@ public class SessionManagementPanel extends JPanel implements MainFrame.Refresha
         gbc.gridx = 1; gbc.weightx = 1.0;
         panel.add(statusCombo, gbc);
         
-        // Description
+        // Board IDs (poster sessions only)
         gbc.gridx = 0; gbc.gridy = 7; gbc.weightx = 0;
+        panel.add(new JLabel("Board IDs:"), gbc);
+        JTextField boardSchemeField = new JTextField(session != null && session.getBoardScheme() != null
+            ? session.getBoardScheme() : BoardIdScheme.DEFAULT_PATTERN);
+        boardSchemeField.setToolTipText("# = board number digits, [A-J] = rows; e.g. B## (B01-B99), "
+            + "B### (B001-B999), [A-J]## (A01-J99)");
+        boardSchemeField.setEnabled(typeCombo.getSelectedItem() == SessionType.POSTER);
+        typeCombo.addActionListener(e -> 
+            boardSchemeField.setEnabled(typeCombo.getSelectedItem() == SessionType.POSTER));
+        gbc.gridx = 1; gbc.weightx = 1.0;
+        panel.add(boardSchemeField, gbc);
+        
+        // Description
+        gbc.gridx = 0; gbc.gridy = 8; gbc.weightx = 0;
         panel.add(new JLabel("Description:"), gbc);
         JTextArea descriptionArea = new JTextArea(session != null ? session.getDescription() : "", 3, 20);
         descriptionArea.setLineWrap(true);
@@ -325,6 +417,10 @@ public class SessionManagementPanel extends JPanel implements MainFrame.Refresha
                 s.setCapacity((Integer) capacitySpinner.getValue());
                 s.setStatus((SessionStatus) statusCombo.getSelectedItem());
                 s.setDescription(descriptionArea.getText().trim());
+                String boardScheme = boardSchemeField.getText().trim();
+                s.setBoardScheme(s.getType() == SessionType.POSTER 
+                    && !boardScheme.isEmpty() && !boardScheme.equals(BoardIdScheme.DEFAULT_PATTERN) 
+                    ? boardScheme : null);
                 
                 if (session == null) {
                     sessionService.createSession(s);
@@ -332,7 +428,6 @@ public class SessionManagementPanel extends JPanel implements MainFrame.Refresha
                     sessionService.updateSession(s);
                 }
                 
-                loadData();
                 dialog.dispose();
             } catch (DateTimeParseException ex) {
                 JOptionPane.showMessageDialog(dialog, "Invalid date or time format.", 
@@ -344,7 +439,7 @@ public class SessionManagementPanel extends JPanel implements MainFrame.Refresha
         });
         buttonPanel.add(saveBtn);
         
-        gbc.gridx = 0; gbc.gridy = 8; gbc.gridwidth = 2;
+        gbc.gridx = 0; gbc.gridy = 9; gbc.gridwidth = 2;
         panel.add(buttonPanel, gbc);
         
         dialog.add(panel);
@@ -384,10 +479,47 @@ public class SessionManagementPanel extends JPanel implements MainFrame.Refresha
         
         if (newStatus != null && newStatus != session.getStatus()) {
             sessionService.updateSessionStatus(id, newStatus);
-            loadData();
         }
     }
     
+    private void checkConflicts() {
+        conflictLoader.load(sessionService::getScheduleConflicts, this::showConflicts);
+    }
+    
+    private void showConflicts(List<ScheduleConflict> conflicts) {
+        if (conflicts.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "No venue or evaluator conflicts found.", 
+                "Schedule Conflicts", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        
+        String[] columns = {"Type", "Venue / Evaluator", "Sessions", "Date", "Overlap"};
+        DefaultTableModel conflictModel = new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        for (ScheduleConflict conflict : conflicts) {
+            conflictModel.addRow(new Object[]{
+                conflict.kind() == ScheduleConflict.Kind.VENUE ? "Venue" : "Evaluator",
+                conflict.kind() == ScheduleConflict.Kind.VENUE ? conflict.venue() : "Evaluator " + conflict.evaluatorId(),
+                conflict.firstSessionId() + " & " + conflict.secondSessionId(),
+                conflict.overlapStart().toLocalDate().format(DATE_FORMATTER),
+                conflict.overlapStart().toLocalTime().format(TIME_FORMATTER) + " - " 
+                    + conflict.overlapEnd().toLocalTime().format(TIME_FORMATTER)
+            });
+        }
+        StyledTable conflictTable = new StyledTable(conflictModel);
+        JScrollPane scrollPane = new JScrollPane(conflictTable);
+        scrollPane.setPreferredSize(new Dimension(620, 300));
+        
+        JPanel panel = new JPanel(new BorderLayout(0, UIConstants.SPACING_SM));
+        panel.add(new JLabel(conflicts.size() + " conflicts found."), BorderLayout.NORTH);
+        panel.add(scrollPane, BorderLayout.CENTER);
+        JOptionPane.showMessageDialog(this, panel, "Schedule Conflicts", JOptionPane.WARNING_MESSAGE);
+    }
+    
     private void deleteSelectedSession() {
         int selectedRow = sessionsTable.getSelectedRow();
         if (selectedRow < 0) {
@@ -406,7 +538,6 @@ public class SessionManagementPanel extends JPanel implements MainFrame.Refresha
             
             if (confirm == JOptionPane.YES_OPTION) {
                 sessionService.deleteSessionWithConfirmation(id, true);
-                loadData();
             }
         } else {
             int confirm = JOptionPane.showConfirmDialog(this, 
@@ -415,7 +546,6 @@ public class SessionManagementPanel extends JPanel implements MainFrame.Refresha
             
             if (confirm == JOptionPane.YES_OPTION) {
                 sessionService.deleteSession(id);
-                loadData();
             }
         }
     }
@@ -424,6 +554,13 @@ public class SessionManagementPanel extends JPanel implements MainFrame.Refresha
     public void refresh() {
         loadData();
     }
+
+    @Override
+    public void dispose() {
+        changeSubscription.cancel();
+        loader.cancel();
+        conflictLoader.cancel();
+    }
     
     /**
      * Custom cell renderer for status column.
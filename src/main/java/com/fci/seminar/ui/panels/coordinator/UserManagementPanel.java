@@ -3,9 +3,14 @@ package com.fci.seminar.ui.panels.coordinator;
 import com.fci.seminar.model.Evaluator;
 import com.fci.seminar.model.Student;
 import com.fci.seminar.model.User;
+import com.fci.seminar.repository.ChangeEvent.EntityType;
+import com.fci.seminar.repository.ChangeEventBus;
 import com.fci.seminar.repository.UserRepository;
+import com.fci.seminar.ui.BackgroundLoader;
+import com.fci.seminar.ui.CoalescingChangeListener;
 import com.fci.seminar.ui.MainFrame;
 import com.fci.seminar.ui.components.CardPanel;
+import com.fci.seminar.ui.components.LoadingIndicator;
 import com.fci.seminar.ui.components.StyledButton;
 import com.fci.seminar.ui.components.StyledTable;
 import com.fci.seminar.ui.components.StyledTextField;
@@ -21,7 +26,7 @@ import java.util.List;
  * Provides CRUD operations and search/filtering capabilities.
  * Requirements: 1.2
  */
-public class UserManagementPanel extends JPanel implements MainFrame.Refreshable {
+public class UserManagementPanel extends JPanel implements MainFrame.Refreshable, MainFrame.Disposable {
     
     private final UserRepository userRepository;
     
@@ -38,12 +43,19 @@ public class UserManagementPanel extends JPanel implements MainFrame.Refreshable
     private DefaultTableModel evaluatorsTableModel;
     private StyledTextField evaluatorSearchField;
     
+    // Background data loading
+    private LoadingIndicator loadingIndicator;
+    private BackgroundLoader loader;
+    private ChangeEventBus.Subscription changeSubscription;
+    
     /**
      * Creates the user management panel.
      */
     public UserManagementPanel() {
         this.userRepository = new UserRepository();
         initComponents();
+        this.loader = new BackgroundLoader(this, loadingIndicator);
+        this.changeSubscription = CoalescingChangeListener.subscribe(events -> loadData(), EntityType.USER);
         loadData();
     }
     
@@ -73,6 +85,9 @@ public class UserManagementPanel extends JPanel implements MainFrame.Refreshable
         titleLabel.setForeground(UIConstants.TEXT_PRIMARY);
         headerPanel.add(titleLabel, BorderLayout.WEST);
         
+        loadingIndicator = new LoadingIndicator();
+        headerPanel.add(loadingIndicator, BorderLayout.EAST);
+        
         return headerPanel;
     }
 
@@ -214,13 +229,16 @@ public class UserManagementPanel extends JPanel implements MainFrame.Refreshable
     }
     
     private void loadData() {
-        loadStudents();
-        loadEvaluators();
+        // Fetch both user lists on a worker thread, then fill the tables on the EDT
+        loader.load(() -> new UserData(userRepository.findAllStudents(), userRepository.findAllEvaluators()),
+                data -> {
+                    showStudents(data.students);
+                    showEvaluators(data.evaluators);
+                });
     }
     
-    private void loadStudents() {
+    private void showStudents(List<Student> students) {
         studentsTableModel.setRowCount(0);
-        List<Student> students = userRepository.findAllStudents();
         for (Student student : students) {
             studentsTableModel.addRow(new Object[]{
                 student.getId(),
@@ -234,9 +252,8 @@ public class UserManagementPanel extends JPanel implements MainFrame.Refreshable
         }
     }
     
-    private void loadEvaluators() {
+    private void showEvaluators(List<Evaluator> evaluators) {
         evaluatorsTableModel.setRowCount(0);
-        List<Evaluator> evaluators = userRepository.findAllEvaluators();
         for (Evaluator evaluator : evaluators) {
             evaluatorsTableModel.addRow(new Object[]{
                 evaluator.getId(),
@@ -331,7 +348,6 @@ public class UserManagementPanel extends JPanel implements MainFrame.Refreshable
         if (confirm == JOptionPane.YES_OPTION) {
             Long id = (Long) studentsTableModel.getValueAt(selectedRow, 0);
             userRepository.deleteStudent(id);
-            loadStudents();
         }
     }
     
@@ -415,7 +431,6 @@ public class UserManagementPanel extends JPanel implements MainFrame.Refreshable
             s.setSupervisor(supervisorField.getText().trim());
             
             userRepository.saveStudent(s);
-            loadStudents();
             dialog.dispose();
         });
         buttonPanel.add(saveBtn);
@@ -464,7 +479,6 @@ public class UserManagementPanel extends JPanel implements MainFrame.Refreshable
         if (confirm == JOptionPane.YES_OPTION) {
             Long id = (Long) evaluatorsTableModel.getValueAt(selectedRow, 0);
             userRepository.deleteEvaluator(id);
-            loadEvaluators();
         }
     }
     
@@ -540,7 +554,6 @@ public class UserManagementPanel extends JPanel implements MainFrame.Refreshable
             ev.setExpertise(expertiseField.getText().trim());
             
             userRepository.saveEvaluator(ev);
-            loadEvaluators();
             dialog.dispose();
         });
         buttonPanel.add(saveBtn);
@@ -556,4 +569,23 @@ public class UserManagementPanel extends JPanel implements MainFrame.Refreshable
     public void refresh() {
         loadData();
     }
+
+    @Override
+    public void dispose() {
+        changeSubscription.cancel();
+        loader.cancel();
+    }
+    
+    /**
+     * Snapshot of user lists queried off the EDT.
+     */
+    private static class UserData {
+        final List<Student> students;
+        final List<Evaluator> evaluators;
+        
+        UserData(List<Student> students, List<Evaluator> evaluators) {
+            this.students = students;
+            this.evaluators = evaluators;
+        }
+    }
 }
@@ -0,0 +1,334 @@
+package com.fci.seminar.util;
+
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Streaming writer for a simple typed columnar binary format.
+ * Rows are buffered into row groups of a fixed size; each full group is
+ * written column by column, so memory use is bounded by the group size
+ * regardless of how many rows are exported.
+ *
+ * File layout (big-endian):
+ * <pre>
+ * file       := "SCOL" version:u16 columnCount:u16 columnDef* rowGroup* 0:i32 totalRows:i64
+ * columnDef  := nameLength:u16 name:UTF-8 type:u8
+ * rowGroup   := rowCount:i32 columnChunk*          (one chunk per column, rowCount &gt; 0)
+ * columnChunk:= nullBitmap:ceil(rowCount/8) bytes  (bit i set = row i is null)
+ *               value*                              (non-null rows only)
+ * </pre>
+ * Values are encoded per {@link ColumnType}.
+ * Not thread-safe.
+ *
+ * @param <T> the row type
+ */
+public class ColumnarWriter<T> implements Closeable {
+
+    public static final byte[] MAGIC = {'S', 'C', 'O', 'L'};
+    public static final int FORMAT_VERSION = 1;
+    public static final int DEFAULT_ROW_GROUP_SIZE = 65_536;
+
+    /**
+     * Column value types and their encodings.
+     */
+    public enum ColumnType {
+        /** i64 */
+        INT64,
+        /** i32 */
+        INT32,
+        /** IEEE 754 f64 */
+        FLOAT64,
+        /** u8, 0 or 1 */
+        BOOLEAN,
+        /** byteLength:i32 followed by UTF-8 bytes; enums are written by name */
+        STRING,
+        /** Days since 1970-01-01 as i32 */
+        DATE,
+        /** Nanoseconds since midnight as i64 */
+        TIME,
+        /** Microseconds since 1970-01-01T00:00 as i64, local time without zone */
+        TIMESTAMP
+    }
+
+    private final DataOutputStream out;
+    private final List<Column<T>> columns;
+    private final List<ColumnBuffer> buffers;
+    private final int rowGroupSize;
+    private int bufferedRows;
+    private long rowCount;
+
+    /**
+     * Creates a writer and writes the file header.
+     * @param out the destination
+     * @param columns the columns to write, in order
+     * @param rowGroupSize the number of rows per row group
+     * @throws IOException if the header cannot be written
+     */
+    public ColumnarWriter(OutputStream out, List<Column<T>> columns, int rowGroupSize) throws IOException {
+        if (out == null || columns == null || columns.isEmpty()) {
+            throw new IllegalArgumentException("Output and columns cannot be empty");
+        }
+        if (rowGroupSize <= 0) {
+            throw new IllegalArgumentException("Row group size must be positive");
+        }
+        this.out = out instanceof DataOutputStream ? (DataOutputStream) out : new DataOutputStream(out);
+        this.columns = List.copyOf(columns);
+        this.rowGroupSize = rowGroupSize;
+        this.buffers = new ArrayList<>(columns.size());
+        for (Column<T> column : this.columns) {
+            buffers.add(new ColumnBuffer(column.type, rowGroupSize));
+        }
+        writeHeader();
+    }
+
+    /**
+     * Opens a columnar file for writing, replacing any existing file.
+     * @param path the output file
+     * @param columns the columns to write, in order
+     * @param gzip true to gzip-compress the output
+     * @return the writer
+     * @throws IOException if the file cannot be opened
+     */
+    public static <T> ColumnarWriter<T> open(Path path, List<Column<T>> columns, boolean gzip) throws IOException {
+        return new ColumnarWriter<>(FileUtils.openExportStream(path, gzip), columns, DEFAULT_ROW_GROUP_SIZE);
+    }
+
+    private void writeHeader() throws IOException {
+        out.write(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeShort(columns.size());
+        for (Column<T> column : columns) {
+            byte[] name = column.name.getBytes(StandardCharsets.UTF_8);
+            out.writeShort(name.length);
+            out.write(name);
+            out.writeByte(column.type.ordinal());
+        }
+    }
+
+    // ==================== Rows ====================
+
+    /**
+     * Adds a row, writing a row group when the buffer is full.
+     * @param row the row
+     * @return this writer
+     */
+    public ColumnarWriter<T> write(T row) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            buffers.get(i).add(bufferedRows, columns.get(i).getter.apply(row));
+        }
+        bufferedRows++;
+        rowCount++;
+        if (bufferedRows == rowGroupSize) {
+            writeRowGroup();
+        }
+        return this;
+    }
+
+    /**
+     * Gets the number of rows written so far.
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    private void writeRowGroup() throws IOException {
+        if (bufferedRows == 0) {
+            return;
+        }
+        out.writeInt(bufferedRows);
+        for (ColumnBuffer buffer : buffers) {
+            buffer.writeTo(out, bufferedRows);
+        }
+        bufferedRows = 0;
+    }
+
+    /**
+     * Writes any buffered rows and the footer, then closes the destination.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            writeRowGroup();
+            out.writeInt(0);
+            out.writeLong(rowCount);
+        } finally {
+            out.close();
+        }
+    }
+
+    // ==================== Helper Classes ====================
+
+    /**
+     * A named, typed column and how to read its value from a row.
+     * @param <T> the row type
+     */
+    public static class Column<T> {
+        private final String name;
+        private final ColumnType type;
+        private final Function<? super T, ?> getter;
+
+        private Column(String name, ColumnType type, Function<? super T, ?> getter) {
+            if (name == null || name.isEmpty() || getter == null) {
+                throw new IllegalArgumentException("Column name and getter cannot be empty");
+            }
+            this.name = name;
+            this.type = type;
+            this.getter = getter;
+        }
+
+        public static <T> Column<T> int64(String name, Function<? super T, ? extends Number> getter) {
+            return new Column<>(name, ColumnType.INT64, getter);
+        }
+
+        public static <T> Column<T> int32(String name, Function<? super T, ? extends Number> getter) {
+            return new Column<>(name, ColumnType.INT32, getter);
+        }
+
+        public static <T> Column<T> float64(String name, Function<? super T, ? extends Number> getter) {
+            return new Column<>(name, ColumnType.FLOAT64, getter);
+        }
+
+        public static <T> Column<T> bool(String name, Function<? super T, Boolean> getter) {
+            return new Column<>(name, ColumnType.BOOLEAN, getter);
+        }
+
+        /**
+         * Creates a text column. Enum values are written by name, other
+         * values by their string form.
+         */
+        public static <T> Column<T> string(String name, Function<? super T, ?> getter) {
+            return new Column<>(name, ColumnType.STRING, getter);
+        }
+
+        public static <T> Column<T> date(String name, Function<? super T, LocalDate> getter) {
+            return new Column<>(name, ColumnType.DATE, getter);
+        }
+
+        public static <T> Column<T> time(String name, Function<? super T, LocalTime> getter) {
+            return new Column<>(name, ColumnType.TIME, getter);
+        }
+
+        public static <T> Column<T> timestamp(String name, Function<? super T, LocalDateTime> getter) {
+            return new Column<>(name, ColumnType.TIMESTAMP, getter);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public ColumnType getType() {
+            return type;
+        }
+    }
+
+    /**
+     * Buffered values of one column for the current row group.
+     * Numeric and temporal values are kept unboxed.
+     */
+    private static class ColumnBuffer {
+        private final ColumnType type;
+        private final boolean[] nulls;
+        private final long[] longs;
+        private final double[] doubles;
+        private final byte[][] strings;
+
+        ColumnBuffer(ColumnType type, int capacity) {
+            this.type = type;
+            this.nulls = new boolean[capacity];
+            this.longs = type == ColumnType.FLOAT64 || type == ColumnType.STRING ? null : new long[capacity];
+            this.doubles = type == ColumnType.FLOAT64 ? new double[capacity] : null;
+            this.strings = type == ColumnType.STRING ? new byte[capacity][] : null;
+        }
+
+        void add(int index, Object value) {
+            nulls[index] = value == null;
+            if (value == null) {
+                if (strings != null) {
+                    strings[index] = null;
+                }
+                return;
+            }
+            switch (type) {
+                case INT64:
+                case INT32:
+                    longs[index] = ((Number) value).longValue();
+                    break;
+                case FLOAT64:
+                    doubles[index] = ((Number) value).doubleValue();
+                    break;
+                case BOOLEAN:
+                    longs[index] = (Boolean) value ? 1 : 0;
+                    break;
+                case STRING:
+                    String text = value instanceof Enum ? ((Enum<?>) value).name() : value.toString();
+                    strings[index] = text.getBytes(StandardCharsets.UTF_8);
+                    break;
+                case DATE:
+                    longs[index] = ((LocalDate) value).toEpochDay();
+                    break;
+                case TIME:
+                    longs[index] = ((LocalTime) value).toNanoOfDay();
+                    break;
+                case TIMESTAMP:
+                    LocalDateTime dateTime = (LocalDateTime) value;
+                    longs[index] = dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L
+                            + dateTime.getNano() / 1_000;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported column type: " + type);
+            }
+        }
+
+        void writeTo(DataOutputStream out, int rows) throws IOException {
+            // Null bitmap
+            byte[] bitmap = new byte[(rows + 7) / 8];
+            for (int i = 0; i < rows; i++) {
+                if (nulls[i]) {
+                    bitmap[i >> 3] |= (byte) (1 << (i & 7));
+                }
+            }
+            out.write(bitmap);
+
+            for (int i = 0; i < rows; i++) {
+                if (nulls[i]) {
+                    continue;
+                }
+                switch (type) {
+                    case INT64:
+                    case TIME:
+                    case TIMESTAMP:
+                        out.writeLong(longs[i]);
+                        break;
+                    case INT32:
+                    case DATE:
+                        out.writeInt((int) longs[i]);
+                        break;
+                    case FLOAT64:
+                        out.writeDouble(doubles[i]);
+                        break;
+                    case BOOLEAN:
+                        out.writeByte((int) longs[i]);
+                        break;
+                    case STRING:
+                        out.writeInt(strings[i].length);
+                        out.write(strings[i]);
+                        strings[i] = null;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unsupported column type: " + type);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.fci.seminar.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Streaming CSV writer for large exports.
+ * Writes UTF-8 with CRLF line endings and RFC 4180 quoting. Fields are
+ * formatted by hand into an internal char buffer, so no format strings are
+ * parsed and no per-field strings are created for numbers.
+ * Not thread-safe.
+ */
+public class CsvWriter implements Closeable {
+
+    private static final int CHAR_BUFFER_SIZE = 64 * 1024;
+
+    private final Writer out;
+    private final char[] buffer = new char[CHAR_BUFFER_SIZE];
+    private int position;
+    private int fieldsInRow;
+    private long rowCount;
+
+    /**
+     * Creates a writer on top of an existing character stream.
+     * @param out the destination
+     */
+    public CsvWriter(Writer out) {
+        if (out == null) {
+            throw new IllegalArgumentException("Writer cannot be null");
+        }
+        this.out = out;
+    }
+
+    /**
+     * Opens a CSV file for writing, replacing any existing file.
+     * @param path the output file
+     * @param gzip true to gzip-compress the output
+     * @return the writer
+     * @throws IOException if the file cannot be opened
+     */
+    public static CsvWriter open(Path path, boolean gzip) throws IOException {
+        return new CsvWriter(new OutputStreamWriter(FileUtils.openExportStream(path, gzip), StandardCharsets.UTF_8));
+    }
+
+    // ==================== Rows ====================
+
+    /**
+     * Writes a complete row of text fields, e.g. a header.
+     * @param fields the field values
+     * @return this writer
+     */
+    public CsvWriter writeRow(String... fields) throws IOException {
+        for (String field : fields) {
+            field(field);
+        }
+        return endRow();
+    }
+
+    /**
+     * Ends the current row.
+     * @return this writer
+     */
+    public CsvWriter endRow() throws IOException {
+        ensureCapacity(2);
+        buffer[position++] = '\r';
+        buffer[position++] = '\n';
+        fieldsInRow = 0;
+        rowCount++;
+        return this;
+    }
+
+    /**
+     * Gets the number of rows written so far, including any header row.
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    // ==================== Fields ====================
+
+    /**
+     * Writes a text field, quoting it only when it contains a comma,
+     * a double quote or a line break. Null is written as an empty field.
+     * @param value the value
+     * @return this writer
+     */
+    public CsvWriter field(String value) throws IOException {
+        startField();
+        if (value == null || value.isEmpty()) {
+            return this;
+        }
+        if (!needsQuoting(value)) {
+            append(value);
+            return this;
+        }
+
+        appendChar('"');
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                appendChar('"');
+            }
+            appendChar(c);
+        }
+        appendChar('"');
+        return this;
+    }
+
+    /**
+     * Writes a whole-number field.
+     * @param value the value
+     * @return this writer
+     */
+    public CsvWriter field(long value) throws IOException {
+        startField();
+        appendLong(value);
+        return this;
+    }
+
+    /**
+     * Writes a whole-number field, or an empty field for null.
+     * @param value the value
+     * @return this writer
+     */
+    public CsvWriter field(Long value) throws IOException {
+        if (value == null) {
+            startField();
+            return this;
+        }
+        return field(value.longValue());
+    }
+
+    /**
+     * Writes a decimal field in its shortest exact form.
+     * @param value the value
+     * @return this writer
+     */
+    public CsvWriter field(double value) throws IOException {
+        startField();
+        append(Double.toString(value));
+        return this;
+    }
+
+    /**
+     * Writes a boolean field as "true" or "false".
+     * @param value the value
+     * @return this writer
+     */
+    public CsvWriter field(boolean value) throws IOException {
+        startField();
+        append(value ? "true" : "false");
+        return this;
+    }
+
+    /**
+     * Writes any value using its string form. Null is written as an empty field.
+     * @param value the value
+     * @return this writer
+     */
+    public CsvWriter field(Object value) throws IOException {
+        return field(value != null ? value.toString() : null);
+    }
+
+    private void startField() throws IOException {
+        if (fieldsInRow++ > 0) {
+            appendChar(',');
+        }
+    }
+
+    private static boolean needsQuoting(String value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ==================== Buffer ====================
+
+    private void appendLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            append(Long.toString(value));
+            return;
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        // Write digits backwards into place
+        int digits = 1;
+        for (long v = value / 10; v > 0; v /= 10) {
+            digits++;
+        }
+        int end = position + digits;
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (char) ('0' + (value % 10));
+            value /= 10;
+        }
+        position = end;
+    }
+
+    private void append(String value) throws IOException {
+        int length = value.length();
+        int offset = 0;
+        while (offset < length) {
+            if (position == buffer.length) {
+                flushBuffer();
+            }
+            int count = Math.min(length - offset, buffer.length - position);
+            value.getChars(offset, offset + count, buffer, position);
+            position += count;
+            offset += count;
+        }
+    }
+
+    private void appendChar(char c) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = c;
+    }
+
+    private void ensureCapacity(int count) throws IOException {
+        if (buffer.length - position < count) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+
+    /**
+     * Flushes buffered output to the destination.
+     */
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    /**
+     * Flushes and closes the destination, finishing any gzip stream.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flushBuffer();
+        } finally {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.fci.seminar.util;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the data directory for files other processes commit and has the
+ * {@link DataManager} read back only the files that changed.
+ * File system events make local changes show up at once. Network shares
+ * often send no events, so the file attributes are also checked every
+ * poll interval.
+ */
+public class DataDirectoryWatcher {
+
+    public static final long DEFAULT_POLL_INTERVAL_MS = 2_000;
+
+    private final DataManager dataManager;
+    private final long pollIntervalMillis;
+
+    private volatile Thread thread;
+    private volatile boolean running;
+    private volatile WatchService watchService;
+
+    /**
+     * Creates a watcher of the shared data manager's directory.
+     */
+    public DataDirectoryWatcher() {
+        this(DataManager.getInstance(), DEFAULT_POLL_INTERVAL_MS);
+    }
+
+    /**
+     * Constructor for testing with a custom data manager and poll interval.
+     */
+    public DataDirectoryWatcher(DataManager dataManager, long pollIntervalMillis) {
+        if (pollIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Poll interval must be positive");
+        }
+        this.dataManager = dataManager;
+        this.pollIntervalMillis = pollIntervalMillis;
+    }
+
+    // ==================== Lifecycle ====================
+
+    /**
+     * Starts watching on a background thread.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        watchService = openWatchService(dataManager.getDataDirectory());
+        thread = new Thread(this::watch, "data-directory-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops watching.
+     */
+    public synchronized void stop() {
+        running = false;
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                System.err.println("Error closing data directory watch: " + e.getMessage());
+            }
+            watchService = null;
+        }
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    private static WatchService openWatchService(Path directory) {
+        try {
+            WatchService service = directory.getFileSystem().newWatchService();
+            directory.register(service, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            return service;
+        } catch (IOException | UnsupportedOperationException e) {
+            System.err.println("Data directory events unavailable, polling only: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void watch() {
+        WatchService service = watchService;
+        while (running) {
+            try {
+                if (service != null) {
+                    WatchKey key = service.poll(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                    if (key != null) {
+                        // Which file changed does not matter; the data manager checks them all
+                        key.pollEvents();
+                        key.reset();
+                    }
+                } else {
+                    Thread.sleep(pollIntervalMillis);
+                }
+                dataManager.refreshChangedFiles();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            } catch (RuntimeException e) {
+                System.err.println("Error reloading changed data files: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.fci.seminar.util;
 
 import com.fci.seminar.model.*;
+import com.fci.seminar.model.enums.SessionStatus;
 import com.google.gson.*;
 import com.google.gson.reflect.TypeToken;
 
@@ -12,10 +13,13 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Singleton class for managing JSON file operations.
  * Handles serialization and deserialization of all entities.
+ * Accessors are synchronized so services can be called from background threads.
+ * Saves merge with changes other processes made to the same data directory.
  * Requirements: 11.1, 11.2, 11.4
  */
 public class DataManager {
@@ -39,9 +43,30 @@ public class DataManager {
     private List<Evaluation> evaluations = new ArrayList<>();
     private List<Award> awards = new ArrayList<>();
     
+    // Files other processes may save to as well; saves merge record by record
+    private final VersionedJsonFile usersFile;
+    private final VersionedJsonFile sessionsFile;
+    private final VersionedJsonFile registrationsFile;
+    private final VersionedJsonFile evaluationsFile;
+    private volatile SharedDataListener sharedDataListener;
+    private boolean recounting;
+    // Sessions whose counts two processes changed, counted again after the next registrations save
+    private final Set<Long> staleSessionCounts = new HashSet<>();
+    // Hands out new IDs when several nodes write; null counts on from the largest stored ID
+    private volatile IdGenerator idGenerator;
+    
     private DataManager() {
         this.gson = createGson();
         this.dataDirectory = Paths.get("src/main/resources/data");
+        this.usersFile = new VersionedJsonFile(dataDirectory.resolve(USERS_FILE), gson, true,
+                "students", "evaluators", "coordinators");
+        this.sessionsFile = new VersionedJsonFile(dataDirectory.resolve(SESSIONS_FILE), gson, false, "sessions");
+        // Counts registrations; two processes' increments cannot be merged field by field
+        this.sessionsFile.setDerivedFields(Set.of("registered"));
+        this.registrationsFile = new VersionedJsonFile(dataDirectory.resolve(REGISTRATIONS_FILE), gson, false,
+                "registrations");
+        this.evaluationsFile = new VersionedJsonFile(dataDirectory.resolve(EVALUATIONS_FILE), gson, false,
+                "evaluations");
         ensureDataDirectoryExists();
     }
 
@@ -50,12 +75,27 @@ public class DataManager {
      * Creates a Gson instance with custom type adapters for Java 8 date/time types.
      */
     private Gson createGson() {
-        return new GsonBuilder()
+        return registerDateTimeAdapters(new GsonBuilder())
                 .setPrettyPrinting()
+                .create();
+    }
+    
+    /**
+     * Creates a compact Gson instance for data exports.
+     * Uses the same date/time formats as the data files and writes null
+     * fields, so every exported record has the same keys.
+     */
+    public static Gson createExportGson() {
+        return registerDateTimeAdapters(new GsonBuilder())
+                .serializeNulls()
+                .create();
+    }
+    
+    private static GsonBuilder registerDateTimeAdapters(GsonBuilder builder) {
+        return builder
                 .registerTypeAdapter(LocalDate.class, new LocalDateAdapter())
                 .registerTypeAdapter(LocalTime.class, new LocalTimeAdapter())
-                .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
-                .create();
+                .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter());
     }
     
     /**
@@ -96,7 +136,7 @@ public class DataManager {
      * Loads all data from JSON files.
      * Requirements: 11.2
      */
-    public void loadAllData() {
+    public synchronized void loadAllData() {
         loadUsers();
         loadSessions();
         loadRegistrations();
@@ -107,15 +147,13 @@ public class DataManager {
     /**
      * Loads users from JSON file.
      */
-    public void loadUsers() {
-        Path filePath = dataDirectory.resolve(USERS_FILE);
-        if (!Files.exists(filePath)) {
-            initializeEmptyUsers();
-            return;
-        }
-        
-        try (Reader reader = Files.newBufferedReader(filePath)) {
-            JsonObject root = JsonParser.parseReader(reader).getAsJsonObject();
+    public synchronized void loadUsers() {
+        try {
+            JsonObject root = usersFile.read();
+            if (root == null) {
+                initializeEmptyUsers();
+                return;
+            }
             
             // Load students
             if (root.has("students")) {
@@ -153,15 +191,13 @@ public class DataManager {
     /**
      * Loads sessions from JSON file.
      */
-    public void loadSessions() {
-        Path filePath = dataDirectory.resolve(SESSIONS_FILE);
-        if (!Files.exists(filePath)) {
-            sessions = new ArrayList<>();
-            return;
-        }
-        
-        try (Reader reader = Files.newBufferedReader(filePath)) {
-            JsonObject root = JsonParser.parseReader(reader).getAsJsonObject();
+    public synchronized void loadSessions() {
+        try {
+            JsonObject root = sessionsFile.read();
+            if (root == null) {
+                sessions = new ArrayList<>();
+                return;
+            }
             if (root.has("sessions")) {
                 Type sessionListType = new TypeToken<List<Session>>(){}.getType();
                 sessions = gson.fromJson(root.get("sessions"), sessionListType);
@@ -176,15 +212,13 @@ public class DataManager {
     /**
      * Loads registrations from JSON file.
      */
-    public void loadRegistrations() {
-        Path filePath = dataDirectory.resolve(REGISTRATIONS_FILE);
-        if (!Files.exists(filePath)) {
-            registrations = new ArrayList<>();
-            return;
-        }
-        
-        try (Reader reader = Files.newBufferedReader(filePath)) {
-            JsonObject root = JsonParser.parseReader(reader).getAsJsonObject();
+    public synchronized void loadRegistrations() {
+        try {
+            JsonObject root = registrationsFile.read();
+            if (root == null) {
+                registrations = new ArrayList<>();
+                return;
+            }
             if (root.has("registrations")) {
                 Type registrationListType = new TypeToken<List<Registration>>(){}.getType();
                 registrations = gson.fromJson(root.get("registrations"), registrationListType);
@@ -199,15 +233,13 @@ public class DataManager {
     /**
      * Loads evaluations from JSON file.
      */
-    public void loadEvaluations() {
-        Path filePath = dataDirectory.resolve(EVALUATIONS_FILE);
-        if (!Files.exists(filePath)) {
-            evaluations = new ArrayList<>();
-            return;
-        }
-        
-        try (Reader reader = Files.newBufferedReader(filePath)) {
-            JsonObject root = JsonParser.parseReader(reader).getAsJsonObject();
+    public synchronized void loadEvaluations() {
+        try {
+            JsonObject root = evaluationsFile.read();
+            if (root == null) {
+                evaluations = new ArrayList<>();
+                return;
+            }
             if (root.has("evaluations")) {
                 Type evaluationListType = new TypeToken<List<Evaluation>>(){}.getType();
                 evaluations = gson.fromJson(root.get("evaluations"), evaluationListType);
@@ -222,7 +254,7 @@ public class DataManager {
     /**
      * Loads awards from JSON file.
      */
-    public void loadAwards() {
+    public synchronized void loadAwards() {
         Path filePath = dataDirectory.resolve(AWARDS_FILE);
         if (!Files.exists(filePath)) {
             awards = new ArrayList<>();
@@ -249,7 +281,7 @@ public class DataManager {
      * Saves all data to JSON files.
      * Requirements: 11.1, 11.3
      */
-    public void saveAllData() {
+    public synchronized void saveAllData() {
         saveUsers();
         saveSessions();
         saveRegistrations();
@@ -260,15 +292,19 @@ public class DataManager {
     /**
      * Saves users to JSON file.
      */
-    public void saveUsers() {
-        Path filePath = dataDirectory.resolve(USERS_FILE);
+    public synchronized void saveUsers() {
         JsonObject root = new JsonObject();
         root.add("students", gson.toJsonTree(students));
         root.add("evaluators", gson.toJsonTree(evaluators));
         root.add("coordinators", gson.toJsonTree(coordinators));
         
-        try (Writer writer = Files.newBufferedWriter(filePath)) {
-            gson.toJson(root, writer);
+        try {
+            VersionedJsonFile.Commit commit = usersFile.commit(root);
+            List<ExternalChange> changes = new ArrayList<>();
+            students = merge(commit, "students", students, Student.class, changes);
+            evaluators = merge(commit, "evaluators", evaluators, Evaluator.class, changes);
+            coordinators = merge(commit, "coordinators", coordinators, Coordinator.class, changes);
+            notifyShared(commit, changes);
         } catch (IOException e) {
             System.err.println("Error saving users: " + e.getMessage());
         }
@@ -277,13 +313,18 @@ public class DataManager {
     /**
      * Saves sessions to JSON file.
      */
-    public void saveSessions() {
-        Path filePath = dataDirectory.resolve(SESSIONS_FILE);
+    public synchronized void saveSessions() {
         JsonObject root = new JsonObject();
         root.add("sessions", gson.toJsonTree(sessions));
         
-        try (Writer writer = Files.newBufferedWriter(filePath)) {
-            gson.toJson(root, writer);
+        try {
+            VersionedJsonFile.Commit commit = sessionsFile.commit(root);
+            List<ExternalChange> changes = new ArrayList<>();
+            sessions = merge(commit, "sessions", sessions, Session.class, changes);
+            notifyShared(commit, changes);
+            // A registration changed here may not be saved yet, so count again after it is
+            staleSessionCounts.addAll(commit.staleDerivedIds("sessions"));
+            recountRegistered(commit.staleDerivedIds("sessions"));
         } catch (IOException e) {
             System.err.println("Error saving sessions: " + e.getMessage());
         }
@@ -292,13 +333,31 @@ public class DataManager {
     /**
      * Saves registrations to JSON file.
      */
-    public void saveRegistrations() {
-        Path filePath = dataDirectory.resolve(REGISTRATIONS_FILE);
+    public synchronized void saveRegistrations() {
         JsonObject root = new JsonObject();
         root.add("registrations", gson.toJsonTree(registrations));
         
-        try (Writer writer = Files.newBufferedWriter(filePath)) {
-            gson.toJson(root, writer);
+        try {
+            Map<Long, Long> sessionIdsBefore = new HashMap<>();
+            for (Registration registration : registrations) {
+                sessionIdsBefore.put(registration.getId(), registration.getSessionId());
+            }
+            VersionedJsonFile.Commit commit = registrationsFile.commit(root);
+            List<ExternalChange> changes = new ArrayList<>();
+            registrations = merge(commit, "registrations", registrations, Registration.class, changes);
+            notifyShared(commit, changes);
+            
+            // Sessions another process registered into or out of
+            Set<Long> affectedSessions = new HashSet<>(staleSessionCounts);
+            staleSessionCounts.clear();
+            for (ExternalChange change : changes) {
+                affectedSessions.add(sessionIdsBefore.get(change.id()));
+                if (change.entity() instanceof Registration registration) {
+                    affectedSessions.add(registration.getSessionId());
+                }
+            }
+            affectedSessions.remove(null);
+            recountRegistered(affectedSessions);
         } catch (IOException e) {
             System.err.println("Error saving registrations: " + e.getMessage());
         }
@@ -307,13 +366,15 @@ public class DataManager {
     /**
      * Saves evaluations to JSON file.
      */
-    public void saveEvaluations() {
-        Path filePath = dataDirectory.resolve(EVALUATIONS_FILE);
+    public synchronized void saveEvaluations() {
         JsonObject root = new JsonObject();
         root.add("evaluations", gson.toJsonTree(evaluations));
         
-        try (Writer writer = Files.newBufferedWriter(filePath)) {
-            gson.toJson(root, writer);
+        try {
+            VersionedJsonFile.Commit commit = evaluationsFile.commit(root);
+            List<ExternalChange> changes = new ArrayList<>();
+            evaluations = merge(commit, "evaluations", evaluations, Evaluation.class, changes);
+            notifyShared(commit, changes);
         } catch (IOException e) {
             System.err.println("Error saving evaluations: " + e.getMessage());
         }
@@ -322,7 +383,7 @@ public class DataManager {
     /**
      * Saves awards to JSON file.
      */
-    public void saveAwards() {
+    public synchronized void saveAwards() {
         Path filePath = dataDirectory.resolve(AWARDS_FILE);
         JsonObject root = new JsonObject();
         root.add("awards", gson.toJsonTree(awards));
@@ -335,68 +396,296 @@ public class DataManager {
     }
 
     
+    // ==================== Shared Data Files ====================
+    
+    /*
+     * Several processes may work on the same data directory. Saving users,
+     * sessions, registrations or evaluations commits this process's changes
+     * through a VersionedJsonFile, which merges them with what the other
+     * processes committed; the stored lists are then replaced by the merged
+     * ones. Records this process holds keep their objects, while records
+     * another process changed are read again and reported to the listener.
+     * Awards are still written as a whole.
+     */
+    
+    /**
+     * Told about records another process committed to the shared data files.
+     * Called while the data manager is locked.
+     */
+    public interface SharedDataListener {
+        
+        /**
+         * Called for each record another process inserted, changed or deleted.
+         * @param entityClass the record's class, e.g. Student
+         * @param id the record's ID
+         * @param entity the record as now stored, or null if it was deleted
+         * @param inserted whether the record is new to this process
+         */
+        void onExternalChange(Class<?> entityClass, Long id, Object entity, boolean inserted);
+        
+        /**
+         * Called for each record this process changed while merging, e.g. a
+         * session whose registrations were counted again. The record has
+         * already been saved.
+         * @param entityClass the record's class
+         * @param id the record's ID
+         * @param entity the record as now stored
+         */
+        void onDerivedChange(Class<?> entityClass, Long id, Object entity);
+        
+        /**
+         * Called for each change made here that could not be merged.
+         * @param message a description for the user
+         */
+        void onConflict(String message);
+    }
+    
+    private record ExternalChange(Class<?> entityClass, Long id, Object entity, boolean inserted) {
+    }
+    
+    public void setSharedDataListener(SharedDataListener listener) {
+        this.sharedDataListener = listener;
+    }
+    
+    /**
+     * Picks up the records other processes committed since this process last
+     * read or wrote the data files. Files whose size, modification time and
+     * identity are unchanged are not read.
+     * @return whether any file had changed
+     */
+    public synchronized boolean refreshChangedFiles() {
+        boolean changed = false;
+        // With nothing changed here, a save only merges in the other processes' records
+        if (usersFile.hasChangedOnDisk()) {
+            saveUsers();
+            changed = true;
+        }
+        if (sessionsFile.hasChangedOnDisk()) {
+            saveSessions();
+            changed = true;
+        }
+        if (registrationsFile.hasChangedOnDisk()) {
+            saveRegistrations();
+            changed = true;
+        }
+        if (evaluationsFile.hasChangedOnDisk()) {
+            saveEvaluations();
+            changed = true;
+        }
+        return changed;
+    }
+    
+    /**
+     * Builds the stored list from a commit's merged records.
+     * @param changes collects the records another process changed
+     */
+    private <T extends VersionedEntity> List<T> merge(VersionedJsonFile.Commit commit, String listName,
+                                                      List<T> local, Class<T> type, List<ExternalChange> changes) {
+        Map<Long, T> byId = new HashMap<>();
+        for (T entity : local) {
+            byId.put(entity.getId(), entity);
+        }
+        Map<Long, Long> reassigned = commit.reassignedIds(listName);
+        Map<Long, Long> originalIds = new HashMap<>();
+        reassigned.forEach((oldId, newId) -> originalIds.put(newId, oldId));
+        
+        List<T> merged = new ArrayList<>();
+        Set<Long> present = new HashSet<>();
+        for (JsonElement element : commit.records(listName)) {
+            JsonObject record = element.getAsJsonObject();
+            Long id = VersionedJsonFile.idOf(record);
+            present.add(id);
+            T entity = commit.isRemote(listName, id) ? null : byId.get(originalIds.getOrDefault(id, id));
+            if (entity == null) {
+                entity = gson.fromJson(record, type);
+                changes.add(new ExternalChange(type, id, entity, !byId.containsKey(id) || reassigned.containsKey(id)));
+            } else {
+                // Inserted records may have been given a new ID
+                entity.setId(id);
+                entity.setVersion(VersionedJsonFile.versionOf(record));
+            }
+            merged.add(entity);
+        }
+        for (T entity : local) {
+            if (!present.contains(entity.getId()) && !reassigned.containsKey(entity.getId())) {
+                changes.add(new ExternalChange(type, entity.getId(), null, false));
+            }
+        }
+        return merged;
+    }
+    
+    /**
+     * Counts the registrations of sessions again, after the counts were
+     * changed by two processes or registrations came from another process,
+     * and opens or fills the sessions to match. Changed sessions are saved.
+     */
+    private void recountRegistered(Set<Long> sessionIds) {
+        if (sessionIds.isEmpty() || recounting) {
+            return;
+        }
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Registration registration : registrations) {
+            if (sessionIds.contains(registration.getSessionId())) {
+                counts.merge(registration.getSessionId(), 1, Integer::sum);
+            }
+        }
+        List<Session> recounted = new ArrayList<>();
+        for (Session session : sessions) {
+            if (!sessionIds.contains(session.getId())) {
+                continue;
+            }
+            int count = counts.getOrDefault(session.getId(), 0);
+            SessionStatus status = session.getStatus();
+            if (status == SessionStatus.OPEN && count >= session.getCapacity()) {
+                status = SessionStatus.FULL;
+            } else if (status == SessionStatus.FULL && count < session.getCapacity()) {
+                status = SessionStatus.OPEN;
+            }
+            if (count != session.getRegistered() || status != session.getStatus()) {
+                session.setRegistered(count);
+                session.setStatus(status);
+                recounted.add(session);
+            }
+        }
+        if (recounted.isEmpty()) {
+            return;
+        }
+        recounting = true;
+        try {
+            saveSessions();
+        } finally {
+            recounting = false;
+        }
+        SharedDataListener listener = sharedDataListener;
+        if (listener != null) {
+            for (Session session : recounted) {
+                listener.onDerivedChange(Session.class, session.getId(), session);
+            }
+        }
+    }
+    
+    private void notifyShared(VersionedJsonFile.Commit commit, List<ExternalChange> changes) {
+        for (String conflict : commit.conflicts()) {
+            System.err.println("Save conflict: " + conflict);
+        }
+        SharedDataListener listener = sharedDataListener;
+        if (listener == null) {
+            return;
+        }
+        for (ExternalChange change : changes) {
+            listener.onExternalChange(change.entityClass(), change.id(), change.entity(), change.inserted());
+        }
+        for (String conflict : commit.conflicts()) {
+            listener.onConflict(conflict);
+        }
+    }
+    
     // ==================== Data Accessors ====================
     
-    public List<Student> getStudents() {
+    public synchronized List<Student> getStudents() {
         return new ArrayList<>(students);
     }
     
-    public void setStudents(List<Student> students) {
+    public synchronized void setStudents(List<Student> students) {
         this.students = new ArrayList<>(students);
     }
     
-    public List<Evaluator> getEvaluators() {
+    public synchronized List<Evaluator> getEvaluators() {
         return new ArrayList<>(evaluators);
     }
     
-    public void setEvaluators(List<Evaluator> evaluators) {
+    public synchronized void setEvaluators(List<Evaluator> evaluators) {
         this.evaluators = new ArrayList<>(evaluators);
     }
     
-    public List<Coordinator> getCoordinators() {
+    public synchronized List<Coordinator> getCoordinators() {
         return new ArrayList<>(coordinators);
     }
     
-    public void setCoordinators(List<Coordinator> coordinators) {
+    public synchronized void setCoordinators(List<Coordinator> coordinators) {
         this.coordinators = new ArrayList<>(coordinators);
     }
     
-    public List<Session> getSessions() {
+    public synchronized List<Session> getSessions() {
         return new ArrayList<>(sessions);
     }
     
-    public void setSessions(List<Session> sessions) {
+    public synchronized void setSessions(List<Session> sessions) {
         this.sessions = new ArrayList<>(sessions);
     }
     
-    public List<Registration> getRegistrations() {
+    public synchronized List<Registration> getRegistrations() {
         return new ArrayList<>(registrations);
     }
     
-    public void setRegistrations(List<Registration> registrations) {
+    public synchronized void setRegistrations(List<Registration> registrations) {
         this.registrations = new ArrayList<>(registrations);
     }
     
-    public List<Evaluation> getEvaluations() {
+    public synchronized List<Evaluation> getEvaluations() {
         return new ArrayList<>(evaluations);
     }
     
-    public void setEvaluations(List<Evaluation> evaluations) {
+    public synchronized void setEvaluations(List<Evaluation> evaluations) {
         this.evaluations = new ArrayList<>(evaluations);
     }
     
-    public List<Award> getAwards() {
+    public synchronized List<Award> getAwards() {
         return new ArrayList<>(awards);
     }
     
-    public void setAwards(List<Award> awards) {
+    public synchronized void setAwards(List<Award> awards) {
         this.awards = new ArrayList<>(awards);
     }
     
+    // ==================== Streaming Access ====================
+    
+    /*
+     * The stored lists are never modified in place; loads and setters replace
+     * them. A list read under the lock can therefore be iterated afterwards
+     * without copying it, which keeps large exports from duplicating the store.
+     */
+    
+    /**
+     * Visits every session without copying the stored list.
+     * @param action the action to apply to each session
+     */
+    public void forEachSession(Consumer<? super Session> action) {
+        List<Session> snapshot;
+        synchronized (this) {
+            snapshot = sessions;
+        }
+        snapshot.forEach(action);
+    }
+    
+    /**
+     * Visits every registration without copying the stored list.
+     * @param action the action to apply to each registration
+     */
+    public void forEachRegistration(Consumer<? super Registration> action) {
+        List<Registration> snapshot;
+        synchronized (this) {
+            snapshot = registrations;
+        }
+        snapshot.forEach(action);
+    }
+    
+    /**
+     * Visits every evaluation without copying the stored list.
+     * @param action the action to apply to each evaluation
+     */
+    public void forEachEvaluation(Consumer<? super Evaluation> action) {
+        List<Evaluation> snapshot;
+        synchronized (this) {
+            snapshot = evaluations;
+        }
+        snapshot.forEach(action);
+    }
+    
     /**
      * Gets all users across all types.
      */
-    public List<User> getAllUsers() {
+    public synchronized List<User> getAllUsers() {
         List<User> allUsers = new ArrayList<>();
         allUsers.addAll(students);
         allUsers.addAll(evaluators);
@@ -404,10 +693,33 @@ public class DataManager {
         return allUsers;
     }
     
+    /**
+     * Sets the generator of new IDs, e.g. a {@link SnowflakeIdGenerator} when
+     * several nodes write the same data.
+     * @param idGenerator the generator, or null to count on from the largest stored ID
+     */
+    public void setIdGenerator(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+    
+    public IdGenerator getIdGenerator() {
+        return idGenerator;
+    }
+    
     /**
      * Gets the next available ID for a given entity type.
+     * Without an ID generator, this is one more than the largest stored ID,
+     * which is only unique while one node writes the data.
      */
     public Long getNextId(Class<?> entityClass) {
+        IdGenerator generator = idGenerator;
+        if (generator != null) {
+            return generator.nextId(entityClass);
+        }
+        return getNextSequentialId(entityClass);
+    }
+    
+    private synchronized Long getNextSequentialId(Class<?> entityClass) {
         long maxId = 0;
         
         if (entityClass == Student.class || entityClass == Evaluator.class || 
@@ -446,6 +758,53 @@ public class DataManager {
         return maxId + 1;
     }
     
+    // ==================== Snapshots ====================
+    
+    /**
+     * Captures all data as one JSON object, e.g. to bootstrap a replica.
+     * The entities are serialized while the data manager is locked, so the
+     * snapshot is consistent. Unlike the change log, it includes passwords.
+     */
+    public synchronized JsonObject exportSnapshot() {
+        JsonObject users = new JsonObject();
+        users.add("students", gson.toJsonTree(students));
+        users.add("evaluators", gson.toJsonTree(evaluators));
+        users.add("coordinators", gson.toJsonTree(coordinators));
+        
+        JsonObject root = new JsonObject();
+        root.add("users", users);
+        root.add("sessions", gson.toJsonTree(sessions));
+        root.add("registrations", gson.toJsonTree(registrations));
+        root.add("evaluations", gson.toJsonTree(evaluations));
+        root.add("awards", gson.toJsonTree(awards));
+        return root;
+    }
+    
+    /**
+     * Replaces all data with a snapshot made by {@link #exportSnapshot()}.
+     * Nothing is saved to the data files.
+     * @throws IllegalArgumentException if the snapshot cannot be read
+     */
+    public synchronized void importSnapshot(JsonObject root) {
+        try {
+            JsonObject users = root.getAsJsonObject("users");
+            students = listOf(users.get("students"), new TypeToken<List<Student>>(){}.getType());
+            evaluators = listOf(users.get("evaluators"), new TypeToken<List<Evaluator>>(){}.getType());
+            coordinators = listOf(users.get("coordinators"), new TypeToken<List<Coordinator>>(){}.getType());
+            sessions = listOf(root.get("sessions"), new TypeToken<List<Session>>(){}.getType());
+            registrations = listOf(root.get("registrations"), new TypeToken<List<Registration>>(){}.getType());
+            evaluations = listOf(root.get("evaluations"), new TypeToken<List<Evaluation>>(){}.getType());
+            awards = listOf(root.get("awards"), new TypeToken<List<Award>>(){}.getType());
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid snapshot: " + e.getMessage(), e);
+        }
+    }
+    
+    private <T> List<T> listOf(JsonElement json, Type listType) {
+        List<T> list = json != null ? gson.fromJson(json, listType) : null;
+        return list != null ? list : new ArrayList<>();
+    }
+    
     /**
      * Gets the Gson instance for external use (e.g., testing).
      */
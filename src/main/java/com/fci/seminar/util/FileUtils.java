@@ -1,14 +1,21 @@
 package com.fci.seminar.util;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Utility class for file validation and storage operations.
@@ -264,6 +271,34 @@ public class FileUtils {
         }
     }
     
+    // ==================== Export Streams ====================
+    
+    // Export stream buffer sizes
+    private static final int EXPORT_BUFFER_SIZE = 1024 * 1024;
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+    
+    /**
+     * Opens a buffered output stream for a data export, replacing any existing file.
+     * @param path the output file
+     * @param gzip true to gzip-compress the output
+     * @return the output stream
+     * @throws IOException if the file cannot be opened
+     */
+    public static OutputStream openExportStream(Path path, boolean gzip) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        OutputStream stream = new BufferedOutputStream(Channels.newOutputStream(channel), EXPORT_BUFFER_SIZE);
+        if (gzip) {
+            // Favour throughput: exports compress well even at the fastest level
+            stream = new GZIPOutputStream(stream, GZIP_BUFFER_SIZE) {
+                {
+                    def.setLevel(Deflater.BEST_SPEED);
+                }
+            };
+        }
+        return stream;
+    }
+    
     // ==================== Validation Result Class ====================
     
     /**
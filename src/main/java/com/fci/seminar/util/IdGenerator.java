@@ -0,0 +1,15 @@
+package com.fci.seminar.util;
+
+/**
+ * Hands out the IDs of new entities.
+ * Implementations must be safe to call from several threads at once.
+ */
+public interface IdGenerator {
+
+    /**
+     * Gets a new ID, never handed out before.
+     * @param entityClass the class of the entity being created
+     * @return the ID
+     */
+    long nextId(Class<?> entityClass);
+}
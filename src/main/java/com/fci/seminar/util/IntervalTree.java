@@ -0,0 +1,241 @@
+package com.fci.seminar.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Set of half-open intervals [start, end) supporting overlap queries.
+ * Intervals are kept in a treap ordered by start (ties broken by ID); every
+ * node also stores the largest end in its subtree, so a query only descends
+ * into subtrees that can contain an overlap. Insert and remove take
+ * O(log n) and finding the k intervals overlapping a range O(log n + k),
+ * all in expectation.
+ * Not thread-safe.
+ *
+ * @param <T> the value stored with each interval
+ */
+public class IntervalTree<T> {
+
+    private final SplittableRandom random = new SplittableRandom(0x5EED);
+    private Node<T> root;
+    private int size;
+
+    /**
+     * An interval and its value.
+     * @param start the inclusive start
+     * @param end the exclusive end
+     * @param id identifies the interval; unique within the tree
+     * @param value the value
+     */
+    public record Interval<T>(long start, long end, long id, T value) {
+
+        public boolean overlaps(long otherStart, long otherEnd) {
+            return start < otherEnd && otherStart < end;
+        }
+    }
+
+    private static final class Node<T> {
+        final Interval<T> interval;
+        final int priority;
+        long maxEnd;
+        Node<T> left;
+        Node<T> right;
+
+        Node(Interval<T> interval, int priority) {
+            this.interval = interval;
+            this.priority = priority;
+            this.maxEnd = interval.end();
+        }
+    }
+
+    // ==================== Updates ====================
+
+    /**
+     * Adds an interval. Empty intervals (end &lt;= start) are ignored.
+     * @param start the inclusive start
+     * @param end the exclusive end
+     * @param id identifies the interval for removal; must not already be in the tree
+     * @param value the value
+     */
+    public void insert(long start, long end, long id, T value) {
+        if (end <= start) {
+            return;
+        }
+        root = insert(root, new Node<>(new Interval<>(start, end, id, value), random.nextInt()));
+        size++;
+    }
+
+    private Node<T> insert(Node<T> node, Node<T> added) {
+        if (node == null) {
+            return added;
+        }
+        if (compare(added.interval, node.interval) < 0) {
+            node.left = insert(node.left, added);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, added);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    /**
+     * Removes an interval.
+     * @param start the start it was inserted with
+     * @param id its ID
+     * @return true if the interval was found and removed
+     */
+    public boolean remove(long start, long id) {
+        int before = size;
+        root = remove(root, start, id);
+        return size < before;
+    }
+
+    private Node<T> remove(Node<T> node, long start, long id) {
+        if (node == null) {
+            return null;
+        }
+        int compare = compare(start, id, node.interval);
+        if (compare < 0) {
+            node.left = remove(node.left, start, id);
+        } else if (compare > 0) {
+            node.right = remove(node.right, start, id);
+        } else {
+            size--;
+            return merge(node.left, node.right);
+        }
+        update(node);
+        return node;
+    }
+
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Visits every interval overlapping [start, end), in start order.
+     * @param start the inclusive start of the range
+     * @param end the exclusive end of the range
+     * @param action called with each overlapping interval
+     */
+    public void forEachOverlapping(long start, long end, Consumer<Interval<T>> action) {
+        if (end > start) {
+            forEachOverlapping(root, start, end, action);
+        }
+    }
+
+    private void forEachOverlapping(Node<T> node, long start, long end, Consumer<Interval<T>> action) {
+        // No interval in this subtree ends after the range starts
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        forEachOverlapping(node.left, start, end, action);
+        if (node.interval.start() >= end) {
+            return; // This and everything to the right starts after the range
+        }
+        if (node.interval.end() > start) {
+            action.accept(node.interval);
+        }
+        forEachOverlapping(node.right, start, end, action);
+    }
+
+    /**
+     * Finds every interval overlapping [start, end).
+     * @return the overlapping intervals in start order
+     */
+    public List<Interval<T>> findOverlapping(long start, long end) {
+        List<Interval<T>> result = new ArrayList<>();
+        forEachOverlapping(start, end, result::add);
+        return result;
+    }
+
+    /**
+     * Visits every interval, in start order.
+     */
+    public void forEach(Consumer<Interval<T>> action) {
+        forEach(root, action);
+    }
+
+    private void forEach(Node<T> node, Consumer<Interval<T>> action) {
+        if (node != null) {
+            forEach(node.left, action);
+            action.accept(node.interval);
+            forEach(node.right, action);
+        }
+    }
+
+    // ==================== Helpers ====================
+
+    private static int compare(Interval<?> a, Interval<?> b) {
+        return compare(a.start(), a.id(), b);
+    }
+
+    private static int compare(long start, long id, Interval<?> b) {
+        int compare = Long.compare(start, b.start());
+        return compare != 0 ? compare : Long.compare(id, b.id());
+    }
+
+    private static <T> void update(Node<T> node) {
+        long maxEnd = node.interval.end();
+        if (node.left != null && node.left.maxEnd > maxEnd) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd > maxEnd) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> node) {
+        Node<T> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+}
@@ -0,0 +1,171 @@
+package com.fci.seminar.util;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Streaming writer for newline-delimited JSON (JSON Lines).
+ * Each record is written as one compact UTF-8 JSON object followed by "\n",
+ * using the same field names and date/time formats as the data files.
+ * Not thread-safe.
+ */
+public class JsonLinesWriter implements Closeable {
+
+    private static final int CHAR_BUFFER_SIZE = 64 * 1024;
+
+    private final Writer out;
+    private final JsonWriter jsonWriter;
+    private final Gson gson;
+    // Adapter for the most recent record class; exports write one class throughout
+    private Class<?> adapterClass;
+    private TypeAdapter<Object> adapter;
+    private long recordCount;
+
+    /**
+     * Creates a writer on top of an existing character stream.
+     * @param out the destination
+     * @param gson the Gson instance used to serialize records
+     */
+    public JsonLinesWriter(Writer out, Gson gson) {
+        if (out == null || gson == null) {
+            throw new IllegalArgumentException("Writer and Gson cannot be null");
+        }
+        this.out = new UnsynchronizedBufferedWriter(out, CHAR_BUFFER_SIZE);
+        this.gson = gson;
+        this.jsonWriter = new JsonWriter(this.out);
+        // Allows one top-level value per line
+        this.jsonWriter.setLenient(true);
+        this.jsonWriter.setSerializeNulls(gson.serializeNulls());
+        this.jsonWriter.setHtmlSafe(gson.htmlSafe());
+    }
+
+    /**
+     * Opens a JSON Lines file for writing, replacing any existing file.
+     * @param path the output file
+     * @param gzip true to gzip-compress the output
+     * @return the writer
+     * @throws IOException if the file cannot be opened
+     */
+    public static JsonLinesWriter open(Path path, boolean gzip) throws IOException {
+        Writer writer = new OutputStreamWriter(FileUtils.openExportStream(path, gzip), StandardCharsets.UTF_8);
+        return new JsonLinesWriter(writer, DataManager.createExportGson());
+    }
+
+    /**
+     * Writes one record on its own line.
+     * @param record the record to serialize
+     * @return this writer
+     */
+    public JsonLinesWriter write(Object record) throws IOException {
+        if (record == null) {
+            throw new IllegalArgumentException("Record cannot be null");
+        }
+        adapterFor(record.getClass()).write(jsonWriter, record);
+        out.write('\n');
+        recordCount++;
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private TypeAdapter<Object> adapterFor(Class<?> recordClass) {
+        if (recordClass != adapterClass) {
+            adapter = (TypeAdapter<Object>) gson.getAdapter(recordClass);
+            adapterClass = recordClass;
+        }
+        return adapter;
+    }
+
+    /**
+     * Gets the number of records written so far.
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Flushes and closes the destination, finishing any gzip stream.
+     */
+    @Override
+    public void close() throws IOException {
+        // JsonWriter.close() rejects a document with no records, and it
+        // holds no buffered output of its own
+        out.close();
+    }
+
+    /**
+     * Char buffer without the per-call locking of BufferedWriter, which
+     * dominates the cost of the many small writes JsonWriter makes.
+     */
+    private static class UnsynchronizedBufferedWriter extends Writer {
+        private final Writer out;
+        private final char[] buffer;
+        private int position;
+
+        UnsynchronizedBufferedWriter(Writer out, int size) {
+            this.out = out;
+            this.buffer = new char[size];
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            if (position == buffer.length) {
+                flushBuffer();
+            }
+            buffer[position++] = (char) c;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            if (length > buffer.length - position) {
+                flushBuffer();
+                if (length > buffer.length) {
+                    out.write(chars, offset, length);
+                    return;
+                }
+            }
+            System.arraycopy(chars, offset, buffer, position, length);
+            position += length;
+        }
+
+        @Override
+        public void write(String text, int offset, int length) throws IOException {
+            if (length > buffer.length - position) {
+                flushBuffer();
+                if (length > buffer.length) {
+                    out.write(text, offset, length);
+                    return;
+                }
+            }
+            text.getChars(offset, offset + length, buffer, position);
+            position += length;
+        }
+
+        private void flushBuffer() throws IOException {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            flushBuffer();
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flushBuffer();
+            } finally {
+                out.close();
+            }
+        }
+    }
+}
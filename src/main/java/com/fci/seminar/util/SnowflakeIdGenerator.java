@@ -0,0 +1,121 @@
+package com.fci.seminar.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Generates time-ordered 64-bit IDs that several nodes can hand out without
+ * talking to each other, for desktop apps sharing a data directory or
+ * several servers. Each ID is made of
+ * <pre>
+ *   41 bits  milliseconds since {@link #EPOCH_MILLIS}
+ *   10 bits  node ID, 0 to {@value #MAX_NODE_ID}
+ *   12 bits  sequence within the millisecond
+ * </pre>
+ * so every node must be given its own node ID. The IDs are far larger than
+ * the ones counted up from 1 by the single-node default, so existing records
+ * keep their IDs.
+ * <p>
+ * The last timestamp and sequence are kept in one atomic value, so threads
+ * never block each other. More than 4096 IDs in one millisecond, or a clock
+ * set back, make the node count on from its last ID and run slightly ahead
+ * of the clock until it catches up. A node restarted while its clock is
+ * behind the IDs it handed out before may repeat them.
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    // Node ID of this process; setting it turns on multi-node IDs
+    public static final String NODE_ID_PROPERTY = "seminar.node.id";
+    public static final String NODE_ID_ENV = "SEMINAR_NODE_ID";
+
+    // 2025-01-01T00:00:00Z
+    public static final long EPOCH_MILLIS = 1_735_689_600_000L;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    // The last timestamp and sequence, as timestamp << SEQUENCE_BITS | sequence
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * Creates a generator for a node.
+     * @param nodeId the node ID, unique among the nodes writing the same data
+     */
+    public SnowflakeIdGenerator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    /**
+     * Constructor for testing with a custom clock.
+     */
+    public SnowflakeIdGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node ID must be 0 to " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * Gets the node ID configured for this process, from the system property
+     * or else the environment.
+     * @return the node ID, or null if multi-node IDs are not configured
+     * @throws IllegalArgumentException if the configured value is not a valid node ID
+     */
+    public static Integer configuredNodeId() {
+        String value = System.getProperty(NODE_ID_PROPERTY, System.getenv(NODE_ID_ENV));
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        int nodeId;
+        try {
+            nodeId = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Node ID must be a number: " + value);
+        }
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node ID must be 0 to " + MAX_NODE_ID + ": " + nodeId);
+        }
+        return nodeId;
+    }
+
+    @Override
+    public long nextId(Class<?> entityClass) {
+        return nextId();
+    }
+
+    /**
+     * Gets a new ID, greater than all IDs this generator handed out before.
+     */
+    public long nextId() {
+        long now = clock.getAsLong() - EPOCH_MILLIS;
+        if (now < 0) {
+            throw new IllegalStateException("The clock is set before " + EPOCH_MILLIS);
+        }
+        long next = state.updateAndGet(last -> {
+            if (now > last >>> SEQUENCE_BITS) {
+                return now << SEQUENCE_BITS;
+            }
+            // A full sequence carries over into the next millisecond
+            return last + 1;
+        });
+        long timestamp = next >>> SEQUENCE_BITS;
+        long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+        return timestamp << (NODE_BITS + SEQUENCE_BITS) | nodeId << SEQUENCE_BITS | sequence;
+    }
+
+    public int getNodeId() {
+        return (int) nodeId;
+    }
+
+    /**
+     * Gets the time an ID made by this scheme was handed out.
+     * @return the time in milliseconds since 1970
+     */
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+}
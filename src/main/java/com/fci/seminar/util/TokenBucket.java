@@ -0,0 +1,83 @@
+package com.fci.seminar.util;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket rate limiter.
+ * Holds up to {@code burst} tokens and refills at a steady rate; each
+ * admitted action takes one token. The bucket is refilled lazily from the
+ * elapsed time on every call, so idle buckets cost nothing.
+ * Thread-safe.
+ */
+public class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+    private double tokens;
+    private long lastRefill;
+
+    /**
+     * Creates a full bucket.
+     * @param ratePerSecond tokens added per second
+     * @param burst the most tokens the bucket holds
+     */
+    public TokenBucket(double ratePerSecond, int burst) {
+        this(ratePerSecond, burst, System::nanoTime);
+    }
+
+    /**
+     * Creates a full bucket with a custom clock, e.g. for simulations.
+     * @param ratePerSecond tokens added per second
+     * @param burst the most tokens the bucket holds
+     * @param nanoClock the current time in nanoseconds
+     */
+    public TokenBucket(double ratePerSecond, int burst, LongSupplier nanoClock) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate and burst must be positive");
+        }
+        this.capacity = burst;
+        this.tokensPerNano = ratePerSecond / NANOS_PER_SECOND;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.lastRefill = nanoClock.getAsLong();
+    }
+
+    /**
+     * Takes a token if one is available.
+     * @return 0 if a token was taken, otherwise the nanoseconds until one will be
+     */
+    public synchronized long tryAcquire() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+    }
+
+    /**
+     * Returns a token taken by an action that did not go ahead.
+     */
+    public synchronized void refund() {
+        tokens = Math.min(capacity, tokens + 1);
+    }
+
+    /**
+     * Checks whether the bucket has refilled completely, i.e. has been idle.
+     */
+    public synchronized boolean isFull() {
+        refill();
+        return tokens >= capacity;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        if (now > lastRefill) {
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+            lastRefill = now;
+        }
+    }
+}
@@ -0,0 +1,447 @@
+package com.fci.seminar.util;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A JSON data file that several processes may load and save at once, e.g.
+ * desktop apps sharing a data directory on a network drive.
+ * The file holds one or more lists of records, each with an "id" and a
+ * "version". The file remembers the records as this process last read or
+ * wrote them (the base), and a commit merges this process's records with the
+ * file's current ones record by record instead of overwriting the file:
+ * <ul>
+ *   <li>a record changed only here is written with its version raised by one;</li>
+ *   <li>a record changed only by another process is taken from the file;</li>
+ *   <li>a record changed by both keeps the other process's fields and gets
+ *       the fields changed only here; a field changed by both keeps the other
+ *       process's value and is reported as a conflict;</li>
+ *   <li>a record deleted by one side and changed by the other is reported as
+ *       a conflict; a change made elsewhere is kept, a change made here is
+ *       discarded along with the record;</li>
+ *   <li>a record inserted here whose ID another process took first gets a
+ *       new ID.</li>
+ * </ul>
+ * Derived fields, such as a count of other records, are not merged: when
+ * both processes changed one, the other process's value is kept for now
+ * and the record is listed in {@link Commit#staleDerivedIds()} so the caller
+ * can compute the field again from merged data.
+ * The version read from the file is compared with the base version while an
+ * exclusive lock is held on a "&lt;file&gt;.lock" file next to it, so the
+ * check and the write are one compare-and-swap. Whether locks reach other
+ * machines depends on the network file system.
+ */
+public class VersionedJsonFile {
+
+    private static final String ID = "id";
+    private static final String VERSION = "version";
+
+    private final Path file;
+    private final Path lockFile;
+    private final Path tempFile;
+    private final Gson gson;
+    private final List<String> listNames;
+    // Whether all lists share one ID space, as the user lists do
+    private final boolean sharedIds;
+    private Set<String> derivedFields = Collections.emptySet();
+
+    // The records as this process last read or wrote them, by list and ID
+    private Map<String, Map<Long, JsonObject>> base = new HashMap<>();
+    private FileStamp stamp;
+
+    /**
+     * Creates a versioned file.
+     * @param file the data file
+     * @param gson the Gson instance that writes the file
+     * @param sharedIds whether an ID is unique across all lists rather than within one
+     * @param listNames the names of the lists in the file's root object
+     */
+    public VersionedJsonFile(Path file, Gson gson, boolean sharedIds, String... listNames) {
+        if (listNames.length == 0) {
+            throw new IllegalArgumentException("At least one list name is required");
+        }
+        this.file = file;
+        this.lockFile = file.resolveSibling(file.getFileName() + ".lock");
+        this.tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        this.gson = gson;
+        this.sharedIds = sharedIds;
+        this.listNames = List.of(listNames);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Sets the fields computed from other data, which are not merged.
+     */
+    public synchronized void setDerivedFields(Set<String> derivedFields) {
+        this.derivedFields = Set.copyOf(derivedFields);
+    }
+
+    // ==================== Reading ====================
+
+    /**
+     * Reads the file and makes its records the base for the next commit.
+     * @return the root object, or null if the file does not exist
+     * @throws IOException if the file cannot be read
+     * @throws com.google.gson.JsonParseException if the file is not valid JSON
+     */
+    public synchronized JsonObject read() throws IOException {
+        try (FileChannel channel = openLockFile()) {
+            // Released when the channel is closed
+            channel.lock();
+            JsonObject root = readFile();
+            base = index(root);
+            stamp = FileStamp.of(file);
+            return root;
+        }
+    }
+
+    /**
+     * Checks whether another process may have written the file since this
+     * process last read or wrote it. Only the file's attributes are read.
+     */
+    public synchronized boolean hasChangedOnDisk() {
+        return !Objects.equals(stamp, FileStamp.of(file));
+    }
+
+    // ==================== Commits ====================
+
+    /**
+     * Merges this process's records into the file, as described above.
+     * The file is only written if this process changed something; otherwise
+     * the commit just picks up the other processes' changes.
+     * @param local the root object with this process's lists
+     * @return the merged records and what differs from the local ones
+     * @throws IOException if the file cannot be locked, read or written
+     */
+    public synchronized Commit commit(JsonObject local) throws IOException {
+        try (FileChannel channel = openLockFile()) {
+            // Released when the channel is closed
+            channel.lock();
+            JsonObject disk = readFile();
+            Map<String, Map<Long, JsonObject>> diskRecords = index(disk);
+            Map<String, Map<Long, JsonObject>> localRecords = index(local);
+
+            // IDs other processes inserted since the base, for spotting clashes with ours
+            Map<String, Set<Long>> takenIds = new HashMap<>();
+            long maxId = 0;
+            for (String name : listNames) {
+                Set<Long> taken = new HashSet<>(diskRecords.get(name).keySet());
+                taken.removeAll(baseOf(name).keySet());
+                takenIds.computeIfAbsent(sharedIds ? "" : name, key -> new HashSet<>()).addAll(taken);
+                for (Long id : diskRecords.get(name).keySet()) {
+                    maxId = Math.max(maxId, id);
+                }
+                for (Long id : localRecords.get(name).keySet()) {
+                    maxId = Math.max(maxId, id);
+                }
+            }
+
+            Merge merge = new Merge(maxId, derivedFields);
+            JsonObject merged = new JsonObject();
+            for (String name : listNames) {
+                merged.add(name, merge.list(name, baseOf(name), localRecords.get(name), diskRecords.get(name),
+                        takenIds.getOrDefault(sharedIds ? "" : name, Collections.emptySet())));
+            }
+
+            if (merge.written) {
+                write(merged);
+            }
+            base = index(merged);
+            stamp = FileStamp.of(file);
+            return new Commit(merged, merge.remoteIds, merge.reassignedIds, merge.staleDerivedIds, merge.conflicts,
+                    merge.written);
+        }
+    }
+
+    /**
+     * The outcome of a commit.
+     * @param root the merged records, as now in the file
+     * @param remoteIds by list, the IDs of merged records that differ from this
+     *        process's records, apart from the version
+     * @param reassignedIds by list, the new IDs of records inserted here whose
+     *        IDs were taken, keyed by the old ID
+     * @param staleDerivedIds by list, the IDs of records whose derived fields
+     *        both processes changed and must be computed again
+     * @param conflicts descriptions of the changes that could not be merged
+     * @param written whether the file was written
+     */
+    public record Commit(JsonObject root, Map<String, Set<Long>> remoteIds,
+                         Map<String, Map<Long, Long>> reassignedIds, Map<String, Set<Long>> staleDerivedIds,
+                         List<String> conflicts, boolean written) {
+
+        public JsonArray records(String listName) {
+            return root.getAsJsonArray(listName);
+        }
+
+        public boolean isRemote(String listName, Long id) {
+            return remoteIds.getOrDefault(listName, Collections.emptySet()).contains(id);
+        }
+
+        public Map<Long, Long> reassignedIds(String listName) {
+            return reassignedIds.getOrDefault(listName, Collections.emptyMap());
+        }
+
+        public Set<Long> staleDerivedIds(String listName) {
+            return staleDerivedIds.getOrDefault(listName, Collections.emptySet());
+        }
+    }
+
+    /**
+     * The merge of one commit, list by list.
+     */
+    private static final class Merge {
+        private final Map<String, Set<Long>> remoteIds = new HashMap<>();
+        private final Map<String, Map<Long, Long>> reassignedIds = new HashMap<>();
+        private final Map<String, Set<Long>> staleDerivedIds = new HashMap<>();
+        private final List<String> conflicts = new ArrayList<>();
+        private final Set<String> derivedFields;
+        private long maxId;
+        private boolean written;
+
+        Merge(long maxId, Set<String> derivedFields) {
+            this.maxId = maxId;
+            this.derivedFields = derivedFields;
+        }
+
+        JsonArray list(String name, Map<Long, JsonObject> base, Map<Long, JsonObject> local,
+                       Map<Long, JsonObject> disk, Set<Long> takenIds) {
+            Set<Long> remote = remoteIds.computeIfAbsent(name, key -> new HashSet<>());
+            JsonArray out = new JsonArray();
+
+            for (Map.Entry<Long, JsonObject> entry : disk.entrySet()) {
+                Long id = entry.getKey();
+                JsonObject theirs = entry.getValue();
+                JsonObject original = base.get(id);
+                JsonObject ours = local.get(id);
+                if (original == null || ours == null) {
+                    // Inserted elsewhere, or deleted here
+                    if (original != null && versionOf(theirs) == versionOf(original)) {
+                        written = true;
+                        continue;
+                    }
+                    if (original != null) {
+                        conflicts.add(describe(name, id) + " was deleted here but changed by another user; "
+                                + "their version was kept");
+                    }
+                    out.add(theirs);
+                    remote.add(id);
+                    continue;
+                }
+
+                boolean changedHere = !content(ours).equals(content(original));
+                boolean changedThere = versionOf(theirs) != versionOf(original);
+                JsonObject result;
+                if (!changedHere) {
+                    result = theirs;
+                } else if (!changedThere) {
+                    result = ours.deepCopy();
+                    result.addProperty(VERSION, versionOf(original) + 1);
+                    written = true;
+                } else {
+                    result = mergeFields(name, id, original, ours, theirs);
+                }
+                out.add(result);
+                if (!content(result).equals(content(ours))) {
+                    remote.add(id);
+                }
+            }
+
+            for (Map.Entry<Long, JsonObject> entry : local.entrySet()) {
+                Long id = entry.getKey();
+                JsonObject ours = entry.getValue();
+                JsonObject original = base.get(id);
+                if (original != null) {
+                    if (disk.containsKey(id)) {
+                        continue;
+                    }
+                    // Deleted elsewhere; the delete wins
+                    if (!content(ours).equals(content(original))) {
+                        conflicts.add(describe(name, id) + " was deleted by another user; "
+                                + "the changes made here were discarded");
+                    }
+                    continue;
+                }
+                JsonObject inserted = ours.deepCopy();
+                if (disk.containsKey(id) || takenIds.contains(id)) {
+                    long newId = ++maxId;
+                    inserted.addProperty(ID, newId);
+                    reassignedIds.computeIfAbsent(name, key -> new HashMap<>()).put(id, newId);
+                }
+                inserted.addProperty(VERSION, 1L);
+                out.add(inserted);
+                written = true;
+            }
+            return out;
+        }
+
+        private JsonObject mergeFields(String name, Long id, JsonObject original, JsonObject ours, JsonObject theirs) {
+            JsonObject result = theirs.deepCopy();
+            boolean applied = false;
+            List<String> clashes = new ArrayList<>();
+            Set<String> fields = new LinkedHashSet<>(ours.keySet());
+            fields.addAll(original.keySet());
+            fields.remove(VERSION);
+            for (String field : fields) {
+                JsonElement mine = field(ours, field);
+                JsonElement was = field(original, field);
+                JsonElement other = field(theirs, field);
+                if (derivedFields.contains(field)) {
+                    // Equal values may still hide two separate changes, e.g. two increments
+                    if (!mine.equals(was) && !other.equals(was)) {
+                        staleDerivedIds.computeIfAbsent(name, key -> new HashSet<>()).add(id);
+                        continue;
+                    }
+                } else if (mine.equals(other)) {
+                    continue;
+                }
+                if (mine.equals(was)) {
+                    continue;
+                }
+                if (!other.equals(was)) {
+                    clashes.add(field);
+                    continue;
+                }
+                if (mine.isJsonNull()) {
+                    result.remove(field);
+                } else {
+                    result.add(field, mine.deepCopy());
+                }
+                applied = true;
+            }
+            if (applied) {
+                result.addProperty(VERSION, versionOf(theirs) + 1);
+                written = true;
+            }
+            if (!clashes.isEmpty()) {
+                conflicts.add(describe(name, id) + " was also changed by another user; their "
+                        + String.join(", ", clashes) + " kept");
+            }
+            return result;
+        }
+    }
+
+    // ==================== File Access ====================
+
+    private FileChannel openLockFile() throws IOException {
+        return FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    }
+
+    private JsonObject readFile() throws IOException {
+        try (Reader reader = Files.newBufferedReader(file)) {
+            return JsonParser.parseReader(reader).getAsJsonObject();
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private void write(JsonObject root) throws IOException {
+        // Readers that do not take the lock never see a half-written file
+        try (Writer writer = Files.newBufferedWriter(tempFile)) {
+            gson.toJson(root, writer);
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private Map<Long, JsonObject> baseOf(String name) {
+        return base.getOrDefault(name, Collections.emptyMap());
+    }
+
+    private Map<String, Map<Long, JsonObject>> index(JsonObject root) {
+        Map<String, Map<Long, JsonObject>> lists = new HashMap<>();
+        for (String name : listNames) {
+            Map<Long, JsonObject> records = new LinkedHashMap<>();
+            JsonElement list = root != null ? root.get(name) : null;
+            if (list != null && list.isJsonArray()) {
+                for (JsonElement element : list.getAsJsonArray()) {
+                    JsonObject record = element.getAsJsonObject();
+                    records.put(idOf(record), record);
+                }
+            }
+            lists.put(name, records);
+        }
+        return lists;
+    }
+
+    // ==================== Records ====================
+
+    /**
+     * Gets the ID of a record, or null if it has none.
+     */
+    public static Long idOf(JsonObject record) {
+        JsonElement id = record.get(ID);
+        return id != null && !id.isJsonNull() ? id.getAsLong() : null;
+    }
+
+    /**
+     * Gets the version of a record; 0 for records written before versioning.
+     */
+    public static long versionOf(JsonObject record) {
+        JsonElement version = record.get(VERSION);
+        return version != null && !version.isJsonNull() ? version.getAsLong() : 0;
+    }
+
+    private static JsonObject content(JsonObject record) {
+        JsonObject content = record.deepCopy();
+        content.remove(VERSION);
+        return content;
+    }
+
+    private static JsonElement field(JsonObject record, String field) {
+        JsonElement value = record.get(field);
+        return value != null ? value : JsonNull.INSTANCE;
+    }
+
+    private static String describe(String listName, Long id) {
+        String singular = listName.endsWith("s") ? listName.substring(0, listName.length() - 1) : listName;
+        return Character.toUpperCase(singular.charAt(0)) + singular.substring(1) + " " + id;
+    }
+
+    /**
+     * The attributes that tell whether a file was replaced or rewritten.
+     */
+    private record FileStamp(long size, long modifiedMillis, Object fileKey) {
+
+        static FileStamp of(Path file) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                return new FileStamp(attributes.size(), attributes.lastModifiedTime().toMillis(),
+                        attributes.fileKey());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.fci.seminar.benchmark;
+
+import com.fci.seminar.model.Evaluation;
+import com.fci.seminar.model.Registration;
+import com.fci.seminar.model.enums.RegistrationStatus;
+import com.fci.seminar.model.enums.SessionType;
+import com.fci.seminar.repository.EvaluationRepository;
+import com.fci.seminar.repository.RegistrationRepository;
+import com.fci.seminar.service.AwardService;
+import com.fci.seminar.service.ReportCache;
+import com.fci.seminar.util.DataManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares the per-registration award scoring with the single-pass aggregation
+ * on a synthetic data set of 50,000 evaluations. Data is kept in memory only.
+ *
+ * Run with:
+ *   mvn -q test-compile
+ *   java -cp target/classes:target/test-classes:$(find ~/.m2 -name 'gson-2.10.1.jar') \
+ *        com.fci.seminar.benchmark.AwardBenchmark
+ */
+public class AwardBenchmark {
+
+    private static final int REGISTRATIONS = 2_500;
+    private static final int EVALUATIONS_PER_REGISTRATION = 20;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+
+    public static void main(String[] args) {
+        DataManager dataManager = DataManager.getInstance();
+        populate(dataManager);
+
+        RegistrationRepository registrationRepository = new RegistrationRepository(dataManager);
+        EvaluationRepository evaluationRepository = new EvaluationRepository(dataManager);
+        AwardService awardService = new AwardService(registrationRepository, evaluationRepository);
+
+        System.out.printf("Registrations: %,d, evaluations: %,d%n",
+                REGISTRATIONS, REGISTRATIONS * EVALUATIONS_PER_REGISTRATION);
+
+        // Previous approach: one evaluation scan per registration, twice
+        double[] checksum = new double[1];
+        double legacyMs = measure(() -> {
+            checksum[0] = 0;
+            for (int pass = 0; pass < 2; pass++) {
+                for (Registration registration : registrationRepository.findByStatus(RegistrationStatus.APPROVED)) {
+                    checksum[0] += evaluationRepository.getAverageScoreByRegistrationId(registration.getId());
+                }
+            }
+        });
+        System.out.printf("Per-registration scans: %10.1f ms (checksum %.1f)%n", legacyMs, checksum[0]);
+
+        // Awards are cached until the data changes, so every run starts from an empty cache
+        int[] awards = new int[1];
+        double singlePassMs = measure(() -> {
+            ReportCache.getInstance().invalidateAll();
+            awards[0] = awardService.calculateAwards().size();
+        });
+        System.out.printf("Single-pass awards:     %10.1f ms (%d awards)%n", singlePassMs, awards[0]);
+        System.out.printf("Speed-up:               %10.1fx%n", legacyMs / singlePassMs);
+    }
+
+    /**
+     * Runs a task WARMUP_RUNS times, then returns its average time over MEASURED_RUNS runs.
+     */
+    private static double measure(Runnable task) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / MEASURED_RUNS;
+    }
+
+    private static void populate(DataManager dataManager) {
+        Random random = new Random(42);
+        List<Registration> registrations = new ArrayList<>();
+        List<Evaluation> evaluations = new ArrayList<>();
+        long evaluationId = 1;
+
+        for (long id = 1; id <= REGISTRATIONS; id++) {
+            Registration registration = new Registration();
+            registration.setId(id);
+            registration.setStudentId(id);
+            registration.setResearchTitle("Research " + id);
+            registration.setPresentationType(id % 2 == 0 ? SessionType.ORAL : SessionType.POSTER);
+            registration.setStatus(RegistrationStatus.APPROVED);
+            registrations.add(registration);
+
+            for (int e = 0; e < EVALUATIONS_PER_REGISTRATION; e++) {
+                Evaluation evaluation = new Evaluation(evaluationId++, (long) e + 1, id);
+                evaluation.setProblemClarity(random.nextInt(26));
+                evaluation.setMethodology(random.nextInt(26));
+                evaluation.setResults(random.nextInt(26));
+                evaluation.setPresentationQuality(random.nextInt(26));
+                evaluation.setSubmitted(true);
+                evaluations.add(evaluation);
+            }
+        }
+
+        dataManager.setRegistrations(registrations);
+        dataManager.setEvaluations(evaluations);
+    }
+}
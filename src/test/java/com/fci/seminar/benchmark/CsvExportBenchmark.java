@@ -0,0 +1,130 @@
+package com.fci.seminar.benchmark;
+
+import com.fci.seminar.model.Registration;
+import com.fci.seminar.model.enums.RegistrationStatus;
+import com.fci.seminar.model.enums.SessionType;
+import com.fci.seminar.repository.EvaluationRepository;
+import com.fci.seminar.repository.RegistrationRepository;
+import com.fci.seminar.repository.SessionRepository;
+import com.fci.seminar.service.ReportService;
+import com.fci.seminar.service.ReportService.ExportFormat;
+import com.fci.seminar.util.DataManager;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures registration export throughput on 1,000,000 in-memory rows:
+ * the previous printf export against the streaming CSV writer, plain and
+ * gzipped, and the JSON Lines and columnar formats.
+ * Every 50th title contains a comma and a double quote so quoting is exercised.
+ *
+ * Run with:
+ *   mvn -q test-compile
+ *   java -cp target/classes:target/test-classes:$(find ~/.m2 -name 'gson-2.10.1.jar') \
+ *        com.fci.seminar.benchmark.CsvExportBenchmark
+ */
+public class CsvExportBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final int WARMUP_RUNS = 1;
+    private static final int MEASURED_RUNS = 3;
+
+    public static void main(String[] args) throws IOException {
+        DataManager dataManager = DataManager.getInstance();
+        populate(dataManager);
+
+        RegistrationRepository registrationRepository = new RegistrationRepository(dataManager);
+        ReportService reportService = new ReportService(new SessionRepository(dataManager),
+                registrationRepository, new EvaluationRepository(dataManager));
+
+        Path directory = Files.createTempDirectory("csv-benchmark");
+        Path legacyFile = directory.resolve("legacy.csv");
+        Path plainFile = directory.resolve("registrations.csv");
+        Path gzipFile = directory.resolve("registrations.csv.gz");
+        Path jsonLinesFile = directory.resolve("registrations.jsonl");
+        Path columnarFile = directory.resolve("registrations.scol");
+
+        System.out.printf("Rows: %,d%n", ROWS);
+        measure("printf (previous)", legacyFile,
+                () -> legacyExport(registrationRepository, legacyFile.toString()));
+        measure("streaming", plainFile,
+                () -> reportService.exportToCsv("registrations", plainFile.toString(), false));
+        measure("streaming + gzip", gzipFile,
+                () -> reportService.exportToCsv("registrations", gzipFile.toString(), true));
+        measure("JSON Lines", jsonLinesFile, () -> reportService.export("registrations",
+                jsonLinesFile.toString(), ExportFormat.JSON_LINES, false));
+        measure("columnar", columnarFile, () -> reportService.export("registrations",
+                columnarFile.toString(), ExportFormat.COLUMNAR, false));
+
+        for (Path file : new Path[]{legacyFile, plainFile, gzipFile, jsonLinesFile, columnarFile}) {
+            Files.deleteIfExists(file);
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    private interface Export {
+        void run() throws IOException;
+    }
+
+    private static void measure(String label, Path file, Export export) throws IOException {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            export.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            export.run();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9 / MEASURED_RUNS;
+        double megabytes = Files.size(file) / (1024.0 * 1024.0);
+        System.out.printf("%-18s %8.0f ms  %,12.0f rows/s  %7.1f MiB on disk%n",
+                label, seconds * 1000, ROWS / seconds, megabytes);
+    }
+
+    /**
+     * The export as it was before the streaming writer.
+     */
+    private static void legacyExport(RegistrationRepository repository, String filePath) throws IOException {
+        List<Registration> registrations = repository.findAll();
+        try (PrintWriter writer = new PrintWriter(new FileWriter(filePath))) {
+            writer.println("ID,Student ID,Session ID,Research Title,Presentation Type,Status,Created At");
+            for (Registration r : registrations) {
+                writer.printf("%d,%d,%s,\"%s\",%s,%s,%s%n",
+                        r.getId(),
+                        r.getStudentId(),
+                        r.getSessionId() != null ? r.getSessionId() : "",
+                        r.getResearchTitle() != null ? r.getResearchTitle().replace("\"", "\"\"") : "",
+                        r.getPresentationType(),
+                        r.getStatus(),
+                        r.getCreatedAt());
+            }
+        }
+    }
+
+    private static void populate(DataManager dataManager) {
+        List<Registration> registrations = new ArrayList<>(ROWS);
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 6, 9, 0);
+        RegistrationStatus[] statuses = RegistrationStatus.values();
+
+        for (long id = 1; id <= ROWS; id++) {
+            Registration registration = new Registration();
+            registration.setId(id);
+            registration.setStudentId(100_000 + id);
+            registration.setSessionId(id % 3 == 0 ? null : id % 200 + 1);
+            registration.setResearchTitle(id % 50 == 0
+                    ? "Graphs, \"Trees\" and Networks " + id
+                    : "Research on distributed systems " + id);
+            registration.setPresentationType(id % 2 == 0 ? SessionType.ORAL : SessionType.POSTER);
+            registration.setStatus(statuses[(int) (id % statuses.length)]);
+            registration.setCreatedAt(createdAt.plusSeconds(id));
+            registrations.add(registration);
+        }
+        dataManager.setRegistrations(registrations);
+    }
+}
@@ -0,0 +1,102 @@
+package com.fci.seminar.benchmark;
+
+import com.fci.seminar.model.Registration;
+import com.fci.seminar.model.enums.RegistrationStatus;
+import com.fci.seminar.model.enums.SessionType;
+import com.fci.seminar.util.DataManager;
+import com.fci.seminar.util.JsonLinesWriter;
+import com.google.gson.Gson;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Writes 0, 1 and many registrations as JSON Lines, plain and gzipped, and
+ * checks that reading the files back gives the same records.
+ *
+ * Run with:
+ *   mvn -q test-compile
+ *   java -cp target/classes:target/test-classes:$(find ~/.m2 -name 'gson-2.10.1.jar') \
+ *        com.fci.seminar.benchmark.JsonLinesRoundTripCheck
+ */
+public class JsonLinesRoundTripCheck {
+
+    private static final int[] RECORD_COUNTS = {0, 1, 10_000};
+
+    public static void main(String[] args) throws IOException {
+        Gson gson = DataManager.createExportGson();
+        Path directory = Files.createTempDirectory("jsonl-check");
+        try {
+            for (int count : RECORD_COUNTS) {
+                for (boolean gzip : new boolean[]{false, true}) {
+                    Path file = directory.resolve("records-" + count + (gzip ? ".jsonl.gz" : ".jsonl"));
+                    check(gson, file, registrations(count), gzip);
+                    Files.delete(file);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(directory);
+        }
+        System.out.println("JSON Lines round trip OK");
+    }
+
+    private static void check(Gson gson, Path file, List<Registration> records, boolean gzip) throws IOException {
+        try (JsonLinesWriter writer = JsonLinesWriter.open(file, gzip)) {
+            for (Registration record : records) {
+                writer.write(record);
+            }
+            if (writer.getRecordCount() != records.size()) {
+                throw new IllegalStateException("Counted " + writer.getRecordCount() + " of " + records.size());
+            }
+        }
+
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                gzip ? new GZIPInputStream(Files.newInputStream(file)) : Files.newInputStream(file),
+                StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        if (lines.size() != records.size()) {
+            throw new IllegalStateException(file.getFileName() + ": read " + lines.size()
+                    + " lines for " + records.size() + " records");
+        }
+        for (int i = 0; i < records.size(); i++) {
+            String expected = gson.toJson(records.get(i));
+            String actual = gson.toJson(gson.fromJson(lines.get(i), Registration.class));
+            if (!expected.equals(actual)) {
+                throw new IllegalStateException(file.getFileName() + " line " + (i + 1) + ": expected "
+                        + expected + " but read " + lines.get(i));
+            }
+        }
+    }
+
+    private static List<Registration> registrations(int count) {
+        List<Registration> registrations = new ArrayList<>(count);
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 6, 9, 0);
+        for (long id = 1; id <= count; id++) {
+            Registration registration = new Registration();
+            registration.setId(id);
+            registration.setStudentId(100_000 + id);
+            registration.setSessionId(id % 3 == 0 ? null : id % 200 + 1);
+            registration.setResearchTitle(id % 50 == 0
+                    ? "Graphs, \"Trees\" and Networks\n" + id
+                    : "Research on distributed systems " + id);
+            registration.setPresentationType(id % 2 == 0 ? SessionType.ORAL : SessionType.POSTER);
+            registration.setStatus(RegistrationStatus.values()[(int) (id % RegistrationStatus.values().length)]);
+            registration.setCreatedAt(createdAt.plusSeconds(id));
+            registrations.add(registration);
+        }
+        return registrations;
+    }
+}
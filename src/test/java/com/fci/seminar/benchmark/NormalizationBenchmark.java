@@ -0,0 +1,92 @@
+package com.fci.seminar.benchmark;
+
+import com.fci.seminar.model.Evaluation;
+import com.fci.seminar.service.ScoreNormalizer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures evaluator-bias normalization on 100,000 synthetic evaluations.
+ * Each evaluator has a fixed leniency offset, so the adjusted scores should
+ * track the underlying quality more closely than the raw ones.
+ *
+ * Run with:
+ *   mvn -q test-compile
+ *   java -cp target/classes:target/test-classes com.fci.seminar.benchmark.NormalizationBenchmark
+ */
+public class NormalizationBenchmark {
+
+    private static final int EVALUATIONS = 100_000;
+    private static final int EVALUATORS = 500;
+    private static final int REGISTRATIONS = 10_000;
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 10;
+
+    public static void main(String[] args) {
+        Random random = new Random(7);
+        double[] leniency = new double[EVALUATORS];
+        for (int e = 0; e < EVALUATORS; e++) {
+            leniency[e] = random.nextGaussian() * 3;
+        }
+        double[] quality = new double[REGISTRATIONS];
+        for (int r = 0; r < REGISTRATIONS; r++) {
+            quality[r] = 17 + random.nextGaussian() * 3;
+        }
+
+        List<Evaluation> evaluations = new ArrayList<>(EVALUATIONS);
+        for (long id = 1; id <= EVALUATIONS; id++) {
+            int evaluator = random.nextInt(EVALUATORS);
+            int registration = random.nextInt(REGISTRATIONS);
+            Evaluation evaluation = new Evaluation(id, (long) evaluator + 1, (long) registration + 1);
+            double base = quality[registration] + leniency[evaluator];
+            evaluation.setProblemClarity(score(base, random));
+            evaluation.setMethodology(score(base, random));
+            evaluation.setResults(score(base, random));
+            evaluation.setPresentationQuality(score(base, random));
+            evaluation.setSubmitted(true);
+            evaluations.add(evaluation);
+        }
+
+        ScoreNormalizer normalizer = new ScoreNormalizer();
+        System.out.printf("Evaluations: %,d, evaluators: %,d, registrations: %,d%n",
+                EVALUATIONS, EVALUATORS, REGISTRATIONS);
+
+        for (ScoreNormalizer.Mode mode : ScoreNormalizer.Mode.values()) {
+            for (int i = 0; i < WARMUP_RUNS; i++) {
+                normalizer.normalize(evaluations, mode);
+            }
+            long start = System.nanoTime();
+            ScoreNormalizer.Result result = null;
+            for (int i = 0; i < MEASURED_RUNS; i++) {
+                result = normalizer.normalize(evaluations, mode);
+            }
+            double ms = (System.nanoTime() - start) / 1_000_000.0 / MEASURED_RUNS;
+            System.out.printf("%-14s %8.1f ms   correlation with true quality: %.3f%n",
+                    mode, ms, correlation(result, quality));
+        }
+    }
+
+    private static int score(double base, Random random) {
+        long value = Math.round(base + random.nextGaussian() * 2);
+        return (int) Math.max(Evaluation.MIN_SCORE, Math.min(Evaluation.MAX_SCORE, value));
+    }
+
+    private static double correlation(ScoreNormalizer.Result result, double[] quality) {
+        double sx = 0, sy = 0, sxx = 0, syy = 0, sxy = 0;
+        int n = 0;
+        for (int r = 0; r < quality.length; r++) {
+            Double score = result.getAverageByRegistration().get((long) r + 1);
+            if (score == null) continue;
+            sx += score;
+            sy += quality[r];
+            sxx += score * score;
+            syy += quality[r] * quality[r];
+            sxy += score * quality[r];
+            n++;
+        }
+        double cov = sxy / n - (sx / n) * (sy / n);
+        return cov / Math.sqrt((sxx / n - sx * sx / n / n) * (syy / n - sy * sy / n / n));
+    }
+}